@@ -1,7 +1,6 @@
 package com.ipower.framework.common.core.bean.predicate;
 
-import com.ipower.framework.common.core.collection.ArrayUtil;
-import com.ipower.framework.common.core.lang.ObjectUtil;
+import com.ipower.framework.common.core.collection.CollectionUtil;
 import com.ipower.framework.common.core.lang.Validate;
 import org.apache.commons.collections4.Predicate;
 import org.apache.commons.collections4.PredicateUtils;
@@ -22,14 +21,16 @@ public final class BeanPredicateUtil {
         return new BeanPredicate<>(property, PredicateUtils.equalPredicate(value));
     }
 
+    // values只在生成的匹配规则中读取，不会被写入或返回给调用方
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <T, V> Predicate<T> containsPredicate(final String property, final V... values) {
         Validate.notEmpty(property, "property can't be blank!");
-        return new BeanPredicate<>(property, (Predicate<V>) value -> ArrayUtil.contains(values, value));
+        return new BeanPredicate<>(property, CollectionUtil.containsPredicate(values));
     }
 
     public static <T, V> Predicate<T> containsPredicate(final String property, final Collection<V> collection) {
         Validate.notEmpty(property, "property can't be blank!");
-        return new BeanPredicate<>(property, (Predicate<V>) value -> !ObjectUtil.isEmpty(collection) && collection.contains(value));
+        return new BeanPredicate<>(property, CollectionUtil.containsPredicate(collection));
     }
 }
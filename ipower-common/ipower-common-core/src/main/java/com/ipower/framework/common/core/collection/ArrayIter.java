@@ -28,6 +28,10 @@ public class ArrayIter<E> implements Iterator<E>, Iterable<E>, Serializable {
      */
     @Getter
     private final Object array;
+    /**
+     * 对象数组，原始数组为基本类型数组时为{@code null}，此时通过反射取值
+     */
+    private final Object[] objects;
     /**
      * 起始位置
      */
@@ -83,6 +87,7 @@ public class ArrayIter<E> implements Iterator<E>, Iterable<E>, Serializable {
             this.startIndex = startIndex;
         }
         this.array = array;
+        this.objects = array instanceof Object[] values ? values : null;
         this.index = this.startIndex;
     }
 
@@ -97,7 +102,7 @@ public class ArrayIter<E> implements Iterator<E>, Iterable<E>, Serializable {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return (E) Array.get(array, index++);
+        return (E) (null != objects ? objects[index++] : Array.get(array, index++));
     }
 
     /**
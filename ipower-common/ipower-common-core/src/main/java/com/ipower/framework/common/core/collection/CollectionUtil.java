@@ -3,7 +3,11 @@ package com.ipower.framework.common.core.collection;
 import com.ipower.framework.common.core.bean.PropertyUtil;
 import com.ipower.framework.common.core.bean.closure.BeanPropertyChangeClosure;
 import com.ipower.framework.common.core.bean.predicate.BeanPredicateUtil;
+import com.ipower.framework.common.core.collection.primitive.LongCollection;
+import com.ipower.framework.common.core.collection.primitive.LongHashSet;
+import com.ipower.framework.common.core.collection.primitive.SortedLongSet;
 import com.ipower.framework.common.core.constant.StringPool;
+import com.ipower.framework.common.core.convert.Converter;
 import com.ipower.framework.common.core.convert.ConverterRegistry;
 import com.ipower.framework.common.core.exception.UtilException;
 import com.ipower.framework.common.core.lang.ObjectUtil;
@@ -21,6 +25,7 @@ import org.apache.commons.collections4.Predicate;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -34,6 +39,11 @@ import static java.util.Collections.emptyMap;
  */
 public final class CollectionUtil extends CollectionValidator {
 
+    /**
+     * 值集元素个数超过该值时，先建立哈希索引再逐个判断是否包含
+     */
+    private static final int HASH_LOOKUP_THRESHOLD = 8;
+
     private CollectionUtil() {
         throw new AssertionError("No " + getClass().getName() + " instances for you!");
     }
@@ -71,19 +81,32 @@ public final class CollectionUtil extends CollectionValidator {
      * @param collectionType 集合类型
      * @return 集合类型对应的实例
      */
-    @SuppressWarnings({"unchecked", "rawtypes", "SortedCollectionWithNonComparableKeys"})
     public static <T> Collection<T> create(Class<?> collectionType) {
+        return create(collectionType, -1);
+    }
+
+    /**
+     * 创建新的集合对象，对于{@link ArrayList}、{@link HashSet}、{@link LinkedHashSet}按照预期元素个数预分配容量
+     *
+     * @param <T>            集合类型
+     * @param collectionType 集合类型
+     * @param expectedSize   预期元素个数，小于0表示未知，使用默认容量
+     * @return 集合类型对应的实例
+     */
+    @SuppressWarnings({"unchecked", "rawtypes", "SortedCollectionWithNonComparableKeys"})
+    public static <T> Collection<T> create(Class<?> collectionType, int expectedSize) {
+        final boolean sized = expectedSize >= 0;
         Collection<T> list;
         if (collectionType.isAssignableFrom(AbstractCollection.class)) {
             // 抽象集合默认使用ArrayList
-            list = new ArrayList<>();
+            list = sized ? new ArrayList<>(expectedSize) : new ArrayList<>();
         }
 
         // Set
         else if (collectionType.isAssignableFrom(HashSet.class)) {
-            list = new HashSet<>();
+            list = sized ? new HashSet<>((int) (expectedSize / .75f) + 1) : new HashSet<>();
         } else if (collectionType.isAssignableFrom(LinkedHashSet.class)) {
-            list = new LinkedHashSet<>();
+            list = sized ? new LinkedHashSet<>((int) (expectedSize / .75f) + 1) : new LinkedHashSet<>();
         } else if (collectionType.isAssignableFrom(TreeSet.class)) {
             list = new TreeSet<>();
         } else if (collectionType.isAssignableFrom(EnumSet.class)) {
@@ -92,7 +115,7 @@ public final class CollectionUtil extends CollectionValidator {
 
         // List
         else if (collectionType.isAssignableFrom(ArrayList.class)) {
-            list = new ArrayList<>();
+            list = sized ? new ArrayList<>(expectedSize) : new ArrayList<>();
         } else if (collectionType.isAssignableFrom(LinkedList.class)) {
             list = new LinkedList<>();
         }
@@ -156,9 +179,10 @@ public final class CollectionUtil extends CollectionValidator {
             iter = Lists.arrayList(value).iterator();
         }
 
-        final ConverterRegistry convert = ConverterRegistry.getInstance();
+        // 元素转换器只查找一次，避免每个元素都经过转换器登记中心查找
+        final Converter<T> converter = ConverterRegistry.getInstance().getElementConverter(elementType);
         while (iter.hasNext()) {
-            collection.add(convert.convert(elementType, iter.next()));
+            collection.add(converter.convert(iter.next(), null));
         }
 
         return collection;
@@ -625,13 +649,15 @@ public final class CollectionUtil extends CollectionValidator {
      * @param <V>      值的泛型对象
      * @return List<E> 返回与条件匹配的数据集合
      */
+    // values只在本方法和生成的匹配规则中读取，不会被写入或返回给调用方
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <E, V> List<E> find(Iterable<E> iterable, Function<E, V> function, V... values) {
         if (isEmpty(iterable)) {
             return Lists.arrayList();
         }
         Validate.notNull(function, "function can't be null!");
-        return StreamSupport.stream(iterable.spliterator(), false).filter(e -> ArrayUtil.contains(values, function.apply(e))).collect(Collectors.toList());
+        return filter(iterable, function, containsPredicate(values), true, false);
     }
 
 
@@ -665,7 +691,50 @@ public final class CollectionUtil extends CollectionValidator {
         }
         Validate.notNull(function, "function can't be null!");
         Validate.notNull(collection, "collection can't be null!");
-        return StreamSupport.stream(iterable.spliterator(), false).filter(e -> collection.contains(function.apply(e))).collect(Collectors.toList());
+        return filter(iterable, function, containsPredicate(collection), true, false);
+    }
+
+    /**
+     * 循环迭代对象,获取迭代对象中元素的long属性值,判断值是否在指定的long值集中，如果在,将该对象存入list中并返回
+     * <p>
+     * 属性值不装箱，值集可以预先构建为{@link LongHashSet}或{@link SortedLongSet}后在多次查找中复用
+     * </p>
+     *
+     * @param iterable 迭代对象
+     * @param function long属性获取函数
+     * @param values   指定的long值集
+     * @param <E>      迭代对象中的泛型对象
+     * @return List<E> 返回与条件匹配的数据集合
+     */
+    public static <E> List<E> find(Iterable<E> iterable, ToLongFunction<E> function, LongCollection values) {
+        if (isEmpty(iterable)) {
+            return Lists.arrayList();
+        }
+        Validate.notNull(function, "function can't be null!");
+        Validate.notNull(values, "values can't be null!");
+        return StreamSupport.stream(iterable.spliterator(), false).filter(e -> values.contains(function.applyAsLong(e))).collect(Collectors.toList());
+    }
+
+    /**
+     * 并行循环迭代对象,判断元素的属性值是否在指定的列表值集中，如果在,将该对象存入list中并返回，结果顺序与迭代顺序一致
+     * <p>
+     * 适用于数据量很大的场景，转换函数需要线程安全；值集只建立一次哈希索引，若已经是{@link Set}则直接使用
+     * </p>
+     *
+     * @param iterable   迭代对象
+     * @param function   转换函数
+     * @param collection 指定的列表值集
+     * @param <E>        迭代对象中的泛型对象
+     * @param <V>        值的泛型对象
+     * @return List<E> 返回与条件匹配的数据集合
+     */
+    public static <E, V> List<E> findParallel(Iterable<E> iterable, Function<E, V> function, Collection<V> collection) {
+        if (isEmpty(iterable)) {
+            return Lists.arrayList();
+        }
+        Validate.notNull(function, "function can't be null!");
+        Validate.notNull(collection, "collection can't be null!");
+        return filter(iterable, function, containsPredicate(collection), true, true);
     }
 
     /**
@@ -708,13 +777,15 @@ public final class CollectionUtil extends CollectionValidator {
      * @param <V>      值的泛型对象
      * @return List<E> 返回与条件不相符的数据集合
      */
+    // values只在本方法和生成的匹配规则中读取，不会被写入或返回给调用方
     @SafeVarargs
+    @SuppressWarnings("varargs")
     public static <E, V> List<E> findRejected(Iterable<E> iterable, Function<E, V> function, V... values) {
         if (isEmpty(iterable)) {
             return Lists.arrayList();
         }
         Validate.notNull(function, "function can't be null!");
-        return StreamSupport.stream(iterable.spliterator(), false).filter(e -> !ArrayUtil.contains(values, function.apply(e))).collect(Collectors.toList());
+        return filter(iterable, function, containsPredicate(values), false, false);
     }
 
     /**
@@ -748,7 +819,96 @@ public final class CollectionUtil extends CollectionValidator {
         }
         Validate.notNull(function, "function can't be null!");
         Validate.notNull(collection, "collection can't be null!");
-        return StreamSupport.stream(iterable.spliterator(), false).filter(e -> !collection.contains(function.apply(e))).collect(Collectors.toList());
+        return filter(iterable, function, containsPredicate(collection), false, false);
+    }
+
+    /**
+     * 循环迭代对象,获取迭代对象中元素的long属性值,判断值是否在指定的long值集中，如果不在,将该对象存入list中并返回
+     * <p>
+     * 属性值不装箱，值集可以预先构建为{@link LongHashSet}或{@link SortedLongSet}后在多次查找中复用
+     * </p>
+     *
+     * @param iterable 迭代对象
+     * @param function long属性获取函数
+     * @param values   指定的long值集
+     * @param <E>      迭代对象中的泛型对象
+     * @return List<E> 返回与条件不相符的数据集合
+     */
+    public static <E> List<E> findRejected(Iterable<E> iterable, ToLongFunction<E> function, LongCollection values) {
+        if (isEmpty(iterable)) {
+            return Lists.arrayList();
+        }
+        Validate.notNull(function, "function can't be null!");
+        Validate.notNull(values, "values can't be null!");
+        return StreamSupport.stream(iterable.spliterator(), false).filter(e -> !values.contains(function.applyAsLong(e))).collect(Collectors.toList());
+    }
+
+    /**
+     * 并行循环迭代对象,判断元素的属性值是否在指定的列表值集中，如果不在,将该对象存入list中并返回，结果顺序与迭代顺序一致
+     * <p>
+     * 适用于数据量很大的场景，转换函数需要线程安全；值集只建立一次哈希索引，若已经是{@link Set}则直接使用
+     * </p>
+     *
+     * @param iterable   迭代对象
+     * @param function   转换函数
+     * @param collection 指定的列表值集
+     * @param <E>        迭代对象中的泛型对象
+     * @param <V>        值的泛型对象
+     * @return List<E> 返回与条件不相符的数据集合
+     */
+    public static <E, V> List<E> findRejectedParallel(Iterable<E> iterable, Function<E, V> function, Collection<V> collection) {
+        if (isEmpty(iterable)) {
+            return Lists.arrayList();
+        }
+        Validate.notNull(function, "function can't be null!");
+        Validate.notNull(collection, "collection can't be null!");
+        return filter(iterable, function, containsPredicate(collection), false, true);
+    }
+
+    /**
+     * 构建判断值是否在指定数组值集中的匹配规则
+     * <p>
+     * 值个数较多时一次性建立哈希索引，之后每次判断为O(1)；值个数较少时直接遍历数组。比较规则同{@link ObjectUtil#equals(Object, Object)}
+     * </p>
+     *
+     * @param values 指定的数组值集
+     * @param <V>    值的泛型对象
+     * @return 匹配规则对象，值集为空时总是返回{@code false}
+     */
+    // values只在本方法和生成的匹配规则中读取，不会被写入或返回给调用方
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <V> Predicate<V> containsPredicate(V... values) {
+        if (ArrayUtil.isEmpty(values)) {
+            return value -> false;
+        }
+        if (values.length <= HASH_LOOKUP_THRESHOLD) {
+            return value -> ArrayUtil.contains(values, value);
+        }
+        final Set<V> index = new HashSet<>((int) (values.length / .75f) + 1);
+        Collections.addAll(index, values);
+        return index::contains;
+    }
+
+    /**
+     * 构建判断值是否在指定列表值集中的匹配规则
+     * <p>
+     * 值集为{@link Set}时视为已建立好的索引直接使用；其它集合在值个数较多时一次性建立哈希索引，之后每次判断为O(1)
+     * </p>
+     *
+     * @param collection 指定的列表值集
+     * @param <V>        值的泛型对象
+     * @return 匹配规则对象，值集为空时总是返回{@code false}
+     */
+    public static <V> Predicate<V> containsPredicate(Collection<V> collection) {
+        if (isEmpty(collection)) {
+            return value -> false;
+        }
+        if (collection instanceof Set || collection.size() <= HASH_LOOKUP_THRESHOLD) {
+            return collection::contains;
+        }
+        final Set<V> index = new HashSet<>(collection);
+        return index::contains;
     }
 
     /**
@@ -804,6 +964,25 @@ public final class CollectionUtil extends CollectionValidator {
         return Lists.arrayList();
     }
 
+    /**
+     * 按照匹配规则过滤迭代对象中的元素
+     *
+     * @param iterable 迭代对象
+     * @param function 转换函数
+     * @param matcher  属性值匹配规则
+     * @param expected 期望的匹配结果，{@code true}保留匹配的元素，{@code false}保留不匹配的元素
+     * @param parallel 是否并行
+     * @param <E>      迭代对象中的泛型对象
+     * @param <V>      值的泛型对象
+     * @return 过滤后的数据集合，顺序与迭代顺序一致
+     */
+    private static <E, V> List<E> filter(Iterable<E> iterable, Function<E, V> function, Predicate<V> matcher,
+                                         boolean expected, boolean parallel) {
+        return StreamSupport.stream(iterable.spliterator(), parallel)
+                .filter(e -> matcher.evaluate(function.apply(e)) == expected)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 循环指定集合中的对象，得到指定属性的值后，填充到返回集合中
      *
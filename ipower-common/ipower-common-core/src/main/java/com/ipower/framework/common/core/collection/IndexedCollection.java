@@ -0,0 +1,737 @@
+package com.ipower.framework.common.core.collection;
+
+import com.ipower.framework.common.core.bean.PropertyUtil;
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * 带索引的内存集合
+ * <p>
+ * 适用于缓存字典、组织机构等常驻内存并被反复按属性查找的数据。可以在属性函数上声明哈希索引（等值、IN查询，O(1)）
+ * 和有序索引（等值、IN、范围查询，O(log n)），添加、删除元素时增量维护索引，避免每次查找都线性遍历。
+ * </p>
+ * <p>
+ * 集合本身通过读写锁保证线程安全，查询结果为副本；{@link #snapshot()}返回不可变快照，快照在两次修改之间复用，
+ * 读多写少时在快照上查询无需加锁。
+ * </p>
+ * <p>
+ * 注意：元素在集合中时，被索引的属性值不能修改，否则需要先删除再重新添加。
+ * </p>
+ *
+ * @param <E> 元素类型
+ * @author kris
+ * @since 1.0.0
+ */
+public class IndexedCollection<E> implements Iterable<E> {
+
+    /**
+     * 所有元素，按添加顺序
+     */
+    private final List<E> elements = new ArrayList<>();
+    /**
+     * 索引，索引名称 -> 索引
+     */
+    private final Map<String, Index<E>> indexes = new HashMap<>();
+    /**
+     * 读写锁
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /**
+     * 当前快照，修改后置为{@code null}，下次获取时重新生成
+     */
+    private volatile Snapshot<E> snapshot;
+
+    /**
+     * 构造
+     */
+    public IndexedCollection() {
+    }
+
+    /**
+     * 构造
+     *
+     * @param elements 初始元素
+     */
+    public IndexedCollection(Collection<? extends E> elements) {
+        addAll(elements);
+    }
+
+    // -------------------------------------------------------------------------------------- index
+
+    /**
+     * 以属性名为索引名称，在属性上声明哈希索引，支持等值、IN查询
+     *
+     * @param property 属性名
+     * @return this
+     */
+    public IndexedCollection<E> hashIndex(String property) {
+        return hashIndex(property, e -> PropertyUtil.getProperty(e, property));
+    }
+
+    /**
+     * 在属性函数上声明哈希索引，支持等值、IN查询，集合中已有的元素会立即建立索引
+     *
+     * @param name     索引名称
+     * @param function 属性函数
+     * @return this
+     */
+    public IndexedCollection<E> hashIndex(String name, Function<? super E, ?> function) {
+        return addIndex(name, new Index<>(function, new HashMap<>()));
+    }
+
+    /**
+     * 以属性名为索引名称，在属性上声明有序索引，属性值需实现{@link Comparable}，支持等值、IN、范围查询
+     *
+     * @param property 属性名
+     * @return this
+     */
+    public IndexedCollection<E> sortedIndex(String property) {
+        return sortedIndex(property, e -> PropertyUtil.getProperty(e, property));
+    }
+
+    /**
+     * 在属性函数上声明有序索引，属性值按自然顺序排序（{@code null}最小），支持等值、IN、范围查询
+     *
+     * @param name     索引名称
+     * @param function 属性函数，返回值需实现{@link Comparable}
+     * @return this
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public IndexedCollection<E> sortedIndex(String name, Function<? super E, ? extends Comparable> function) {
+        return sortedIndex(name, (Function<? super E, Comparable>) function, Comparator.naturalOrder());
+    }
+
+    /**
+     * 在属性函数上声明有序索引，使用指定比较器排序（{@code null}最小），支持等值、IN、范围查询
+     *
+     * @param name       索引名称
+     * @param function   属性函数
+     * @param comparator 属性值比较器
+     * @param <K>        属性值类型
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public <K> IndexedCollection<E> sortedIndex(String name, Function<? super E, K> function, Comparator<? super K> comparator) {
+        Validate.notNull(comparator, "comparator can't be null!");
+        final Comparator<Object> keyComparator = (Comparator<Object>) Comparator.nullsFirst(comparator);
+        return addIndex(name, new Index<>(function, new TreeMap<>(keyComparator)));
+    }
+
+    // -------------------------------------------------------------------------------------- modify
+
+    /**
+     * 添加元素
+     *
+     * @param element 元素，不能为{@code null}
+     * @return this
+     */
+    public IndexedCollection<E> add(E element) {
+        Validate.notNull(element, "element can't be null!");
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            elements.add(element);
+            for (Index<E> index : indexes.values()) {
+                index.add(element);
+            }
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * 添加所有元素
+     *
+     * @param elements 元素集合，{@code null}元素被忽略
+     * @return this
+     */
+    public IndexedCollection<E> addAll(Collection<? extends E> elements) {
+        if (CollectionUtil.isEmpty(elements)) {
+            return this;
+        }
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            for (E element : elements) {
+                if (null != element) {
+                    this.elements.add(element);
+                    for (Index<E> index : indexes.values()) {
+                        index.add(element);
+                    }
+                }
+            }
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * 删除第一个与指定对象相等的元素
+     *
+     * @param element 元素
+     * @return 是否存在并删除
+     */
+    public boolean remove(E element) {
+        if (null == element) {
+            return false;
+        }
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            final int position = elements.indexOf(element);
+            if (position < 0) {
+                return false;
+            }
+            // 从索引中删除实际存储的元素，而不是参数，二者equals相等但可能不是同一个对象，索引值也可能不同
+            final E removed = elements.remove(position);
+            for (Index<E> index : indexes.values()) {
+                index.remove(removed);
+            }
+            snapshot = null;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 删除指定索引上值为key的所有元素
+     *
+     * @param name 索引名称
+     * @param key  索引值
+     * @return 被删除的元素
+     */
+    public List<E> removeBy(String name, Object key) {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            final List<E> removed = index(indexes, name).buckets.get(key);
+            if (null == removed) {
+                return Collections.emptyList();
+            }
+            final List<E> result = new ArrayList<>(removed);
+            final Set<E> identities = Collections.newSetFromMap(new IdentityHashMap<>(result.size()));
+            identities.addAll(result);
+            elements.removeIf(identities::contains);
+            for (E element : result) {
+                for (Index<E> index : indexes.values()) {
+                    index.remove(element);
+                }
+            }
+            snapshot = null;
+            return result;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 清空集合，索引声明保留
+     */
+    public void clear() {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            elements.clear();
+            for (Index<E> index : indexes.values()) {
+                index.buckets.clear();
+            }
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------- query
+
+    /**
+     * 获取指定索引上值为key的第一个元素
+     *
+     * @param name 索引名称
+     * @param key  索引值
+     * @return 元素，不存在时返回{@code null}
+     */
+    public E get(String name, Object key) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return first(index(indexes, name).buckets.get(key));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 获取指定索引上值为key的所有元素
+     *
+     * @param name 索引名称
+     * @param key  索引值
+     * @return 元素列表，按添加顺序
+     */
+    public List<E> find(String name, Object key) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            final List<E> bucket = index(indexes, name).buckets.get(key);
+            return null == bucket ? new ArrayList<>() : new ArrayList<>(bucket);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 获取指定索引上值在keys中的所有元素
+     *
+     * @param name 索引名称
+     * @param keys 索引值集合，重复的值只查询一次
+     * @return 元素列表，按keys的顺序
+     */
+    public List<E> findIn(String name, Collection<?> keys) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return findIn(index(indexes, name), keys);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 获取有序索引上值在指定范围内的所有元素，索引值为{@code null}的元素不参与范围查询
+     *
+     * @param name          有序索引名称
+     * @param from          下界，{@code null}表示不限
+     * @param fromInclusive 是否包含下界
+     * @param to            上界，{@code null}表示不限
+     * @param toInclusive   是否包含上界
+     * @return 元素列表，按索引值的顺序
+     */
+    public List<E> range(String name, Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return range(index(indexes, name), from, fromInclusive, to, toInclusive);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 按照指定索引分组，与{@link CollectionUtil#getPropertyMap}、{@code ObjectUtil.toMapList}结果一致但无需遍历
+     *
+     * @param name 索引名称
+     * @param <K>  索引值类型
+     * @return 分组结果，有序索引按索引值的顺序，哈希索引无序
+     */
+    public <K> Map<K, List<E>> group(String name) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return group(index(indexes, name), true);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 元素个数
+     *
+     * @return 元素个数
+     */
+    public int size() {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return elements.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 是否为空
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 所有元素的副本，按添加顺序
+     *
+     * @return 元素列表
+     */
+    public List<E> values() {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return new ArrayList<>(elements);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 遍历当前快照
+     *
+     * @return 迭代器
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return snapshot().iterator();
+    }
+
+    /**
+     * 获取不可变快照，集合未修改时返回同一个快照
+     *
+     * @return 快照
+     */
+    public Snapshot<E> snapshot() {
+        Snapshot<E> current = snapshot;
+        if (null != current) {
+            return current;
+        }
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            current = snapshot;
+            if (null == current) {
+                current = new Snapshot<>(elements, indexes);
+                snapshot = current;
+            }
+            return current;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * 不可变快照，查询无需加锁，查询结果为不可修改的列表
+     *
+     * @param <E> 元素类型
+     */
+    public static final class Snapshot<E> implements Iterable<E> {
+
+        /**
+         * 所有元素
+         */
+        private final List<E> elements;
+        /**
+         * 索引副本
+         */
+        private final Map<String, Index<E>> indexes;
+
+        private Snapshot(List<E> elements, Map<String, Index<E>> indexes) {
+            this.elements = List.copyOf(elements);
+            final Map<String, Index<E>> copy = new HashMap<>((int) (indexes.size() / .75f) + 1);
+            indexes.forEach((name, index) -> copy.put(name, index.immutableCopy()));
+            this.indexes = copy;
+        }
+
+        /**
+         * 获取指定索引上值为key的第一个元素
+         *
+         * @param name 索引名称
+         * @param key  索引值
+         * @return 元素，不存在时返回{@code null}
+         */
+        public E get(String name, Object key) {
+            return first(index(indexes, name).buckets.get(key));
+        }
+
+        /**
+         * 获取指定索引上值为key的所有元素
+         *
+         * @param name 索引名称
+         * @param key  索引值
+         * @return 不可修改的元素列表，按添加顺序
+         */
+        public List<E> find(String name, Object key) {
+            return index(indexes, name).buckets.getOrDefault(key, Collections.emptyList());
+        }
+
+        /**
+         * 获取指定索引上值在keys中的所有元素
+         *
+         * @param name 索引名称
+         * @param keys 索引值集合，重复的值只查询一次
+         * @return 不可修改的元素列表，按keys的顺序
+         */
+        public List<E> findIn(String name, Collection<?> keys) {
+            return Collections.unmodifiableList(IndexedCollection.findIn(index(indexes, name), keys));
+        }
+
+        /**
+         * 获取有序索引上值在指定范围内的所有元素，索引值为{@code null}的元素不参与范围查询
+         *
+         * @param name          有序索引名称
+         * @param from          下界，{@code null}表示不限
+         * @param fromInclusive 是否包含下界
+         * @param to            上界，{@code null}表示不限
+         * @param toInclusive   是否包含上界
+         * @return 不可修改的元素列表，按索引值的顺序
+         */
+        public List<E> range(String name, Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+            return Collections.unmodifiableList(IndexedCollection.range(index(indexes, name), from, fromInclusive, to, toInclusive));
+        }
+
+        /**
+         * 按照指定索引分组
+         *
+         * @param name 索引名称
+         * @param <K>  索引值类型
+         * @return 不可修改的分组结果，有序索引按索引值的顺序，哈希索引无序
+         */
+        public <K> Map<K, List<E>> group(String name) {
+            return Collections.unmodifiableMap(IndexedCollection.group(index(indexes, name), false));
+        }
+
+        /**
+         * 元素个数
+         *
+         * @return 元素个数
+         */
+        public int size() {
+            return elements.size();
+        }
+
+        /**
+         * 是否为空
+         *
+         * @return 是否为空
+         */
+        public boolean isEmpty() {
+            return elements.isEmpty();
+        }
+
+        /**
+         * 所有元素，按添加顺序
+         *
+         * @return 不可修改的元素列表
+         */
+        public List<E> values() {
+            return elements;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return elements.iterator();
+        }
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 索引，索引值 -> 元素列表
+     *
+     * @param <E> 元素类型
+     */
+    private static final class Index<E> {
+
+        /**
+         * 属性函数
+         */
+        private final Function<? super E, ?> function;
+        /**
+         * 索引值 -> 元素列表，哈希索引为{@link HashMap}，有序索引为{@link TreeMap}
+         */
+        private final Map<Object, List<E>> buckets;
+
+        private Index(Function<? super E, ?> function, Map<Object, List<E>> buckets) {
+            this.function = function;
+            this.buckets = buckets;
+        }
+
+        /**
+         * 是否为有序索引
+         *
+         * @return 是否为有序索引
+         */
+        private boolean isSorted() {
+            return buckets instanceof NavigableMap;
+        }
+
+        /**
+         * 添加元素到索引
+         *
+         * @param element 元素
+         */
+        private void add(E element) {
+            buckets.computeIfAbsent(function.apply(element), key -> new ArrayList<>(2)).add(element);
+        }
+
+        /**
+         * 从索引中删除元素
+         *
+         * @param element 元素
+         */
+        private void remove(E element) {
+            final Object key = function.apply(element);
+            final List<E> bucket = buckets.get(key);
+            if (null != bucket) {
+                // 优先按引用删除，避免equals相等的其它元素被误删
+                int position = -1;
+                for (int i = 0; i < bucket.size(); i++) {
+                    if (bucket.get(i) == element) {
+                        position = i;
+                        break;
+                    }
+                }
+                if (position < 0) {
+                    position = bucket.indexOf(element);
+                }
+                if (position >= 0) {
+                    bucket.remove(position);
+                }
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+
+        /**
+         * 复制为不可变索引
+         *
+         * @return 不可变索引
+         */
+        private Index<E> immutableCopy() {
+            final Map<Object, List<E>> copy;
+            if (buckets instanceof TreeMap<Object, List<E>> sorted) {
+                copy = new TreeMap<>(sorted.comparator());
+            } else {
+                copy = new HashMap<>((int) (buckets.size() / .75f) + 1);
+            }
+            buckets.forEach((key, bucket) -> copy.put(key, List.copyOf(bucket)));
+            return new Index<>(function, copy instanceof NavigableMap<Object, List<E>> navigable
+                    ? Collections.unmodifiableNavigableMap(navigable) : Collections.unmodifiableMap(copy));
+        }
+    }
+
+    /**
+     * 声明索引并为已有元素建立索引
+     *
+     * @param name  索引名称
+     * @param index 索引
+     * @return this
+     */
+    private IndexedCollection<E> addIndex(String name, Index<E> index) {
+        Validate.notEmpty(name, "index name can't be blank!");
+        Validate.notNull(index.function, "function can't be null!");
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            Validate.isTrue(!indexes.containsKey(name), "index [{}] already exists!", name);
+            for (E element : elements) {
+                index.add(element);
+            }
+            indexes.put(name, index);
+            snapshot = null;
+        } finally {
+            writeLock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * 获取索引
+     *
+     * @param indexes 所有索引
+     * @param name    索引名称
+     * @param <E>     元素类型
+     * @return 索引
+     * @throws IllegalArgumentException 索引不存在
+     */
+    private static <E> Index<E> index(Map<String, Index<E>> indexes, String name) {
+        return Validate.notNull(indexes.get(name), "index [{}] not found!", name);
+    }
+
+    /**
+     * 获取列表的第一个元素
+     *
+     * @param bucket 列表
+     * @param <E>    元素类型
+     * @return 第一个元素，列表为空时返回{@code null}
+     */
+    private static <E> E first(List<E> bucket) {
+        return null == bucket || bucket.isEmpty() ? null : bucket.get(0);
+    }
+
+    /**
+     * IN查询
+     *
+     * @param index 索引
+     * @param keys  索引值集合
+     * @param <E>   元素类型
+     * @return 元素列表
+     */
+    private static <E> List<E> findIn(Index<E> index, Collection<?> keys) {
+        final List<E> result = new ArrayList<>();
+        if (CollectionUtil.isEmpty(keys)) {
+            return result;
+        }
+        final Collection<?> distinctKeys = keys instanceof Set ? keys : new LinkedHashSet<>(keys);
+        for (Object key : distinctKeys) {
+            final List<E> bucket = index.buckets.get(key);
+            if (null != bucket) {
+                result.addAll(bucket);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 范围查询
+     *
+     * @param index         索引，必须为有序索引
+     * @param from          下界
+     * @param fromInclusive 是否包含下界
+     * @param to            上界
+     * @param toInclusive   是否包含上界
+     * @param <E>           元素类型
+     * @return 元素列表
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> range(Index<E> index, Object from, boolean fromInclusive, Object to, boolean toInclusive) {
+        Validate.isTrue(index.isSorted(), "range query requires a sorted index!");
+        NavigableMap<Object, List<E>> map = (NavigableMap<Object, List<E>>) index.buckets;
+        if (null != from) {
+            map = map.tailMap(from, fromInclusive);
+        }
+        if (null != to) {
+            map = map.headMap(to, toInclusive);
+        }
+        final List<E> result = new ArrayList<>();
+        map.forEach((key, bucket) -> {
+            if (null != key) {
+                result.addAll(bucket);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 分组
+     *
+     * @param index 索引
+     * @param copy  是否复制每组的元素列表
+     * @param <K>   索引值类型
+     * @param <E>   元素类型
+     * @return 分组结果
+     */
+    @SuppressWarnings("unchecked")
+    private static <K, E> Map<K, List<E>> group(Index<E> index, boolean copy) {
+        final Map<K, List<E>> result = index.isSorted() ? new LinkedHashMap<>() : new HashMap<>();
+        index.buckets.forEach((key, bucket) -> result.put((K) key, copy ? new ArrayList<>(bucket) : bucket));
+        return result;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,195 @@
+package com.ipower.framework.common.core.collection;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * 基本类型数组的Iterator对象
+ * <p>
+ * 与{@link ArrayIter}不同，直接按下标读取数组元素，不经过{@link java.lang.reflect.Array#get(Object, int)}，
+ * 使用{@code nextInt()}、{@code nextLong()}、{@code nextDouble()}或{@code forEachRemaining}取值时不会装箱
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class PrimitiveArrayIter {
+
+    private PrimitiveArrayIter() {
+        throw new AssertionError("No " + getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * int数组迭代器
+     */
+    public static final class OfInt implements PrimitiveIterator.OfInt {
+
+        private final int[] array;
+        private final int endIndex;
+        private int index;
+
+        /**
+         * 构造
+         *
+         * @param array 数组
+         */
+        public OfInt(final int[] array) {
+            this(array, 0, array.length);
+        }
+
+        /**
+         * 构造
+         *
+         * @param array      数组
+         * @param startIndex 起始位置（包含）
+         * @param endIndex   结束位置（不包含）
+         * @throws IndexOutOfBoundsException 位置超出数组范围
+         */
+        public OfInt(final int[] array, final int startIndex, final int endIndex) {
+            checkRange(startIndex, endIndex, array.length);
+            this.array = array;
+            this.index = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < endIndex;
+        }
+
+        @Override
+        public int nextInt() {
+            if (index >= endIndex) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (; index < endIndex; index++) {
+                action.accept(array[index]);
+            }
+        }
+    }
+
+    /**
+     * long数组迭代器
+     */
+    public static final class OfLong implements PrimitiveIterator.OfLong {
+
+        private final long[] array;
+        private final int endIndex;
+        private int index;
+
+        /**
+         * 构造
+         *
+         * @param array 数组
+         */
+        public OfLong(final long[] array) {
+            this(array, 0, array.length);
+        }
+
+        /**
+         * 构造
+         *
+         * @param array      数组
+         * @param startIndex 起始位置（包含）
+         * @param endIndex   结束位置（不包含）
+         * @throws IndexOutOfBoundsException 位置超出数组范围
+         */
+        public OfLong(final long[] array, final int startIndex, final int endIndex) {
+            checkRange(startIndex, endIndex, array.length);
+            this.array = array;
+            this.index = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < endIndex;
+        }
+
+        @Override
+        public long nextLong() {
+            if (index >= endIndex) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            for (; index < endIndex; index++) {
+                action.accept(array[index]);
+            }
+        }
+    }
+
+    /**
+     * double数组迭代器
+     */
+    public static final class OfDouble implements PrimitiveIterator.OfDouble {
+
+        private final double[] array;
+        private final int endIndex;
+        private int index;
+
+        /**
+         * 构造
+         *
+         * @param array 数组
+         */
+        public OfDouble(final double[] array) {
+            this(array, 0, array.length);
+        }
+
+        /**
+         * 构造
+         *
+         * @param array      数组
+         * @param startIndex 起始位置（包含）
+         * @param endIndex   结束位置（不包含）
+         * @throws IndexOutOfBoundsException 位置超出数组范围
+         */
+        public OfDouble(final double[] array, final int startIndex, final int endIndex) {
+            checkRange(startIndex, endIndex, array.length);
+            this.array = array;
+            this.index = startIndex;
+            this.endIndex = endIndex;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < endIndex;
+        }
+
+        @Override
+        public double nextDouble() {
+            if (index >= endIndex) {
+                throw new NoSuchElementException();
+            }
+            return array[index++];
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            for (; index < endIndex; index++) {
+                action.accept(array[index]);
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private static void checkRange(int startIndex, int endIndex, int length) {
+        if (startIndex < 0 || startIndex > endIndex || endIndex > length) {
+            throw new IndexOutOfBoundsException("startIndex: " + startIndex + ", endIndex: " + endIndex + ", length: " + length);
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,495 @@
+package com.ipower.framework.common.core.collection;
+
+import com.ipower.framework.common.core.collection.primitive.IntHashSet;
+import com.ipower.framework.common.core.collection.primitive.LongHashSet;
+import com.ipower.framework.common.core.constant.StringPool;
+import com.ipower.framework.common.core.lang.ObjectUtil;
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+
+/**
+ * 基本类型数组工具类
+ * <p>
+ * 提供{@code int[]}、{@code long[]}、{@code double[]}的查找、去重、极值、求和、连接和移除等操作，
+ * 直接在基本类型数组上循环，不需要先通过{@link ArrayUtil#wrap(int...)}装箱为包装类型数组。
+ * 这些方法没有作为{@link ArrayUtil}的重载提供，避免{@code ArrayUtil.min(null)}等已有调用出现重载歧义。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class PrimitiveArrayUtil {
+
+    private PrimitiveArrayUtil() {
+        throw new AssertionError("No " + getClass().getName() + " instances for you!");
+    }
+
+    // -------------------------------------------------------------------- int[]
+
+    /**
+     * <p>判断int数组中是否包含指定的值</p>
+     *
+     * @param array 数组，可以为{@code null}
+     * @param value 被检查的值
+     * @return 是否包含指定的值
+     */
+    public static boolean contains(final int[] array, final int value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * <p>获取值在int数组中第一次出现的位置</p>
+     *
+     * @param array 数组，可以为{@code null}
+     * @param value 被检查的值
+     * @return 第一次出现的位置，未找到或数组为{@code null}时返回-1
+     */
+    public static int indexOf(final int[] array, final int value) {
+        if (null == array) {
+            return -1;
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>去除int数组中的重复值，保持值第一次出现的顺序，生成新的数组，原数组不变</p>
+     *
+     * @param array 需要去重的数组
+     * @return 去重后的数组，数组为{@code null}或没有重复值时返回原数组
+     */
+    public static int[] distinct(final int[] array) {
+        if (null == array || array.length < 2) {
+            return array;
+        }
+        final IntHashSet seen = new IntHashSet(array.length);
+        final int[] result = new int[array.length];
+        int size = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (seen.add(array[i])) {
+                result[size++] = array[i];
+            }
+        }
+        return size == array.length ? array : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * <p>获取int数组中的最小值</p>
+     *
+     * @param array 数组，不允许为{@code null}或空
+     * @return 最小值
+     * @throws IllegalArgumentException 数组为{@code null}或空
+     */
+    public static int min(final int[] array) {
+        Validate.isTrue(null != array && array.length > 0, "array must not empty");
+        int min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * <p>获取int数组中的最大值</p>
+     *
+     * @param array 数组，不允许为{@code null}或空
+     * @return 最大值
+     * @throws IllegalArgumentException 数组为{@code null}或空
+     */
+    public static int max(final int[] array) {
+        Validate.isTrue(null != array && array.length > 0, "array must not empty");
+        int max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * <p>计算int数组中所有值的和，使用long累加，不会溢出</p>
+     *
+     * @param array 数组，为{@code null}时返回0
+     * @return 和
+     */
+    public static long sum(final int[] array) {
+        if (null == array) {
+            return 0;
+        }
+        long sum = 0;
+        for (int value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * <p>使用指定的连接符，将int数组的值连接成一个字符串</p>
+     *
+     * @param array     需要连接的数组，为{@code null}时返回""
+     * @param delimiter 连接符，为{@code null}时视为""
+     * @return 连接后的字符串
+     */
+    public static String join(final int[] array, final CharSequence delimiter) {
+        if (null == array || array.length == 0) {
+            return StringPool.EMPTY;
+        }
+        final CharSequence separator = ObjectUtil.nullToDefault(delimiter, StringPool.EMPTY);
+        final StringBuilder builder = new StringBuilder(array.length * 8);
+        builder.append(array[0]);
+        for (int i = 1; i < array.length; i++) {
+            builder.append(separator).append(array[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * <p>移除int数组中所有等于指定值的元素，移除成功，会返回移除元素之后的新数组</p>
+     *
+     * @param array 数组
+     * @param value 要移除的值
+     * @return 移除指定值后的新数组，数组为{@code null}或不包含指定值时返回原数组
+     */
+    public static int[] remove(final int[] array, final int value) {
+        final int first = indexOf(array, value);
+        if (first < 0) {
+            return array;
+        }
+        final int[] result = new int[array.length - 1];
+        System.arraycopy(array, 0, result, 0, first);
+        int size = first;
+        for (int i = first + 1; i < array.length; i++) {
+            if (array[i] != value) {
+                result[size++] = array[i];
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * <p>获取int数组的迭代器，直接读取数组元素，不会装箱</p>
+     *
+     * @param array 数组，为{@code null}时返回空迭代器
+     * @return 迭代器
+     */
+    public static PrimitiveIterator.OfInt iterator(final int[] array) {
+        return new PrimitiveArrayIter.OfInt(null == array ? new int[0] : array);
+    }
+
+    // -------------------------------------------------------------------- long[]
+
+    /**
+     * <p>判断long数组中是否包含指定的值</p>
+     *
+     * @param array 数组，可以为{@code null}
+     * @param value 被检查的值
+     * @return 是否包含指定的值
+     */
+    public static boolean contains(final long[] array, final long value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * <p>获取值在long数组中第一次出现的位置</p>
+     *
+     * @param array 数组，可以为{@code null}
+     * @param value 被检查的值
+     * @return 第一次出现的位置，未找到或数组为{@code null}时返回-1
+     */
+    public static int indexOf(final long[] array, final long value) {
+        if (null == array) {
+            return -1;
+        }
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>去除long数组中的重复值，保持值第一次出现的顺序，生成新的数组，原数组不变</p>
+     *
+     * @param array 需要去重的数组
+     * @return 去重后的数组，数组为{@code null}或没有重复值时返回原数组
+     */
+    public static long[] distinct(final long[] array) {
+        if (null == array || array.length < 2) {
+            return array;
+        }
+        final LongHashSet seen = new LongHashSet(array.length);
+        final long[] result = new long[array.length];
+        int size = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (seen.add(array[i])) {
+                result[size++] = array[i];
+            }
+        }
+        return size == array.length ? array : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * <p>获取long数组中的最小值</p>
+     *
+     * @param array 数组，不允许为{@code null}或空
+     * @return 最小值
+     * @throws IllegalArgumentException 数组为{@code null}或空
+     */
+    public static long min(final long[] array) {
+        Validate.isTrue(null != array && array.length > 0, "array must not empty");
+        long min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * <p>获取long数组中的最大值</p>
+     *
+     * @param array 数组，不允许为{@code null}或空
+     * @return 最大值
+     * @throws IllegalArgumentException 数组为{@code null}或空
+     */
+    public static long max(final long[] array) {
+        Validate.isTrue(null != array && array.length > 0, "array must not empty");
+        long max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * <p>计算long数组中所有值的和，溢出时按long的规则回绕</p>
+     *
+     * @param array 数组，为{@code null}时返回0
+     * @return 和
+     */
+    public static long sum(final long[] array) {
+        if (null == array) {
+            return 0;
+        }
+        long sum = 0;
+        for (long value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * <p>使用指定的连接符，将long数组的值连接成一个字符串</p>
+     *
+     * @param array     需要连接的数组，为{@code null}时返回""
+     * @param delimiter 连接符，为{@code null}时视为""
+     * @return 连接后的字符串
+     */
+    public static String join(final long[] array, final CharSequence delimiter) {
+        if (null == array || array.length == 0) {
+            return StringPool.EMPTY;
+        }
+        final CharSequence separator = ObjectUtil.nullToDefault(delimiter, StringPool.EMPTY);
+        final StringBuilder builder = new StringBuilder(array.length * 12);
+        builder.append(array[0]);
+        for (int i = 1; i < array.length; i++) {
+            builder.append(separator).append(array[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * <p>移除long数组中所有等于指定值的元素，移除成功，会返回移除元素之后的新数组</p>
+     *
+     * @param array 数组
+     * @param value 要移除的值
+     * @return 移除指定值后的新数组，数组为{@code null}或不包含指定值时返回原数组
+     */
+    public static long[] remove(final long[] array, final long value) {
+        final int first = indexOf(array, value);
+        if (first < 0) {
+            return array;
+        }
+        final long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, first);
+        int size = first;
+        for (int i = first + 1; i < array.length; i++) {
+            if (array[i] != value) {
+                result[size++] = array[i];
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * <p>获取long数组的迭代器，直接读取数组元素，不会装箱</p>
+     *
+     * @param array 数组，为{@code null}时返回空迭代器
+     * @return 迭代器
+     */
+    public static PrimitiveIterator.OfLong iterator(final long[] array) {
+        return new PrimitiveArrayIter.OfLong(null == array ? new long[0] : array);
+    }
+
+    // -------------------------------------------------------------------- double[]
+
+    /**
+     * <p>判断double数组中是否包含指定的值，元素按{@link Double#equals(Object)}的规则比较（{@code NaN}与自身相等，{@code 0.0}与{@code -0.0}不相等）</p>
+     *
+     * @param array 数组，可以为{@code null}
+     * @param value 被检查的值
+     * @return 是否包含指定的值
+     */
+    public static boolean contains(final double[] array, final double value) {
+        return indexOf(array, value) >= 0;
+    }
+
+    /**
+     * <p>获取值在double数组中第一次出现的位置，元素按{@link Double#equals(Object)}的规则比较（{@code NaN}与自身相等，{@code 0.0}与{@code -0.0}不相等）</p>
+     *
+     * @param array 数组，可以为{@code null}
+     * @param value 被检查的值
+     * @return 第一次出现的位置，未找到或数组为{@code null}时返回-1
+     */
+    public static int indexOf(final double[] array, final double value) {
+        if (null == array) {
+            return -1;
+        }
+        final long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < array.length; i++) {
+            if (Double.doubleToLongBits(array[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>去除double数组中的重复值，保持值第一次出现的顺序，生成新的数组，原数组不变，元素按{@link Double#equals(Object)}的规则比较（{@code NaN}与自身相等，{@code 0.0}与{@code -0.0}不相等）</p>
+     *
+     * @param array 需要去重的数组
+     * @return 去重后的数组，数组为{@code null}或没有重复值时返回原数组
+     */
+    public static double[] distinct(final double[] array) {
+        if (null == array || array.length < 2) {
+            return array;
+        }
+        final LongHashSet seen = new LongHashSet(array.length);
+        final double[] result = new double[array.length];
+        int size = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (seen.add(Double.doubleToLongBits(array[i]))) {
+                result[size++] = array[i];
+            }
+        }
+        return size == array.length ? array : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * <p>获取double数组中的最小值，与{@link Math#min(double, double)}一致，存在{@code NaN}时返回{@code NaN}</p>
+     *
+     * @param array 数组，不允许为{@code null}或空
+     * @return 最小值
+     * @throws IllegalArgumentException 数组为{@code null}或空
+     */
+    public static double min(final double[] array) {
+        Validate.isTrue(null != array && array.length > 0, "array must not empty");
+        double min = array[0];
+        for (int i = 1; i < array.length; i++) {
+            min = Math.min(min, array[i]);
+        }
+        return min;
+    }
+
+    /**
+     * <p>获取double数组中的最大值，与{@link Math#max(double, double)}一致，存在{@code NaN}时返回{@code NaN}</p>
+     *
+     * @param array 数组，不允许为{@code null}或空
+     * @return 最大值
+     * @throws IllegalArgumentException 数组为{@code null}或空
+     */
+    public static double max(final double[] array) {
+        Validate.isTrue(null != array && array.length > 0, "array must not empty");
+        double max = array[0];
+        for (int i = 1; i < array.length; i++) {
+            max = Math.max(max, array[i]);
+        }
+        return max;
+    }
+
+    /**
+     * <p>计算double数组中所有值的和</p>
+     *
+     * @param array 数组，为{@code null}时返回0
+     * @return 和
+     */
+    public static double sum(final double[] array) {
+        if (null == array) {
+            return 0;
+        }
+        double sum = 0;
+        for (double value : array) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * <p>使用指定的连接符，将double数组的值连接成一个字符串</p>
+     *
+     * @param array     需要连接的数组，为{@code null}时返回""
+     * @param delimiter 连接符，为{@code null}时视为""
+     * @return 连接后的字符串
+     */
+    public static String join(final double[] array, final CharSequence delimiter) {
+        if (null == array || array.length == 0) {
+            return StringPool.EMPTY;
+        }
+        final CharSequence separator = ObjectUtil.nullToDefault(delimiter, StringPool.EMPTY);
+        final StringBuilder builder = new StringBuilder(array.length * 12);
+        builder.append(array[0]);
+        for (int i = 1; i < array.length; i++) {
+            builder.append(separator).append(array[i]);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * <p>移除double数组中所有等于指定值的元素，移除成功，会返回移除元素之后的新数组，元素按{@link Double#equals(Object)}的规则比较（{@code NaN}与自身相等，{@code 0.0}与{@code -0.0}不相等）</p>
+     *
+     * @param array 数组
+     * @param value 要移除的值
+     * @return 移除指定值后的新数组，数组为{@code null}或不包含指定值时返回原数组
+     */
+    public static double[] remove(final double[] array, final double value) {
+        final int first = indexOf(array, value);
+        if (first < 0) {
+            return array;
+        }
+        final long bits = Double.doubleToLongBits(value);
+        final double[] result = new double[array.length - 1];
+        System.arraycopy(array, 0, result, 0, first);
+        int size = first;
+        for (int i = first + 1; i < array.length; i++) {
+            if (Double.doubleToLongBits(array[i]) != bits) {
+                result[size++] = array[i];
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * <p>获取double数组的迭代器，直接读取数组元素，不会装箱</p>
+     *
+     * @param array 数组，为{@code null}时返回空迭代器
+     * @return 迭代器
+     */
+    public static PrimitiveIterator.OfDouble iterator(final double[] array) {
+        return new PrimitiveArrayIter.OfDouble(null == array ? new double[0] : array);
+    }
+}
@@ -3,8 +3,12 @@ package com.ipower.framework.common.core.collection;
 import com.ipower.framework.common.core.lang.ObjectUtil;
 import org.apache.commons.collections4.ComparatorUtils;
 
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import static java.util.Collections.emptyList;
 
@@ -15,6 +19,11 @@ import static java.util.Collections.emptyList;
  */
 public final class SortUtil {
 
+    /**
+     * 超过该数量时使用{@link Arrays#parallelSort}并行排序
+     */
+    public static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
     private SortUtil() {
         throw new AssertionError("No " + getClass().getName() + " instances for you!");
     }
@@ -27,10 +36,63 @@ public final class SortUtil {
         if (ObjectUtil.isEmpty(comparators)) {
             return list;
         }
-        list.sort(toComparator(comparators));
+        final Comparator<T> comparator = toComparator(comparators);
+        if (list.size() < PARALLEL_SORT_THRESHOLD) {
+            list.sort(comparator);
+            return list;
+        }
+        @SuppressWarnings("unchecked") final T[] array = (T[]) list.toArray();
+        Arrays.parallelSort(array, comparator);
+        final ListIterator<T> it = list.listIterator();
+        for (T value : array) {
+            it.next();
+            it.set(value);
+        }
         return list;
     }
 
+    /**
+     * 按long类型的键对列表原地排序，每个元素只取一次键
+     *
+     * @param list 列表
+     * @param key  取值函数
+     * @param desc 是否降序
+     * @param <T>  元素类型
+     * @return 排序后的列表
+     * @see Sorter
+     */
+    public static <T> List<T> sortByLong(List<T> list, ToLongFunction<? super T> key, boolean desc) {
+        final Sorter<T> sorter = Sorter.create();
+        return (desc ? sorter.byLongDesc(key) : sorter.byLong(key)).sort(list);
+    }
+
+    /**
+     * 按比较器选出排在最前的k个元素，不对整个集合排序
+     *
+     * @param iterable   元素
+     * @param k          数量
+     * @param comparator 比较器
+     * @param <T>        元素类型
+     * @return 排在最前的k个元素，按比较器有序
+     * @see Sorter#top(Iterable, int)
+     */
+    public static <T> List<T> top(Iterable<? extends T> iterable, int k, Comparator<? super T> comparator) {
+        return Sorter.<T>create().by(Function.identity(), comparator).top(iterable, k);
+    }
+
+    /**
+     * 按long类型的键选出最大的k个元素，如“按分数取前N条”
+     *
+     * @param iterable 元素
+     * @param k        数量
+     * @param key      取值函数
+     * @param <T>      元素类型
+     * @return 键最大的k个元素，按键降序
+     */
+    public static <T> List<T> topByLong(Iterable<? extends T> iterable, int k, ToLongFunction<? super T> key) {
+        return Sorter.<T>create().byLongDesc(key).top(iterable, k);
+    }
+
     @SafeVarargs
     private static <T> Comparator<T> toComparator(Comparator<T>... comparators) {
         return comparators.length == 1 ? comparators[0] : ComparatorUtils.chainedComparator(comparators);
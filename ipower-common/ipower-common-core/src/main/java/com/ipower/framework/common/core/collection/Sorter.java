@@ -0,0 +1,465 @@
+package com.ipower.framework.common.core.collection;
+
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 多键排序器
+ * <p>
+ * 排序前对每个元素只提取一次排序键（decorate-sort-undecorate），long、double类型的键保存在基本类型数组中，
+ * 比较时不再重复调用取值函数，也没有装箱；元素数量超过{@link SortUtil#PARALLEL_SORT_THRESHOLD}时使用
+ * {@link Arrays#parallelSort(Object[], Comparator)}。排序是稳定的，排序键相同的元素保持原有顺序。
+ * </p>
+ * <p>
+ * {@link #top(Iterable, int)}使用大小为k的堆选出排在最前的k个元素，不对整个集合排序。
+ * </p>
+ * <pre>
+ *     List&lt;User&gt; users = Sorter.&lt;User&gt;create().byLongDesc(User::getScore).by(User::getName).sort(users);
+ *     List&lt;User&gt; top10 = Sorter.&lt;User&gt;create().byLongDesc(User::getScore).top(users, 10);
+ * </pre>
+ * 排序器在声明完排序键后是线程安全的，可以复用。
+ *
+ * @param <T> 元素类型
+ * @author kris
+ * @since 1.0.0
+ */
+public final class Sorter<T> {
+
+    /**
+     * 排序键
+     */
+    private final List<Key<T>> keys = new ArrayList<>();
+    /**
+     * 各类型排序键的数量
+     */
+    private int longCount, doubleCount, objectCount;
+
+    private Sorter() {
+    }
+
+    /**
+     * 创建排序器
+     *
+     * @param <T> 元素类型
+     * @return 排序器
+     */
+    public static <T> Sorter<T> create() {
+        return new Sorter<>();
+    }
+
+    /**
+     * 按long类型的键升序
+     *
+     * @param key 取值函数
+     * @return this
+     */
+    public Sorter<T> byLong(ToLongFunction<? super T> key) {
+        return addLong(key, false);
+    }
+
+    /**
+     * 按long类型的键降序
+     *
+     * @param key 取值函数
+     * @return this
+     */
+    public Sorter<T> byLongDesc(ToLongFunction<? super T> key) {
+        return addLong(key, true);
+    }
+
+    /**
+     * 按double类型的键升序
+     *
+     * @param key 取值函数
+     * @return this
+     */
+    public Sorter<T> byDouble(ToDoubleFunction<? super T> key) {
+        return addDouble(key, false);
+    }
+
+    /**
+     * 按double类型的键降序
+     *
+     * @param key 取值函数
+     * @return this
+     */
+    public Sorter<T> byDoubleDesc(ToDoubleFunction<? super T> key) {
+        return addDouble(key, true);
+    }
+
+    /**
+     * 按可比较的键升序，{@code null}排在最后
+     *
+     * @param key 取值函数
+     * @param <K> 键类型
+     * @return this
+     */
+    public <K extends Comparable<? super K>> Sorter<T> by(Function<? super T, ? extends K> key) {
+        return by(key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    /**
+     * 按可比较的键降序，{@code null}排在最后
+     *
+     * @param key 取值函数
+     * @param <K> 键类型
+     * @return this
+     */
+    public <K extends Comparable<? super K>> Sorter<T> byDesc(Function<? super T, ? extends K> key) {
+        return by(key, Comparator.nullsLast(Comparator.reverseOrder()));
+    }
+
+    /**
+     * 按键和比较器排序
+     *
+     * @param key        取值函数
+     * @param comparator 键的比较器
+     * @param <K>        键类型
+     * @return this
+     */
+    @SuppressWarnings("unchecked")
+    public <K> Sorter<T> by(Function<? super T, ? extends K> key, Comparator<? super K> comparator) {
+        Validate.notNull(key, "The sort key must not be null");
+        Validate.notNull(comparator, "The comparator must not be null");
+        keys.add(new ObjectKey<>(objectCount++, key, (Comparator<Object>) comparator));
+        return this;
+    }
+
+    /**
+     * 对列表原地排序
+     *
+     * @param list 列表
+     * @return 排序后的列表（即参数本身），参数为{@code null}时返回空列表
+     */
+    public List<T> sort(List<T> list) {
+        if (null == list) {
+            return new ArrayList<>(0);
+        }
+        if (list.size() < 2 || keys.isEmpty()) {
+            return list;
+        }
+        final Object[] sorted = sortToArray(list);
+        final ListIterator<T> it = list.listIterator();
+        for (Object value : sorted) {
+            // sortToArray只重新排列list中的元素，每个元素都是T
+            @SuppressWarnings("unchecked") final T element = (T) value;
+            it.next();
+            it.set(element);
+        }
+        return list;
+    }
+
+    /**
+     * 排序到新的列表，不修改参数
+     *
+     * @param collection 集合
+     * @return 排序后的新列表
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> sorted(Collection<? extends T> collection) {
+        if (null == collection || collection.isEmpty()) {
+            return new ArrayList<>(0);
+        }
+        if (keys.isEmpty()) {
+            return new ArrayList<>(collection);
+        }
+        return (List<T>) new ArrayList<>(Arrays.asList(sortToArray(collection)));
+    }
+
+    /**
+     * 选出排在最前的k个元素，结果按排序规则有序
+     * <p>
+     * 时间复杂度O(n log k)，只保留k个元素及其排序键，适用于“按分数取前N条”等场景
+     * </p>
+     *
+     * @param iterable 元素
+     * @param k        数量
+     * @return 排在最前的k个元素
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> top(Iterable<? extends T> iterable, int k) {
+        Validate.isTrue(k >= 0, "The k must not be negative: {}", k);
+        if (null == iterable || k == 0) {
+            return new ArrayList<>(0);
+        }
+        // 堆顶是当前保留的元素中排在最后的
+        final Comparator<Row> order = this::compare;
+        final PriorityQueue<Row> heap = new PriorityQueue<>(Math.min(k, 1024) + 1, order.reversed());
+        Row scratch = newRow();
+        int seq = 0;
+        for (T value : iterable) {
+            fill(scratch, value, seq++);
+            if (heap.size() < k) {
+                heap.offer(scratch);
+                scratch = newRow();
+            } else if (compare(scratch, heap.peek()) < 0) {
+                final Row evicted = heap.poll();
+                heap.offer(scratch);
+                scratch = evicted;
+            }
+        }
+        final Row[] rows = heap.toArray(new Row[0]);
+        Arrays.sort(rows, order);
+        final List<T> result = new ArrayList<>(rows.length);
+        for (Row row : rows) {
+            result.add((T) row.value);
+        }
+        return result;
+    }
+
+    /**
+     * 转换为比较器，每次比较都会调用取值函数，适用于无法使用排序器的场景
+     *
+     * @return 比较器
+     */
+    public Comparator<T> comparator() {
+        Comparator<T> comparator = null;
+        for (Key<T> key : keys) {
+            comparator = null == comparator ? key.comparator() : comparator.thenComparing(key.comparator());
+        }
+        return null == comparator ? (a, b) -> 0 : comparator;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private Sorter<T> addLong(ToLongFunction<? super T> key, boolean desc) {
+        Validate.notNull(key, "The sort key must not be null");
+        keys.add(new LongKey<>(longCount++, key, desc));
+        return this;
+    }
+
+    private Sorter<T> addDouble(ToDoubleFunction<? super T> key, boolean desc) {
+        Validate.notNull(key, "The sort key must not be null");
+        keys.add(new DoubleKey<>(doubleCount++, key, desc));
+        return this;
+    }
+
+    /**
+     * 提取排序键后按下标排序，返回排序后的元素数组
+     *
+     * @param collection 集合
+     * @return 排序后的元素数组
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] sortToArray(Collection<? extends T> collection) {
+        final Object[] values = collection.toArray();
+        final int size = values.length;
+        final Columns columns = new Columns(longCount, doubleCount, objectCount, size);
+        for (Key<T> key : keys) {
+            key.extract(values, columns);
+        }
+        final Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        final Comparator<Integer> comparator = (a, b) -> {
+            for (Key<T> key : keys) {
+                final int c = key.compare(columns, a, b);
+                if (c != 0) {
+                    return c;
+                }
+            }
+            return 0;
+        };
+        if (size >= SortUtil.PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(indexes, comparator);
+        } else {
+            Arrays.sort(indexes, comparator);
+        }
+        final Object[] sorted = new Object[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = values[indexes[i]];
+        }
+        return sorted;
+    }
+
+    private Row newRow() {
+        return new Row(new long[longCount], new double[doubleCount], new Object[objectCount]);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void fill(Row row, Object value, int seq) {
+        row.value = value;
+        row.seq = seq;
+        for (Key<T> key : keys) {
+            key.extract((T) value, row);
+        }
+    }
+
+    /**
+     * 比较两行，排序键相同时按出现顺序，保证结果稳定
+     */
+    private int compare(Row a, Row b) {
+        for (Key<T> key : keys) {
+            final int c = key.compare(a, b);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return Integer.compare(a.seq, b.seq);
+    }
+
+    /**
+     * 按列保存的排序键，下标与元素数组一致
+     */
+    private static final class Columns {
+
+        private final long[][] longs;
+        private final double[][] doubles;
+        private final Object[][] objects;
+
+        private Columns(int longCount, int doubleCount, int objectCount, int size) {
+            this.longs = new long[longCount][size];
+            this.doubles = new double[doubleCount][size];
+            this.objects = new Object[objectCount][size];
+        }
+    }
+
+    /**
+     * 单个元素及其排序键，用于top-k选择
+     */
+    private static final class Row {
+
+        private final long[] longs;
+        private final double[] doubles;
+        private final Object[] objects;
+        private Object value;
+        private int seq;
+
+        private Row(long[] longs, double[] doubles, Object[] objects) {
+            this.longs = longs;
+            this.doubles = doubles;
+            this.objects = objects;
+        }
+    }
+
+    /**
+     * 排序键
+     *
+     * @param <T> 元素类型
+     */
+    private interface Key<T> {
+
+        void extract(Object[] values, Columns columns);
+
+        void extract(T value, Row row);
+
+        int compare(Columns columns, int a, int b);
+
+        int compare(Row a, Row b);
+
+        Comparator<T> comparator();
+    }
+
+    private record LongKey<T>(int slot, ToLongFunction<? super T> function, boolean desc) implements Key<T> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void extract(Object[] values, Columns columns) {
+            final long[] column = columns.longs[slot];
+            for (int i = 0; i < values.length; i++) {
+                column[i] = function.applyAsLong((T) values[i]);
+            }
+        }
+
+        @Override
+        public void extract(T value, Row row) {
+            row.longs[slot] = function.applyAsLong(value);
+        }
+
+        @Override
+        public int compare(Columns columns, int a, int b) {
+            final long[] column = columns.longs[slot];
+            return desc ? Long.compare(column[b], column[a]) : Long.compare(column[a], column[b]);
+        }
+
+        @Override
+        public int compare(Row a, Row b) {
+            return desc ? Long.compare(b.longs[slot], a.longs[slot]) : Long.compare(a.longs[slot], b.longs[slot]);
+        }
+
+        @Override
+        public Comparator<T> comparator() {
+            final Comparator<T> comparator = Comparator.comparingLong(function);
+            return desc ? comparator.reversed() : comparator;
+        }
+    }
+
+    private record DoubleKey<T>(int slot, ToDoubleFunction<? super T> function, boolean desc) implements Key<T> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void extract(Object[] values, Columns columns) {
+            final double[] column = columns.doubles[slot];
+            for (int i = 0; i < values.length; i++) {
+                column[i] = function.applyAsDouble((T) values[i]);
+            }
+        }
+
+        @Override
+        public void extract(T value, Row row) {
+            row.doubles[slot] = function.applyAsDouble(value);
+        }
+
+        @Override
+        public int compare(Columns columns, int a, int b) {
+            final double[] column = columns.doubles[slot];
+            return desc ? Double.compare(column[b], column[a]) : Double.compare(column[a], column[b]);
+        }
+
+        @Override
+        public int compare(Row a, Row b) {
+            return desc ? Double.compare(b.doubles[slot], a.doubles[slot]) : Double.compare(a.doubles[slot], b.doubles[slot]);
+        }
+
+        @Override
+        public Comparator<T> comparator() {
+            final Comparator<T> comparator = Comparator.comparingDouble(function);
+            return desc ? comparator.reversed() : comparator;
+        }
+    }
+
+    private record ObjectKey<T>(int slot, Function<? super T, ?> function, Comparator<Object> order) implements Key<T> {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void extract(Object[] values, Columns columns) {
+            final Object[] column = columns.objects[slot];
+            for (int i = 0; i < values.length; i++) {
+                column[i] = function.apply((T) values[i]);
+            }
+        }
+
+        @Override
+        public void extract(T value, Row row) {
+            row.objects[slot] = function.apply(value);
+        }
+
+        @Override
+        public int compare(Columns columns, int a, int b) {
+            final Object[] column = columns.objects[slot];
+            return order.compare(column[a], column[b]);
+        }
+
+        @Override
+        public int compare(Row a, Row b) {
+            return order.compare(a.objects[slot], b.objects[slot]);
+        }
+
+        @Override
+        public Comparator<T> comparator() {
+            return Comparator.comparing(function, order);
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
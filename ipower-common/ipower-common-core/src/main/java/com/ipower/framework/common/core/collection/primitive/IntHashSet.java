@@ -0,0 +1,432 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ipower.framework.common.core.collection.primitive.json.IntHashSetDeserializer;
+import com.ipower.framework.common.core.collection.primitive.json.IntHashSetSerializer;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 原始int元素的哈希集合
+ * <p>
+ * 开放寻址、线性探测实现，元素不装箱，{@link #contains(int)}为O(1)，适用于类型、状态等int编码集合的判断。
+ * 删除时后移填补空位，不使用墓碑标记。非线程安全。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+@JsonSerialize(using = IntHashSetSerializer.class)
+@JsonDeserialize(using = IntHashSetDeserializer.class)
+public class IntHashSet implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -2736120968416403551L;
+
+    /**
+     * 哈希表，0表示空位
+     */
+    private int[] keys;
+    /**
+     * 元素0单独记录
+     */
+    private boolean containsZero;
+    /**
+     * 元素个数（包含0）
+     */
+    private int size;
+    /**
+     * 哈希表掩码
+     */
+    private int mask;
+    /**
+     * 扩容阈值
+     */
+    private int resizeThreshold;
+
+    /**
+     * 构造
+     */
+    public IntHashSet() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * 构造
+     *
+     * @param expectedSize 期望元素个数，在此个数内不会扩容
+     */
+    public IntHashSet(int expectedSize) {
+        allocate(PrimitiveHashing.capacityFor(expectedSize));
+    }
+
+    /**
+     * 根据元素新建集合
+     *
+     * @param values 元素
+     * @return {@link IntHashSet}
+     */
+    public static IntHashSet of(int... values) {
+        if (null == values) {
+            return new IntHashSet();
+        }
+        final IntHashSet set = new IntHashSet(values.length);
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * 根据装箱的集合新建集合，{@code null}元素被忽略
+     *
+     * @param values 元素集合
+     * @return {@link IntHashSet}
+     */
+    public static IntHashSet from(Collection<? extends Number> values) {
+        if (null == values) {
+            return new IntHashSet();
+        }
+        final IntHashSet set = new IntHashSet(values.size());
+        for (Number value : values) {
+            if (null != value) {
+                set.add(value.intValue());
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     * @return 集合中原本不存在该元素时返回{@code true}
+     */
+    public boolean add(int value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = PrimitiveHashing.mix(value) & mask;
+        int current;
+        while ((current = keys[index]) != 0) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 添加所有元素
+     *
+     * @param values 元素
+     * @return 集合是否发生变化
+     */
+    public boolean addAll(int... values) {
+        boolean changed = false;
+        if (null != values) {
+            for (int value : values) {
+                changed |= add(value);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 添加所有元素
+     *
+     * @param values 元素
+     * @return 集合是否发生变化
+     */
+    public boolean addAll(IntHashSet values) {
+        if (null == values) {
+            return false;
+        }
+        final int before = size;
+        values.forEach(this::add);
+        return size != before;
+    }
+
+    /**
+     * 是否包含指定元素
+     *
+     * @param value 元素
+     * @return 是否包含
+     */
+    public boolean contains(int value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int index = PrimitiveHashing.mix(value) & mask;
+        int current;
+        while ((current = keys[index]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 删除元素
+     *
+     * @param value 元素
+     * @return 集合中存在该元素时返回{@code true}
+     */
+    public boolean remove(int value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = PrimitiveHashing.mix(value) & mask;
+        int current;
+        while ((current = keys[index]) != 0) {
+            if (current == value) {
+                shiftKeys(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 清空集合，保留已分配的容量
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0);
+            containsZero = false;
+            size = 0;
+        }
+    }
+
+    /**
+     * 元素个数
+     *
+     * @return 元素个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 是否为空
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 复制为int数组
+     *
+     * @return int数组
+     */
+    public int[] toArray() {
+        final int[] result = new int[size];
+        int i = 0;
+        if (containsZero) {
+            result[i++] = 0;
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 遍历所有元素
+     *
+     * @param action 元素处理
+     */
+    public void forEach(IntConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (int key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    /**
+     * 原始类型迭代器
+     *
+     * @return 迭代器
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            /**
+             * 下一个待检查的位置，-1表示元素0
+             */
+            private int index = containsZero ? -1 : nextIndex(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < keys.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final int value = index < 0 ? 0 : keys[index];
+                index = nextIndex(index + 1);
+                return value;
+            }
+        };
+    }
+
+    /**
+     * 原始类型流
+     *
+     * @return {@link IntStream}
+     */
+    public IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(iterator(), size, Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 转换为装箱的{@link List}
+     *
+     * @return {@link ArrayList}
+     */
+    public List<Integer> toList() {
+        final List<Integer> list = new ArrayList<>(size);
+        forEach((int value) -> list.add(value));
+        return list;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntHashSet other) || other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (int key : keys) {
+            if (key != 0 && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int key : keys) {
+            hash += key;
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(size * 8 + 2).append('[');
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+        return builder.append(']').toString();
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 分配哈希表
+     *
+     * @param capacity 容量
+     */
+    private void allocate(int capacity) {
+        this.keys = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = PrimitiveHashing.thresholdOf(capacity);
+    }
+
+    /**
+     * 扩容并重新散列
+     *
+     * @param capacity 新容量
+     */
+    private void rehash(int capacity) {
+        final int[] oldKeys = keys;
+        allocate(capacity);
+        for (int key : oldKeys) {
+            if (key != 0) {
+                int index = PrimitiveHashing.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    /**
+     * 删除后将探测链上的后续元素前移，填补空位
+     *
+     * @param slot 被删除元素的位置
+     */
+    private void shiftKeys(int slot) {
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            final int key = keys[current];
+            if (key == 0) {
+                keys[slot] = 0;
+                return;
+            }
+            if (PrimitiveHashing.canShift(slot, current, PrimitiveHashing.mix(key) & mask)) {
+                keys[slot] = key;
+                slot = current;
+            }
+        }
+    }
+
+    /**
+     * 查找从指定位置开始的下一个非空位置
+     *
+     * @param from 起始位置
+     * @return 非空位置，不存在时返回哈希表长度
+     */
+    private int nextIndex(int from) {
+        int index = from;
+        while (index < keys.length && keys[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,433 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ipower.framework.common.core.collection.primitive.json.Long2ObjectHashMapDeserializer;
+import com.ipower.framework.common.core.collection.primitive.json.Long2ObjectHashMapSerializer;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.LongFunction;
+
+/**
+ * 键为原始long的哈希映射
+ * <p>
+ * 开放寻址、线性探测实现，键不装箱，值允许为{@code null}。删除时后移填补空位，不使用墓碑标记。非线程安全。
+ * </p>
+ *
+ * @param <V> 值类型
+ * @author kris
+ * @since 1.0.0
+ */
+@JsonSerialize(using = Long2ObjectHashMapSerializer.class)
+@JsonDeserialize(using = Long2ObjectHashMapDeserializer.class)
+public class Long2ObjectHashMap<V> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -3870436236610419187L;
+
+    /**
+     * 键表，0表示空位
+     */
+    private long[] keys;
+    /**
+     * 值表，与键表下标一一对应
+     */
+    private Object[] values;
+    /**
+     * 是否存在键0
+     */
+    private boolean containsZeroKey;
+    /**
+     * 键0对应的值
+     */
+    private V zeroValue;
+    /**
+     * 键值对个数（包含键0）
+     */
+    private int size;
+    /**
+     * 哈希表掩码
+     */
+    private int mask;
+    /**
+     * 扩容阈值
+     */
+    private int resizeThreshold;
+
+    /**
+     * 构造
+     */
+    public Long2ObjectHashMap() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * 构造
+     *
+     * @param expectedSize 期望键值对个数，在此个数内不会扩容
+     */
+    public Long2ObjectHashMap(int expectedSize) {
+        allocate(PrimitiveHashing.capacityFor(expectedSize));
+    }
+
+    /**
+     * 根据装箱键的{@link Map}新建映射，{@code null}键被忽略
+     *
+     * @param map 源映射
+     * @param <V> 值类型
+     * @return {@link Long2ObjectHashMap}
+     */
+    public static <V> Long2ObjectHashMap<V> from(Map<? extends Number, ? extends V> map) {
+        if (null == map) {
+            return new Long2ObjectHashMap<>();
+        }
+        final Long2ObjectHashMap<V> result = new Long2ObjectHashMap<>(map.size());
+        map.forEach((key, value) -> {
+            if (null != key) {
+                result.put(key.longValue(), value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 获取值
+     *
+     * @param key 键
+     * @return 值，键不存在时返回{@code null}
+     */
+    public V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    /**
+     * 获取值
+     *
+     * @param key          键
+     * @param defaultValue 键不存在时的默认值
+     * @return 值
+     */
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(long key, V defaultValue) {
+        if (key == 0) {
+            return containsZeroKey ? zeroValue : defaultValue;
+        }
+        final int index = indexOf(key);
+        return index < 0 ? defaultValue : (V) values[index];
+    }
+
+    /**
+     * 是否包含指定键
+     *
+     * @param key 键
+     * @return 是否包含
+     */
+    public boolean containsKey(long key) {
+        return key == 0 ? containsZeroKey : indexOf(key) >= 0;
+    }
+
+    /**
+     * 放入键值对
+     *
+     * @param key   键
+     * @param value 值
+     * @return 原值，键不存在时返回{@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0) {
+            final V old = zeroValue;
+            zeroValue = value;
+            if (!containsZeroKey) {
+                containsZeroKey = true;
+                size++;
+            }
+            return old;
+        }
+        int index = PrimitiveHashing.mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                final V old = (V) values[index];
+                values[index] = value;
+                return old;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * 键不存在时使用函数计算值并放入
+     *
+     * @param key             键
+     * @param mappingFunction 值计算函数，返回{@code null}时不放入
+     * @return 已存在的值或新计算的值
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        if (containsKey(key)) {
+            return get(key);
+        }
+        final V value = mappingFunction.apply(key);
+        if (null != value) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 删除键值对
+     *
+     * @param key 键
+     * @return 被删除的值，键不存在时返回{@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        if (key == 0) {
+            if (!containsZeroKey) {
+                return null;
+            }
+            final V old = zeroValue;
+            containsZeroKey = false;
+            zeroValue = null;
+            size--;
+            return old;
+        }
+        final int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        final V old = (V) values[index];
+        shiftKeys(index);
+        size--;
+        return old;
+    }
+
+    /**
+     * 清空映射，保留已分配的容量
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0L);
+            Arrays.fill(values, null);
+            containsZeroKey = false;
+            zeroValue = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * 键值对个数
+     *
+     * @return 键值对个数
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 是否为空
+     *
+     * @return 是否为空
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 遍历所有键值对
+     *
+     * @param action 键值对处理
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> action) {
+        if (containsZeroKey) {
+            action.accept(0, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * 所有键
+     *
+     * @return 键集合
+     */
+    public LongHashSet keySet() {
+        final LongHashSet set = new LongHashSet(size);
+        forEach((key, value) -> set.add(key));
+        return set;
+    }
+
+    /**
+     * 所有值
+     *
+     * @return 值列表
+     */
+    public List<V> values() {
+        final List<V> list = new ArrayList<>(size);
+        forEach((key, value) -> list.add(value));
+        return list;
+    }
+
+    /**
+     * 转换为装箱键的{@link HashMap}
+     *
+     * @return {@link HashMap}
+     */
+    public Map<Long, V> toMap() {
+        final Map<Long, V> map = new HashMap<>((int) (size / .75f) + 1);
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof Long2ObjectHashMap<?> other) || other.size != size) {
+            return false;
+        }
+        if (containsZeroKey && !(other.containsZeroKey && Objects.equals(zeroValue, other.zeroValue))) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                final int index = other.indexOf(keys[i]);
+                if (index < 0 || !Objects.equals(values[i], other.values[index])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = containsZeroKey ? Objects.hashCode(zeroValue) : 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                hash += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+            }
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder().append('{');
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * 键值对处理，键不装箱
+     *
+     * @param <V> 值类型
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * 处理键值对
+         *
+         * @param key   键
+         * @param value 值
+         */
+        void accept(long key, V value);
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 查找非0键所在位置
+     *
+     * @param key 键
+     * @return 位置，不存在返回-1
+     */
+    private int indexOf(long key) {
+        int index = PrimitiveHashing.mix(key) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 分配哈希表
+     *
+     * @param capacity 容量
+     */
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = PrimitiveHashing.thresholdOf(capacity);
+    }
+
+    /**
+     * 扩容并重新散列
+     *
+     * @param capacity 新容量
+     */
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        final Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long key = oldKeys[i];
+            if (key != 0) {
+                int index = PrimitiveHashing.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 删除后将探测链上的后续键值对前移，填补空位
+     *
+     * @param slot 被删除键值对的位置
+     */
+    private void shiftKeys(int slot) {
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            final long key = keys[current];
+            if (key == 0) {
+                keys[slot] = 0;
+                values[slot] = null;
+                return;
+            }
+            if (PrimitiveHashing.canShift(slot, current, PrimitiveHashing.mix(key) & mask)) {
+                keys[slot] = key;
+                values[slot] = values[current];
+                slot = current;
+            }
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,84 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 原始long元素集合，元素不装箱存储
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public interface LongCollection {
+
+    /**
+     * 元素个数
+     *
+     * @return 元素个数
+     */
+    int size();
+
+    /**
+     * 是否为空
+     *
+     * @return 是否为空
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 是否包含指定元素
+     *
+     * @param value 元素
+     * @return 是否包含
+     */
+    boolean contains(long value);
+
+    /**
+     * 复制为long数组
+     *
+     * @return long数组
+     */
+    long[] toArray();
+
+    /**
+     * 遍历所有元素
+     *
+     * @param action 元素处理
+     */
+    void forEach(LongConsumer action);
+
+    /**
+     * 原始类型迭代器
+     *
+     * @return 迭代器
+     */
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * 原始类型流
+     *
+     * @return {@link LongStream}
+     */
+    default LongStream stream() {
+        return StreamSupport.longStream(Spliterators.spliterator(iterator(), size(), Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 转换为装箱的{@link List}，用于兼容原有{@code List<Long>}接口
+     *
+     * @return {@link ArrayList}
+     */
+    default List<Long> toList() {
+        final List<Long> list = new ArrayList<>(size());
+        forEach((long value) -> list.add(value));
+        return list;
+    }
+}
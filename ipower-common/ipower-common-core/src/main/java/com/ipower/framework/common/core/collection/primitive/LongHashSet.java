@@ -0,0 +1,383 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ipower.framework.common.core.collection.primitive.json.LongCollectionDeserializer;
+import com.ipower.framework.common.core.collection.primitive.json.LongCollectionSerializer;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * 原始long元素的哈希集合
+ * <p>
+ * 开放寻址、线性探测实现，元素不装箱，{@link #contains(long)}为O(1)，适用于部门ID、角色ID等ID集合的判断。
+ * 删除时后移填补空位，不使用墓碑标记。非线程安全。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+@JsonSerialize(using = LongCollectionSerializer.class)
+@JsonDeserialize(using = LongCollectionDeserializer.LongHashSetDeserializer.class)
+public class LongHashSet implements LongCollection, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 4356178129371096013L;
+
+    /**
+     * 哈希表，0表示空位
+     */
+    private long[] keys;
+    /**
+     * 元素0单独记录
+     */
+    private boolean containsZero;
+    /**
+     * 元素个数（包含0）
+     */
+    private int size;
+    /**
+     * 哈希表掩码
+     */
+    private int mask;
+    /**
+     * 扩容阈值
+     */
+    private int resizeThreshold;
+
+    /**
+     * 构造
+     */
+    public LongHashSet() {
+        this(PrimitiveHashing.DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * 构造
+     *
+     * @param expectedSize 期望元素个数，在此个数内不会扩容
+     */
+    public LongHashSet(int expectedSize) {
+        allocate(PrimitiveHashing.capacityFor(expectedSize));
+    }
+
+    /**
+     * 根据元素新建集合
+     *
+     * @param values 元素
+     * @return {@link LongHashSet}
+     */
+    public static LongHashSet of(long... values) {
+        if (null == values) {
+            return new LongHashSet();
+        }
+        final LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    /**
+     * 根据装箱的集合新建集合，{@code null}元素被忽略
+     *
+     * @param values 元素集合
+     * @return {@link LongHashSet}
+     */
+    public static LongHashSet from(Collection<? extends Number> values) {
+        if (null == values) {
+            return new LongHashSet();
+        }
+        final LongHashSet set = new LongHashSet(values.size());
+        for (Number value : values) {
+            if (null != value) {
+                set.add(value.longValue());
+            }
+        }
+        return set;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param value 元素
+     * @return 集合中原本不存在该元素时返回{@code true}
+     */
+    public boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int index = PrimitiveHashing.mix(value) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 添加所有元素
+     *
+     * @param values 元素
+     * @return 集合是否发生变化
+     */
+    public boolean addAll(long... values) {
+        boolean changed = false;
+        if (null != values) {
+            for (long value : values) {
+                changed |= add(value);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 添加所有元素
+     *
+     * @param values 元素
+     * @return 集合是否发生变化
+     */
+    public boolean addAll(LongCollection values) {
+        if (null == values) {
+            return false;
+        }
+        final int before = size;
+        values.forEach(this::add);
+        return size != before;
+    }
+
+    @Override
+    public boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        int index = PrimitiveHashing.mix(value) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 删除元素
+     *
+     * @param value 元素
+     * @return 集合中存在该元素时返回{@code true}
+     */
+    public boolean remove(long value) {
+        if (value == 0) {
+            if (!containsZero) {
+                return false;
+            }
+            containsZero = false;
+            size--;
+            return true;
+        }
+        int index = PrimitiveHashing.mix(value) & mask;
+        long current;
+        while ((current = keys[index]) != 0) {
+            if (current == value) {
+                shiftKeys(index);
+                size--;
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * 清空集合，保留已分配的容量
+     */
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0L);
+            containsZero = false;
+            size = 0;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long[] toArray() {
+        final long[] result = new long[size];
+        int i = 0;
+        if (containsZero) {
+            result[i++] = 0;
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                result[i++] = key;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            /**
+             * 下一个待检查的位置，-1表示元素0
+             */
+            private int index = containsZero ? -1 : nextIndex(0);
+
+            @Override
+            public boolean hasNext() {
+                return index < keys.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final long value = index < 0 ? 0 : keys[index];
+                index = nextIndex(index + 1);
+                return value;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongHashSet other) || other.size != size || other.containsZero != containsZero) {
+            return false;
+        }
+        for (long key : keys) {
+            if (key != 0 && !other.contains(key)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (long key : keys) {
+            hash += Long.hashCode(key);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder(size * 8 + 2).append('[');
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+        return builder.append(']').toString();
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 分配哈希表
+     *
+     * @param capacity 容量
+     */
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = PrimitiveHashing.thresholdOf(capacity);
+    }
+
+    /**
+     * 扩容并重新散列
+     *
+     * @param capacity 新容量
+     */
+    private void rehash(int capacity) {
+        final long[] oldKeys = keys;
+        allocate(capacity);
+        for (long key : oldKeys) {
+            if (key != 0) {
+                int index = PrimitiveHashing.mix(key) & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+
+    /**
+     * 删除后将探测链上的后续元素前移，填补空位
+     *
+     * @param slot 被删除元素的位置
+     */
+    private void shiftKeys(int slot) {
+        int current = slot;
+        while (true) {
+            current = (current + 1) & mask;
+            final long key = keys[current];
+            if (key == 0) {
+                keys[slot] = 0;
+                return;
+            }
+            if (PrimitiveHashing.canShift(slot, current, PrimitiveHashing.mix(key) & mask)) {
+                keys[slot] = key;
+                slot = current;
+            }
+        }
+    }
+
+    /**
+     * 查找从指定位置开始的下一个非空位置
+     *
+     * @param from 起始位置
+     * @return 非空位置，不存在时返回哈希表长度
+     */
+    private int nextIndex(int from) {
+        int index = from;
+        while (index < keys.length && keys[index] == 0) {
+            index++;
+        }
+        return index;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,337 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ipower.framework.common.core.collection.primitive.json.LongCollectionDeserializer;
+import com.ipower.framework.common.core.collection.primitive.json.LongCollectionSerializer;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * 原始long元素的可变长列表，元素不装箱，按数组下标顺序存储。非线程安全。
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+@JsonSerialize(using = LongCollectionSerializer.class)
+@JsonDeserialize(using = LongCollectionDeserializer.LongListDeserializer.class)
+public class LongList implements LongCollection, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = -6180953415741320894L;
+
+    /**
+     * 默认初始容量
+     */
+    private static final int DEFAULT_CAPACITY = 10;
+    /**
+     * 空数组
+     */
+    private static final long[] EMPTY = new long[0];
+
+    /**
+     * 元素
+     */
+    private long[] elements;
+    /**
+     * 元素个数
+     */
+    private int size;
+
+    /**
+     * 构造
+     */
+    public LongList() {
+        this.elements = EMPTY;
+    }
+
+    /**
+     * 构造
+     *
+     * @param capacity 初始容量
+     */
+    public LongList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + capacity);
+        }
+        this.elements = capacity == 0 ? EMPTY : new long[capacity];
+    }
+
+    /**
+     * 根据元素新建列表
+     *
+     * @param values 元素
+     * @return {@link LongList}
+     */
+    public static LongList of(long... values) {
+        final LongList list = new LongList();
+        if (null != values) {
+            list.elements = values.clone();
+            list.size = values.length;
+        }
+        return list;
+    }
+
+    /**
+     * 根据装箱的集合新建列表，{@code null}元素被忽略
+     *
+     * @param values 元素集合
+     * @return {@link LongList}
+     */
+    public static LongList from(Collection<? extends Number> values) {
+        if (null == values) {
+            return new LongList();
+        }
+        final LongList list = new LongList(values.size());
+        for (Number value : values) {
+            if (null != value) {
+                list.add(value.longValue());
+            }
+        }
+        return list;
+    }
+
+    /**
+     * 在末尾添加元素
+     *
+     * @param value 元素
+     */
+    public void add(long value) {
+        ensureCapacity(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * 在指定位置插入元素
+     *
+     * @param index 下标
+     * @param value 元素
+     */
+    public void add(int index, long value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * 在末尾添加所有元素
+     *
+     * @param values 元素
+     */
+    public void addAll(long... values) {
+        if (null != values && values.length > 0) {
+            ensureCapacity(size + values.length);
+            System.arraycopy(values, 0, elements, size, values.length);
+            size += values.length;
+        }
+    }
+
+    /**
+     * 在末尾添加所有元素
+     *
+     * @param values 元素
+     */
+    public void addAll(LongCollection values) {
+        if (values == this) {
+            addAll(toArray());
+        } else if (null != values) {
+            ensureCapacity(size + values.size());
+            values.forEach(this::add);
+        }
+    }
+
+    /**
+     * 获取指定位置的元素
+     *
+     * @param index 下标
+     * @return 元素
+     */
+    public long get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * 替换指定位置的元素
+     *
+     * @param index 下标
+     * @param value 新元素
+     * @return 原元素
+     */
+    public long set(int index, long value) {
+        checkIndex(index);
+        final long old = elements[index];
+        elements[index] = value;
+        return old;
+    }
+
+    /**
+     * 删除指定位置的元素
+     *
+     * @param index 下标
+     * @return 被删除的元素
+     */
+    public long removeAt(int index) {
+        checkIndex(index);
+        final long old = elements[index];
+        final int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(elements, index + 1, elements, index, moved);
+        }
+        size--;
+        return old;
+    }
+
+    /**
+     * 删除第一个与指定值相等的元素
+     *
+     * @param value 元素
+     * @return 是否存在并删除
+     */
+    public boolean removeValue(long value) {
+        final int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * 查找元素第一次出现的位置
+     *
+     * @param value 元素
+     * @return 下标，不存在返回-1
+     */
+    public int indexOf(long value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(long value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * 升序排序
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * 清空列表，保留已分配的容量
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * 确保容量不小于指定值
+     *
+     * @param minCapacity 最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            final int grown = elements.length + (elements.length >> 1);
+            elements = Arrays.copyOf(elements, Math.max(Math.max(grown, minCapacity), DEFAULT_CAPACITY));
+        }
+    }
+
+    /**
+     * 将容量缩减为元素个数
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY : Arrays.copyOf(elements, size);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (index >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[index++];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof LongList other && Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Long.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 检查下标
+     *
+     * @param index 下标
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,88 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+/**
+ * 原始类型开放寻址哈希表的公共计算
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+final class PrimitiveHashing {
+
+    /**
+     * 默认期望容量
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+    /**
+     * 负载因子，线性探测下保持在0.5以内探测长度较短
+     */
+    static final float LOAD_FACTOR = 0.5f;
+    /**
+     * 哈希表最大容量
+     */
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private PrimitiveHashing() {
+        throw new AssertionError("No " + getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * 打散long值的高低位，减少连续ID的聚集
+     *
+     * @param key 键
+     * @return 哈希值
+     */
+    static int mix(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 打散int值的高低位，减少连续ID的聚集
+     *
+     * @param key 键
+     * @return 哈希值
+     */
+    static int mix(int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 根据期望元素个数计算哈希表容量，为2的幂
+     *
+     * @param expectedSize 期望元素个数
+     * @return 哈希表容量
+     */
+    static int capacityFor(int expectedSize) {
+        final long required = Math.max(4L, (long) Math.ceil(Math.max(expectedSize, 0) / LOAD_FACTOR));
+        if (required >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    /**
+     * 计算扩容阈值
+     *
+     * @param capacity 哈希表容量
+     * @return 扩容阈值
+     */
+    static int thresholdOf(int capacity) {
+        return capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 判断删除时空位slot能否被其后的元素（理想位置为ideal）填补
+     * <p>
+     * 即ideal不在(slot, current]的循环区间内
+     * </p>
+     *
+     * @param slot    空位
+     * @param current 当前元素所在位置
+     * @param ideal   当前元素的理想位置
+     * @return 是否可以后移填补
+     */
+    static boolean canShift(int slot, int current, int ideal) {
+        return slot <= current ? (ideal <= slot || ideal > current) : (ideal <= slot && ideal > current);
+    }
+}
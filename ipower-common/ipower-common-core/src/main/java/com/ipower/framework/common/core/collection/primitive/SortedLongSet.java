@@ -0,0 +1,327 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.ipower.framework.common.core.collection.primitive.json.LongCollectionDeserializer;
+import com.ipower.framework.common.core.collection.primitive.json.LongCollectionSerializer;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * 不可变的有序long集合
+ * <p>
+ * 元素升序、去重后存放在紧凑的long数组中，{@link #contains(long)}使用二分查找，
+ * 集合之间的交集、并集按归并方式计算，适用于构建后只读的ID集合（如JWT中的部门ID、租户ID）。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+@JsonSerialize(using = LongCollectionSerializer.class)
+@JsonDeserialize(using = LongCollectionDeserializer.SortedLongSetDeserializer.class)
+public final class SortedLongSet implements LongCollection, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2519930762154417468L;
+
+    /**
+     * 空集合
+     */
+    public static final SortedLongSet EMPTY = new SortedLongSet(new long[0]);
+
+    /**
+     * 升序去重后的元素
+     */
+    private final long[] values;
+
+    private SortedLongSet(long[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 根据元素新建集合，元素会被复制、排序并去重
+     *
+     * @param values 元素
+     * @return {@link SortedLongSet}
+     */
+    public static SortedLongSet of(long... values) {
+        if (null == values || values.length == 0) {
+            return EMPTY;
+        }
+        return ofUnsafe(values.clone(), values.length);
+    }
+
+    /**
+     * 根据原始long集合新建集合
+     *
+     * @param values 元素集合
+     * @return {@link SortedLongSet}
+     */
+    public static SortedLongSet of(LongCollection values) {
+        if (values instanceof SortedLongSet set) {
+            return set;
+        }
+        if (null == values || values.isEmpty()) {
+            return EMPTY;
+        }
+        final long[] array = values.toArray();
+        return ofUnsafe(array, array.length);
+    }
+
+    /**
+     * 根据装箱的集合新建集合，{@code null}元素被忽略
+     *
+     * @param values 元素集合
+     * @return {@link SortedLongSet}
+     */
+    public static SortedLongSet from(Collection<? extends Number> values) {
+        if (null == values || values.isEmpty()) {
+            return EMPTY;
+        }
+        final long[] array = new long[values.size()];
+        int length = 0;
+        for (Number value : values) {
+            if (null != value) {
+                array[length++] = value.longValue();
+            }
+        }
+        return ofUnsafe(array, length);
+    }
+
+    @Override
+    public boolean contains(long value) {
+        return Arrays.binarySearch(values, value) >= 0;
+    }
+
+    /**
+     * 是否包含指定集合中的任意元素
+     *
+     * @param other 另一个集合
+     * @return 存在交集时返回{@code true}
+     */
+    public boolean containsAny(SortedLongSet other) {
+        if (null == other) {
+            return false;
+        }
+        final long[] a = values, b = other.values;
+        int i = 0, j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                return true;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 是否包含指定集合中的全部元素
+     *
+     * @param other 另一个集合
+     * @return 是否全部包含
+     */
+    public boolean containsAll(SortedLongSet other) {
+        if (null == other || other.values.length == 0) {
+            return true;
+        }
+        final long[] a = values, b = other.values;
+        int i = 0;
+        for (long value : b) {
+            while (i < a.length && a[i] < value) {
+                i++;
+            }
+            if (i == a.length || a[i] != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 交集
+     *
+     * @param other 另一个集合
+     * @return 新的集合
+     */
+    public SortedLongSet intersect(SortedLongSet other) {
+        if (null == other || values.length == 0 || other.values.length == 0) {
+            return EMPTY;
+        }
+        final long[] a = values, b = other.values;
+        final long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[k++] = a[i++];
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return wrap(result, k);
+    }
+
+    /**
+     * 并集
+     *
+     * @param other 另一个集合
+     * @return 新的集合
+     */
+    public SortedLongSet union(SortedLongSet other) {
+        if (null == other || other.values.length == 0) {
+            return this;
+        }
+        if (values.length == 0) {
+            return other;
+        }
+        final long[] a = values, b = other.values;
+        final long[] result = new long[a.length + b.length];
+        int i = 0, j = 0, k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[k++] = a[i++];
+                j++;
+            } else if (a[i] < b[j]) {
+                result[k++] = a[i++];
+            } else {
+                result[k++] = b[j++];
+            }
+        }
+        while (i < a.length) {
+            result[k++] = a[i++];
+        }
+        while (j < b.length) {
+            result[k++] = b[j++];
+        }
+        return wrap(result, k);
+    }
+
+    /**
+     * 查找元素的位置
+     *
+     * @param value 元素
+     * @return 下标，不存在时返回负数，规则同{@link Arrays#binarySearch(long[], long)}
+     */
+    public int indexOf(long value) {
+        return Arrays.binarySearch(values, value);
+    }
+
+    /**
+     * 获取指定位置的元素
+     *
+     * @param index 下标
+     * @return 元素
+     */
+    public long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * 最小元素
+     *
+     * @return 最小元素
+     * @throws NoSuchElementException 集合为空
+     */
+    public long min() {
+        if (values.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return values[0];
+    }
+
+    /**
+     * 最大元素
+     *
+     * @return 最大元素
+     * @throws NoSuchElementException 集合为空
+     */
+    public long max() {
+        if (values.length == 0) {
+            throw new NoSuchElementException();
+        }
+        return values[values.length - 1];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public long[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (long value : values) {
+            action.accept(value);
+        }
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return Arrays.stream(values).iterator();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj || obj instanceof SortedLongSet other && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 对数组的前length个元素排序去重后直接作为集合内容，数组不会再被复制
+     *
+     * @param array  元素数组
+     * @param length 有效元素个数
+     * @return {@link SortedLongSet}
+     */
+    private static SortedLongSet ofUnsafe(long[] array, int length) {
+        Arrays.sort(array, 0, length);
+        int distinct = 0;
+        for (int i = 0; i < length; i++) {
+            if (distinct == 0 || array[i] != array[distinct - 1]) {
+                array[distinct++] = array[i];
+            }
+        }
+        return wrap(array, distinct);
+    }
+
+    /**
+     * 使用已升序去重的数组前length个元素构建集合
+     *
+     * @param sorted 升序去重的数组
+     * @param length 有效元素个数
+     * @return {@link SortedLongSet}
+     */
+    private static SortedLongSet wrap(long[] sorted, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+        return new SortedLongSet(length == sorted.length ? sorted : Arrays.copyOf(sorted, length));
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
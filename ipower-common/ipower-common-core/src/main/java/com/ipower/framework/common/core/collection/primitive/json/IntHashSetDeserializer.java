@@ -0,0 +1,74 @@
+package com.ipower.framework.common.core.collection.primitive.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.ipower.framework.common.core.collection.primitive.IntHashSet;
+import com.ipower.framework.common.core.constant.StringPool;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@link IntHashSet}反序列化
+ * <p>
+ * 支持JSON数组（元素可以为数字或数字字符串，{@code null}元素被忽略）以及逗号分隔的字符串，如：{@code "1,2,3"}
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class IntHashSetDeserializer extends StdDeserializer<IntHashSet> {
+
+    @Serial
+    private static final long serialVersionUID = 1276502278341861420L;
+
+    public IntHashSetDeserializer() {
+        super(IntHashSet.class);
+    }
+
+    @Override
+    public IntHashSet deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final IntHashSet values = new IntHashSet();
+        if (p.isExpectedStartArrayToken()) {
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    values.add(p.getIntValue());
+                } else if (token == JsonToken.VALUE_STRING) {
+                    values.add(parseInt(p.getText(), ctxt));
+                } else if (token != JsonToken.VALUE_NULL) {
+                    return (IntHashSet) ctxt.handleUnexpectedToken(IntHashSet.class, p);
+                }
+            }
+        } else if (p.hasToken(JsonToken.VALUE_STRING)) {
+            for (String part : p.getText().split(StringPool.COMMA)) {
+                if (!part.isBlank()) {
+                    values.add(parseInt(part, ctxt));
+                }
+            }
+        } else if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            values.add(p.getIntValue());
+        } else {
+            return (IntHashSet) ctxt.handleUnexpectedToken(IntHashSet.class, p);
+        }
+        return values;
+    }
+
+    /**
+     * 解析数字字符串
+     *
+     * @param text 文本
+     * @param ctxt 反序列化上下文
+     * @return int值
+     * @throws IOException 不是合法的数字
+     */
+    private int parseInt(String text, DeserializationContext ctxt) throws IOException {
+        try {
+            return Integer.parseInt(text.trim());
+        } catch (NumberFormatException e) {
+            throw ctxt.weirdStringException(text, IntHashSet.class, "not a valid int value");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ipower.framework.common.core.collection.primitive.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ipower.framework.common.core.collection.primitive.IntHashSet;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@link IntHashSet}序列化为JSON数字数组
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class IntHashSetSerializer extends StdSerializer<IntHashSet> {
+
+    @Serial
+    private static final long serialVersionUID = -4701622934135870229L;
+
+    public IntHashSetSerializer() {
+        super(IntHashSet.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, IntHashSet value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(IntHashSet value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final int[] array = value.toArray();
+        gen.writeArray(array, 0, array.length);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ipower.framework.common.core.collection.primitive.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.ipower.framework.common.core.collection.primitive.Long2ObjectHashMap;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@link Long2ObjectHashMap}反序列化，字段名解析为long键，值类型取自声明的泛型参数，未声明时为{@link Object}
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class Long2ObjectHashMapDeserializer extends StdDeserializer<Long2ObjectHashMap<?>> implements ContextualDeserializer {
+
+    @Serial
+    private static final long serialVersionUID = -8059427712436183306L;
+
+    /**
+     * 值反序列化器，未绑定上下文时为{@code null}
+     */
+    private final JsonDeserializer<Object> valueDeserializer;
+
+    public Long2ObjectHashMapDeserializer() {
+        this(null);
+    }
+
+    private Long2ObjectHashMapDeserializer(JsonDeserializer<Object> valueDeserializer) {
+        super(Long2ObjectHashMap.class);
+        this.valueDeserializer = valueDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+        JavaType type = ctxt.getContextualType();
+        if (null == type && null != property) {
+            type = property.getType();
+        }
+        final JavaType valueType = null == type ? ctxt.constructType(Object.class) : type.containedTypeOrUnknown(0);
+        return new Long2ObjectHashMapDeserializer(ctxt.findContextualValueDeserializer(valueType, property));
+    }
+
+    @Override
+    public Long2ObjectHashMap<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final JsonDeserializer<Object> deserializer = null == valueDeserializer
+                ? ctxt.findRootValueDeserializer(ctxt.constructType(Object.class)) : valueDeserializer;
+        String name;
+        if (p.isExpectedStartObjectToken()) {
+            name = p.nextFieldName();
+        } else if (p.hasToken(JsonToken.FIELD_NAME)) {
+            name = p.currentName();
+        } else {
+            return (Long2ObjectHashMap<?>) ctxt.handleUnexpectedToken(Long2ObjectHashMap.class, p);
+        }
+        final Long2ObjectHashMap<Object> map = new Long2ObjectHashMap<>();
+        for (; null != name; name = p.nextFieldName()) {
+            final long key;
+            try {
+                key = Long.parseLong(name.trim());
+            } catch (NumberFormatException e) {
+                throw ctxt.weirdKeyException(Long.class, name, "not a valid long key");
+            }
+            final JsonToken token = p.nextToken();
+            map.put(key, token == JsonToken.VALUE_NULL ? deserializer.getNullValue(ctxt) : deserializer.deserialize(p, ctxt));
+        }
+        return map;
+    }
+}
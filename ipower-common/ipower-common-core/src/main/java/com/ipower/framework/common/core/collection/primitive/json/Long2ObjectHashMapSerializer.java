@@ -0,0 +1,49 @@
+package com.ipower.framework.common.core.collection.primitive.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.ipower.framework.common.core.collection.primitive.Long2ObjectHashMap;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.io.UncheckedIOException;
+
+/**
+ * {@link Long2ObjectHashMap}序列化为JSON对象，键写为字段名，值使用ObjectMapper中对应类型的序列化器
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class Long2ObjectHashMapSerializer extends StdSerializer<Long2ObjectHashMap<?>> {
+
+    @Serial
+    private static final long serialVersionUID = 7391880526264061315L;
+
+    public Long2ObjectHashMapSerializer() {
+        super(Long2ObjectHashMap.class, false);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, Long2ObjectHashMap<?> value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(Long2ObjectHashMap<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        try {
+            value.forEach((key, element) -> {
+                try {
+                    gen.writeFieldName(Long.toString(key));
+                    provider.defaultSerializeValue(element, gen);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        gen.writeEndObject();
+    }
+}
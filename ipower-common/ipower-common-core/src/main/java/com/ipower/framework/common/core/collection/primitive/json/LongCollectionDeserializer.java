@@ -0,0 +1,157 @@
+package com.ipower.framework.common.core.collection.primitive.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.ipower.framework.common.core.collection.primitive.LongCollection;
+import com.ipower.framework.common.core.collection.primitive.LongHashSet;
+import com.ipower.framework.common.core.collection.primitive.LongList;
+import com.ipower.framework.common.core.collection.primitive.SortedLongSet;
+import com.ipower.framework.common.core.constant.StringPool;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@link LongCollection}反序列化
+ * <p>
+ * 支持JSON数组（元素可以为数字或数字字符串，{@code null}元素被忽略）以及逗号分隔的字符串，如：{@code "1,2,3"}
+ * </p>
+ *
+ * @param <T> 集合类型
+ * @author kris
+ * @since 1.0.0
+ */
+public abstract class LongCollectionDeserializer<T extends LongCollection> extends StdDeserializer<T> {
+
+    @Serial
+    private static final long serialVersionUID = -1428436571890232146L;
+
+    protected LongCollectionDeserializer(Class<T> type) {
+        super(type);
+    }
+
+    @Override
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        final LongList values = new LongList();
+        if (p.isExpectedStartArrayToken()) {
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NUMBER_INT) {
+                    values.add(p.getLongValue());
+                } else if (token == JsonToken.VALUE_STRING) {
+                    values.add(parseLong(p.getText(), ctxt));
+                } else if (token != JsonToken.VALUE_NULL) {
+                    return handleUnexpected(p, ctxt);
+                }
+            }
+        } else if (p.hasToken(JsonToken.VALUE_STRING)) {
+            for (String part : p.getText().split(StringPool.COMMA)) {
+                if (!part.isBlank()) {
+                    values.add(parseLong(part, ctxt));
+                }
+            }
+        } else if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
+            values.add(p.getLongValue());
+        } else {
+            return handleUnexpected(p, ctxt);
+        }
+        return create(values);
+    }
+
+    /**
+     * 根据读取到的元素创建集合
+     *
+     * @param values 元素，按JSON中的顺序
+     * @return 集合
+     */
+    protected abstract T create(LongList values);
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 解析数字字符串
+     *
+     * @param text 文本
+     * @param ctxt 反序列化上下文
+     * @return long值
+     * @throws IOException 不是合法的数字
+     */
+    private long parseLong(String text, DeserializationContext ctxt) throws IOException {
+        try {
+            return Long.parseLong(text.trim());
+        } catch (NumberFormatException e) {
+            throw ctxt.weirdStringException(text, handledType(), "not a valid long value");
+        }
+    }
+
+    /**
+     * 处理不支持的JSON结构
+     *
+     * @param p    解析器
+     * @param ctxt 反序列化上下文
+     * @return 处理结果
+     * @throws IOException 默认抛出类型不匹配异常
+     */
+    @SuppressWarnings("unchecked")
+    private T handleUnexpected(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+
+    /**
+     * {@link LongHashSet}反序列化
+     */
+    public static class LongHashSetDeserializer extends LongCollectionDeserializer<LongHashSet> {
+
+        @Serial
+        private static final long serialVersionUID = 3650329411632574017L;
+
+        public LongHashSetDeserializer() {
+            super(LongHashSet.class);
+        }
+
+        @Override
+        protected LongHashSet create(LongList values) {
+            return LongHashSet.of(values.toArray());
+        }
+    }
+
+    /**
+     * {@link LongList}反序列化
+     */
+    public static class LongListDeserializer extends LongCollectionDeserializer<LongList> {
+
+        @Serial
+        private static final long serialVersionUID = 8822154373098113571L;
+
+        public LongListDeserializer() {
+            super(LongList.class);
+        }
+
+        @Override
+        protected LongList create(LongList values) {
+            values.trimToSize();
+            return values;
+        }
+    }
+
+    /**
+     * {@link SortedLongSet}反序列化
+     */
+    public static class SortedLongSetDeserializer extends LongCollectionDeserializer<SortedLongSet> {
+
+        @Serial
+        private static final long serialVersionUID = -5212866402914930614L;
+
+        public SortedLongSetDeserializer() {
+            super(SortedLongSet.class);
+        }
+
+        @Override
+        protected SortedLongSet create(LongList values) {
+            return SortedLongSet.of(values);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ipower.framework.common.core.collection.primitive.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializerBase;
+import com.ipower.framework.common.core.collection.primitive.LongCollection;
+
+import java.io.IOException;
+import java.io.Serial;
+
+/**
+ * {@link LongCollection}序列化为JSON数组
+ * <p>
+ * 元素写为数字还是字符串与当前ObjectMapper中{@link Long}的序列化方式保持一致：
+ * 如{@code JacksonJsonUtil}将Long序列化为字符串以避免前端精度丢失，此时元素同样写为字符串；默认ObjectMapper（如JWT）中写为数字。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class LongCollectionSerializer extends StdSerializer<LongCollection> {
+
+    @Serial
+    private static final long serialVersionUID = 6032745069810954247L;
+
+    public LongCollectionSerializer() {
+        super(LongCollection.class);
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, LongCollection value) {
+        return value.isEmpty();
+    }
+
+    @Override
+    public void serialize(LongCollection value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        final boolean asString = provider.findValueSerializer(Long.class) instanceof ToStringSerializerBase;
+        final long[] array = value.toArray();
+        if (!asString) {
+            gen.writeArray(array, 0, array.length);
+            return;
+        }
+        gen.writeStartArray(value, array.length);
+        for (long element : array) {
+            gen.writeString(Long.toString(element));
+        }
+        gen.writeEndArray();
+    }
+}
@@ -490,6 +490,56 @@ public class Convert {
         return (List<T>) toCollection(ArrayList.class, elementType, value);
     }
 
+    /**
+     * 批量转换为Long的ArrayList，结果与{@code toList(Long.class, values)}一致<br>
+     * 纯十进制数字字符串直接解析，其它元素使用只查找一次的Long转换器转换，不经过转换器登记中心逐个查找<br>
+     * 任一元素转换失败时返回{@code null}，转换失败不会报错
+     *
+     * @param values 被转换的值集合，如：List&lt;String&gt;
+     * @return {@link List}
+     */
+    public static List<Long> toLongList(Collection<?> values) {
+        if (null == values) {
+            return null;
+        }
+        final Converter<Long> converter = ConverterRegistry.getInstance().getElementConverter(Long.class);
+        final List<Long> result = new ArrayList<>(values.size());
+        try {
+            for (Object value : values) {
+                result.add(isPlainLong(value) ? Long.valueOf((String) value) : converter.convert(value, null));
+            }
+        } catch (RuntimeException e) {
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * 批量转换为原始类型long数组<br>
+     * 纯十进制数字字符串直接解析，其它元素使用只查找一次的long转换器转换。
+     * {@code null}元素和无法转换为数字的元素为0，这与{@code convert(long[].class, values)}不同，后者遇到{@code null}元素时抛出异常
+     *
+     * @param values 被转换的值集合，如：List&lt;String&gt;
+     * @return long数组
+     */
+    public static long[] toPrimitiveLongArray(Collection<?> values) {
+        if (null == values) {
+            return null;
+        }
+        final Converter<Object> converter = ConverterRegistry.getInstance().getElementConverter(long.class);
+        final long[] result = new long[values.size()];
+        int i = 0;
+        for (Object value : values) {
+            if (isPlainLong(value)) {
+                result[i++] = Long.parseLong((String) value);
+            } else {
+                final Object converted = converter.convert(value, null);
+                result[i++] = (converted instanceof Number number) ? number.longValue() : 0L;
+            }
+        }
+        return result;
+    }
+
     /**
      * 转换值为指定类型
      *
@@ -638,15 +688,60 @@ public class Convert {
     }
 
     /**
-     * 金额转为中文形式
+     * 金额转为中文形式<br>
+     * 金额按照{@link BigDecimal}处理，没有浮点数精度问题
      *
      * @param n 数字
      * @return 中文大写数字
      */
     public static String digitToChinese(Number n) {
-        if (null == n) {
+        final BigDecimal amount = toBigDecimal(n);
+        if (null == amount) {
             return "零";
         }
-        return NumberChineseFormatter.format(n.doubleValue(), true, true);
+        return NumberChineseFormatter.format(amount, true, true);
+    }
+
+    /**
+     * 批量将金额转为中文形式
+     *
+     * @param amounts 金额数组，元素为{@code null}时结果为"零"
+     * @return 中文大写数字数组，与传入的数组一一对应
+     */
+    public static String[] digitsToChinese(BigDecimal... amounts) {
+        final String[] result = NumberChineseFormatter.format(amounts, true, true);
+        for (int i = 0; i < result.length; i++) {
+            if (null == result[i]) {
+                result[i] = "零";
+            }
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------------------- Private method start
+
+    /**
+     * 是否为可直接使用{@link Long#parseLong(String)}解析且不会溢出的十进制数字字符串（可带负号，不超过18位数字）
+     *
+     * @param value 值
+     * @return 是否为纯十进制数字字符串
+     */
+    private static boolean isPlainLong(Object value) {
+        if (!(value instanceof String str)) {
+            return false;
+        }
+        final int length = str.length();
+        final int start = (length > 0 && str.charAt(0) == '-') ? 1 : 0;
+        if (length == start || length - start > 18) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
+    // -------------------------------------------------------------------------- Private method end
 }
@@ -2,6 +2,7 @@ package com.ipower.framework.common.core.convert;
 
 import com.ipower.framework.common.core.convert.impl.*;
 import com.ipower.framework.common.core.exception.ConvertException;
+import com.ipower.framework.common.core.exception.ElementConvertException;
 import com.ipower.framework.common.core.lang.ObjectUtil;
 import com.ipower.framework.common.core.reflect.ReflectUtil;
 import com.ipower.framework.common.core.reflect.TypeUtil;
@@ -18,6 +19,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * 转换器登记中心
@@ -44,6 +46,10 @@ public class ConverterRegistry implements Serializable {
      * 用户自定义类型转换器
      */
     private volatile Map<Type, Converter<?>> customConverterMap;
+    /**
+     * 特殊类型转换器缓存（集合、Map、数组、枚举），按目标类型缓存，避免每次转换都创建转换器
+     */
+    private final Map<Type, Converter<?>> specialConverterMap = new ConcurrentHashMap<>();
 
     /**
      * 类级的内部类，也就是静态的成员式内部类，该内部类的实例与外部类的实例 没有绑定关系，而且只有被调用到才会装载，从而实现了延迟加载
@@ -146,6 +152,28 @@ public class ConverterRegistry implements Serializable {
         return (null == customConverterMap) ? null : (Converter<T>) customConverterMap.get(type);
     }
 
+    /**
+     * 获得集合、数组等元素的转换器<br>
+     * 用于批量转换时只查找一次转换器，存在标准转换器时返回包装后的该转换器，否则返回委托给{@link #convert(Type, Object, Object)}的转换器；
+     * {@code null}元素直接返回默认值，不交给转换器
+     *
+     * @param <T>         转换的目标类型（转换器转换到的类型）
+     * @param elementType 元素类型，为空时按照{@link Object}处理，原样返回元素
+     * @return 转换器
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Converter<T> getElementConverter(Type elementType) {
+        if (TypeUtil.isUnknown(elementType) || Object.class == elementType) {
+            return (value, defaultValue) -> null == value ? defaultValue : (T) value;
+        }
+        final Converter<T> converter = getConverter(elementType, true);
+        if (null != converter) {
+            // 与convert(Type, Object, Object)一样，null元素直接返回默认值，不交给转换器
+            return (value, defaultValue) -> null == value ? defaultValue : converter.convert(value, defaultValue);
+        }
+        return (value, defaultValue) -> convert(elementType, value, defaultValue);
+    }
+
     /**
      * 转换值为指定类型
      *
@@ -251,13 +279,13 @@ public class ConverterRegistry implements Serializable {
 
         // 集合转换（不可以默认强转）
         if (Collection.class.isAssignableFrom(rowType)) {
-            final CollectionConverter collectionConverter = new CollectionConverter(type);
+            final Converter<Collection<?>> collectionConverter = getSpecialConverter(type, CollectionConverter::new);
             return (T) collectionConverter.convert(value, (Collection<?>) defaultValue);
         }
 
         // Map类型（不可以默认强转）
         if (Map.class.isAssignableFrom(rowType)) {
-            final MapConverter mapConverter = new MapConverter(type);
+            final Converter<Map<?, ?>> mapConverter = getSpecialConverter(type, MapConverter::new);
             return (T) mapConverter.convert(value, (Map<?, ?>) defaultValue);
         }
 
@@ -268,9 +296,12 @@ public class ConverterRegistry implements Serializable {
 
         // 数组转换
         if (rowType.isArray()) {
-            final ArrayConverter arrayConverter = new ArrayConverter(rowType);
+            final Converter<Object> arrayConverter = getSpecialConverter(rowType, key -> new ArrayConverter(rowType));
             try {
                 return (T) arrayConverter.convert(value, defaultValue);
+            } catch (ElementConvertException e) {
+                // 并行转换时的元素转换失败携带下标，与ParallelConvert一样直接抛出
+                throw e;
             } catch (Exception e) {
                 // 数组转换失败进行下一步
             }
@@ -278,13 +309,28 @@ public class ConverterRegistry implements Serializable {
 
         // 枚举转换
         if (rowType.isEnum()) {
-            return (T) new EnumConverter(rowType).convert(value, defaultValue);
+            final Converter<Object> enumConverter = getSpecialConverter(rowType, key -> new EnumConverter(rowType));
+            return (T) enumConverter.convert(value, defaultValue);
         }
 
         // 表示非需要特殊转换的对象
         return null;
     }
 
+    /**
+     * 从缓存中获取特殊类型转换器，不存在时创建并缓存<br>
+     * 特殊类型转换器只与目标类型有关，元素转换器在每次转换时查找，因此缓存的转换器同样能使用后续登记的自定义转换器
+     *
+     * @param <T>     转换的目标类型（转换器转换到的类型）
+     * @param type    目标类型
+     * @param factory 转换器创建函数
+     * @return 转换器
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Converter<T> getSpecialConverter(Type type, Function<Type, Converter<?>> factory) {
+        return (Converter<T>) specialConverterMap.computeIfAbsent(type, factory);
+    }
+
     /**
      * 注册默认转换器
      *
@@ -1,7 +1,7 @@
 package com.ipower.framework.common.core.convert;
 
-import com.ipower.framework.common.core.constant.StringPool;
-import com.ipower.framework.common.core.lang.StringUtil;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * 数字转中文类<br>
@@ -22,20 +22,30 @@ public class NumberChineseFormatter {
     /**
      * 简体中文形式
      **/
-    private static final String[] SIMPLE_DIGITS = {"零", "一", "二", "三", "四", "五", "六", "七", "八", "九"};
+    private static final char[] SIMPLE_DIGITS = {'零', '一', '二', '三', '四', '五', '六', '七', '八', '九'};
     /**
      * 繁体中文形式
      **/
-    private static final String[] TRADITIONAL_DIGITS = {"零", "壹", "贰", "叁", "肆", "伍", "陆", "柒", "捌", "玖"};
+    private static final char[] TRADITIONAL_DIGITS = {'零', '壹', '贰', '叁', '肆', '伍', '陆', '柒', '捌', '玖'};
 
     /**
-     * 简体中文单位
+     * 简体中文单位，个位无单位
      **/
-    private static final String[] SIMPLE_UNITS = {"", "十", "百", "千"};
+    private static final char[] SIMPLE_UNITS = {0, '十', '百', '千'};
     /**
-     * 繁体中文单位
+     * 繁体中文单位，个位无单位
      **/
-    private static final String[] TRADITIONAL_UNITS = {"", "拾", "佰", "仟"};
+    private static final char[] TRADITIONAL_UNITS = {0, '拾', '佰', '仟'};
+
+    /**
+     * 以万为单位分段时每段的除数，下标为段号
+     */
+    private static final long[] SECTION_DIVISORS = {1L, 10000L, 100000000L, 1000000000000L};
+
+    /**
+     * 整数部分的上限（不包含），即最大支持9999999999999999.99
+     */
+    private static final long MAX_INTEGER = 10000000000000000L;
 
     /**
      * 阿拉伯数字转换成中文,小数点后四舍五入保留两位. 使用于整数、小数的转换.
@@ -57,121 +67,198 @@ public class NumberChineseFormatter {
      * @return 中文
      */
     public static String format(double amount, boolean isUseTraditional, boolean isMoneyMode) {
-        final String[] numArray = isUseTraditional ? TRADITIONAL_DIGITS : SIMPLE_DIGITS;
-
         if (amount > 99999999999999.99 || amount < -99999999999999.99) {
             throw new IllegalArgumentException("Number support only: (-99999999999999.99 ～ 99999999999999.99)！");
         }
+        final long cents = amount < 0 ? -Math.round(-amount * 100) : Math.round(amount * 100);
+        return formatCents(new StringBuilder(32), cents, isUseTraditional, isMoneyMode).toString();
+    }
 
-        boolean negative = false;
-        if (amount < 0) {
-            negative = true;
-            amount = -amount;
-        }
+    /**
+     * 阿拉伯数字转换成中文,小数点后四舍五入（{@link RoundingMode#HALF_UP}）保留两位，没有浮点数精度问题，适用于金额的转换.
+     *
+     * @param amount           数字
+     * @param isUseTraditional 是否使用繁体
+     * @param isMoneyMode      是否为金额模式
+     * @return 中文
+     */
+    public static String format(BigDecimal amount, boolean isUseTraditional, boolean isMoneyMode) {
+        return format(new StringBuilder(32), amount, isUseTraditional, isMoneyMode).toString();
+    }
 
-        long temp = Math.round(amount * 100);
-        int numFen = (int) (temp % 10);
-        temp = temp / 10;
-        int numJiao = (int) (temp % 10);
-        temp = temp / 10;
-
-        //将数字以万为单位分为多份
-        int[] parts = new int[20];
-        int numParts = 0;
-        for (int i = 0; temp != 0; i++) {
-            int part = (int) (temp % 10000);
-            parts[i] = part;
-            numParts++;
-            temp = temp / 10000;
+    /**
+     * 阿拉伯数字转换成中文并追加到指定的{@link StringBuilder}中,小数点后四舍五入（{@link RoundingMode#HALF_UP}）保留两位.
+     *
+     * @param builder          追加结果的{@link StringBuilder}
+     * @param amount           数字
+     * @param isUseTraditional 是否使用繁体
+     * @param isMoneyMode      是否为金额模式
+     * @return 传入的{@link StringBuilder}
+     */
+    public static StringBuilder format(StringBuilder builder, BigDecimal amount, boolean isUseTraditional, boolean isMoneyMode) {
+        final BigDecimal cents = amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2);
+        if (cents.abs().compareTo(BigDecimal.valueOf(MAX_INTEGER).movePointRight(2)) >= 0) {
+            throw new IllegalArgumentException("Number support only: (-9999999999999999.99 ～ 9999999999999999.99)！");
         }
+        return formatCents(builder, cents.longValue(), isUseTraditional, isMoneyMode);
+    }
 
-        boolean beforeWanIsZero = true; // 标志“万”下面一级是不是 0
-
-        StringBuilder chineseStr = new StringBuilder(StringPool.EMPTY);
-        for (int i = 0; i < numParts; i++) {
-            String partChinese = toChinese(parts[i], isUseTraditional);
-            if (i % 2 == 0) {
-                beforeWanIsZero = StringUtil.isEmpty(partChinese);
-            }
-
-            if (i != 0) {
-                if (i % 2 == 0) {
-                    chineseStr.insert(0, "亿");
-                } else {
-                    if (partChinese.isEmpty() && !beforeWanIsZero) {
-                        // 如果“万”对应的 part 为 0，而“万”下面一级不为 0，则不加“万”，而加“零”
-                        chineseStr.insert(0, "零");
-                    } else {
-                        if (parts[i - 1] < 1000 && parts[i - 1] > 0) {
-                            // 如果"万"的部分不为 0, 而"万"前面的部分小于 1000 大于 0， 则万后面应该跟“零”
-                            chineseStr.insert(0, "零");
-                        }
-                        chineseStr.insert(0, "万");
-                    }
-                }
-            }
-            chineseStr.insert(0, partChinese);
+    /**
+     * 以分为单位的金额（即保留两位小数的未缩放值）转换成中文并追加到指定的{@link StringBuilder}中.
+     *
+     * @param builder          追加结果的{@link StringBuilder}
+     * @param cents            以分为单位的金额，如：12345表示123.45
+     * @param isUseTraditional 是否使用繁体
+     * @param isMoneyMode      是否为金额模式
+     * @return 传入的{@link StringBuilder}
+     */
+    public static StringBuilder formatCents(StringBuilder builder, long cents, boolean isUseTraditional, boolean isMoneyMode) {
+        if (cents == Long.MIN_VALUE || Math.abs(cents) / 100 >= MAX_INTEGER) {
+            throw new IllegalArgumentException("Number support only: (-9999999999999999.99 ～ 9999999999999999.99)！");
         }
+        final char[] digits = isUseTraditional ? TRADITIONAL_DIGITS : SIMPLE_DIGITS;
+        final char[] units = isUseTraditional ? TRADITIONAL_UNITS : SIMPLE_UNITS;
 
-        // 整数部分为 0, 则表达为"零"
-        if (StringPool.EMPTY.contentEquals(chineseStr)) {
-            chineseStr = new StringBuilder(numArray[0]);
+        if (cents < 0) {
+            builder.append('负');
+            cents = -cents;
         }
-        //负数
-        if (negative) { // 整数部分不为 0
-            chineseStr.insert(0, "负");
+        final long integer = cents / 100;
+        final int numJiao = (int) (cents / 10 % 10);
+        final int numFen = (int) (cents % 10);
+
+        // 整数部分
+        if (integer == 0) {
+            builder.append(digits[0]);
+        } else {
+            appendInteger(builder, integer, digits, units);
         }
 
         // 小数部分
         if (numFen != 0 || numJiao != 0) {
-            if (numFen == 0) {
-                chineseStr.append(isMoneyMode ? "元" : "点").append(numArray[numJiao]).append(isMoneyMode ? "角" : "");
-            } else { // “分”数不为 0
-                if (numJiao == 0) {
-                    chineseStr.append(isMoneyMode ? "元零" : "点零").append(numArray[numFen]).append(isMoneyMode ? "分" : "");
-                } else {
-                    chineseStr.append(isMoneyMode ? "元" : "点").append(numArray[numJiao]).append(isMoneyMode ? "角" : "").append(numArray[numFen]).append(isMoneyMode ? "分" : "");
+            builder.append(isMoneyMode ? '元' : '点');
+            if (numJiao == 0) {
+                // “角”数为 0 而“分”数不为 0
+                builder.append(digits[0]).append(digits[numFen]);
+                if (isMoneyMode) {
+                    builder.append('分');
+                }
+            } else {
+                builder.append(digits[numJiao]);
+                if (isMoneyMode) {
+                    builder.append('角');
+                }
+                if (numFen != 0) {
+                    builder.append(digits[numFen]);
+                    if (isMoneyMode) {
+                        builder.append('分');
+                    }
                 }
             }
         } else if (isMoneyMode) {
             //无小数部分的金额结尾
-            chineseStr.append("元整");
+            builder.append("元整");
         }
-
-        return chineseStr.toString();
-
+        return builder;
     }
 
     /**
-     * 把一个 0~9999 之间的整数转换为汉字的字符串，如果是 0 则返回 ""
+     * 批量转换金额为中文，所有金额共用一个{@link StringBuilder}
      *
-     * @param amountPart       数字部分
-     * @param isUseTraditional 是否使用繁体单位
-     * @return 转换后的汉字
+     * @param amounts          数字数组，元素为{@code null}时结果为{@code null}
+     * @param isUseTraditional 是否使用繁体
+     * @param isMoneyMode      是否为金额模式
+     * @return 中文数组，与传入的数组一一对应
      */
-    private static String toChinese(int amountPart, boolean isUseTraditional) {
+    public static String[] format(BigDecimal[] amounts, boolean isUseTraditional, boolean isMoneyMode) {
+        final String[] result = new String[amounts.length];
+        final StringBuilder builder = new StringBuilder(32);
+        for (int i = 0; i < amounts.length; i++) {
+            if (null != amounts[i]) {
+                builder.setLength(0);
+                result[i] = format(builder, amounts[i], isUseTraditional, isMoneyMode).toString();
+            }
+        }
+        return result;
+    }
 
-        String[] numArray = isUseTraditional ? TRADITIONAL_DIGITS : SIMPLE_DIGITS;
-        String[] units = isUseTraditional ? TRADITIONAL_UNITS : SIMPLE_UNITS;
+    /**
+     * 批量转换以分为单位的金额为中文，所有金额共用一个{@link StringBuilder}
+     *
+     * @param cents            以分为单位的金额数组
+     * @param isUseTraditional 是否使用繁体
+     * @param isMoneyMode      是否为金额模式
+     * @return 中文数组，与传入的数组一一对应
+     */
+    public static String[] formatCents(long[] cents, boolean isUseTraditional, boolean isMoneyMode) {
+        final String[] result = new String[cents.length];
+        final StringBuilder builder = new StringBuilder(32);
+        for (int i = 0; i < cents.length; i++) {
+            builder.setLength(0);
+            result[i] = formatCents(builder, cents[i], isUseTraditional, isMoneyMode).toString();
+        }
+        return result;
+    }
 
-        int temp = amountPart;
+    /**
+     * 将大于 0 的整数以万为单位分段，从高位到低位转换为汉字并追加<br>
+     * 段之间存在为 0 的段或者段不足四位时补“零”，如：一万零一、一亿零一十万
+     *
+     * @param builder 追加结果的{@link StringBuilder}
+     * @param integer 整数部分
+     * @param digits  数字表
+     * @param units   单位表
+     */
+    private static void appendInteger(StringBuilder builder, long integer, char[] digits, char[] units) {
+        boolean written = false;
+        boolean zero = false;
+        for (int i = SECTION_DIVISORS.length - 1; i >= 0; i--) {
+            final int section = (int) (integer / SECTION_DIVISORS[i] % 10000);
+            if (section == 0) {
+                zero = written;
+            } else {
+                if (written && (zero || section < 1000)) {
+                    builder.append(digits[0]);
+                }
+                appendSection(builder, section, digits, units);
+                if (i % 2 == 1) {
+                    builder.append('万');
+                }
+                zero = false;
+                written = true;
+            }
+            // 亿所在的段为 0 时，高位的“万”后面仍需要“亿”，如：一万亿
+            if (i == 2 && integer >= SECTION_DIVISORS[2]) {
+                builder.append('亿');
+            }
+        }
+    }
 
-        StringBuilder chineseStr = new StringBuilder();
-        boolean lastIsZero = true; // 在从低位往高位循环时，记录上一位数字是不是 0
-        for (int i = 0; temp > 0; i++) {
-            int digit = temp % 10;
-            if (digit == 0) { // 取到的数字为 0
-                if (!lastIsZero) {
-                    // 前一个数字不是 0，则在当前汉字串前加“零”字;
-                    chineseStr.insert(0, "零");
+    /**
+     * 把一个 1~9999 之间的整数转换为汉字追加，中间的 0 只补一个“零”，末尾的 0 忽略
+     *
+     * @param builder 追加结果的{@link StringBuilder}
+     * @param section 数字部分
+     * @param digits  数字表
+     * @param units   单位表
+     */
+    private static void appendSection(StringBuilder builder, int section, char[] digits, char[] units) {
+        boolean zero = false;
+        for (int i = 3, divisor = 1000; i >= 0; i--, divisor /= 10) {
+            final int digit = section / divisor % 10;
+            if (digit == 0) {
+                // 高位的 0 忽略，其余的 0 待后面出现非 0 数字时补一个“零”
+                zero = section >= divisor;
+            } else {
+                if (zero) {
+                    builder.append(digits[0]);
+                    zero = false;
+                }
+                builder.append(digits[digit]);
+                if (i > 0) {
+                    builder.append(units[i]);
                 }
-                lastIsZero = true;
-            } else { // 取到的数字不是 0
-                chineseStr.insert(0, numArray[digit] + units[i]);
-                lastIsZero = false;
             }
-            temp = temp / 10;
         }
-        return chineseStr.toString();
     }
 }
@@ -0,0 +1,302 @@
+package com.ipower.framework.common.core.convert;
+
+import com.ipower.framework.common.core.collection.ArrayUtil;
+import com.ipower.framework.common.core.collection.Lists;
+import com.ipower.framework.common.core.constant.StringPool;
+import com.ipower.framework.common.core.convert.impl.ArrayConverter;
+import com.ipower.framework.common.core.convert.impl.CollectionConverter;
+import com.ipower.framework.common.core.exception.ElementConvertException;
+import com.ipower.framework.common.core.lang.StringUtil;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 集合、数组元素的并行转换
+ * <p>
+ * 将源数据按下标切分为若干段，在独立的有界{@link ForkJoinPool}中并行转换，结果保持原有顺序，转换失败时抛出携带元素下标的{@link ElementConvertException}。
+ * </p>
+ * <p>
+ * 默认关闭，通过{@link #setThreshold(int)}设置全局阈值后，{@link CollectionConverter}、{@link ArrayConverter}在元素个数达到阈值时自动并行转换；
+ * 也可以通过带阈值参数的方法按次指定。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class ParallelConvert {
+
+    /**
+     * 并行度，与CPU核数一致
+     */
+    private static final int PARALLELISM = Runtime.getRuntime().availableProcessors();
+    /**
+     * 每段最少元素个数，避免切分过细
+     */
+    private static final int MIN_CHUNK_SIZE = 2048;
+    /**
+     * 全局并行阈值，元素个数达到该值时并行转换，小于等于0表示关闭
+     */
+    private static volatile int threshold = 0;
+
+    /**
+     * 私有化构造函数，禁止实例化该类
+     */
+    private ParallelConvert() {
+        throw new AssertionError("No " + getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * 并行转换线程池，只有被调用到才会创建
+     */
+    private static class PoolHolder {
+        private static final ForkJoinPool POOL = new ForkJoinPool(PARALLELISM, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("ipower-convert-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * 获取全局并行阈值
+     *
+     * @return 阈值，小于等于0表示关闭
+     */
+    public static int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * 设置全局并行阈值<br>
+     * 开启后元素个数达到阈值的集合、数组转换与本类的方法一样，任一元素转换失败时抛出携带下标的{@link ElementConvertException}
+     *
+     * @param threshold 元素个数达到该值时并行转换，小于等于0表示关闭
+     */
+    public static void setThreshold(int threshold) {
+        ParallelConvert.threshold = threshold;
+    }
+
+    /**
+     * 按照全局阈值判断指定元素个数是否需要并行转换
+     *
+     * @param size 元素个数
+     * @return 是否并行转换
+     */
+    public static boolean isParallel(int size) {
+        return isParallel(size, threshold);
+    }
+
+    /**
+     * 按照指定阈值判断指定元素个数是否需要并行转换，单核时实际在当前线程转换
+     *
+     * @param size      元素个数
+     * @param threshold 阈值，小于等于0表示关闭
+     * @return 是否并行转换
+     */
+    public static boolean isParallel(int size, int threshold) {
+        return threshold > 0 && size >= threshold;
+    }
+
+    /**
+     * 转换为ArrayList，元素个数达到全局阈值时并行转换
+     *
+     * @param <T>         元素类型
+     * @param elementType 集合中元素类型
+     * @param value       被转换的值，可以为数组、Iterable、Iterator、逗号分隔的字符串或单个对象
+     * @return {@link List}，被转换的值为{@code null}时返回{@code null}
+     * @throws ElementConvertException 元素转换失败
+     */
+    public static <T> List<T> toList(Class<T> elementType, Object value) throws ElementConvertException {
+        return toList(elementType, value, threshold);
+    }
+
+    /**
+     * 转换为ArrayList，元素个数达到指定阈值时并行转换
+     *
+     * @param <T>         元素类型
+     * @param elementType 集合中元素类型
+     * @param value       被转换的值，可以为数组、Iterable、Iterator、逗号分隔的字符串或单个对象
+     * @param threshold   并行阈值，小于等于0表示不并行
+     * @return {@link List}，被转换的值为{@code null}时返回{@code null}
+     * @throws ElementConvertException 元素转换失败
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> toList(Class<T> elementType, Object value, int threshold) throws ElementConvertException {
+        if (null == value) {
+            return null;
+        }
+        final Object[] values = toObjectArray(value);
+        final Converter<?> converter = ConverterRegistry.getInstance().getElementConverter(elementType);
+        return (List<T>) Lists.arrayList(convert(values, converter, isParallel(values.length, threshold)));
+    }
+
+    /**
+     * 转换为数组，包括原始类型数组，元素个数达到指定阈值时并行转换
+     *
+     * @param <T>       数组类型
+     * @param arrayType 数组类型，如：long[].class
+     * @param value     被转换的值，可以为数组、Iterable、Iterator、逗号分隔的字符串或单个对象
+     * @param threshold 并行阈值，小于等于0表示不并行
+     * @return 数组，被转换的值为{@code null}时返回{@code null}
+     * @throws ElementConvertException 元素转换失败
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T toArray(Class<T> arrayType, Object value, int threshold) throws ElementConvertException {
+        if (null == value) {
+            return null;
+        }
+        final Class<?> componentType = arrayType.getComponentType();
+        final Object[] values = toObjectArray(value);
+        final Converter<?> converter = ConverterRegistry.getInstance().getElementConverter(componentType);
+        return (T) toArray(componentType, convert(values, converter, isParallel(values.length, threshold)));
+    }
+
+    /**
+     * 并行转换所有元素，结果顺序与源数据一致
+     *
+     * @param value       被转换的值，可以为数组、Iterable、Iterator、逗号分隔的字符串或单个对象
+     * @param elementType 元素类型
+     * @return 转换后的元素数组
+     * @throws ElementConvertException 元素转换失败
+     */
+    public static Object[] convert(Object value, Type elementType) throws ElementConvertException {
+        return convert(value, ConverterRegistry.getInstance().getElementConverter(elementType));
+    }
+
+    /**
+     * 使用指定的元素转换器并行转换所有元素，结果顺序与源数据一致
+     *
+     * @param value     被转换的值，可以为数组、Iterable、Iterator、逗号分隔的字符串或单个对象
+     * @param converter 元素转换器
+     * @return 转换后的元素数组
+     * @throws ElementConvertException 元素转换失败
+     */
+    public static Object[] convert(Object value, Converter<?> converter) throws ElementConvertException {
+        return convert(toObjectArray(value), converter, true);
+    }
+
+    /**
+     * 将转换后的元素数组复制为指定元素类型的数组
+     *
+     * @param componentType 数组元素类型，可以为原始类型
+     * @param values        转换后的元素
+     * @return 数组
+     */
+    public static Object toArray(Class<?> componentType, Object[] values) {
+        final Object result = Array.newInstance(componentType, values.length);
+        if (result instanceof Object[]) {
+            System.arraycopy(values, 0, result, 0, values.length);
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                Array.set(result, i, values[i]);
+            }
+        }
+        return result;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 转换所有元素，按段切分后并行或在当前线程转换
+     *
+     * @param values    源元素
+     * @param converter 元素转换器
+     * @param parallel  是否并行
+     * @return 转换后的元素数组
+     */
+    private static Object[] convert(Object[] values, Converter<?> converter, boolean parallel) {
+        final int size = values.length;
+        final Object[] result = new Object[size];
+        // 已知失败元素的最小下标，各段转换到超过该下标的位置即停止
+        final AtomicInteger failedIndex = new AtomicInteger(Integer.MAX_VALUE);
+        // 单核时并行没有收益，在当前线程转换，失败时同样抛出携带下标的异常
+        if (!parallel || PARALLELISM < 2 || size < MIN_CHUNK_SIZE * 2) {
+            rethrow(convertChunk(values, result, 0, size, converter, failedIndex));
+            return result;
+        }
+
+        final int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + PARALLELISM * 4 - 1) / (PARALLELISM * 4));
+        final List<ForkJoinTask<ElementConvertException>> tasks = new ArrayList<>((size + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < size; start += chunkSize) {
+            final int from = start;
+            final int to = Math.min(size, start + chunkSize);
+            tasks.add(ForkJoinTask.adapt(() -> convertChunk(values, result, from, to, converter, failedIndex)));
+        }
+        PoolHolder.POOL.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        // 按段的先后顺序检查，保证抛出的是下标最小的失败元素
+        for (ForkJoinTask<ElementConvertException> task : tasks) {
+            rethrow(task.join());
+        }
+        return result;
+    }
+
+    /**
+     * 转换一段元素
+     *
+     * @param values      源元素
+     * @param result      转换结果
+     * @param from        起始下标（包含）
+     * @param to          结束下标（不包含）
+     * @param converter   元素转换器
+     * @param failedIndex 已知失败元素的最小下标
+     * @return 本段第一个转换失败的异常，全部成功返回{@code null}
+     */
+    private static ElementConvertException convertChunk(Object[] values, Object[] result, int from, int to,
+                                                        Converter<?> converter, AtomicInteger failedIndex) {
+        for (int i = from; i < to && i < failedIndex.get(); i++) {
+            try {
+                result[i] = converter.convert(values[i], null);
+            } catch (RuntimeException e) {
+                failedIndex.accumulateAndGet(i, Math::min);
+                return new ElementConvertException(i, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 存在转换异常时抛出
+     *
+     * @param e 转换异常，可能为{@code null}
+     */
+    private static void rethrow(ElementConvertException e) {
+        if (null != e) {
+            throw e;
+        }
+    }
+
+    /**
+     * 将被转换的值统一为对象数组，规则与{@link ArrayConverter}一致
+     *
+     * @param value 被转换的值
+     * @return 对象数组
+     */
+    private static Object[] toObjectArray(Object value) {
+        if (value instanceof Object[] array) {
+            return array;
+        } else if (ArrayUtil.isArray(value)) {
+            final int length = Array.getLength(value);
+            final Object[] array = new Object[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = Array.get(value, i);
+            }
+            return array;
+        } else if (value instanceof Collection<?> collection) {
+            return collection.toArray();
+        } else if (value instanceof Iterable<?> iterable) {
+            return Lists.arrayList(iterable).toArray();
+        } else if (value instanceof Iterator<?> iterator) {
+            return Lists.arrayList(iterator).toArray();
+        } else if (value instanceof CharSequence) {
+            // 与顺序转换（CollectionUtil.addAll）一致：按逗号分隔，去除空白，过滤空字符串
+            return StringUtil.split(value.toString(), StringPool.COMMA).toArray();
+        }
+        return new Object[]{value};
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
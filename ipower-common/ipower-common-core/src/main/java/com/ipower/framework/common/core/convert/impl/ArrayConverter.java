@@ -4,7 +4,9 @@ import com.ipower.framework.common.core.collection.ArrayUtil;
 import com.ipower.framework.common.core.collection.Lists;
 import com.ipower.framework.common.core.constant.StringPool;
 import com.ipower.framework.common.core.convert.AbstractConverter;
+import com.ipower.framework.common.core.convert.Converter;
 import com.ipower.framework.common.core.convert.ConverterRegistry;
+import com.ipower.framework.common.core.convert.ParallelConvert;
 
 import java.io.Serial;
 import java.lang.reflect.Array;
@@ -78,11 +80,22 @@ public class ArrayConverter extends AbstractConverter<Object> {
         }
 
         final int len = Array.getLength(array);
-        final Object result = Array.newInstance(targetComponentType, len);
+        final Converter<Object> converter = elementConverter();
+        if (ParallelConvert.isParallel(len)) {
+            // 元素个数达到全局并行阈值，并行转换
+            return ParallelConvert.toArray(targetComponentType, ParallelConvert.convert(array, converter));
+        }
 
-        final ConverterRegistry converter = ConverterRegistry.getInstance();
-        for (int i = 0; i < len; i++) {
-            Array.set(result, i, converter.convert(targetComponentType, Array.get(array, i)));
+        final Object result = Array.newInstance(targetComponentType, len);
+        if (array instanceof Object[] source && result instanceof Object[] target) {
+            // 对象数组之间直接按下标读写，避免反射访问
+            for (int i = 0; i < len; i++) {
+                target[i] = converter.convert(source[i], null);
+            }
+        } else {
+            for (int i = 0; i < len; i++) {
+                Array.set(result, i, converter.convert(Array.get(array, i), null));
+            }
         }
         return result;
     }
@@ -104,13 +117,16 @@ public class ArrayConverter extends AbstractConverter<Object> {
             return convertArrayToArray(strings);
         }
 
-        final ConverterRegistry converter = ConverterRegistry.getInstance();
+        final Converter<Object> converter = elementConverter();
         Object result = null;
-        if (value instanceof List<?> list) {
+        if (value instanceof Collection<?> collection && ParallelConvert.isParallel(collection.size())) {
+            // 元素个数达到全局并行阈值，并行转换
+            result = ParallelConvert.toArray(targetComponentType, ParallelConvert.convert(collection, converter));
+        } else if (value instanceof List<?> list) {
             // List转数组
             result = Array.newInstance(targetComponentType, list.size());
             for (int i = 0; i < list.size(); i++) {
-                Array.set(result, i, converter.convert(targetComponentType, list.get(i)));
+                Array.set(result, i, converter.convert(list.get(i), null));
             }
         } else if (value instanceof Collection<?> collection) {
             // 集合转数组
@@ -118,7 +134,7 @@ public class ArrayConverter extends AbstractConverter<Object> {
 
             int i = 0;
             for (Object element : collection) {
-                Array.set(result, i, converter.convert(targetComponentType, element));
+                Array.set(result, i, converter.convert(element, null));
                 i++;
             }
         } else if (value instanceof Iterable) {
@@ -126,14 +142,14 @@ public class ArrayConverter extends AbstractConverter<Object> {
             final List<?> list = Lists.arrayList((Iterable<?>) value);
             result = Array.newInstance(targetComponentType, list.size());
             for (int i = 0; i < list.size(); i++) {
-                Array.set(result, i, converter.convert(targetComponentType, list.get(i)));
+                Array.set(result, i, converter.convert(list.get(i), null));
             }
         } else if (value instanceof Iterator) {
             // 可循环对象转数组，可循环对象无法获取长度，因此先转为List后转为数组
             final List<?> list = Lists.arrayList((Iterator<?>) value);
             result = Array.newInstance(targetComponentType, list.size());
             for (int i = 0; i < list.size(); i++) {
-                Array.set(result, i, converter.convert(targetComponentType, list.get(i)));
+                Array.set(result, i, converter.convert(list.get(i), null));
             }
         } else {
             // everything else:
@@ -154,5 +170,14 @@ public class ArrayConverter extends AbstractConverter<Object> {
         singleElementArray[0] = ConverterRegistry.getInstance().convert(targetComponentType, value);
         return singleElementArray;
     }
+
+    /**
+     * 获取数组元素的转换器，每次数组转换只查找一次
+     *
+     * @return 元素转换器
+     */
+    private Converter<Object> elementConverter() {
+        return ConverterRegistry.getInstance().getElementConverter(targetComponentType);
+    }
     // -------------------------------------------------------------------------------------- Private method end
 }
@@ -2,10 +2,14 @@ package com.ipower.framework.common.core.convert.impl;
 
 import com.ipower.framework.common.core.collection.CollectionUtil;
 import com.ipower.framework.common.core.convert.Converter;
+import com.ipower.framework.common.core.convert.ParallelConvert;
+import com.ipower.framework.common.core.exception.ElementConvertException;
 import com.ipower.framework.common.core.reflect.TypeUtil;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.util.Collection;
+import java.util.Collections;
 
 /**
  * 各种集合类转换器
@@ -65,11 +69,22 @@ public class CollectionConverter implements Converter<Collection<?>> {
     }
     // ---------------------------------------------------------------------------------------------- Constractor end
 
+    /**
+     * 转换，失败时返回默认值；元素个数达到全局并行阈值时与{@link ParallelConvert}一样，
+     * 元素转换失败抛出携带下标的{@link ElementConvertException}
+     *
+     * @param value        被转换的值
+     * @param defaultValue 默认值
+     * @return 转换后的集合
+     * @throws ElementConvertException 并行转换时元素转换失败
+     */
     @Override
     public Collection<?> convert(Object value, Collection<?> defaultValue) throws IllegalArgumentException {
         Collection<?> result = null;
         try {
             result = convertInternal(value);
+        } catch (ElementConvertException e) {
+            throw e;
         } catch (RuntimeException e) {
             return defaultValue;
         }
@@ -83,7 +98,29 @@ public class CollectionConverter implements Converter<Collection<?>> {
      * @return 转换后的集合对象
      */
     protected Collection<?> convertInternal(Object value) {
-        final Collection<Object> collection = CollectionUtil.create(TypeUtil.getClass(this.collectionType));
+        final int size = sizeOf(value);
+        final Collection<Object> collection = CollectionUtil.create(TypeUtil.getClass(this.collectionType), size);
+        if (ParallelConvert.isParallel(size)) {
+            // 元素个数达到全局并行阈值，并行转换后按顺序加入
+            Collections.addAll(collection, ParallelConvert.convert(value, this.elementType));
+            return collection;
+        }
         return CollectionUtil.addAll(collection, value, this.elementType);
     }
+
+    /**
+     * 获取被转换值的元素个数，用于预分配目标集合容量
+     *
+     * @param value 值
+     * @return 元素个数，无法获取时返回-1
+     */
+    private static int sizeOf(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (null != value && value.getClass().isArray()) {
+            return Array.getLength(value);
+        }
+        return -1;
+    }
 }
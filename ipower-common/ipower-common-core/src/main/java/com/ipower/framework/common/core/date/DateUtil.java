@@ -10,8 +10,11 @@ import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Date;
-import java.util.regex.Pattern;
 
 /**
  * @author kris
@@ -43,7 +46,7 @@ public final class DateUtil {
      * @return 对应格式的时间字符串
      */
     public static String toString(Long timestamp, String pattern) {
-        return ObjectUtil.isNotEmpty(timestamp) ? new DateTime(timestamp).toString(pattern) : "";
+        return ObjectUtil.isNotEmpty(timestamp) ? format(timestamp, pattern) : "";
     }
 
     /**
@@ -64,7 +67,7 @@ public final class DateUtil {
      * @return 对应g格式字符串
      */
     public static String toString(Date date, String pattern) {
-        return ObjectUtil.isNotEmpty(date) ? new DateTime(date).toString(pattern) : "";
+        return ObjectUtil.isNotEmpty(date) ? format(date.getTime(), pattern) : "";
     }
 
     /**
@@ -84,11 +87,11 @@ public final class DateUtil {
      * @return Date类型
      */
     public static Date toDate(String str) {
-        DateFormatPattern pattern = getFormatPattern(str);
-        if (ObjectUtil.isEmpty(pattern)) {
-            pattern = DateFormatPattern.COMMON_DATE;
+        if (ObjectUtil.isEmpty(str)) {
+            return null;
         }
-        return toDate(str, pattern.getPattern());
+        final DateFormatPattern pattern = ObjectUtil.nullToDefault(getFormatPattern(str), DateFormatPattern.COMMON_DATE);
+        return parse(str, pattern.getPattern(), pattern.getFormatter());
     }
 
     /**
@@ -99,9 +102,11 @@ public final class DateUtil {
      * @return Date类型
      */
     public static Date toDate(String str, String pattern) {
+        if (ObjectUtil.isEmpty(str)) {
+            return null;
+        }
         pattern = ObjectUtil.isEmpty(pattern) ? "yyyy-MM-dd" : pattern;
-        DateTimeFormatter formatter = DateTimeFormat.forPattern(pattern);
-        return ObjectUtil.isNotEmpty(str) ? DateTime.parse(str, formatter).toDate() : null;
+        return parse(str, pattern, null);
     }
 
     /**
@@ -228,21 +233,88 @@ public final class DateUtil {
 
     /**
      * 根据传入的时间字符串返回对应的时间格式对象
+     * <p>
+     * 按字符布局（数字段的长度和取值、分隔符）单次扫描识别，结果与{@link DateFormatPattern#getMatched()}的正则表达式一致，
+     * 不编译正则，也不创建对象；可以用{@link DateFormatPattern#getFormatter()}直接解析
+     * </p>
      *
      * @param value 传入的时间字符串
-     * @return DateFormatPattern
+     * @return DateFormatPattern，没有匹配的格式时返回{@code null}
      */
     public static DateFormatPattern getFormatPattern(String value) {
         if (ObjectUtil.isEmpty(value)) {
             return null;
         }
-        for (DateFormatPattern pattern : DateFormatPattern.values()) {
-            Pattern compile = Pattern.compile(pattern.getMatched());
-            if (compile.matcher(value).matches()) {
-                return pattern;
+        final int length = value.length();
+        final int first = digitsEnd(value, 0);
+        if (first == length) {
+            return null;
+        }
+        final char separator = value.charAt(first);
+        if (separator == ':') {
+            // HH:mm、HH:mm:ss
+            if (!isHour(value, 0, first, false)) {
+                return null;
+            }
+            final int time = timeEnd(value, first);
+            if (time == first + 3 && time == length) {
+                return DateFormatPattern.COMMON_SHORT_TIME;
+            }
+            return time == first + 6 && time == length ? DateFormatPattern.COMMON_TIME : null;
+        }
+        if (separator != '-' && separator != '/') {
+            return null;
+        }
+        final boolean slant = separator == '/';
+        final boolean shortYear = first == 2;
+        if (!shortYear && (first != 4 || value.charAt(0) == '0')) {
+            return null;
+        }
+        final int monthEnd = digitsEnd(value, first + 1);
+        if (!isMonth(value, first + 1, monthEnd) || monthEnd == length || value.charAt(monthEnd) != separator) {
+            return null;
+        }
+        final int dayEnd = digitsEnd(value, monthEnd + 1);
+        if (!isDay(value, monthEnd + 1, dayEnd)) {
+            return null;
+        }
+        if (dayEnd == length) {
+            if (shortYear) {
+                return slant ? DateFormatPattern.SLANT_SHORT_DATE : DateFormatPattern.COMMON_SHORT_DATE;
             }
+            return slant ? DateFormatPattern.SLANT_DATE : DateFormatPattern.COMMON_DATE;
+        }
+        if (shortYear || !isRegexSpace(value.charAt(dayEnd))) {
+            return null;
+        }
+        // yyyy-MM-dd之后的时间部分：HH:mm、HH:mm:ss、HH:mm:ss.SSS
+        final int hourStart = dayEnd + 1;
+        final int hourEnd = digitsEnd(value, hourStart);
+        if (hourEnd == length || value.charAt(hourEnd) != ':') {
+            return null;
         }
-        return null;
+        final int time = timeEnd(value, hourEnd);
+        if (time == hourEnd + 3 && time == length && isHour(value, hourStart, hourEnd, false)) {
+            return slant ? DateFormatPattern.SLANT_DATE_SHORT_TIME : DateFormatPattern.COMMON_DATE_SHORT_TIME;
+        }
+        if (time != hourEnd + 6) {
+            return null;
+        }
+        if (time == length) {
+            if (!isHour(value, hourStart, hourEnd, false)) {
+                return null;
+            }
+            return slant ? DateFormatPattern.SLANT_DATE_TIME : DateFormatPattern.COMMON_DATE_TIME;
+        }
+        if (time + 4 != length || value.charAt(time) != '.' || digitsEnd(value, time + 1) != length
+                || !isHour(value, hourStart, hourEnd, true)) {
+            return null;
+        }
+        if (slant) {
+            return DateFormatPattern.SLANT_DATE_TIME_MSEC;
+        }
+        // 横线分隔的毫秒格式要求月和日都是两位
+        return monthEnd - first == 3 && dayEnd - monthEnd == 3 ? DateFormatPattern.COMMON_DATE_TIME_MSEC : null;
     }
 
     /**
@@ -435,4 +507,122 @@ public final class DateUtil {
         }
     }
 
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 定长格式使用{@link FastDateCodec}，其他格式使用Joda-Time
+     */
+    private static String format(long timestamp, String pattern) {
+        final FastDateCodec codec = FastDateCodec.of(pattern);
+        if (codec.isFixed()) {
+            return codec.format(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()));
+        }
+        return new DateTime(timestamp).toString(pattern);
+    }
+
+    /**
+     * 定长格式且字段合法时使用{@link FastDateCodec}，其他情况（包括夏令时跳过的本地时间）使用Joda-Time解析，保持原有的宽松规则和异常
+     */
+    private static Date parse(String str, String pattern, DateTimeFormatter formatter) {
+        final FastDateCodec codec = FastDateCodec.of(pattern);
+        final LocalDateTime local = codec.isFixed() ? codec.parseFast(str) : null;
+        if (null != local) {
+            final ZonedDateTime zoned = local.atZone(ZoneId.systemDefault());
+            if (zoned.toLocalDateTime().equals(local)) {
+                return Date.from(zoned.toInstant());
+            }
+        }
+        return DateTime.parse(str, null == formatter ? DateTimeFormat.forPattern(pattern) : formatter).toDate();
+    }
+
+    /**
+     * 从start开始的连续数字的结束位置
+     */
+    private static int digitsEnd(String value, int start) {
+        int i = start;
+        while (i < value.length() && isDigit(value.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 从冒号开始的“:mm”或“:mm:ss”的结束位置，格式不符时返回-1
+     */
+    private static int timeEnd(String value, int colon) {
+        if (!isMinuteOrSecond(value, colon + 1)) {
+            return -1;
+        }
+        final int end = colon + 3;
+        if (end < value.length() && value.charAt(end) == ':') {
+            return isMinuteOrSecond(value, end + 1) ? end + 3 : -1;
+        }
+        return end;
+    }
+
+    /**
+     * 两位的分或秒：[0-5]\d，且后面不是数字
+     */
+    private static boolean isMinuteOrSecond(String value, int start) {
+        return start + 2 <= value.length() && value.charAt(start) >= '0' && value.charAt(start) <= '5'
+                && digitsEnd(value, start) == start + 2;
+    }
+
+    /**
+     * 小时：一位的0-9或两位的00-23，twoDigits为{@code true}时只允许两位
+     */
+    private static boolean isHour(String value, int start, int end, boolean twoDigits) {
+        return switch (end - start) {
+            case 1 -> !twoDigits;
+            case 2 -> twoDigitValue(value, start) <= 23;
+            default -> false;
+        };
+    }
+
+    /**
+     * 月：一位的1-9或两位的01-12
+     */
+    private static boolean isMonth(String value, int start, int end) {
+        return switch (end - start) {
+            case 1 -> value.charAt(start) != '0';
+            case 2 -> {
+                final int month = twoDigitValue(value, start);
+                yield month >= 1 && month <= 12;
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * 日：一位的1-9或两位的01-31
+     */
+    private static boolean isDay(String value, int start, int end) {
+        return switch (end - start) {
+            case 1 -> value.charAt(start) != '0';
+            case 2 -> {
+                final int day = twoDigitValue(value, start);
+                yield day >= 1 && day <= 31;
+            }
+            default -> false;
+        };
+    }
+
+    private static int twoDigitValue(String value, int start) {
+        return (value.charAt(start) - '0') * 10 + value.charAt(start + 1) - '0';
+    }
+
+    /**
+     * 与正则表达式的\d一致，只匹配ASCII数字
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * 与正则表达式的\s一致：空格、\t、\n、\x0B、\f、\r
+     */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\013' || c == '\f' || c == '\r';
+    }
+    // -------------------------------------------------------------------------------------- Private method end
 }
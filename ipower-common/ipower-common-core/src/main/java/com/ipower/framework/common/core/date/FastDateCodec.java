@@ -0,0 +1,463 @@
+package com.ipower.framework.common.core.date;
+
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 定长日期格式的快速格式化和解析
+ * <p>
+ * 只由{@code yyyy}、{@code MM}、{@code dd}、{@code HH}、{@code mm}、{@code ss}、{@code SSS}和分隔符组成的格式（如{@code yyyy-MM-dd HH:mm:ss}、
+ * {@code yyyyMMddHHmmssSSS}、{@code yyyy年MM月dd日}）每个字段的位置和宽度都是固定的：格式化时直接把数字写入字符或字节数组，
+ * 解析时按固定的位置读取数字，不经过{@link DateTimeFormatter}的解析上下文和字段解析。
+ * 其他格式，以及定长格式下快速路径不能处理的值（年份超出1~9999、长度不符、字段越界等）都交给{@link #formatter()}处理，
+ * 结果和异常与直接使用{@link DateTimeFormatter#ofPattern(String)}一致。
+ * </p>
+ * <p>
+ * 实例不可变，线程安全；{@link #of(String)}按格式缓存实例。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class FastDateCodec {
+
+    private static final int YEAR = 0;
+    private static final int MONTH = 1;
+    private static final int DAY = 2;
+    private static final int HOUR = 3;
+    private static final int MINUTE = 4;
+    private static final int SECOND = 5;
+    private static final int MILLI = 6;
+    private static final String LETTERS = "yMdHmsS";
+    private static final int[] WIDTHS = {4, 2, 2, 2, 2, 2, 3};
+    /**
+     * 最多缓存的格式数量，超过后不再缓存
+     */
+    private static final int MAX_CACHED = 512;
+    private static final Map<String, FastDateCodec> CACHE = new ConcurrentHashMap<>();
+    /**
+     * 通过{@link #register(String, DateTimeFormatter)}或缓存实例的{@link #formatter()}关联了格式的格式化器，
+     * 与{@link #CACHE}一样最多登记{@link #MAX_CACHED}个，超过后不再登记
+     */
+    private static final Map<DateTimeFormatter, FastDateCodec> REGISTERED = new ConcurrentHashMap<>();
+
+    private final String pattern;
+    /**
+     * 定长格式的模板，分隔符已填好，不是定长格式时为{@code null}
+     */
+    private final char[] template;
+    /**
+     * 各字段在模板中的位置，没有该字段时为-1
+     */
+    private final int[] offsets;
+    /**
+     * 模板中的分隔符是否都是ASCII字符
+     */
+    private final boolean ascii;
+    private volatile DateTimeFormatter formatter;
+
+    private FastDateCodec(String pattern, DateTimeFormatter formatter) {
+        this.pattern = pattern;
+        this.formatter = formatter;
+        this.offsets = new int[WIDTHS.length];
+        this.template = null == pattern ? null : compile(pattern, offsets);
+        boolean asciiOnly = null != template;
+        for (int i = 0; asciiOnly && i < template.length; i++) {
+            asciiOnly = template[i] < 0x80;
+        }
+        this.ascii = asciiOnly;
+    }
+
+    /**
+     * 获取格式对应的编解码器，格式不合法时在第一次使用{@link #formatter()}时才抛出异常
+     *
+     * @param pattern 格式，与{@link DateTimeFormatter#ofPattern(String)}相同
+     * @return 编解码器
+     */
+    public static FastDateCodec of(String pattern) {
+        Validate.notNull(pattern, "The pattern must not be null");
+        final FastDateCodec codec = CACHE.get(pattern);
+        if (null != codec) {
+            return codec;
+        }
+        if (CACHE.size() >= MAX_CACHED) {
+            return new FastDateCodec(pattern, null);
+        }
+        return CACHE.computeIfAbsent(pattern, key -> new FastDateCodec(key, null));
+    }
+
+    /**
+     * 获取格式化器对应的编解码器；格式化器由{@link #register(String, DateTimeFormatter)}或{@link #formatter()}得到时可以使用快速路径，
+     * 返回登记的实例；否则每次调用都创建一个新的实例，所有操作都交给该格式化器处理，调用方需要重复使用时应保存返回的实例
+     *
+     * @param formatter 格式化器
+     * @return 编解码器
+     */
+    public static FastDateCodec of(DateTimeFormatter formatter) {
+        Validate.notNull(formatter, "The formatter must not be null");
+        final FastDateCodec codec = REGISTERED.get(formatter);
+        return null == codec ? new FastDateCodec(null, formatter) : codec;
+    }
+
+    /**
+     * 登记格式化器对应的格式，之后{@link #of(DateTimeFormatter)}可以使用快速路径；
+     * 格式化器的解析和输出结果需要与{@link DateTimeFormatter#ofPattern(String)}一致（时区、语言环境不影响定长的数字字段）。
+     * 登记的格式化器不会被移除，只适合常量；登记数量达到上限后不再登记，格式化器仍然可以使用，只是不走快速路径
+     *
+     * @param pattern   格式
+     * @param formatter 格式化器
+     * @return 格式化器本身
+     */
+    public static DateTimeFormatter register(String pattern, DateTimeFormatter formatter) {
+        Validate.notNull(pattern, "The pattern must not be null");
+        Validate.notNull(formatter, "The formatter must not be null");
+        if (REGISTERED.size() < MAX_CACHED || REGISTERED.containsKey(formatter)) {
+            REGISTERED.put(formatter, new FastDateCodec(pattern, formatter));
+        }
+        return formatter;
+    }
+
+    /**
+     * 格式，通过未登记的格式化器创建时为{@code null}
+     *
+     * @return 格式
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    /**
+     * 是否为定长格式，定长格式可以使用快速路径
+     *
+     * @return 是否为定长格式
+     */
+    public boolean isFixed() {
+        return null != template;
+    }
+
+    /**
+     * 定长格式的字符数
+     *
+     * @return 字符数，不是定长格式时返回-1
+     */
+    public int length() {
+        return null == template ? -1 : template.length;
+    }
+
+    /**
+     * 格式对应的格式化器，用于非定长格式和快速路径不能处理的值
+     *
+     * @return 格式化器
+     */
+    public DateTimeFormatter formatter() {
+        DateTimeFormatter current = formatter;
+        if (null == current) {
+            current = DateTimeFormatter.ofPattern(pattern);
+            // 只登记缓存中的实例，超过缓存数量后创建的实例不登记，避免REGISTERED无限增长
+            if (CACHE.get(pattern) == this && REGISTERED.size() < MAX_CACHED) {
+                REGISTERED.putIfAbsent(current, this);
+            }
+            formatter = current;
+        }
+        return current;
+    }
+
+    /**
+     * 格式化
+     *
+     * @param temporal 日期时间，{@link LocalDateTime}、{@link LocalDate}、{@link LocalTime}可以使用快速路径
+     * @return 字符串
+     */
+    public String format(TemporalAccessor temporal) {
+        final int[] values = values(temporal);
+        if (null == values) {
+            return formatter().format(temporal);
+        }
+        final char[] chars = template.clone();
+        fill(values, chars, 0);
+        return new String(chars);
+    }
+
+    /**
+     * 按系统默认时区格式化
+     *
+     * @param date 日期
+     * @return 字符串
+     */
+    public String format(Date date) {
+        return format(LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault()));
+    }
+
+    /**
+     * 格式化并追加到{@link StringBuilder}
+     *
+     * @param temporal 日期时间
+     * @param builder  追加的目标
+     * @return 追加的目标
+     */
+    public StringBuilder formatTo(TemporalAccessor temporal, StringBuilder builder) {
+        final int[] values = values(temporal);
+        if (null == values) {
+            formatter().formatTo(temporal, builder);
+            return builder;
+        }
+        final char[] chars = template.clone();
+        fill(values, chars, 0);
+        return builder.append(chars);
+    }
+
+    /**
+     * 格式化到字符数组，用于{@code JsonGenerator#writeString(char[], int, int)}等不需要创建字符串的场景
+     *
+     * @param temporal 日期时间
+     * @param chars    目标数组，剩余空间不小于{@link #length()}；非定长格式时不小于格式化结果的长度
+     * @param offset   写入位置
+     * @return 写入结束的位置
+     */
+    public int formatTo(TemporalAccessor temporal, char[] chars, int offset) {
+        final int[] values = values(temporal);
+        if (null == values) {
+            final String text = formatter().format(temporal);
+            text.getChars(0, text.length(), chars, offset);
+            return offset + text.length();
+        }
+        System.arraycopy(template, 0, chars, offset, template.length);
+        fill(values, chars, offset);
+        return offset + template.length;
+    }
+
+    /**
+     * 按UTF-8格式化到字节数组
+     *
+     * @param temporal 日期时间
+     * @param bytes    目标数组，剩余空间不小于格式化结果的UTF-8字节数
+     * @param offset   写入位置
+     * @return 写入结束的位置
+     */
+    public int formatTo(TemporalAccessor temporal, byte[] bytes, int offset) {
+        final int[] values = ascii ? values(temporal) : null;
+        if (null == values) {
+            final byte[] encoded = format(temporal).getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(encoded, 0, bytes, offset, encoded.length);
+            return offset + encoded.length;
+        }
+        for (int i = 0; i < template.length; i++) {
+            bytes[offset + i] = (byte) template[i];
+        }
+        for (int field = 0; field < offsets.length; field++) {
+            if (offsets[field] >= 0) {
+                int value = values[field];
+                for (int i = offset + offsets[field] + WIDTHS[field] - 1; i >= offset + offsets[field]; i--) {
+                    bytes[i] = (byte) ('0' + value % 10);
+                    value /= 10;
+                }
+            }
+        }
+        return offset + template.length;
+    }
+
+    /**
+     * 解析为{@link LocalDateTime}
+     *
+     * @param text 字符串
+     * @return 日期时间
+     * @throws java.time.format.DateTimeParseException 解析失败
+     */
+    public LocalDateTime parseDateTime(CharSequence text) {
+        final int[] values = parseFields(text);
+        if (null != values && has(YEAR) && has(MONTH) && has(DAY) && has(HOUR)) {
+            return LocalDateTime.of(values[YEAR], values[MONTH], values[DAY], values[HOUR], values[MINUTE], values[SECOND],
+                    values[MILLI] * 1_000_000);
+        }
+        return LocalDateTime.parse(text, formatter());
+    }
+
+    /**
+     * 解析为{@link LocalDate}
+     *
+     * @param text 字符串
+     * @return 日期
+     * @throws java.time.format.DateTimeParseException 解析失败
+     */
+    public LocalDate parseDate(CharSequence text) {
+        final int[] values = parseFields(text);
+        if (null != values && has(YEAR) && has(MONTH) && has(DAY)) {
+            return LocalDate.of(values[YEAR], values[MONTH], values[DAY]);
+        }
+        return LocalDate.parse(text, formatter());
+    }
+
+    /**
+     * 解析为{@link LocalTime}
+     *
+     * @param text 字符串
+     * @return 时间
+     * @throws java.time.format.DateTimeParseException 解析失败
+     */
+    public LocalTime parseTime(CharSequence text) {
+        final int[] values = parseFields(text);
+        if (null != values && has(HOUR)) {
+            return LocalTime.of(values[HOUR], values[MINUTE], values[SECOND], values[MILLI] * 1_000_000);
+        }
+        return LocalTime.parse(text, formatter());
+    }
+
+    /**
+     * 按快速路径解析，缺少的日期字段为1970-01-01，缺少的时间字段为0，与Joda-Time的默认值一致
+     *
+     * @param text 字符串
+     * @return 日期时间，快速路径不能处理时返回{@code null}
+     */
+    LocalDateTime parseFast(CharSequence text) {
+        final int[] values = parseFields(text);
+        if (null == values) {
+            return null;
+        }
+        return LocalDateTime.of(has(YEAR) ? values[YEAR] : 1970, has(MONTH) ? values[MONTH] : 1, has(DAY) ? values[DAY] : 1,
+                values[HOUR], values[MINUTE], values[SECOND], values[MILLI] * 1_000_000);
+    }
+
+    @Override
+    public String toString() {
+        return "FastDateCodec[" + (null == pattern ? formatter : pattern) + "]";
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 解析定长格式，记录各字段的位置，不是定长格式时返回{@code null}
+     */
+    private static char[] compile(String pattern, int[] offsets) {
+        Arrays.fill(offsets, -1);
+        final StringBuilder template = new StringBuilder(pattern.length());
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                final int field = LETTERS.indexOf(c);
+                int end = i;
+                while (end < pattern.length() && pattern.charAt(end) == c) {
+                    end++;
+                }
+                if (field < 0 || end - i != WIDTHS[field] || offsets[field] >= 0) {
+                    return null;
+                }
+                offsets[field] = template.length();
+                template.append("0".repeat(WIDTHS[field]));
+                i = end;
+            } else if (c == '\'' || c == '[' || c == ']' || c == '{' || c == '}' || c == '#' || (c >= '0' && c <= '9')) {
+                // 引号、保留字符和数字分隔符交给DateTimeFormatter处理
+                return null;
+            } else {
+                template.append(c);
+                i++;
+            }
+        }
+        return template.toString().toCharArray();
+    }
+
+    private boolean has(int field) {
+        return offsets[field] >= 0;
+    }
+
+    /**
+     * 取出快速路径需要的字段值，不能使用快速路径时返回{@code null}
+     */
+    private int[] values(TemporalAccessor temporal) {
+        if (null == template) {
+            return null;
+        }
+        final int[] values = new int[WIDTHS.length];
+        if (temporal instanceof LocalDateTime dateTime) {
+            setDate(values, dateTime.toLocalDate());
+            setTime(values, dateTime.toLocalTime());
+        } else if (temporal instanceof LocalDate date) {
+            if (has(HOUR) || has(MINUTE) || has(SECOND) || has(MILLI)) {
+                return null;
+            }
+            setDate(values, date);
+        } else if (temporal instanceof LocalTime time) {
+            if (has(YEAR) || has(MONTH) || has(DAY)) {
+                return null;
+            }
+            setTime(values, time);
+        } else {
+            return null;
+        }
+        // yyyy是公元纪年，超出四位或公元前的年份交给DateTimeFormatter
+        return has(YEAR) && (values[YEAR] < 1 || values[YEAR] > 9999) ? null : values;
+    }
+
+    private static void setDate(int[] values, LocalDate date) {
+        values[YEAR] = date.getYear();
+        values[MONTH] = date.getMonthValue();
+        values[DAY] = date.getDayOfMonth();
+    }
+
+    private static void setTime(int[] values, LocalTime time) {
+        values[HOUR] = time.getHour();
+        values[MINUTE] = time.getMinute();
+        values[SECOND] = time.getSecond();
+        values[MILLI] = time.getNano() / 1_000_000;
+    }
+
+    private void fill(int[] values, char[] chars, int offset) {
+        for (int field = 0; field < offsets.length; field++) {
+            if (offsets[field] >= 0) {
+                int value = values[field];
+                for (int i = offset + offsets[field] + WIDTHS[field] - 1; i >= offset + offsets[field]; i--) {
+                    chars[i] = (char) ('0' + value % 10);
+                    value /= 10;
+                }
+            }
+        }
+    }
+
+    /**
+     * 按固定位置读取字段，长度、分隔符、数字或字段范围不符时返回{@code null}
+     */
+    private int[] parseFields(CharSequence text) {
+        if (null == template || null == text || text.length() != template.length) {
+            return null;
+        }
+        for (int i = 0; i < template.length; i++) {
+            // 模板中的'0'都是字段的数字位
+            final char c = text.charAt(i);
+            if (template[i] == '0' ? c < '0' || c > '9' : c != template[i]) {
+                return null;
+            }
+        }
+        final int[] values = new int[WIDTHS.length];
+        for (int field = 0; field < offsets.length; field++) {
+            if (offsets[field] >= 0) {
+                int value = 0;
+                for (int i = offsets[field]; i < offsets[field] + WIDTHS[field]; i++) {
+                    value = value * 10 + text.charAt(i) - '0';
+                }
+                values[field] = value;
+            }
+        }
+        if ((has(YEAR) && values[YEAR] < 1) || (has(MONTH) && (values[MONTH] < 1 || values[MONTH] > 12))
+                || values[HOUR] > 23 || values[MINUTE] > 59 || values[SECOND] > 59) {
+            return null;
+        }
+        if (has(DAY)) {
+            final int maxDay = has(MONTH) ? (has(YEAR) ? YearMonth.of(values[YEAR], values[MONTH]).lengthOfMonth()
+                    : Month.of(values[MONTH]).maxLength()) : 31;
+            if (values[DAY] < 1 || values[DAY] > maxDay) {
+                return null;
+            }
+        }
+        return values;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,149 @@
+package com.ipower.framework.common.core.date;
+
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 耗时直方图，固定桶数的对数线性分桶，线程安全
+ * <p>
+ * 小于{@value #SUB_BUCKETS}纳秒的耗时每纳秒一个桶；更大的耗时按2的幂分段，每段再均分为{@value #SUB_BUCKETS}个桶，
+ * 分位数的相对误差不超过1/{@value #SUB_BUCKETS}（约3%）。记录只需要计算下标并原子累加，不加锁、不分配对象，
+ * 所有桶在创建时一次分配，占用约15KB。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB_BUCKETS * (64 - SUB_BITS);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时纳秒数，负数按0记录
+     */
+    public void record(long nanos) {
+        final long value = Math.max(nanos, 0);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * 记录次数
+     *
+     * @return 次数
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * 最大耗时
+     *
+     * @return 纳秒数，没有记录时为0
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * 平均耗时
+     *
+     * @return 纳秒数，没有记录时为0
+     */
+    public long mean() {
+        final long n = count.sum();
+        return 0 == n ? 0 : sum.sum() / n;
+    }
+
+    /**
+     * 分位数耗时，取所在桶的上界，不超过最大耗时；并发记录时结果是近似值
+     *
+     * @param percentile 分位，范围为(0, 100]，如50、90、99
+     * @return 纳秒数，没有记录时为0
+     */
+    public long percentile(double percentile) {
+        Validate.isTrue(percentile > 0 && percentile <= 100, "The percentile must be in (0, 100]: {}", percentile);
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (0 == total) {
+            return 0;
+        }
+        final long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * 清空记录
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count() + ", mean=" + format(mean()) + ", p50=" + format(percentile(50)) + ", p90=" + format(percentile(90))
+                + ", p99=" + format(percentile(99)) + ", max=" + format(max());
+    }
+
+    /**
+     * 格式化纳秒数，保留三位小数的毫秒
+     *
+     * @param nanos 纳秒数
+     * @return 如{@code 1.234ms}
+     */
+    public static String format(long nanos) {
+        return String.format("%.3fms", nanos / 1_000_000.0);
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        // 第shift段的桶下标为[(shift + 1) * SUB_BUCKETS, (shift + 2) * SUB_BUCKETS)
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKETS - 1;
+        final long sub = SUB_BUCKETS + index % SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
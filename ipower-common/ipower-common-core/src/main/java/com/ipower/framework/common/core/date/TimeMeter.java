@@ -1,22 +1,49 @@
 package com.ipower.framework.common.core.date;
 
+import com.ipower.framework.common.core.lang.Validate;
 import com.ipower.framework.common.core.map.Maps;
 
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.ipower.framework.common.core.lang.ObjectUtil.isNull;
 
 /**
- * 计时器，用来记录用时.
+ * 计时器，用来记录用时，基于{@link System#nanoTime()}.
+ * <p>
+ * 除了按步骤标记的{@code sign}方法，还可以记录嵌套的耗时段：
+ * <pre>{@code
+ * TimeMeter meter = new TimeMeter(recorder);
+ * try (TimeMeter.Span ignored = meter.span("query")) {
+ *     try (TimeMeter.Span ignored2 = meter.span("db")) {
+ *         ...
+ *     }
+ * }
+ * log.info("{}", meter);            // 本次请求的耗时段
+ * log.info("{}", recorder);         // 所有请求按路径汇总的p50/p90/p99/max
+ * }</pre>
+ * 一个计时器只在一个线程中使用，通常一个请求一个；{@link Recorder}线程安全，可以在所有请求间共享。
+ * 不需要计时时使用{@link #DISABLED}，开始和结束一个耗时段只有一次方法调用，不读取时钟、不分配对象。
+ * </p>
  *
  * @author kris
  */
 public class TimeMeter {
 
+    /**
+     * 不记录任何内容的计时器，所有计时方法返回0
+     */
+    public static final TimeMeter DISABLED = new TimeMeter(null, false);
+
+    private static final Span NOOP_SPAN = () -> {
+    };
+
+    private final boolean enabled;
+
     /**
      * 开始时间，用来记录创建对象的时间
      */
-    private final Long start = System.currentTimeMillis();
+    private final long start = System.nanoTime();
 
     /**
      * 结束时间，用来记录meter()的时间，每次只需会更新结束时间
@@ -28,8 +55,43 @@ public class TimeMeter {
      */
     private final Map<String, Long> map = Maps.hashMap();
 
+    /**
+     * 汇总耗时段的记录器，可以为{@code null}
+     */
+    private final Recorder recorder;
+
+    /**
+     * 按开始顺序保存的耗时段，durations为-1表示还未结束
+     */
+    private String[] names = new String[8];
+    private int[] parents = new int[8];
+    private long[] starts = new long[8];
+    private long[] durations = new long[8];
+    private Recorder.Node[] nodes;
+    private int size;
+    /**
+     * 当前未结束的最内层耗时段，没有时为-1
+     */
+    private int current = -1;
+
     public TimeMeter() {
+        this(null, true);
+    }
+
+    /**
+     * 结束的耗时段同时汇总到记录器中
+     *
+     * @param recorder 记录器
+     */
+    public TimeMeter(Recorder recorder) {
+        this(recorder, true);
+        Validate.notNull(recorder, "The recorder must not be null");
+    }
 
+    private TimeMeter(Recorder recorder, boolean enabled) {
+        this.recorder = recorder;
+        this.enabled = enabled;
+        this.nodes = null == recorder ? null : new Recorder.Node[8];
     }
 
     /**
@@ -38,23 +100,29 @@ public class TimeMeter {
      * @return long ms
      */
     public long sign() {
-        end = System.currentTimeMillis();
-        return end - start;
+        if (!enabled) {
+            return 0;
+        }
+        end = System.nanoTime();
+        return toMillis(end - start);
     }
 
     /**
      * 用来记录执行步骤标记，并计算从创建TimeMeter对象到执行该步骤的时长
      *
-     * @param step 执行步骤，标记需唯一，重复步骤标记将会被覆盖
+     * @param step 执行步骤，标记需唯一，重复的步骤标记保留第一次的时间
      * @return long ms
      */
     public long sign(String step) {
+        if (!enabled) {
+            return 0;
+        }
         Long time = map.get(step);
         if (isNull(time)) {
-            time = System.currentTimeMillis();
+            time = System.nanoTime();
             map.put(step, time);
         }
-        return time - start;
+        return toMillis(time - start);
     }
 
     /**
@@ -67,6 +135,9 @@ public class TimeMeter {
      * @return long ms
      */
     public long sign(String stepOne, String stepTwo) {
+        if (!enabled) {
+            return 0;
+        }
         Long one = map.get(stepOne);
         if (isNull(one)) {
             one = start;
@@ -75,10 +146,231 @@ public class TimeMeter {
         if (isNull(two)) {
             two = end;
             if (isNull(two)) {
-                two = System.currentTimeMillis();
+                two = System.nanoTime();
                 map.put(stepTwo, two);
             }
         }
-        return two - one;
+        return toMillis(two - one);
+    }
+
+    /**
+     * 开始一个耗时段，作为当前未结束的耗时段的子段；返回值关闭时结束该耗时段
+     *
+     * @param name 名称
+     * @return 耗时段
+     */
+    public Span span(String name) {
+        if (!enabled) {
+            return NOOP_SPAN;
+        }
+        final int index = size;
+        if (index == names.length) {
+            grow();
+        }
+        names[index] = name;
+        parents[index] = current;
+        durations[index] = -1;
+        if (null != nodes) {
+            nodes[index] = (current < 0 ? recorder.root : nodes[current]).child(name);
+        }
+        size = index + 1;
+        current = index;
+        starts[index] = System.nanoTime();
+        return () -> end(index);
+    }
+
+    /**
+     * 是否记录耗时
+     *
+     * @return 是否记录
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 导出所有耗时段，按开始顺序排列，父段在子段之前；未结束的耗时段按到当前为止的时长计算
+     *
+     * @return 耗时段记录
+     */
+    public List<SpanRecord> spans() {
+        final long now = System.nanoTime();
+        final List<SpanRecord> records = new ArrayList<>(size);
+        final int[] depths = new int[size];
+        for (int i = 0; i < size; i++) {
+            depths[i] = parents[i] < 0 ? 0 : depths[parents[i]] + 1;
+            final long duration = durations[i] < 0 ? now - starts[i] : durations[i];
+            records.add(new SpanRecord(names[i], depths[i], starts[i] - start, duration, durations[i] >= 0));
+        }
+        return records;
+    }
+
+    /**
+     * 按缩进输出所有耗时段
+     *
+     * @return 如{@code query 12.345ms}，每个耗时段一行
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (SpanRecord record : spans()) {
+            if (builder.length() > 0) {
+                builder.append('\n');
+            }
+            builder.append("  ".repeat(record.depth())).append(record.name()).append(' ')
+                    .append(LatencyHistogram.format(record.durationNanos()));
+            if (!record.closed()) {
+                builder.append(" (running)");
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 耗时段，{@link #close()}时结束，重复关闭无效；
+     * 关闭外层耗时段时，其中还未结束的子段同时结束
+     */
+    @FunctionalInterface
+    public interface Span extends AutoCloseable {
+
+        /**
+         * 结束耗时段
+         */
+        @Override
+        void close();
+    }
+
+    /**
+     * 导出的耗时段
+     *
+     * @param name          名称
+     * @param depth         嵌套深度，最外层为0
+     * @param startNanos    从创建计时器到开始的纳秒数
+     * @param durationNanos 耗时纳秒数
+     * @param closed        是否已结束
+     */
+    public record SpanRecord(String name, int depth, long startNanos, long durationNanos, boolean closed) {
+    }
+
+    /**
+     * 耗时段的汇总记录器，按嵌套路径（如{@code query/db}）为每种耗时段维护一个{@link LatencyHistogram}，线程安全
+     */
+    public static final class Recorder {
+
+        private final Node root = new Node("");
+
+        /**
+         * 按路径获取汇总结果，按路径排序
+         *
+         * @return 路径和对应的直方图
+         */
+        public Map<String, LatencyHistogram> histograms() {
+            final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+            final Deque<Node> stack = new ArrayDeque<>(root.children.values());
+            while (!stack.isEmpty()) {
+                final Node node = stack.pop();
+                histograms.put(node.path, node.histogram);
+                stack.addAll(node.children.values());
+            }
+            return histograms;
+        }
+
+        /**
+         * 获取路径的汇总结果
+         *
+         * @param path 路径，嵌套的名称用{@code /}连接
+         * @return 直方图，没有记录过时为{@code null}
+         */
+        public LatencyHistogram histogram(String path) {
+            Node node = root;
+            for (String name : path.split("/")) {
+                node = node.children.get(name);
+                if (null == node) {
+                    return null;
+                }
+            }
+            return node.histogram;
+        }
+
+        /**
+         * 清空所有汇总结果，已经开始的耗时段结束时不再计入
+         */
+        public void reset() {
+            root.children.clear();
+        }
+
+        /**
+         * 每个路径一行汇总结果
+         *
+         * @return 如{@code query/db count=10, mean=..., p50=..., p90=..., p99=..., max=...}
+         */
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+            histograms().forEach((path, histogram) -> {
+                if (builder.length() > 0) {
+                    builder.append('\n');
+                }
+                builder.append(path).append(' ').append(histogram);
+            });
+            return builder.toString();
+        }
+
+        /**
+         * 路径树的节点，计时器保存节点的引用，记录时不需要拼接路径
+         */
+        private static final class Node {
+
+            private final String path;
+            private final LatencyHistogram histogram = new LatencyHistogram();
+            private final Map<String, Node> children = new ConcurrentHashMap<>();
+
+            private Node(String path) {
+                this.path = path;
+            }
+
+            private Node child(String name) {
+                final Node child = children.get(name);
+                return null != child ? child : children.computeIfAbsent(name, key -> new Node(path.isEmpty() ? key : path + "/" + key));
+            }
+        }
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private void end(int index) {
+        if (durations[index] >= 0) {
+            return;
+        }
+        final long now = System.nanoTime();
+        // 从最内层开始结束，包括忘记关闭的子段
+        for (int i = current; i >= index && i >= 0; i = parents[i]) {
+            if (durations[i] < 0) {
+                durations[i] = now - starts[i];
+                if (null != nodes) {
+                    nodes[i].histogram.record(durations[i]);
+                }
+            }
+            current = parents[i];
+            if (i == index) {
+                break;
+            }
+        }
+    }
+
+    private void grow() {
+        final int capacity = names.length << 1;
+        names = Arrays.copyOf(names, capacity);
+        parents = Arrays.copyOf(parents, capacity);
+        starts = Arrays.copyOf(starts, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        if (null != nodes) {
+            nodes = Arrays.copyOf(nodes, capacity);
+        }
     }
+    // -------------------------------------------------------------------------------------- Private method end
 }
@@ -0,0 +1,264 @@
+package com.ipower.framework.common.core.date;
+
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.time.*;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地时间在两个时区之间的转换，结果与{@code ZonedDateTime.of(value, from).withZoneSameInstant(to).toLocalDateTime()}一致，
+ * 只是两个时区的规则相同时直接返回原值
+ * <p>
+ * 每个时区缓存最近使用的几个偏移区间（两次偏移变化之间的时间段）：区间内的转换只需要加减预先算好的偏移秒数，
+ * 不创建{@link ZonedDateTime}，也不查询{@link ZoneRules}；没有夏令时的时区（如Asia/Shanghai）在1991年之后只有一个区间，
+ * 有夏令时的时区一年有两个区间，同时包含夏季和冬季时间的数据也能命中缓存。
+ * 夏令时开始时不存在的本地时间、结束时重复的本地时间以及区间外的时间都交给{@link ZonedDateTime}处理，并把新的区间加入缓存。
+ * </p>
+ * <p>
+ * 实例不可变（缓存的区间除外，区间本身不可变），线程安全；{@link #of(ZoneId, ZoneId)}按时区对缓存实例。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class ZoneConverter {
+
+    /**
+     * 最多缓存的时区对数量，超过后不再缓存
+     */
+    private static final int MAX_CACHED = 1024;
+    private static final Map<ZoneId, ZoneOffsets> OFFSETS = new ConcurrentHashMap<>();
+    private static final Map<ZonePair, ZoneConverter> CONVERTERS = new ConcurrentHashMap<>();
+
+    private final ZoneId from;
+    private final ZoneId to;
+    private final ZoneOffsets fromOffsets;
+    private final ZoneOffsets toOffsets;
+    private final boolean identity;
+    private ZoneConverter reverse;
+
+    private ZoneConverter(ZoneId from, ZoneId to) {
+        this.from = from;
+        this.to = to;
+        this.fromOffsets = offsets(from);
+        this.toOffsets = offsets(to);
+        this.identity = from.equals(to) || from.getRules().equals(to.getRules());
+    }
+
+    /**
+     * 获取两个时区之间的转换器
+     *
+     * @param from 源时区
+     * @param to   目标时区
+     * @return 转换器
+     */
+    public static ZoneConverter of(ZoneId from, ZoneId to) {
+        Validate.notNull(from, "The source zone must not be null");
+        Validate.notNull(to, "The target zone must not be null");
+        final ZonePair key = new ZonePair(from, to);
+        final ZoneConverter converter = CONVERTERS.get(key);
+        if (null != converter) {
+            return converter;
+        }
+        if (CONVERTERS.size() >= MAX_CACHED) {
+            return new ZoneConverter(from, to);
+        }
+        return CONVERTERS.computeIfAbsent(key, pair -> new ZoneConverter(pair.from(), pair.to()));
+    }
+
+    /**
+     * 源时区
+     *
+     * @return 源时区
+     */
+    public ZoneId from() {
+        return from;
+    }
+
+    /**
+     * 目标时区
+     *
+     * @return 目标时区
+     */
+    public ZoneId to() {
+        return to;
+    }
+
+    /**
+     * 两个时区的规则是否相同，相同时转换结果就是原值，夏令时开始时不存在的本地时间也不调整
+     *
+     * @return 是否相同
+     */
+    public boolean isIdentity() {
+        return identity;
+    }
+
+    /**
+     * 反向的转换器
+     *
+     * @return 从目标时区到源时区的转换器
+     */
+    public ZoneConverter reverse() {
+        ZoneConverter converter = reverse;
+        if (null == converter) {
+            // 重复创建时得到相同的缓存实例，不需要同步
+            converter = of(to, from);
+            reverse = converter;
+        }
+        return converter;
+    }
+
+    /**
+     * 把源时区的本地时间转换为目标时区同一时刻的本地时间
+     *
+     * @param value 源时区的本地时间
+     * @return 目标时区的本地时间，参数为{@code null}时返回{@code null}
+     */
+    public LocalDateTime convert(LocalDateTime value) {
+        if (null == value || identity) {
+            return value;
+        }
+        final long localSecond = value.toEpochSecond(ZoneOffset.UTC);
+        final ZoneOffset fromOffset = fromOffsets.offsetOfLocal(localSecond);
+        if (null == fromOffset) {
+            final ZonedDateTime zoned = ZonedDateTime.of(value, from);
+            fromOffsets.window(zoned.toEpochSecond());
+            return zoned.withZoneSameInstant(to).toLocalDateTime();
+        }
+        final ZoneOffset toOffset = toOffsets.offsetOfInstant(localSecond - fromOffset.getTotalSeconds());
+        final int delta = toOffset.getTotalSeconds() - fromOffset.getTotalSeconds();
+        return 0 == delta ? value : value.plusSeconds(delta);
+    }
+
+    /**
+     * 源时区的本地时间对应的时间戳
+     *
+     * @param value 源时区的本地时间
+     * @return 从1970-01-01T00:00:00Z开始的毫秒数
+     */
+    public long toEpochMilli(LocalDateTime value) {
+        final long localSecond = value.toEpochSecond(ZoneOffset.UTC);
+        final ZoneOffset fromOffset = fromOffsets.offsetOfLocal(localSecond);
+        final long epochSecond;
+        if (null == fromOffset) {
+            epochSecond = ZonedDateTime.of(value, from).toEpochSecond();
+            fromOffsets.window(epochSecond);
+        } else {
+            epochSecond = localSecond - fromOffset.getTotalSeconds();
+        }
+        return epochSecond * 1000 + value.getNano() / 1_000_000;
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneConverter[" + from + " -> " + to + "]";
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private static ZoneOffsets offsets(ZoneId zone) {
+        final ZoneOffsets offsets = OFFSETS.get(zone);
+        if (null != offsets) {
+            return offsets;
+        }
+        return OFFSETS.size() >= MAX_CACHED ? new ZoneOffsets(zone.getRules()) : OFFSETS.computeIfAbsent(zone, key -> new ZoneOffsets(key.getRules()));
+    }
+
+    private record ZonePair(ZoneId from, ZoneId to) {
+    }
+
+    /**
+     * 时区的偏移缓存，保存最近使用的几个偏移区间，缓存满时按加入的顺序替换
+     */
+    private static final class ZoneOffsets {
+
+        /**
+         * 缓存的区间数量，覆盖连续几年的夏季和冬季
+         */
+        private static final int WINDOWS = 8;
+
+        private final ZoneRules rules;
+        /**
+         * 区间的字段都是final，并发时不需要额外的同步，最坏情况是重复计算区间
+         */
+        private final Window[] windows = new Window[WINDOWS];
+        private int cursor;
+
+        private ZoneOffsets(ZoneRules rules) {
+            this.rules = rules;
+            this.windows[0] = rules.isFixedOffset() ? Window.fixed(rules.getOffset(Instant.EPOCH)) : Window.of(rules, Instant.now().getEpochSecond());
+            this.cursor = 1;
+        }
+
+        /**
+         * 时刻对应的偏移
+         */
+        private ZoneOffset offsetOfInstant(long epochSecond) {
+            return window(epochSecond).offset;
+        }
+
+        /**
+         * 本地时间对应的唯一偏移，本地时间不在缓存区间内（包括不存在或重复的本地时间）时返回{@code null}
+         */
+        private ZoneOffset offsetOfLocal(long localSecond) {
+            for (Window cached : windows) {
+                if (null != cached && localSecond >= cached.localFrom && localSecond < cached.localTo) {
+                    return cached.offset;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 时刻所在的区间，不在缓存中时计算并加入缓存
+         */
+        private Window window(long epochSecond) {
+            for (Window cached : windows) {
+                if (null != cached && epochSecond >= cached.from && epochSecond < cached.to) {
+                    return cached;
+                }
+            }
+            final Window refreshed = Window.of(rules, epochSecond);
+            final int index = cursor;
+            cursor = (index + 1) & (WINDOWS - 1);
+            windows[index] = refreshed;
+            return refreshed;
+        }
+    }
+
+    /**
+     * 偏移区间，时刻在[from, to)之间时偏移不变；本地时间在[localFrom, localTo)之间时只对应这一个偏移
+     */
+    private record Window(long from, long to, long localFrom, long localTo, ZoneOffset offset) {
+
+        private static Window fixed(ZoneOffset offset) {
+            return new Window(Long.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, offset);
+        }
+
+        private static Window of(ZoneRules rules, long epochSecond) {
+            final Instant instant = Instant.ofEpochSecond(epochSecond);
+            final ZoneOffset offset = rules.getOffset(instant);
+            // previousTransition不包含恰好在该时刻的变化，需要往后一秒查找
+            final ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+            final ZoneOffsetTransition next = rules.nextTransition(instant);
+            long from = Long.MIN_VALUE;
+            long localFrom = Long.MIN_VALUE;
+            if (null != previous) {
+                from = previous.toEpochSecond();
+                // 变化之后不存在（夏令时开始）或重复（夏令时结束）的本地时间不在区间内
+                localFrom = from + Math.max(previous.getOffsetBefore().getTotalSeconds(), previous.getOffsetAfter().getTotalSeconds());
+            }
+            long to = Long.MAX_VALUE;
+            long localTo = Long.MAX_VALUE;
+            if (null != next) {
+                to = next.toEpochSecond();
+                localTo = to + Math.min(next.getOffsetBefore().getTotalSeconds(), next.getOffsetAfter().getTotalSeconds());
+            }
+            return new Window(from, to, localFrom, localTo, offset);
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
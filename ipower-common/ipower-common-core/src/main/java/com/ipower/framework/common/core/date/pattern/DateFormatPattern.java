@@ -1,6 +1,8 @@
 package com.ipower.framework.common.core.date.pattern;
 
 import lombok.Getter;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
 
 /**
  * Class description goes here.
@@ -25,11 +27,16 @@ public enum DateFormatPattern {
     private final String pattern;
     private final String matched;
     private final String description;
+    /**
+     * 按{@link #pattern}创建的格式化器，线程安全，可以直接复用
+     */
+    private final DateTimeFormatter formatter;
 
     DateFormatPattern(String pattern, String matched, String description) {
         this.pattern = pattern;
         this.matched = matched;
         this.description = description;
+        this.formatter = DateTimeFormat.forPattern(pattern);
     }
 
 }
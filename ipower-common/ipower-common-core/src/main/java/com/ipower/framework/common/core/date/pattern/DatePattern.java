@@ -1,5 +1,7 @@
 package com.ipower.framework.common.core.date.pattern;
 
+import com.ipower.framework.common.core.date.FastDateCodec;
+
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
@@ -46,7 +48,7 @@ public class DatePattern {
     /**
      * 年月格式 {@link DateTimeFormatter}：yyyy
      */
-    public static final DateTimeFormatter NORM_YEAR_FORMATTER = formatter(NORM_YEAR_PATTERN);
+    public static final DateTimeFormatter NORM_YEAR_FORMATTER = registered(NORM_YEAR_PATTERN);
 
     /**
      * 年月格式：yyyy-MM
@@ -56,7 +58,7 @@ public class DatePattern {
     /**
      * 年月格式 {@link DateTimeFormatter}：yyyy-MM
      */
-    public static final DateTimeFormatter NORM_MONTH_FORMATTER = formatter(NORM_MONTH_PATTERN);
+    public static final DateTimeFormatter NORM_MONTH_FORMATTER = registered(NORM_MONTH_PATTERN);
 
     /**
      * 简单年月格式：yyyyMM
@@ -66,7 +68,7 @@ public class DatePattern {
     /**
      * 简单年月格式 {@link DateTimeFormatter}：yyyyMM
      */
-    public static final DateTimeFormatter SIMPLE_MONTH_FORMATTER = formatter(SIMPLE_MONTH_PATTERN);
+    public static final DateTimeFormatter SIMPLE_MONTH_FORMATTER = registered(SIMPLE_MONTH_PATTERN);
 
     /**
      * 标准日期格式：yyyy-MM-dd
@@ -76,7 +78,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyy-MM-dd
      */
-    public static final DateTimeFormatter NORM_DATE_FORMATTER = formatter(NORM_DATE_PATTERN);
+    public static final DateTimeFormatter NORM_DATE_FORMATTER = registered(NORM_DATE_PATTERN);
 
     /**
      * 标准时间格式：HH:mm:ss
@@ -86,7 +88,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：HH:mm:ss
      */
-    public static final DateTimeFormatter NORM_TIME_FORMATTER = formatter(NORM_TIME_PATTERN);
+    public static final DateTimeFormatter NORM_TIME_FORMATTER = registered(NORM_TIME_PATTERN);
 
     /**
      * 标准日期时间格式，精确到分：yyyy-MM-dd HH:mm
@@ -96,7 +98,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyy-MM-dd HH:mm
      */
-    public static final DateTimeFormatter NORM_DATETIME_MINUTE_FORMATTER = formatter(NORM_DATETIME_MINUTE_PATTERN);
+    public static final DateTimeFormatter NORM_DATETIME_MINUTE_FORMATTER = registered(NORM_DATETIME_MINUTE_PATTERN);
 
     /**
      * 标准日期时间格式，精确到秒：yyyy-MM-dd HH:mm:ss
@@ -106,7 +108,7 @@ public class DatePattern {
     /**
      * 标准日期时间格式，精确到秒 {@link DateTimeFormatter}：yyyy-MM-dd HH:mm:ss
      */
-    public static final DateTimeFormatter NORM_DATETIME_FORMATTER = formatter(NORM_DATETIME_PATTERN);
+    public static final DateTimeFormatter NORM_DATETIME_FORMATTER = registered(NORM_DATETIME_PATTERN);
 
     /**
      * 标准日期时间格式，精确到毫秒：yyyy-MM-dd HH:mm:ss.SSS
@@ -116,7 +118,7 @@ public class DatePattern {
     /**
      * 标准日期时间格式，精确到毫秒 {@link DateTimeFormatter}：yyyy-MM-dd HH:mm:ss.SSS
      */
-    public static final DateTimeFormatter NORM_DATETIME_MS_FORMATTER = formatter(NORM_DATETIME_MS_PATTERN);
+    public static final DateTimeFormatter NORM_DATETIME_MS_FORMATTER = registered(NORM_DATETIME_MS_PATTERN);
 
     /**
      * ISO8601日期时间格式，精确到毫秒：yyyy-MM-dd HH:mm:ss,SSS
@@ -126,7 +128,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyy-MM-dd HH:mm:ss,SSS
      */
-    public static final DateTimeFormatter NORM_DATETIME_COMMA_MS_FORMATTER = formatter(NORM_DATETIME_COMMA_MS_PATTERN);
+    public static final DateTimeFormatter NORM_DATETIME_COMMA_MS_FORMATTER = registered(NORM_DATETIME_COMMA_MS_PATTERN);
 
     /**
      * 标准日期格式：yyyy年MM月dd日
@@ -136,7 +138,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyy年MM月dd日
      */
-    public static final DateTimeFormatter CHINESE_DATE_FORMATTER = formatter(CHINESE_DATE_PATTERN);
+    public static final DateTimeFormatter CHINESE_DATE_FORMATTER = registered(CHINESE_DATE_PATTERN);
 
     /**
      * 标准日期格式：yyyy年MM月dd日HH时mm分ss秒
@@ -146,7 +148,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyy年MM月dd日HH时mm分ss秒
      */
-    public static final DateTimeFormatter CHINESE_DATE_TIME_FORMATTER = formatter(CHINESE_DATE_TIME_PATTERN);
+    public static final DateTimeFormatter CHINESE_DATE_TIME_FORMATTER = registered(CHINESE_DATE_TIME_PATTERN);
     // endregion
 
     // region Pure
@@ -160,7 +162,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyyMMdd
      */
-    public static final DateTimeFormatter PURE_DATE_FORMATTER = formatter(PURE_DATE_PATTERN);
+    public static final DateTimeFormatter PURE_DATE_FORMATTER = registered(PURE_DATE_PATTERN);
 
     /**
      * 标准日期格式：HHmmss
@@ -170,7 +172,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：HHmmss
      */
-    public static final DateTimeFormatter PURE_TIME_FORMATTER = formatter(PURE_TIME_PATTERN);
+    public static final DateTimeFormatter PURE_TIME_FORMATTER = registered(PURE_TIME_PATTERN);
 
     /**
      * 标准日期格式：yyyyMMddHHmmss
@@ -180,7 +182,7 @@ public class DatePattern {
     /**
      * 标准日期格式 {@link DateTimeFormatter}：yyyyMMddHHmmss
      */
-    public static final DateTimeFormatter PURE_DATETIME_FORMATTER = formatter(PURE_DATETIME_PATTERN);
+    public static final DateTimeFormatter PURE_DATETIME_FORMATTER = registered(PURE_DATETIME_PATTERN);
 
     /**
      * 标准日期格式：yyyyMMddHHmmssSSS
@@ -192,12 +194,13 @@ public class DatePattern {
      * see https://stackoverflow.com/questions/22588051/is-java-time-failing-to-parse-fraction-of-second
      * jdk8 bug at: https://bugs.openjdk.java.net/browse/JDK-8031085
      */
-    public static final DateTimeFormatter PURE_DATETIME_MS_FORMATTER = new DateTimeFormatterBuilder()
-            .appendPattern(DatePattern.PURE_DATETIME_PATTERN).appendValue(ChronoField.MILLI_OF_SECOND, 3).toFormatter();
+    public static final DateTimeFormatter PURE_DATETIME_MS_FORMATTER = FastDateCodec.register(PURE_DATETIME_MS_PATTERN, new DateTimeFormatterBuilder()
+            .appendPattern(DatePattern.PURE_DATETIME_PATTERN).appendValue(ChronoField.MILLI_OF_SECOND, 3).toFormatter());
     // endregion
 
     /**
      * 创建并为 {@link DateTimeFormatter} 赋予默认时区和位置信息，默认值为系统默认值。
+     * 创建的格式化器不登记到{@link FastDateCodec}，需要快速路径时使用{@link FastDateCodec#of(String)}。
      *
      * @param pattern 日期格式
      * @return {@link DateTimeFormatter}
@@ -205,4 +208,15 @@ public class DatePattern {
     public static DateTimeFormatter formatter(final String pattern) {
         return DateTimeFormatter.ofPattern(pattern, Locale.getDefault()).withZone(ZoneId.systemDefault());
     }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 创建内置格式的格式化器并登记到{@link FastDateCodec}，定长格式可以通过{@link FastDateCodec#of(DateTimeFormatter)}快速格式化和解析；
+     * 只用于本类的常量，登记的格式化器不会被移除
+     */
+    private static DateTimeFormatter registered(final String pattern) {
+        return FastDateCodec.register(pattern, formatter(pattern));
+    }
+    // -------------------------------------------------------------------------------------- Private method end
 }
@@ -0,0 +1,53 @@
+package com.ipower.framework.common.core.exception;
+
+import java.io.Serial;
+
+/**
+ * 分批执行异常，携带执行失败批次的下标；超过整体截止时间或等待被中断时批次下标为-1
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class BatchExecuteException extends UtilException {
+    @Serial
+    private static final long serialVersionUID = 5279064218431757291L;
+
+    /**
+     * 执行失败批次的下标，不属于某个批次时为-1
+     */
+    private final int batchIndex;
+    /**
+     * 是否由于超过截止时间而失败
+     */
+    private final boolean timeout;
+
+    public BatchExecuteException(int batchIndex, Throwable throwable) {
+        super(throwable, "Execute batch [{}] failed: {}", batchIndex, ExceptionUtil.getMessage(throwable));
+        this.batchIndex = batchIndex;
+        this.timeout = false;
+    }
+
+    public BatchExecuteException(boolean timeout, String messageTemplate, Object... params) {
+        super(messageTemplate, params);
+        this.batchIndex = -1;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 获取执行失败批次的下标
+     *
+     * @return 批次下标，不属于某个批次时为-1
+     */
+    public int getBatchIndex() {
+        return batchIndex;
+    }
+
+    /**
+     * 是否由于超过截止时间而失败
+     *
+     * @return 是否超时
+     */
+    public boolean isTimeout() {
+        return timeout;
+    }
+}
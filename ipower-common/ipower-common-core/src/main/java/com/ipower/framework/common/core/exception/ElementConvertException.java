@@ -0,0 +1,33 @@
+package com.ipower.framework.common.core.exception;
+
+import java.io.Serial;
+
+/**
+ * 集合、数组元素转换异常，携带转换失败元素的下标
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public class ElementConvertException extends ConvertException {
+    @Serial
+    private static final long serialVersionUID = -3316517386429517731L;
+
+    /**
+     * 转换失败元素的下标
+     */
+    private final int index;
+
+    public ElementConvertException(int index, Throwable throwable) {
+        super(throwable, "Convert element at index [{}] failed: {}", index, ExceptionUtil.getMessage(throwable));
+        this.index = index;
+    }
+
+    /**
+     * 获取转换失败元素的下标
+     *
+     * @return 下标
+     */
+    public int getIndex() {
+        return index;
+    }
+}
@@ -0,0 +1,410 @@
+package com.ipower.framework.common.core.lang;
+
+import com.alibaba.ttl.threadpool.TtlExecutors;
+import com.ipower.framework.common.core.exception.BatchExecuteException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 分批执行器
+ * <p>
+ * 将大量数据（如IN查询、Feign调用的ID列表）通过{@link ObjectUtil#partition(Iterable, int)}惰性分批，
+ * 按配置的并行度在线程池中执行，支持单批次失败重试和整体截止时间。同一时刻最多只有{@code parallelism}个批次在执行，
+ * 下一个批次在有批次完成后才会生成并提交。
+ * </p>
+ * <pre class="code">
+ * List&lt;List&lt;User&gt;&gt; users = BatchExecutor.of(userClient::listByIds)
+ *         .batchSize(500)
+ *         .parallelism(4)
+ *         .retry(2, Duration.ofMillis(200))
+ *         .deadline(Duration.ofSeconds(10))
+ *         .execute(ids);
+ * </pre>
+ * <p>
+ * 未指定线程池时使用内部共享的守护线程池，提交任务时会传递{@link com.alibaba.ttl.TransmittableThreadLocal}上下文（如当前用户信息）。
+ * 执行器配置完成后可以复用，非线程安全的只有配置方法。
+ * </p>
+ *
+ * @param <T> 数据类型
+ * @param <R> 每批次的执行结果类型
+ * @author kris
+ * @since 1.0.0
+ */
+public class BatchExecutor<T, R> {
+
+    /**
+     * 批次处理函数
+     */
+    private final Function<List<T>, R> handler;
+    /**
+     * 每批次数据量
+     */
+    private int batchSize = ObjectUtil.DEFAULT_BATCH_SIZE;
+    /**
+     * 并行度，为1且未指定线程池时在调用线程中串行执行
+     */
+    private int parallelism = 1;
+    /**
+     * 线程池
+     */
+    private Executor executor;
+    /**
+     * 单批次失败后的重试次数
+     */
+    private int retries;
+    /**
+     * 重试间隔
+     */
+    private Duration retryInterval = Duration.ZERO;
+    /**
+     * 哪些异常需要重试
+     */
+    private Predicate<Throwable> retryOn = e -> true;
+    /**
+     * 整体截止时间，{@code null}表示不限
+     */
+    private Duration deadline;
+
+    private BatchExecutor(Function<List<T>, R> handler) {
+        this.handler = Validate.notNull(handler, "handler can't be null!");
+    }
+
+    /**
+     * 创建分批执行器
+     *
+     * @param handler 批次处理函数，并行执行时需要线程安全
+     * @param <T>     数据类型
+     * @param <R>     每批次的执行结果类型
+     * @return 分批执行器
+     */
+    public static <T, R> BatchExecutor<T, R> of(Function<List<T>, R> handler) {
+        return new BatchExecutor<>(handler);
+    }
+
+    /**
+     * 设置每批次数据量，默认{@link ObjectUtil#DEFAULT_BATCH_SIZE}
+     *
+     * @param batchSize 每批次数据量，最小为1
+     * @return this
+     */
+    public BatchExecutor<T, R> batchSize(int batchSize) {
+        this.batchSize = Math.max(batchSize, 1);
+        return this;
+    }
+
+    /**
+     * 设置并行度，默认为1
+     *
+     * @param parallelism 同时执行的最大批次数，最小为1
+     * @return this
+     */
+    public BatchExecutor<T, R> parallelism(int parallelism) {
+        this.parallelism = Math.max(parallelism, 1);
+        return this;
+    }
+
+    /**
+     * 设置线程池，未设置且并行度大于1时使用内部共享的线程池
+     *
+     * @param executor 线程池
+     * @return this
+     */
+    public BatchExecutor<T, R> executor(Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * 设置单批次失败后的重试
+     *
+     * @param retries  重试次数，0表示不重试
+     * @param interval 重试间隔
+     * @return this
+     */
+    public BatchExecutor<T, R> retry(int retries, Duration interval) {
+        this.retries = Math.max(retries, 0);
+        this.retryInterval = ObjectUtil.nullToDefault(interval, Duration.ZERO);
+        return this;
+    }
+
+    /**
+     * 设置哪些异常需要重试，默认所有异常都重试
+     *
+     * @param retryOn 异常判断条件
+     * @return this
+     */
+    public BatchExecutor<T, R> retryOn(Predicate<Throwable> retryOn) {
+        this.retryOn = Validate.notNull(retryOn, "retryOn can't be null!");
+        return this;
+    }
+
+    /**
+     * 设置整体截止时间，超过后取消未完成的批次并抛出{@link BatchExecuteException}
+     * <p>
+     * 串行执行（并行度为1且未指定线程池）时只在批次之间检查，不会中断正在执行的批次
+     * </p>
+     *
+     * @param deadline 从开始执行算起的最长时间，{@code null}表示不限
+     * @return this
+     */
+    public BatchExecutor<T, R> deadline(Duration deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    /**
+     * 分批执行，返回每批次的结果，顺序与批次顺序一致
+     *
+     * @param data 需要分批处理的数据
+     * @return 每批次的结果
+     * @throws BatchExecuteException 批次重试后仍然失败、超过截止时间或等待被中断
+     */
+    public List<R> execute(Iterable<T> data) throws BatchExecuteException {
+        final List<R> results = new ArrayList<>();
+        execute(data, (index, batch, result) -> {
+            while (results.size() <= index) {
+                results.add(null);
+            }
+            results.set(index, result);
+        });
+        return results;
+    }
+
+    /**
+     * 分批执行，每批次的结果为集合时将所有结果按批次顺序合并为一个列表
+     *
+     * @param data   需要分批处理的数据
+     * @param mapper 批次结果转换为集合的函数
+     * @param <E>    结果元素类型
+     * @return 合并后的结果
+     * @throws BatchExecuteException 批次重试后仍然失败、超过截止时间或等待被中断
+     */
+    public <E> List<E> executeAndFlatten(Iterable<T> data, Function<R, ? extends Collection<E>> mapper) throws BatchExecuteException {
+        final List<E> flattened = new ArrayList<>();
+        for (R result : execute(data)) {
+            final Collection<E> elements = mapper.apply(result);
+            if (null != elements) {
+                flattened.addAll(elements);
+            }
+        }
+        return flattened;
+    }
+
+    /**
+     * 分批执行，每个批次完成后立即在调用线程中回调，用于流式处理部分结果
+     * <p>
+     * 并行执行时回调顺序为批次完成的顺序，可以通过回调中的批次下标还原顺序；回调在调用线程中依次执行，无需考虑并发
+     * </p>
+     *
+     * @param data     需要分批处理的数据
+     * @param consumer 批次结果回调
+     * @throws BatchExecuteException 批次重试后仍然失败、超过截止时间或等待被中断
+     */
+    public void execute(Iterable<T> data, BatchConsumer<T, R> consumer) throws BatchExecuteException {
+        Validate.notNull(consumer, "consumer can't be null!");
+        if (null == data) {
+            return;
+        }
+        final long deadlineNanos = null == deadline ? 0 : System.nanoTime() + deadline.toNanos();
+        final Iterator<List<T>> batches = ObjectUtil.partition(data, batchSize).iterator();
+        if (parallelism == 1 && null == executor) {
+            for (int index = 0; batches.hasNext(); index++) {
+                checkDeadline(deadlineNanos, index);
+                final List<T> batch = batches.next();
+                consumer.accept(index, batch, handle(index, batch, deadlineNanos));
+            }
+            return;
+        }
+
+        final CompletionService<Completed<T, R>> service = new ExecutorCompletionService<>(
+                TtlExecutors.getTtlExecutor(null == executor ? PoolHolder.POOL : executor));
+        final Set<Future<Completed<T, R>>> running = new HashSet<>();
+        int submitted = 0;
+        int completed = 0;
+        try {
+            for (; submitted < parallelism && batches.hasNext(); submitted++) {
+                running.add(submit(service, submitted, batches.next(), deadlineNanos));
+            }
+            while (completed < submitted) {
+                final Future<Completed<T, R>> future = take(service, deadlineNanos, completed);
+                running.remove(future);
+                completed++;
+                final Completed<T, R> result = getResult(future);
+                consumer.accept(result.index(), result.batch(), result.result());
+                if (batches.hasNext()) {
+                    running.add(submit(service, submitted++, batches.next(), deadlineNanos));
+                }
+            }
+        } finally {
+            for (Future<Completed<T, R>> future : running) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * 批次结果回调
+     *
+     * @param <T> 数据类型
+     * @param <R> 批次结果类型
+     */
+    @FunctionalInterface
+    public interface BatchConsumer<T, R> {
+
+        /**
+         * 处理批次结果
+         *
+         * @param index  批次下标，从0开始
+         * @param batch  批次数据
+         * @param result 批次结果
+         */
+        void accept(int index, List<T> batch, R result);
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 内部共享线程池，只有被调用到才会创建，线程空闲60秒后回收
+     */
+    private static class PoolHolder {
+        private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+        private static final ExecutorService POOL = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "ipower-batch-" + THREAD_INDEX.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 已完成的批次
+     *
+     * @param index  批次下标
+     * @param batch  批次数据
+     * @param result 批次结果
+     */
+    private record Completed<T, R>(int index, List<T> batch, R result) {
+    }
+
+    /**
+     * 提交批次
+     *
+     * @param service       任务完成服务
+     * @param index         批次下标
+     * @param batch         批次数据
+     * @param deadlineNanos 截止时间
+     * @return 批次任务
+     */
+    private Future<Completed<T, R>> submit(CompletionService<Completed<T, R>> service, int index, List<T> batch, long deadlineNanos) {
+        return service.submit(() -> new Completed<>(index, batch, handle(index, batch, deadlineNanos)));
+    }
+
+    /**
+     * 等待下一个完成的批次
+     *
+     * @param service       任务完成服务
+     * @param deadlineNanos 截止时间
+     * @param completed     已完成的批次数
+     * @return 完成的批次任务
+     */
+    private Future<Completed<T, R>> take(CompletionService<Completed<T, R>> service, long deadlineNanos, int completed) {
+        try {
+            if (null == deadline) {
+                return service.take();
+            }
+            final Future<Completed<T, R>> future = service.poll(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (null == future) {
+                throw timeout(completed);
+            }
+            return future;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchExecuteException(false, "Batch execution interrupted after {} batches completed", completed);
+        }
+    }
+
+    /**
+     * 获取批次结果，批次失败时抛出其异常
+     *
+     * @param future 已完成的批次任务
+     * @return 批次结果
+     */
+    private Completed<T, R> getResult(Future<Completed<T, R>> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BatchExecuteException cause) {
+                throw cause;
+            }
+            throw new BatchExecuteException(-1, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BatchExecuteException(false, "Batch execution interrupted");
+        }
+    }
+
+    /**
+     * 执行一个批次，失败时按配置重试
+     *
+     * @param index         批次下标
+     * @param batch         批次数据
+     * @param deadlineNanos 截止时间
+     * @return 批次结果
+     */
+    private R handle(int index, List<T> batch, long deadlineNanos) {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return handler.apply(batch);
+            } catch (RuntimeException e) {
+                if (attempt >= retries || !retryOn.test(e) || isExpired(deadlineNanos, retryInterval.toNanos())) {
+                    throw new BatchExecuteException(index, e);
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(retryInterval.toNanos());
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new BatchExecuteException(index, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 超过截止时间时抛出异常
+     *
+     * @param deadlineNanos 截止时间
+     * @param completed     已完成的批次数
+     */
+    private void checkDeadline(long deadlineNanos, int completed) {
+        if (isExpired(deadlineNanos, 0)) {
+            throw timeout(completed);
+        }
+    }
+
+    /**
+     * 判断在指定时间后是否超过截止时间
+     *
+     * @param deadlineNanos 截止时间
+     * @param afterNanos    从现在算起的纳秒数
+     * @return 是否超过截止时间
+     */
+    private boolean isExpired(long deadlineNanos, long afterNanos) {
+        return null != deadline && System.nanoTime() + afterNanos - deadlineNanos > 0;
+    }
+
+    /**
+     * 创建超时异常
+     *
+     * @param completed 已完成的批次数
+     * @return 超时异常
+     */
+    private BatchExecuteException timeout(int completed) {
+        return new BatchExecuteException(true, "Batch execution exceeded deadline of {} ms, {} batches completed",
+                deadline.toMillis(), completed);
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
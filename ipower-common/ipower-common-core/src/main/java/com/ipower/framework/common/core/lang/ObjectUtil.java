@@ -1,6 +1,6 @@
 package com.ipower.framework.common.core.lang;
 
-import com.ipower.framework.common.core.bean.BeanUtil;
+import com.ipower.framework.common.core.bean.PropertyGetter;
 import com.ipower.framework.common.core.collection.ArrayUtil;
 import com.ipower.framework.common.core.collection.CollectionUtil;
 import com.ipower.framework.common.core.collection.Lists;
@@ -18,6 +18,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 /**
  * 通用的Object工具类。
@@ -31,6 +32,11 @@ public final class ObjectUtil {
 
     public static final int DEFAULT_BATCH_SIZE = 1000;
 
+    /**
+     * 集合转换成map时，元素个数达到该值则并行转换
+     */
+    public static final int PARALLEL_GROUP_THRESHOLD = 10000;
+
     /**
      * 私有化构造函数，禁止实例化该类
      */
@@ -1011,9 +1017,89 @@ public final class ObjectUtil {
      * @return 分页后的数据
      */
     public static <T> List<T> dataPaging(List<T> dataList, int page, int size) {
-        List<List<T>> group = group(dataList, size);
+        if (isEmpty(dataList)) {
+            return Lists.arrayList();
+        }
+        size = Math.max(size, 1);
         page = Math.max(page, 1);
-        return page <= group.size() ? group.get(page - 1) : Lists.arrayList();
+        int len = dataList.size();
+        if (page == 1 && len <= size) {
+            return dataList;
+        }
+        // 直接计算页码对应的区间，不再生成全部分组
+        long from = (long) (page - 1) * size;
+        return from < len ? dataList.subList((int) from, (int) Math.min(len, from + size)) : Lists.arrayList();
+    }
+
+    /**
+     * 对数据进行惰性分组，按数量为1000进行分组
+     *
+     * @param data 需要分组的数据
+     * @param <T>  数据泛型
+     * @return 惰性分组，遍历时才生成每一组数据
+     * @see #partition(Iterable, int)
+     */
+    public static <T> Iterable<List<T>> partition(Iterable<T> data) {
+        return partition(data, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 对数据进行惰性分组，遍历时才生成每一组数据，适用于数据量大或数据来源为迭代器的场景
+     * <p>
+     * 支持随机访问的{@link List}返回子列表视图，其它可迭代对象每组复制为新的{@link ArrayList}
+     * </p>
+     *
+     * @param data 需要分组的数据
+     * @param size 分组数据的大小，最小为1
+     * @param <T>  数据泛型
+     * @return 惰性分组
+     */
+    public static <T> Iterable<List<T>> partition(Iterable<T> data, int size) {
+        if (isNull(data)) {
+            return Collections.emptyList();
+        }
+        final int batchSize = Math.max(size, 1);
+        if (data instanceof List<T> list && data instanceof RandomAccess) {
+            return () -> new Iterator<>() {
+                private int from;
+
+                @Override
+                public boolean hasNext() {
+                    return from < list.size();
+                }
+
+                @Override
+                public List<T> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    int to = (int) Math.min(list.size(), (long) from + batchSize);
+                    List<T> batch = list.subList(from, to);
+                    from = to;
+                    return batch;
+                }
+            };
+        }
+        return () -> new Iterator<>() {
+            private final Iterator<T> iterator = data.iterator();
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> batch = new ArrayList<>(Math.min(batchSize, DEFAULT_BATCH_SIZE));
+                while (batch.size() < batchSize && iterator.hasNext()) {
+                    batch.add(iterator.next());
+                }
+                return batch;
+            }
+        };
     }
 
     /**
@@ -1026,7 +1112,7 @@ public final class ObjectUtil {
      * @return 转换后的map对象
      */
     public static <K, T> Map<K, T> toMap(Collection<T> collection, String keyField) {
-        return toMap(collection, it -> BeanUtil.getProperty(it, keyField));
+        return toMap(collection, PropertyGetter.of(keyField), it -> it, false);
     }
 
     /**
@@ -1084,7 +1170,7 @@ public final class ObjectUtil {
      * @return 转换后的map对象
      */
     public static <K, V, T> Map<K, V> toMap(Collection<T> collection, String keyField, String valueField, boolean filterNull) {
-        return toMap(collection, it -> BeanUtil.getProperty(it, keyField), it -> BeanUtil.getProperty(it, valueField), filterNull);
+        return toMap(collection, PropertyGetter.of(keyField), PropertyGetter.of(valueField), filterNull);
     }
 
     /**
@@ -1099,26 +1185,50 @@ public final class ObjectUtil {
      * @return 转换后的map对象
      */
     public static <K, V, T> Map<K, V> toMap(Collection<T> collection, Function<T, K> keyFunction, Function<T, V> valueFunction, boolean filterNull) {
-        Map<K, V> map = Maps.hashMap();
         if (isEmpty(collection)) {
-            return map;
+            return Maps.hashMap();
         }
         Validate.notNull(keyFunction, "keyFunction can't be null!");
         Validate.notNull(valueFunction, "valueFunction can't be null!");
-        collection.stream().filter(ObjectUtil::isNotNull).forEach(it -> {
-            K k = keyFunction.apply(it);
-            if (isEmpty(k)) {
-                return;
-            }
-            V v = valueFunction.apply(it);
-            if (filterNull && isNull(v)) {
-                return;
-            }
-            map.put(k, v);
-        });
+        Map<K, V> map = new HashMap<>((int) (collection.size() / .75f) + 1);
+        for (T it : collection) {
+            putMapValue(map, it, keyFunction, valueFunction, filterNull);
+        }
         return map;
     }
 
+    /**
+     * 将集合转换成map对象，value为指定字段集合元素，集合元素个数达到{@link #PARALLEL_GROUP_THRESHOLD}时并行转换
+     * <p>
+     * 并行时各段分别转换后按集合顺序合并，结果与{@link #toMap(Collection, Function, Function, boolean)}一致（相同key后者覆盖前者），
+     * 转换函数需要线程安全。
+     * 转换函数在{@link java.util.concurrent.ForkJoinPool#commonPool()}的线程中执行，不能依赖调用线程的ThreadLocal（如请求上下文）；
+     * 按属性名转换时可以传入{@link PropertyGetter#of(String)}
+     * </p>
+     *
+     * @param collection    需要转换的集合
+     * @param keyFunction   key转换函数
+     * @param valueFunction value转换函数
+     * @param filterNull    是否过滤null
+     * @param <K>           key的泛型类型
+     * @param <V>           值的泛型类型
+     * @param <T>           集合对象的泛型类型
+     * @return 转换后的map对象
+     */
+    public static <K, V, T> Map<K, V> toMapParallel(Collection<T> collection, Function<T, K> keyFunction, Function<T, V> valueFunction, boolean filterNull) {
+        if (isEmpty(collection) || collection.size() < PARALLEL_GROUP_THRESHOLD) {
+            return toMap(collection, keyFunction, valueFunction, filterNull);
+        }
+        Validate.notNull(keyFunction, "keyFunction can't be null!");
+        Validate.notNull(valueFunction, "valueFunction can't be null!");
+        return collection.parallelStream().collect(Collector.of(HashMap::new,
+                (Map<K, V> map, T it) -> putMapValue(map, it, keyFunction, valueFunction, filterNull),
+                (left, right) -> {
+                    left.putAll(right);
+                    return left;
+                }));
+    }
+
     /**
      * 将集合转换成map对象，value为相同key值的集合元素列表
      *
@@ -1155,7 +1265,7 @@ public final class ObjectUtil {
      * @return 转换后的map对象
      */
     public static <K, T> Map<K, List<T>> toMapList(Collection<T> collection, String keyField, boolean filterNull) {
-        return toMapList(collection, it -> BeanUtil.getProperty(it, keyField), filterNull);
+        return toMapList(collection, PropertyGetter.of(keyField), it -> it, filterNull);
     }
 
     /**
@@ -1215,7 +1325,7 @@ public final class ObjectUtil {
      * @return 转换后的map对象
      */
     public static <K, V, T> Map<K, List<V>> toMapList(Collection<T> collection, String keyField, String valueField, boolean filterNull) {
-        return toMapList(collection, it -> BeanUtil.getProperty(it, keyField), it -> BeanUtil.getProperty(it, valueField), filterNull);
+        return toMapList(collection, PropertyGetter.of(keyField), PropertyGetter.of(valueField), filterNull);
     }
 
     /**
@@ -1237,22 +1347,94 @@ public final class ObjectUtil {
         }
         Validate.notNull(keyFunction, "keyFunction can't be null!");
         Validate.notNull(valueFunction, "valueFunction can't be null!");
-        collection.stream().filter(ObjectUtil::isNotNull).forEach(it -> {
-            K k = keyFunction.apply(it);
-            if (isEmpty(k)) {
-                return;
-            }
-            addMapValue(map, k, valueFunction.apply(it), filterNull);
-        });
+        for (T it : collection) {
+            addMapValue(map, it, keyFunction, valueFunction, filterNull);
+        }
         return map;
     }
 
-    private static <K, V> void addMapValue(Map<K, List<V>> map, K k, V v, boolean filterNull) {
+    /**
+     * 将集合转换成map对象，value为相同key值的指定字段集合元素，集合元素个数达到{@link #PARALLEL_GROUP_THRESHOLD}时并行分组
+     * <p>
+     * 并行时各段分别分组后按集合顺序合并，每组中元素的顺序与{@link #toMapList(Collection, Function, Function, boolean)}一致，
+     * 转换函数需要线程安全。
+     * 转换函数在{@link java.util.concurrent.ForkJoinPool#commonPool()}的线程中执行，不能依赖调用线程的ThreadLocal（如请求上下文）；
+     * 按属性名转换时可以传入{@link PropertyGetter#of(String)}
+     * </p>
+     *
+     * @param collection    需要转换的集合
+     * @param keyFunction   key转换函数
+     * @param valueFunction value转换函数
+     * @param filterNull    是否过滤null
+     * @param <K>           key的泛型类型
+     * @param <V>           值的泛型类型
+     * @param <T>           集合对象的泛型类型
+     * @return 转换后的map对象
+     */
+    public static <K, V, T> Map<K, List<V>> toMapListParallel(Collection<T> collection, Function<T, K> keyFunction, Function<T, V> valueFunction, boolean filterNull) {
+        if (isEmpty(collection) || collection.size() < PARALLEL_GROUP_THRESHOLD) {
+            return toMapList(collection, keyFunction, valueFunction, filterNull);
+        }
+        Validate.notNull(keyFunction, "keyFunction can't be null!");
+        Validate.notNull(valueFunction, "valueFunction can't be null!");
+        return collection.parallelStream().collect(Collector.of(HashMap::new,
+                (Map<K, List<V>> map, T it) -> addMapValue(map, it, keyFunction, valueFunction, filterNull),
+                (left, right) -> {
+                    right.forEach((k, list) -> left.merge(k, list, (l1, l2) -> {
+                        l1.addAll(l2);
+                        return l1;
+                    }));
+                    return left;
+                }));
+    }
+
+    /**
+     * 将集合元素转换后放入map，元素或key为空时忽略
+     *
+     * @param map           map对象
+     * @param it            集合元素
+     * @param keyFunction   key转换函数
+     * @param valueFunction value转换函数
+     * @param filterNull    是否过滤null
+     */
+    private static <K, V, T> void putMapValue(Map<K, V> map, T it, Function<T, K> keyFunction, Function<T, V> valueFunction, boolean filterNull) {
+        if (isNull(it)) {
+            return;
+        }
+        K k = keyFunction.apply(it);
+        if (isEmpty(k)) {
+            return;
+        }
+        V v = valueFunction.apply(it);
+        if (filterNull && isNull(v)) {
+            return;
+        }
+        map.put(k, v);
+    }
+
+    /**
+     * 将集合元素转换后加入map中对应key的列表，元素或key为空时忽略
+     *
+     * @param map           map对象
+     * @param it            集合元素
+     * @param keyFunction   key转换函数
+     * @param valueFunction value转换函数
+     * @param filterNull    是否过滤null
+     */
+    private static <K, V, T> void addMapValue(Map<K, List<V>> map, T it, Function<T, K> keyFunction, Function<T, V> valueFunction, boolean filterNull) {
+        if (isNull(it)) {
+            return;
+        }
+        K k = keyFunction.apply(it);
+        if (isEmpty(k)) {
+            return;
+        }
         List<V> list = map.get(k);
         if (isNull(list)) {
             list = Lists.arrayList();
             map.put(k, list);
         }
+        V v = valueFunction.apply(it);
         if (filterNull && isNull(v)) {
             return;
         }
@@ -0,0 +1,569 @@
+package com.ipower.framework.common.core.map;
+
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * 按规则折叠字符串键的Map，如忽略大小写、忽略下划线与驼峰的差异
+ * <p>
+ * 与{@link AbstractCustomKeyMap}先把键转换为新字符串再查找不同，本Map直接在原始键上按折叠规则计算哈希值和比较，
+ * {@code get}、{@code containsKey}、{@code remove}以及覆盖已有键的{@code put}都不会创建新的字符串；
+ * 只有新增键时通过{@link #customKey(Object)}保存一次规范化后的键，所以{@link #keySet()}中的键与原有实现一致。
+ * 非{@link CharSequence}类型的键按{@link Object#hashCode()}和{@link Object#equals(Object)}处理，允许{@code null}键和值。
+ * </p>
+ * <p>
+ * 内部使用开放寻址（线性探测）的索引表加按插入顺序排列的紧凑数组，遍历顺序即为插入顺序。非线程安全。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author kris
+ * @since 1.0.0
+ */
+public abstract class AbstractFoldedKeyMap<K, V> extends AbstractMap<K, V> implements Iterable<Map.Entry<K, V>>, Serializable, Cloneable {
+
+    @Serial
+    private static final long serialVersionUID = -3618734281945178113L;
+
+    /**
+     * 默认初始大小 aka 16
+     */
+    static final int DEFAULT_INITIAL_CAPACITY = 1 << 4;
+    /**
+     * 默认增长因子
+     */
+    static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    /**
+     * 开放寻址允许的最大增长因子
+     */
+    private static final float MAX_LOAD_FACTOR = 0.9f;
+    /**
+     * 已删除的元素占位
+     */
+    private static final Object REMOVED = new Object();
+
+    /**
+     * 增长因子，索引表大小为容量除以增长因子
+     */
+    private final float loadFactor;
+    /**
+     * 开放寻址索引表，值为元素下标加1，0表示空位
+     */
+    private transient int[] table;
+    /**
+     * 按插入顺序排列的键，已删除的位置为{@link #REMOVED}
+     */
+    private transient Object[] keys;
+    /**
+     * 按插入顺序排列的值
+     */
+    private transient Object[] values;
+    /**
+     * 按插入顺序排列的键哈希值
+     */
+    private transient int[] hashes;
+    /**
+     * 已使用的元素位置数量，包括已删除的位置
+     */
+    private transient int used;
+    /**
+     * 元素数量
+     */
+    private transient int size;
+    /**
+     * 结构修改次数
+     */
+    private transient int modCount;
+    /**
+     * 键值对集合视图
+     */
+    private transient Set<Entry<K, V>> entrySet;
+
+    /**
+     * 构造
+     *
+     * @param initialCapacity 初始大小
+     * @param loadFactor      加载因子，超过{@code 0.9}时按{@code 0.9}处理
+     */
+    protected AbstractFoldedKeyMap(int initialCapacity, float loadFactor) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal initial capacity: " + initialCapacity);
+        }
+        if (loadFactor <= 0 || Float.isNaN(loadFactor)) {
+            throw new IllegalArgumentException("Illegal load factor: " + loadFactor);
+        }
+        this.loadFactor = Math.min(loadFactor, MAX_LOAD_FACTOR);
+        allocate(Math.max(initialCapacity, 2));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return locate(key, hash(key)) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED && Objects.equals(values[i], value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final int position = locate(key, hash(key));
+        return position < 0 ? null : (V) values[table[position] - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrDefault(Object key, V defaultValue) {
+        final int position = locate(key, hash(key));
+        return position < 0 ? defaultValue : (V) values[table[position] - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        final int hash = hash(key);
+        int position = locate(key, hash);
+        if (position >= 0) {
+            final int index = table[position] - 1;
+            final V old = (V) values[index];
+            values[index] = value;
+            return old;
+        }
+        if (used == keys.length) {
+            resize();
+            position = locate(key, hash);
+        }
+        final int index = used++;
+        keys[index] = customKey(key);
+        values[index] = value;
+        hashes[index] = hash;
+        table[~position] = index + 1;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        for (Entry<? extends K, ? extends V> entry : m.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        final int position = locate(key, hash(key));
+        if (position < 0) {
+            return null;
+        }
+        final int index = table[position] - 1;
+        final V old = (V) values[index];
+        removeAt(position, index);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(keys, 0, used, null);
+        Arrays.fill(values, 0, used, null);
+        used = 0;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        final int expectedModCount = modCount;
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                action.accept((K) keys[i], (V) values[i]);
+            }
+        }
+        if (expectedModCount != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entries = entrySet;
+        if (null == entries) {
+            entries = new EntrySet();
+            entrySet = entries;
+        }
+        return entries;
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+        return entrySet().iterator();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AbstractFoldedKeyMap<K, V> clone() {
+        try {
+            final AbstractFoldedKeyMap<K, V> clone = (AbstractFoldedKeyMap<K, V>) super.clone();
+            clone.table = table.clone();
+            clone.keys = keys.clone();
+            clone.values = values.clone();
+            clone.hashes = hashes.clone();
+            clone.entrySet = null;
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError();
+        }
+    }
+
+    /**
+     * 按折叠规则计算字符串键的哈希值，折叠后相等的键必须返回相同的哈希值
+     *
+     * @param key 字符串键
+     * @return 哈希值
+     */
+    protected abstract int hashKey(CharSequence key);
+
+    /**
+     * 按折叠规则比较两个字符串键是否相等
+     *
+     * @param a 键
+     * @param b 另一个键
+     * @return 是否相等
+     */
+    protected abstract boolean equalsKey(CharSequence a, CharSequence b);
+
+    /**
+     * 新增键时保存的键，通常为规范化后的字符串，需要与原始键按折叠规则相等
+     *
+     * @param key 原始键
+     * @return 保存的键
+     */
+    protected abstract Object customKey(Object key);
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 键值对集合视图
+     */
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @NonNull
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            AbstractFoldedKeyMap.this.clear();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry<?, ?> entry)) {
+                return false;
+            }
+            final int position = locate(entry.getKey(), hash(entry.getKey()));
+            return position >= 0 && Objects.equals(values[table[position] - 1], entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!contains(o)) {
+                return false;
+            }
+            AbstractFoldedKeyMap.this.remove(((Entry<?, ?>) o).getKey());
+            return true;
+        }
+    }
+
+    /**
+     * 按插入顺序遍历的迭代器
+     */
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int next = skipRemoved(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = skipRemoved(next + 1);
+            return new Node(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(positionOf(last), last);
+            expectedModCount = modCount;
+            last = -1;
+        }
+    }
+
+    /**
+     * 键值对，键和值在创建时读取；元素仍在Map中时，{@link #setValue(Object)}会写回Map
+     */
+    private final class Node implements Entry<K, V> {
+
+        private final int index;
+        private final K key;
+        private V value;
+
+        @SuppressWarnings("unchecked")
+        private Node(int index) {
+            this.index = index;
+            this.key = (K) keys[index];
+            this.value = (V) values[index];
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            if (live()) {
+                value = (V) values[index];
+            }
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            final V old = getValue();
+            this.value = value;
+            if (live()) {
+                values[index] = value;
+            }
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> entry && Objects.equals(key, entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+
+        private boolean live() {
+            return index < used && keys[index] == key;
+        }
+    }
+
+    /**
+     * 计算键的哈希值
+     */
+    private int hash(Object key) {
+        final int h = null == key ? 0 : key instanceof CharSequence text ? hashKey(text) : key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 查找键在索引表中的位置
+     *
+     * @return 找到时返回索引表位置，否则返回可插入的空位取反
+     */
+    private int locate(Object key, int hash) {
+        final int mask = table.length - 1;
+        int position = hash & mask;
+        for (int entry; (entry = table[position]) != 0; position = (position + 1) & mask) {
+            final int index = entry - 1;
+            if (hashes[index] == hash && matches(keys[index], key)) {
+                return position;
+            }
+        }
+        return ~position;
+    }
+
+    /**
+     * 查找元素下标在索引表中的位置
+     */
+    private int positionOf(int index) {
+        final int mask = table.length - 1;
+        int position = hashes[index] & mask;
+        while (table[position] != index + 1) {
+            position = (position + 1) & mask;
+        }
+        return position;
+    }
+
+    private boolean matches(Object stored, Object key) {
+        if (stored == key) {
+            return true;
+        }
+        if (null == stored || null == key) {
+            return false;
+        }
+        if (stored instanceof CharSequence a && key instanceof CharSequence b) {
+            return equalsKey(a, b);
+        }
+        return stored.equals(key);
+    }
+
+    /**
+     * 删除元素，索引表使用后移删除，不留墓碑
+     */
+    private void removeAt(int position, int index) {
+        keys[index] = REMOVED;
+        values[index] = null;
+        size--;
+        modCount++;
+        final int mask = table.length - 1;
+        int hole = position;
+        int next = position;
+        while (true) {
+            next = (next + 1) & mask;
+            final int entry = table[next];
+            if (entry == 0) {
+                break;
+            }
+            final int ideal = hashes[entry - 1] & mask;
+            // 理想位置不在(hole, next]区间内的元素可以前移到空位
+            final boolean movable = next > hole ? (ideal <= hole || ideal > next) : (ideal <= hole && ideal > next);
+            if (movable) {
+                table[hole] = entry;
+                hole = next;
+            }
+        }
+        table[hole] = 0;
+    }
+
+    private int skipRemoved(int from) {
+        while (from < used && keys[from] == REMOVED) {
+            from++;
+        }
+        return from;
+    }
+
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = new int[tableSizeFor((int) Math.ceil(capacity / loadFactor))];
+    }
+
+    /**
+     * 元素位置用完时扩容；已删除的位置较多时原地压缩
+     */
+    private void resize() {
+        final Object[] oldKeys = keys;
+        final Object[] oldValues = values;
+        final int[] oldHashes = hashes;
+        final int oldUsed = used;
+        if (size < oldUsed * 3 / 4) {
+            Arrays.fill(table, 0);
+        } else {
+            allocate(Math.max(oldKeys.length << 1, 2));
+        }
+        int index = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldKeys[i] != REMOVED) {
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                hashes[index] = oldHashes[i];
+                final int mask = table.length - 1;
+                int position = hashes[index] & mask;
+                while (table[position] != 0) {
+                    position = (position + 1) & mask;
+                }
+                table[position] = ++index;
+            }
+        }
+        if (keys == oldKeys) {
+            Arrays.fill(keys, index, oldUsed, null);
+            Arrays.fill(values, index, oldUsed, null);
+        }
+        used = index;
+        modCount++;
+    }
+
+    private static int tableSizeFor(int capacity) {
+        return Math.max(Integer.highestOneBit(Math.max(capacity - 1, 1)) << 1, 4);
+    }
+
+    @Serial
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(size);
+        for (int i = 0; i < used; i++) {
+            if (keys[i] != REMOVED) {
+                out.writeObject(keys[i]);
+                out.writeObject(values[i]);
+            }
+        }
+    }
+
+    @Serial
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        final int count = in.readInt();
+        allocate(Math.max(count, 2));
+        for (int i = 0; i < count; i++) {
+            put((K) in.readObject(), (V) in.readObject());
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
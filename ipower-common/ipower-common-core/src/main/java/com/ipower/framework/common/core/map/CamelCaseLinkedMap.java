@@ -1,7 +1,6 @@
 package com.ipower.framework.common.core.map;
 
 import java.io.Serial;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -45,7 +44,7 @@ public class CamelCaseLinkedMap<K, V> extends CamelCaseMap<K, V> {
      * @param loadFactor      加载因子
      */
     public CamelCaseLinkedMap(int initialCapacity, float loadFactor) {
-        super(new HashMap<>(initialCapacity, loadFactor));
+        super(initialCapacity, loadFactor);
     }
 
     /**
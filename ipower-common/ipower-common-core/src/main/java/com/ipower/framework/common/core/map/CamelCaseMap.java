@@ -1,14 +1,15 @@
 package com.ipower.framework.common.core.map;
 
+import com.ipower.framework.common.core.constant.CharPool;
 import com.ipower.framework.common.core.lang.StringUtil;
 
 import java.io.Serial;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * 驼峰Key风格的Map<br>
- * 对KEY转换为驼峰，get("int_value")和get("intValue")获得的值相同，put进入的值也会被覆盖
+ * 对KEY转换为驼峰，get("int_value")和get("intValue")获得的值相同，put进入的值也会被覆盖<br>
+ * 查找时在原始键上逐字符按{@link StringUtil#underlineToCamel(CharSequence)}的规则比较，不会创建驼峰字符串，新增的键以驼峰形式保存
  * <p>
  * 参考:<a href="https://gitee.com/loolly/hutool">...</a>
  *
@@ -17,7 +18,7 @@ import java.util.Map;
  * @author kris
  * @since 1.0.0
  */
-public class CamelCaseMap<K, V> extends AbstractCustomKeyMap<K, V> {
+public class CamelCaseMap<K, V> extends AbstractFoldedKeyMap<K, V> {
 
     @Serial
     private static final long serialVersionUID = -4269611781858781635L;
@@ -67,18 +68,83 @@ public class CamelCaseMap<K, V> extends AbstractCustomKeyMap<K, V> {
      * @param loadFactor      加载因子
      */
     public CamelCaseMap(int initialCapacity, float loadFactor) {
-        super(new HashMap<>(initialCapacity, loadFactor));
+        super(initialCapacity, loadFactor);
     }
     // ------------------------------------------------------------------------- Constructor end
 
+    @Override
+    protected int hashKey(CharSequence key) {
+        int h = 0;
+        boolean first = true;
+        boolean upper = false;
+        for (int i = 0, length = key.length(); i < length; i++) {
+            final char c = key.charAt(i);
+            if (c == CharPool.UNDERLINE) {
+                upper = true;
+                continue;
+            }
+            h = 31 * h + camel(c, first, upper);
+            first = false;
+            upper = false;
+        }
+        return h;
+    }
+
+    @Override
+    protected boolean equalsKey(CharSequence a, CharSequence b) {
+        final int lengthA = a.length();
+        final int lengthB = b.length();
+        int i = 0;
+        int j = 0;
+        boolean first = true;
+        while (true) {
+            boolean upperA = false;
+            boolean upperB = false;
+            while (i < lengthA && a.charAt(i) == CharPool.UNDERLINE) {
+                upperA = true;
+                i++;
+            }
+            while (j < lengthB && b.charAt(j) == CharPool.UNDERLINE) {
+                upperB = true;
+                j++;
+            }
+            if (i == lengthA || j == lengthB) {
+                return i == lengthA && j == lengthB;
+            }
+            if (camel(a.charAt(i++), first, upperA) != camel(b.charAt(j++), first, upperB)) {
+                return false;
+            }
+            first = false;
+        }
+    }
+
     /**
-     * 将Key转为驼峰风格，如果key为字符串的话
+     * 将Key转为驼峰风格，如果key为字符串的话，已经是驼峰风格的字符串直接使用
      *
      * @param key KEY
      * @return 驼峰Key
      */
     @Override
     protected Object customKey(Object key) {
-        return (key instanceof CharSequence) ? StringUtil.underlineToCamel(key.toString()) : key;
+        if (!(key instanceof CharSequence text)) {
+            return key;
+        }
+        final int length = text.length();
+        if (length > 0 && Character.toLowerCase(text.charAt(0)) != text.charAt(0)) {
+            return StringUtil.underlineToCamel(text);
+        }
+        for (int i = 0; i < length; i++) {
+            if (text.charAt(i) == CharPool.UNDERLINE) {
+                return StringUtil.underlineToCamel(text);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * 与{@link StringUtil#underlineToCamel(CharSequence)}一致的单个字符转换：首字母小写，下划线后的字母大写
+     */
+    private static char camel(char c, boolean first, boolean upper) {
+        return first ? Character.toLowerCase(c) : upper ? Character.toUpperCase(c) : c;
     }
 }
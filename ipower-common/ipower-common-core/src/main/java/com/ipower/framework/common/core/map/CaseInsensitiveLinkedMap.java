@@ -1,7 +1,6 @@
 package com.ipower.framework.common.core.map;
 
 import java.io.Serial;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -45,7 +44,7 @@ public class CaseInsensitiveLinkedMap<K, V> extends CaseInsensitiveMap<K, V> {
      * @param loadFactor      加载因子
      */
     public CaseInsensitiveLinkedMap(int initialCapacity, float loadFactor) {
-        super(new LinkedHashMap<>(initialCapacity, loadFactor));
+        super(initialCapacity, loadFactor);
     }
 
     /**
@@ -1,12 +1,12 @@
 package com.ipower.framework.common.core.map;
 
 import java.io.Serial;
-import java.util.HashMap;
 import java.util.Map;
 
 /**
  * 忽略大小写的Map<br>
- * 对KEY忽略大小写，get("Value")和get("value")获得的值相同，put进入的值也会被覆盖
+ * 对KEY忽略大小写，get("Value")和get("value")获得的值相同，put进入的值也会被覆盖<br>
+ * 查找时逐字符按{@link Character#toLowerCase(char)}比较，不会创建小写的字符串，新增的键以小写形式保存
  * <p>
  * 参考:<a href="https://gitee.com/loolly/hutool">...</a>
  *
@@ -15,7 +15,7 @@ import java.util.Map;
  * @author kris
  * @since 1.0.0
  */
-public class CaseInsensitiveMap<K, V> extends AbstractCustomKeyMap<K, V> {
+public class CaseInsensitiveMap<K, V> extends AbstractFoldedKeyMap<K, V> {
 
     @Serial
     private static final long serialVersionUID = -5252854076641735127L;
@@ -45,7 +45,7 @@ public class CaseInsensitiveMap<K, V> extends AbstractCustomKeyMap<K, V> {
      * @param loadFactor      加载因子
      */
     public CaseInsensitiveMap(int initialCapacity, float loadFactor) {
-        super(new HashMap<>(initialCapacity, loadFactor));
+        super(initialCapacity, loadFactor);
     }
 
     /**
@@ -69,14 +69,53 @@ public class CaseInsensitiveMap<K, V> extends AbstractCustomKeyMap<K, V> {
     }
     //------------------------------------------------------------------------- Constructor end
 
+    @Override
+    protected int hashKey(CharSequence key) {
+        int h = 0;
+        for (int i = 0, length = key.length(); i < length; i++) {
+            h = 31 * h + Character.toLowerCase(key.charAt(i));
+        }
+        return h;
+    }
+
+    @Override
+    protected boolean equalsKey(CharSequence a, CharSequence b) {
+        final int length = a.length();
+        if (length != b.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c1 = a.charAt(i);
+            final char c2 = b.charAt(i);
+            if (c1 != c2 && Character.toLowerCase(c1) != Character.toLowerCase(c2)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
-     * 将Key转为小写
+     * 将Key转为小写，已经是小写的字符串直接使用
      *
      * @param key KEY
      * @return 小写KEY
      */
     @Override
     protected Object customKey(Object key) {
-        return (key instanceof CharSequence) ? key.toString().toLowerCase() : key;
+        if (!(key instanceof CharSequence text)) {
+            return key;
+        }
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            final char c = text.charAt(i);
+            if (Character.toLowerCase(c) != c) {
+                final char[] chars = new char[length];
+                for (int j = 0; j < length; j++) {
+                    chars[j] = Character.toLowerCase(text.charAt(j));
+                }
+                return new String(chars);
+            }
+        }
+        return text.toString();
     }
 }
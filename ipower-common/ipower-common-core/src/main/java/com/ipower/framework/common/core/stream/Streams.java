@@ -1,9 +1,16 @@
 package com.ipower.framework.common.core.stream;
 
+import com.alibaba.ttl.threadpool.TtlExecutors;
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.lang.ObjectUtil;
+import com.ipower.framework.common.core.lang.Validate;
+
 import java.lang.reflect.Array;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.Spliterators;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -116,4 +123,298 @@ public class Streams {
     public static <T> Stream<T> of(final Iterator<T> iterator, final boolean parallel) {
         return isNull(iterator) ? of() : StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), parallel);
     }
+
+    // -------------------------------------------------------------------- batch and window
+
+    /**
+     * 将{@link Stream}按固定大小惰性分批，最后一批可能不足指定大小
+     * <p>
+     * 返回的{@link Stream}是顺序流，关闭时会关闭原{@link Stream}
+     * </p>
+     *
+     * @param stream 原{@link Stream}
+     * @param size   每批的大小，最小为1
+     * @param <T>    元素类型
+     * @return 分批后的{@link Stream}
+     * @see ObjectUtil#partition(Iterable, int)
+     */
+    public static <T> Stream<List<T>> batch(final Stream<T> stream, final int size) {
+        if (isNull(stream)) {
+            return of();
+        }
+        return wrap(stream, ObjectUtil.partition(stream::iterator, size).iterator());
+    }
+
+    /**
+     * 将{@link Stream}按大小和时间惰性分批，批次达到指定大小，或取到下一个元素时当前批次已等待超过指定时间，就输出当前批次
+     * <p>
+     * 等待时间从批次的第一个元素开始计算；由于{@link Stream}是拉取模式，原{@link Stream}阻塞时不会因为超时输出批次，
+     * 适用于消费消息、读取日志等持续产生数据的场景。
+     * </p>
+     *
+     * @param stream  原{@link Stream}
+     * @param maxSize 每批的最大数量，最小为1
+     * @param maxWait 每批的最长等待时间
+     * @param <T>     元素类型
+     * @return 分批后的{@link Stream}
+     */
+    public static <T> Stream<List<T>> batch(final Stream<T> stream, final int maxSize, final Duration maxWait) {
+        Validate.notNull(maxWait, "The max wait must not be null");
+        if (isNull(stream)) {
+            return of();
+        }
+        final int batchSize = Math.max(maxSize, 1);
+        final long maxWaitNanos = maxWait.toNanos();
+        final Iterator<T> source = stream.iterator();
+        return wrap(stream, new Iterator<>() {
+            private List<T> pending = new ArrayList<>();
+            private long startNanos;
+
+            @Override
+            public boolean hasNext() {
+                return !pending.isEmpty() || source.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                while (source.hasNext()) {
+                    final T element = source.next();
+                    final long now = System.nanoTime();
+                    if (pending.isEmpty()) {
+                        startNanos = now;
+                    } else if (now - startNanos >= maxWaitNanos) {
+                        // 当前批次已超时，取到的元素作为下一批次的第一个元素
+                        final List<T> batch = pending;
+                        pending = new ArrayList<>();
+                        pending.add(element);
+                        startNanos = now;
+                        return batch;
+                    }
+                    pending.add(element);
+                    if (pending.size() >= batchSize) {
+                        break;
+                    }
+                }
+                if (pending.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                final List<T> batch = pending;
+                pending = new ArrayList<>();
+                return batch;
+            }
+        });
+    }
+
+    /**
+     * 按滑动窗口遍历{@link Stream}，每个窗口包含{@code size}个连续元素，相邻窗口的起始位置相差{@code step}
+     * <p>
+     * 只输出完整的窗口，元素数量不足一个窗口时返回空{@link Stream}；每个窗口都是新的{@link List}，可以安全持有
+     * </p>
+     * <pre>
+     *     Streams.window(Stream.of(1, 2, 3, 4, 5), 3, 1) -&gt; [1, 2, 3], [2, 3, 4], [3, 4, 5]
+     *     Streams.window(Stream.of(1, 2, 3, 4, 5), 2, 2) -&gt; [1, 2], [3, 4]
+     * </pre>
+     *
+     * @param stream 原{@link Stream}
+     * @param size   窗口大小，最小为1
+     * @param step   步长，最小为1，大于窗口大小时跳过中间的元素
+     * @param <T>    元素类型
+     * @return 窗口{@link Stream}
+     */
+    public static <T> Stream<List<T>> window(final Stream<T> stream, final int size, final int step) {
+        Validate.isTrue(size > 0 && step > 0, "The window size and step must be positive: {}, {}", size, step);
+        if (isNull(stream)) {
+            return of();
+        }
+        final Iterator<T> source = stream.iterator();
+        return wrap(stream, new Iterator<>() {
+            private final ArrayDeque<T> window = new ArrayDeque<>(size);
+            private boolean started;
+
+            @Override
+            public boolean hasNext() {
+                if (window.size() == size) {
+                    return true;
+                }
+                if (started) {
+                    // 滑动到下一个窗口，步长大于窗口时跳过中间的元素
+                    for (int i = 0; i < step - size && source.hasNext(); i++) {
+                        source.next();
+                    }
+                }
+                while (window.size() < size && source.hasNext()) {
+                    window.addLast(source.next());
+                }
+                started = true;
+                return window.size() == size;
+            }
+
+            @Override
+            public List<T> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<T> result = new ArrayList<>(window);
+                for (int i = 0; i < step && !window.isEmpty(); i++) {
+                    window.pollFirst();
+                }
+                return result;
+            }
+        });
+    }
+
+    // -------------------------------------------------------------------- parallel and async
+
+    /**
+     * 在指定的{@link ForkJoinPool}中并行执行{@link Stream}，避免占用公共的{@link ForkJoinPool#commonPool()}
+     * <pre>
+     *     List&lt;Result&gt; results = Streams.parallelOn(list.stream(), pool, s -&gt; s.map(this::handle).toList());
+     * </pre>
+     * 并行流的任务会在发起终端操作的{@link ForkJoinPool}中执行，所以终端操作必须在{@code terminal}中完成，
+     * 返回惰性的{@link Stream}或{@link Iterator}不会生效。
+     *
+     * @param stream   原{@link Stream}
+     * @param pool     线程池
+     * @param terminal 终端操作
+     * @param <T>      元素类型
+     * @param <R>      结果类型
+     * @return 终端操作的结果
+     */
+    public static <T, R> R parallelOn(final Stream<T> stream, final ForkJoinPool pool, final Function<Stream<T>, R> terminal) {
+        Validate.notNull(pool, "The pool must not be null");
+        Validate.notNull(terminal, "The terminal operation must not be null");
+        final Stream<T> parallel = isNull(stream) ? Stream.<T>empty().parallel() : stream.parallel();
+        if (ForkJoinTask.inForkJoinPool() && ForkJoinTask.getPool() == pool) {
+            return terminal.apply(parallel);
+        }
+        return pool.submit(() -> terminal.apply(parallel)).join();
+    }
+
+    /**
+     * 异步映射，同时最多有{@code maxConcurrency}个映射任务在执行，结果保持原{@link Stream}的顺序
+     * <p>
+     * 适用于远程调用等IO密集的映射；运行在支持虚拟线程的JDK上时每个任务使用一个虚拟线程，否则使用内部共享的守护线程池，
+     * 提交任务时会传递{@link com.alibaba.ttl.TransmittableThreadLocal}上下文
+     * </p>
+     *
+     * @param stream         原{@link Stream}
+     * @param mapper         映射函数
+     * @param maxConcurrency 最大并发数，最小为1
+     * @param <T>            元素类型
+     * @param <R>            结果类型
+     * @return 映射结果的{@link Stream}
+     */
+    public static <T, R> Stream<R> mapAsync(final Stream<T> stream, final Function<? super T, ? extends R> mapper, final int maxConcurrency) {
+        return mapAsync(stream, mapper, maxConcurrency, AsyncHolder.EXECUTOR);
+    }
+
+    /**
+     * 使用指定的线程池异步映射，同时最多有{@code maxConcurrency}个映射任务在执行，结果保持原{@link Stream}的顺序
+     * <p>
+     * 映射函数抛出异常时，取到对应的结果时抛出该异常，并取消其它未完成的任务；关闭返回的{@link Stream}同样会取消未完成的任务。
+     * 取消时会中断正在执行的映射函数，映射函数需要响应中断才能提前结束
+     * </p>
+     *
+     * @param stream         原{@link Stream}
+     * @param mapper         映射函数
+     * @param maxConcurrency 最大并发数，最小为1
+     * @param executor       线程池
+     * @param <T>            元素类型
+     * @param <R>            结果类型
+     * @return 映射结果的{@link Stream}
+     */
+    public static <T, R> Stream<R> mapAsync(final Stream<T> stream, final Function<? super T, ? extends R> mapper,
+                                            final int maxConcurrency, final Executor executor) {
+        Validate.notNull(mapper, "The mapper must not be null");
+        Validate.notNull(executor, "The executor must not be null");
+        if (isNull(stream)) {
+            return of();
+        }
+        final int concurrency = Math.max(maxConcurrency, 1);
+        final Executor ttlExecutor = TtlExecutors.getTtlExecutor(executor);
+        final Iterator<T> source = stream.iterator();
+        final ArrayDeque<FutureTask<R>> pending = new ArrayDeque<>(concurrency);
+        final Iterator<R> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                while (pending.size() < concurrency && source.hasNext()) {
+                    final T element = source.next();
+                    // FutureTask取消时会中断执行中的线程，CompletableFuture不会
+                    final FutureTask<R> task = new FutureTask<>(() -> mapper.apply(element));
+                    ttlExecutor.execute(task);
+                    pending.addLast(task);
+                }
+                return !pending.isEmpty();
+            }
+
+            @Override
+            public R next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                try {
+                    return pending.pollFirst().get();
+                } catch (CancellationException e) {
+                    cancel(pending);
+                    throw e;
+                } catch (InterruptedException e) {
+                    cancel(pending);
+                    Thread.currentThread().interrupt();
+                    throw new UtilException(e);
+                } catch (ExecutionException e) {
+                    cancel(pending);
+                    final Throwable cause = null != e.getCause() ? e.getCause() : e;
+                    if (cause instanceof RuntimeException runtime) {
+                        throw runtime;
+                    }
+                    if (cause instanceof Error error) {
+                        throw error;
+                    }
+                    throw new UtilException(cause);
+                }
+            }
+        };
+        return wrap(stream, iterator).onClose(() -> cancel(pending));
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 异步映射默认使用的线程池，只有被调用到才会创建
+     * <p>
+     * 运行在JDK 21及以上时使用虚拟线程，项目以JDK 17编译，所以通过反射获取
+     * </p>
+     */
+    private static class AsyncHolder {
+        private static final AtomicInteger THREAD_INDEX = new AtomicInteger();
+        private static final Executor EXECUTOR = create();
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Executors.newCachedThreadPool(runnable -> {
+                    final Thread thread = new Thread(runnable, "ipower-stream-" + THREAD_INDEX.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+
+    /**
+     * 将迭代器包装为顺序的{@link Stream}，关闭时关闭原{@link Stream}
+     */
+    private static <T, R> Stream<R> wrap(final Stream<T> source, final Iterator<R> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(source::close);
+    }
+
+    /**
+     * 取消未完成的任务
+     */
+    private static void cancel(final Collection<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+        futures.clear();
+    }
+    // -------------------------------------------------------------------------------------- Private method end
 }
@@ -1,12 +1,25 @@
 package com.ipower.framework.common.core.text;
 
 import com.github.stuxuhai.jpinyin.ChineseHelper;
+import com.github.stuxuhai.jpinyin.PinyinHelper;
+import com.ipower.framework.common.core.lang.Validate;
+import com.ipower.framework.common.core.text.pattern.ChineseCharPattern;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
- * Class description goes here.
+ * 汉字判断和简繁转换
+ * <p>
+ * 汉字、繁体字、多音字的判断使用按字符编码预先计算的位图，位图在第一次使用时由jpinyin的判断结果生成，之后只需要查表。
+ * {@code scan}方法对{@link CharSequence}或{@link Reader}做一次线性扫描，按首次出现的顺序收集不重复的字符，
+ * 用位图记录出现过的字符，除了结果本身不为每个字符分配对象，可以用于扫描较大的文档。
+ * </p>
  *
  * @author kris
  */
@@ -16,6 +29,8 @@ public final class ChineseUtil {
         throw new AssertionError("No " + getClass().getName() + " instances for you!");
     }
 
+    private static final int BUFFER_SIZE = 8192;
+
 
     public static String toTraditional(String str) {
         return ChineseHelper.convertToTraditionalChinese(str);
@@ -26,43 +41,84 @@ public final class ChineseUtil {
     }
 
     public static boolean isTraditional(char c) {
-        return ChineseHelper.isTraditionalChinese(c);
+        return TraditionalTable.CHARS.get(c);
     }
 
     public static List<String> findTraditional(String str) {
-        List<String> list = new ArrayList<>();
-        for (char ch : str.toCharArray()) {
-            if (isTraditional(ch)) {
-                String s = Character.toString(ch);
-                if (list.contains(s)) {
-                    continue;
-                }
-                list.add(Character.toString(ch));
-            }
-        }
-        return list;
+        return toStrings(scan(str, ChineseCharPattern.TRADITIONAL));
     }
 
     public static boolean isChinese(char c) {
-        return ChineseHelper.isChinese(c);
+        return ChineseTable.CHARS.get(c);
     }
 
     public static boolean hasChinese(String str) {
-        return ChineseHelper.containsChinese(str);
+        if (null == str) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (ChineseTable.CHARS.get(str.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public static List<String> findChinese(String str) {
-        List<String> list = new ArrayList<>();
-        for (char ch : str.toCharArray()) {
-            if (isChinese(ch)) {
-                String s = Character.toString(ch);
-                if (list.contains(s)) {
-                    continue;
-                }
-                list.add(Character.toString(ch));
+        return toStrings(scan(str, ChineseCharPattern.CHINESE));
+    }
+
+    /**
+     * 字符是否属于指定的分类
+     *
+     * @param c       字符
+     * @param pattern 分类
+     * @return 是否属于
+     */
+    public static boolean is(char c, ChineseCharPattern pattern) {
+        return table(pattern).get(c);
+    }
+
+    /**
+     * 扫描字符序列中属于指定分类的字符
+     *
+     * @param str     字符序列，为{@code null}时返回空集合
+     * @param pattern 分类
+     * @return 不重复的字符，按首次出现的顺序
+     */
+    public static Set<Character> scan(CharSequence str, ChineseCharPattern pattern) {
+        final BitSet table = table(pattern);
+        final BitSet seen = new BitSet();
+        final Set<Character> result = new LinkedHashSet<>();
+        if (null != str) {
+            for (int i = 0; i < str.length(); i++) {
+                collect(str.charAt(i), table, seen, result);
             }
         }
-        return list;
+        return result;
+    }
+
+    /**
+     * 扫描字符流中属于指定分类的字符，读到流结束为止，不关闭流
+     *
+     * @param reader  字符流
+     * @param pattern 分类
+     * @return 不重复的字符，按首次出现的顺序
+     * @throws IOException 读取失败
+     */
+    public static Set<Character> scan(Reader reader, ChineseCharPattern pattern) throws IOException {
+        Validate.notNull(reader, "The reader must not be null");
+        final BitSet table = table(pattern);
+        final BitSet seen = new BitSet();
+        final Set<Character> result = new LinkedHashSet<>();
+        final char[] buffer = new char[BUFFER_SIZE];
+        int read;
+        while ((read = reader.read(buffer)) >= 0) {
+            for (int i = 0; i < read; i++) {
+                collect(buffer[i], table, seen, result);
+            }
+        }
+        return result;
     }
 
     public static void main(String[] args) {
@@ -75,4 +131,77 @@ public final class ChineseUtil {
 //        System.out.println(hasChinese("this is 義气"));
 //        System.out.println(findChinese("this is 義气"));
     }
+
+    /**
+     * 按顺序把字符转为字符串列表
+     *
+     * @param chars 字符
+     * @return 字符串列表
+     */
+    static List<String> toStrings(Set<Character> chars) {
+        final List<String> list = new ArrayList<>(chars.size());
+        for (Character c : chars) {
+            list.add(c.toString());
+        }
+        return list;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 汉字位图
+     */
+    private static final class ChineseTable {
+        private static final BitSet CHARS = build(ChineseCharPattern.CHINESE);
+    }
+
+    /**
+     * 繁体字位图
+     */
+    private static final class TraditionalTable {
+        private static final BitSet CHARS = build(ChineseCharPattern.TRADITIONAL);
+    }
+
+    /**
+     * 多音字位图
+     */
+    private static final class PolyphonyTable {
+        private static final BitSet CHARS = build(ChineseCharPattern.POLYPHONY);
+    }
+
+    private static BitSet table(ChineseCharPattern pattern) {
+        Validate.notNull(pattern, "The pattern must not be null");
+        return switch (pattern) {
+            case CHINESE -> ChineseTable.CHARS;
+            case TRADITIONAL -> TraditionalTable.CHARS;
+            case POLYPHONY -> PolyphonyTable.CHARS;
+        };
+    }
+
+    /**
+     * 对所有字符调用一次jpinyin的判断，结果与jpinyin一致
+     */
+    private static BitSet build(ChineseCharPattern pattern) {
+        final BitSet chars = new BitSet(Character.MAX_VALUE + 1);
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            final char ch = (char) c;
+            final boolean matched = switch (pattern) {
+                case CHINESE -> ChineseHelper.isChinese(ch);
+                case TRADITIONAL -> ChineseHelper.isTraditionalChinese(ch);
+                case POLYPHONY -> PinyinHelper.hasMultiPinyin(ch);
+            };
+            if (matched) {
+                chars.set(c);
+            }
+        }
+        return chars;
+    }
+
+    private static void collect(char c, BitSet table, BitSet seen, Set<Character> result) {
+        if (table.get(c) && !seen.get(c)) {
+            seen.set(c);
+            result.add(c);
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
 }
@@ -2,11 +2,20 @@ package com.ipower.framework.common.core.text;
 
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONWriter;
+import com.alibaba.fastjson2.filter.Filter;
+import com.ipower.framework.common.core.lang.Validate;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.util.List;
 
 /**
  * Class description goes here.
+ * <p>
+ * 流的重载方法直接写出UTF-8字节、直接从流中解析，省去中间的字符串；fastjson2会在内存中缓冲整个结果，
+ * 需要逐个元素读写的大数组使用{@link com.ipower.framework.common.core.util.JacksonJsonUtil}的流式方法。
+ * </p>
  *
  * @author kris
  */
@@ -16,6 +25,9 @@ public final class JsonUtil {
         throw new AssertionError("No " + getClass().getName() + " instances for you!");
     }
 
+    private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
+    private static final Filter[] NO_FILTERS = new Filter[0];
+
     /**
      * json序列转换规则
      */
@@ -31,17 +43,65 @@ public final class JsonUtil {
     };
 
     public static String toJson(Object object) {
-        return JSON.toJSONString(object, "yyyy-MM-dd HH:mm:ss", SERIALIZER_FEATURES);
+        return JSON.toJSONString(object, DATE_FORMAT, SERIALIZER_FEATURES);
+    }
+
+    /**
+     * 按{@link #toJson(Object)}的规则写出到输出流，不关闭输出流
+     *
+     * @param object 对象
+     * @param out    输出流
+     */
+    public static void toJson(Object object, OutputStream out) {
+        Validate.notNull(out, "The output stream must not be null");
+        JSON.writeTo(out, object, DATE_FORMAT, NO_FILTERS, SERIALIZER_FEATURES);
     }
 
     public static String toJsonSimple(Object object) {
         return JSON.toJSONString(object);
     }
 
+    /**
+     * 按{@link #toJsonSimple(Object)}的规则写出到输出流，不关闭输出流
+     *
+     * @param object 对象
+     * @param out    输出流
+     */
+    public static void toJsonSimple(Object object, OutputStream out) {
+        Validate.notNull(out, "The output stream must not be null");
+        JSON.writeTo(out, object);
+    }
+
     public static <T> T toBean(String json, Class<T> clazz) {
         return JSON.parseObject(json, clazz);
     }
 
+    /**
+     * 按{@link #toBean(String, Class)}的规则从UTF-8编码的输入流解析
+     *
+     * @param json  输入流
+     * @param clazz 目标类型
+     * @param <T>   目标类型
+     * @return 解析得到的对象
+     */
+    public static <T> T toBean(InputStream json, Class<T> clazz) {
+        Validate.notNull(json, "The input stream must not be null");
+        return JSON.parseObject(json, clazz);
+    }
+
+    /**
+     * 按{@link #toBean(String, Class)}的规则从字符流解析
+     *
+     * @param json  字符流
+     * @param clazz 目标类型
+     * @param <T>   目标类型
+     * @return 解析得到的对象
+     */
+    public static <T> T toBean(Reader json, Class<T> clazz) {
+        Validate.notNull(json, "The reader must not be null");
+        return JSON.parseObject(json, clazz);
+    }
+
     public static <T> List<T> toArray(String json, Class<T> clazz) {
         return JSON.parseArray(json, clazz);
     }
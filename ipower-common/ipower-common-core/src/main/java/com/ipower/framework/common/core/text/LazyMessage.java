@@ -0,0 +1,44 @@
+package com.ipower.framework.common.core.text;
+
+import java.util.function.Supplier;
+
+/**
+ * 延迟格式化的消息
+ * <p>
+ * 只保存模板和参数，第一次调用{@link #toString()}或{@link #get()}时才格式化，结果会被保存。
+ * 作为日志的参数使用，日志级别未开启时不会格式化，如：{@code log.debug("{}", StringFormatter.lazy("user {} in {}", id, dept))}；
+ * 也可以作为{@link Supplier}传给支持延迟求值的日志接口。参数在格式化时才转换为字符串，调用方不应在此之前修改参数。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class LazyMessage implements Supplier<String> {
+
+    private final StringTemplate template;
+    private final Object[] args;
+    /**
+     * 格式化结果，并发时可能重复格式化，结果相同
+     */
+    private String message;
+
+    LazyMessage(StringTemplate template, Object[] args) {
+        this.template = template;
+        this.args = args;
+    }
+
+    @Override
+    public String get() {
+        String result = message;
+        if (null == result) {
+            result = template.format(args);
+            message = result;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return get();
+    }
+}
@@ -0,0 +1,332 @@
+package com.ipower.framework.common.core.text;
+
+import com.ipower.framework.common.core.lang.StringUtil;
+import com.ipower.framework.common.core.lang.Validate;
+import com.ipower.framework.common.core.text.pattern.PinyinPattern;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 拼音搜索索引，用于联系人、客户等名称的输入联想
+ * <p>
+ * 关键字从名称中任意一个字开始匹配，每个汉字可以用汉字本身、完整拼音或拼音的前缀（包括首字母）匹配，
+ * 其余字符按原样匹配，不区分大小写。如“张三丰”可以被“张三”、“zhangsan”、“zsf”、“zhangsf”、“张s”、“sanfeng”匹配。
+ * </p>
+ * <p>
+ * 创建时批量转换所有名称的拼音（数量较多时并行转换），为每个字可能的首字符和前两个字符建立倒排索引；
+ * 搜索时不再转换拼音，只取关键字前两个字符对应的候选逐个校验，一个或两个字符的关键字不需要校验。
+ * 索引创建后是只读的，可以被多个线程共享；数据发生变化后需要重新创建。
+ * </p>
+ *
+ * @param <T> 数据类型
+ * @author kris
+ * @since 1.0.0
+ */
+public final class PinyinIndex<T> {
+
+    /**
+     * 拼音中分隔每个字的字符
+     */
+    private static final char SEPARATOR = '\u0000';
+
+    private final T[] items;
+    /**
+     * 逐字转为小写的名称
+     */
+    private final String[] names;
+    /**
+     * 每个字的小写拼音，用{@link #SEPARATOR}分隔，不是汉字的字为空；名称中没有汉字时为{@code null}
+     */
+    private final String[] pinyins;
+    /**
+     * 名称和拼音中出现的字符的位图，关键字的字符没有全部出现时不需要逐字校验
+     */
+    private final long[] signatures;
+    /**
+     * 首字符 -> 数据下标
+     */
+    private final Map<Character, Postings> unigrams = new HashMap<>();
+    /**
+     * 前两个字符 -> 数据下标
+     */
+    private final Map<Integer, Postings> bigrams = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private PinyinIndex(Collection<T> items, Function<? super T, String> nameGetter) {
+        this.items = (T[]) items.toArray();
+        final int size = this.items.length;
+        this.names = new String[size];
+        this.pinyins = new String[size];
+        this.signatures = new long[size];
+        final List<String> chineseNames = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            names[i] = lowerCase(nameGetter.apply(this.items[i]));
+            if (ChineseUtil.hasChinese(names[i])) {
+                chineseNames.add(names[i]);
+            }
+        }
+        final Iterator<String> converted = PinyinUtil.toPinyin(chineseNames, String.valueOf(SEPARATOR), PinyinPattern.NONE_TONE).iterator();
+        for (int i = 0; i < size; i++) {
+            if (ChineseUtil.hasChinese(names[i])) {
+                pinyins[i] = syllables(names[i], converted.next());
+            }
+            signatures[i] = signature(names[i]) | signature(pinyins[i]);
+            index(i);
+        }
+    }
+
+    /**
+     * 为名称集合创建索引
+     *
+     * @param names 名称集合
+     * @return 索引
+     */
+    public static PinyinIndex<String> of(Collection<String> names) {
+        return of(names, Function.identity());
+    }
+
+    /**
+     * 为数据集合创建索引
+     *
+     * @param items      数据集合
+     * @param nameGetter 获取数据的名称，名称可以为{@code null}
+     * @param <T>        数据类型
+     * @return 索引
+     */
+    public static <T> PinyinIndex<T> of(Collection<T> items, Function<? super T, String> nameGetter) {
+        Validate.notNull(items, "The items must not be null");
+        Validate.notNull(nameGetter, "The name getter must not be null");
+        return new PinyinIndex<>(items, nameGetter);
+    }
+
+    /**
+     * 搜索匹配关键字的数据
+     *
+     * @param keyword 关键字
+     * @return 匹配的数据，按创建索引时的顺序；关键字为空时返回空列表
+     */
+    public List<T> search(String keyword) {
+        return search(keyword, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 搜索匹配关键字的数据，找到指定数量后停止
+     *
+     * @param keyword 关键字
+     * @param limit   最多返回的数量
+     * @return 匹配的数据，按创建索引时的顺序；关键字为空时返回空列表
+     */
+    public List<T> search(String keyword, int limit) {
+        Validate.isTrue(limit > 0, "The limit must be positive: {}", limit);
+        final String key = lowerCase(keyword);
+        if (key.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final Postings candidates = key.length() == 1 ? unigrams.get(key.charAt(0)) : bigrams.get(bigram(key.charAt(0), key.charAt(1)));
+        if (null == candidates) {
+            return new ArrayList<>();
+        }
+        final List<T> result = new ArrayList<>(Math.min(limit, candidates.size));
+        final long signature = signature(key);
+        int[] offsets = new int[16];
+        for (int i = 0; i < candidates.size && result.size() < limit; i++) {
+            final int index = candidates.positions[i];
+            if (key.length() > 2) {
+                if ((signatures[index] & signature) != signature) {
+                    continue;
+                }
+                final String name = names[index];
+                if (offsets.length <= name.length()) {
+                    offsets = new int[name.length() + 1];
+                }
+                if (!matches(name, pinyins[index], offsets, key)) {
+                    continue;
+                }
+            }
+            result.add(items[index]);
+        }
+        return result;
+    }
+
+    /**
+     * 索引中的数据数量
+     *
+     * @return 数据数量
+     */
+    public int size() {
+        return items.length;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 按下标递增的倒排列表
+     */
+    private static final class Postings {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size << 1);
+            }
+            positions[size++] = position;
+        }
+    }
+
+    /**
+     * 逐字转为小写，保持长度不变，与拼音逐字对应
+     */
+    private static String lowerCase(String str) {
+        if (StringUtil.isEmpty(str)) {
+            return "";
+        }
+        final char[] chars = str.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 整理为每个字一段的拼音，非汉字的段为空；转换结果与名称的字数对不上时逐字转换
+     */
+    private static String syllables(String name, String pinyin) {
+        final String[] segments = pinyin.split(String.valueOf(SEPARATOR), -1);
+        final StringBuilder builder = new StringBuilder(pinyin.length());
+        for (int i = 0; i < name.length(); i++) {
+            if (i > 0) {
+                builder.append(SEPARATOR);
+            }
+            final char c = name.charAt(i);
+            if (ChineseUtil.isChinese(c)) {
+                final String syllable = segments.length == name.length() ? segments[i] : PinyinUtil.toPinyin(c, PinyinPattern.NONE_TONE);
+                builder.append(lowerCase(syllable));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 字符位图，小写字母和数字各占一位，其余字符按编码散列到剩余的位上
+     */
+    private static long signature(String str) {
+        long signature = 0;
+        if (null != str) {
+            for (int i = 0; i < str.length(); i++) {
+                final char c = str.charAt(i);
+                if (c >= 'a' && c <= 'z') {
+                    signature |= 1L << (c - 'a');
+                } else if (c >= '0' && c <= '9') {
+                    signature |= 1L << (26 + c - '0');
+                } else if (c != SEPARATOR) {
+                    signature |= 1L << (36 + c % 28);
+                }
+            }
+        }
+        return signature;
+    }
+
+    private void index(int index) {
+        final String name = names[index];
+        final String pinyin = pinyins[index];
+        int start = 0;
+        for (int i = 0; i < name.length(); i++) {
+            final char c = name.charAt(i);
+            final int end = segmentEnd(pinyin, start);
+            final char initial = end > start ? pinyin.charAt(start) : c;
+            unigrams.computeIfAbsent(c, k -> new Postings()).add(index);
+            unigrams.computeIfAbsent(initial, k -> new Postings()).add(index);
+            // 拼音的前两个字母
+            if (end - start > 1) {
+                addBigram(initial, pinyin.charAt(start + 1), index);
+            }
+            // 当前字用汉字或拼音前缀匹配后，下一个字用汉字或首字母匹配
+            if (i + 1 < name.length()) {
+                final char next = name.charAt(i + 1);
+                final char nextInitial = segmentEnd(pinyin, end + 1) > end + 1 ? pinyin.charAt(end + 1) : next;
+                addBigram(c, next, index);
+                addBigram(c, nextInitial, index);
+                addBigram(initial, next, index);
+                addBigram(initial, nextInitial, index);
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 从start开始的一个字的拼音的结束位置，没有拼音时为start
+     */
+    private static int segmentEnd(String pinyin, int start) {
+        if (null == pinyin || start >= pinyin.length()) {
+            return start;
+        }
+        final int end = pinyin.indexOf(SEPARATOR, start);
+        return end < 0 ? pinyin.length() : end;
+    }
+
+    private void addBigram(char first, char second, int index) {
+        bigrams.computeIfAbsent(bigram(first, second), k -> new Postings()).add(index);
+    }
+
+    /**
+     * 关键字是否从名称的某个字开始匹配
+     */
+    private static boolean matches(String name, String pinyin, int[] offsets, String key) {
+        if (null != pinyin) {
+            // 第i个字的拼音为[offsets[i], offsets[i + 1] - 1)
+            int unit = 0;
+            offsets[0] = 0;
+            for (int i = 0; i < pinyin.length(); i++) {
+                if (pinyin.charAt(i) == SEPARATOR) {
+                    offsets[++unit] = i + 1;
+                }
+            }
+            offsets[name.length()] = pinyin.length() + 1;
+        }
+        for (int unit = 0; unit < name.length(); unit++) {
+            if (matchFrom(name, pinyin, offsets, unit, key, 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchFrom(String name, String pinyin, int[] offsets, int unit, String key, int from) {
+        if (from == key.length()) {
+            return true;
+        }
+        if (unit == name.length()) {
+            return false;
+        }
+        if (name.charAt(unit) == key.charAt(from) && matchFrom(name, pinyin, offsets, unit + 1, key, from + 1)) {
+            return true;
+        }
+        if (null == pinyin) {
+            return false;
+        }
+        // 拼音的每个前缀都可能是这个字的匹配，从长到短尝试
+        final int start = offsets[unit];
+        final int end = offsets[unit + 1] - 1;
+        int length = 0;
+        while (start + length < end && from + length < key.length() && pinyin.charAt(start + length) == key.charAt(from + length)) {
+            length++;
+        }
+        for (; length > 0; length--) {
+            if (matchFrom(name, pinyin, offsets, unit + 1, key, from + length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int bigram(char first, char second) {
+        return first << 16 | second;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
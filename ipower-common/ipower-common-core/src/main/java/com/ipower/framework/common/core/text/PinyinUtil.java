@@ -3,29 +3,54 @@ package com.ipower.framework.common.core.text;
 import com.github.stuxuhai.jpinyin.PinyinException;
 import com.github.stuxuhai.jpinyin.PinyinFormat;
 import com.github.stuxuhai.jpinyin.PinyinHelper;
+import com.ipower.framework.common.core.convert.Converter;
+import com.ipower.framework.common.core.convert.ParallelConvert;
+import com.ipower.framework.common.core.exception.ElementConvertException;
+import com.ipower.framework.common.core.exception.UtilException;
 import com.ipower.framework.common.core.lang.StringUtil;
+import com.ipower.framework.common.core.text.pattern.ChineseCharPattern;
 import com.ipower.framework.common.core.text.pattern.PinyinPattern;
-import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.ipower.framework.common.core.lang.ObjectUtil.nullToDefault;
 
 
 /**
- * Class description goes here.
+ * 汉字转拼音
+ * <p>
+ * 字符串的转换结果按（字符串、分隔符、格式）缓存，最多缓存{@value #MAX_CACHED}个，超过后整体清空重新缓存，
+ * 不维护访问顺序；单个汉字的读音按格式缓存在以字符为下标的数组中。
+ * 大量数据（如联系人、客户名称）使用{@link #toPinyin(Collection, String, PinyinPattern)}批量转换，
+ * 数量较多时并行转换；需要按拼音反复搜索时使用{@link PinyinIndex}。
+ * </p>
  *
  * @author kris
  */
-@Slf4j
 public final class PinyinUtil {
 
     private PinyinUtil() {
         throw new AssertionError("No " + getClass().getName() + " instances for you!");
     }
 
-    private static final String REPLACE = "の";
+    /**
+     * 首字母大写时用于切分拼音的分隔符，输入中的该字符同样视为分隔位置
+     */
+    private static final char SEPARATOR = '\u0000';
+    private static final int MAX_CACHED = 10000;
+    private static final Map<PinyinKey, String> PINYIN_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, String> SHORT_PINYIN_CACHE = new ConcurrentHashMap<>();
+    /**
+     * CJK统一汉字基本区的单字读音，按格式分别缓存
+     */
+    private static final char CJK_START = '一';
+    private static final char CJK_END = '鿿';
+    private static final String[][] CHAR_CACHE = new String[PinyinFormat.values().length][];
 
     public static String toPinyin(String str) {
         return toPinyin(str, null, null);
@@ -39,54 +64,163 @@ public final class PinyinUtil {
         return toPinyin(str, null, pattern);
     }
 
+    /**
+     * 转换为拼音，多音字按词组判断读音
+     *
+     * @param str       字符串
+     * @param delimiter 每个字的拼音之间的分隔符，为{@code null}时不分隔
+     * @param pattern   格式，为{@code null}时不带音调
+     * @return 拼音，字符串为空时返回空字符串
+     * @throws UtilException 转换失败
+     */
     public static String toPinyin(String str, String delimiter, PinyinPattern pattern) {
-        try {
-            boolean toUpper = pattern != null && pattern.getCode() % 2 == 0;
-            if (!toUpper) {
-                return PinyinHelper.convertToPinyinString(str, nullToDefault(delimiter, ""), getFormat(pattern));
+        if (StringUtil.isEmpty(str)) {
+            return "";
+        }
+        final PinyinKey key = new PinyinKey(str, nullToDefault(delimiter, ""), pattern);
+        String pinyin = PINYIN_CACHE.get(key);
+        if (null == pinyin) {
+            pinyin = convert(str, key.delimiter(), pattern);
+            cache(PINYIN_CACHE, key, pinyin);
+        }
+        return pinyin;
+    }
+
+    /**
+     * 单个字的拼音，多音字取最常用的读音
+     *
+     * @param c       字符
+     * @param pattern 格式，为{@code null}时不带音调
+     * @return 拼音，不是汉字时返回字符本身
+     */
+    public static String toPinyin(char c, PinyinPattern pattern) {
+        final PinyinFormat format = getFormat(pattern);
+        String pinyin;
+        if (c >= CJK_START && c <= CJK_END) {
+            String[] cache = CHAR_CACHE[format.ordinal()];
+            if (null == cache) {
+                cache = new String[CJK_END - CJK_START + 1];
+                CHAR_CACHE[format.ordinal()] = cache;
             }
-            String[] temp = PinyinHelper.convertToPinyinString(str, REPLACE, getFormat(pattern)).split(REPLACE);
-            for (int i = 0; i < temp.length; i++) {
-                temp[i] = StringUtil.upperFirst(temp[i]);
+            // 并发时可能重复转换，结果相同
+            pinyin = cache[c - CJK_START];
+            if (null == pinyin) {
+                pinyin = convert(c, format);
+                cache[c - CJK_START] = pinyin;
             }
-            return StringUtil.join(StringUtil.nullToDefault(delimiter, ""), (Object[]) temp);
-        } catch (Exception e) {
-            log.error(e.getMessage(), e);
+        } else {
+            pinyin = convert(c, format);
         }
-        return "";
+        return isUpperFirst(pattern) ? StringUtil.upperFirst(pinyin) : pinyin;
+    }
+
+    /**
+     * 批量转换为拼音，数量较多时并行转换
+     *
+     * @param strs      字符串集合
+     * @param delimiter 每个字的拼音之间的分隔符，为{@code null}时不分隔
+     * @param pattern   格式，为{@code null}时不带音调
+     * @return 拼音，顺序与字符串集合一致
+     * @throws ElementConvertException 某个字符串转换失败，携带该字符串的下标
+     */
+    public static List<String> toPinyin(Collection<String> strs, String delimiter, PinyinPattern pattern) {
+        return convertAll(strs, (value, defaultValue) -> toPinyin((String) value, delimiter, pattern));
     }
 
     public static String toShortPinyin(String str) {
-        try {
-            return PinyinHelper.getShortPinyin(str);
-        } catch (PinyinException e) {
-            log.error(e.getMessage(), e);
+        if (StringUtil.isEmpty(str)) {
+            return "";
+        }
+        String pinyin = SHORT_PINYIN_CACHE.get(str);
+        if (null == pinyin) {
+            try {
+                pinyin = PinyinHelper.getShortPinyin(str);
+            } catch (PinyinException e) {
+                throw new UtilException(e, "Can't convert to pinyin: {}", str);
+            }
+            cache(SHORT_PINYIN_CACHE, str, pinyin);
         }
-        return "";
+        return pinyin;
+    }
+
+    /**
+     * 批量转换为拼音首字母，数量较多时并行转换
+     *
+     * @param strs 字符串集合
+     * @return 拼音首字母，顺序与字符串集合一致
+     * @throws ElementConvertException 某个字符串转换失败，携带该字符串的下标
+     */
+    public static List<String> toShortPinyin(Collection<String> strs) {
+        return convertAll(strs, (value, defaultValue) -> toShortPinyin((String) value));
     }
 
     /**
      * 是否多音字
      */
     public static boolean isPolyphony(char c) {
-        return PinyinHelper.hasMultiPinyin(c);
+        return ChineseUtil.is(c, ChineseCharPattern.POLYPHONY);
     }
 
     public static List<String> findPolyphony(String str) {
-        List<String> list = new ArrayList<>();
-        for (char ch : str.toCharArray()) {
-            if (isPolyphony(ch)) {
-                String s = Character.toString(ch);
-                if (list.contains(s)) {
-                    continue;
+        return ChineseUtil.toStrings(ChineseUtil.scan(str, ChineseCharPattern.POLYPHONY));
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private record PinyinKey(String str, String delimiter, PinyinPattern pattern) {
+    }
+
+    private static PinyinFormat getFormat(PinyinPattern pattern) {
+        return pattern == null ? PinyinFormat.WITHOUT_TONE : PinyinFormat.valueOf(pattern.getFormat());
+    }
+
+    private static boolean isUpperFirst(PinyinPattern pattern) {
+        return pattern != null && pattern.getCode() % 2 == 0;
+    }
+
+    private static String convert(String str, String delimiter, PinyinPattern pattern) {
+        try {
+            if (!isUpperFirst(pattern)) {
+                return PinyinHelper.convertToPinyinString(str, delimiter, getFormat(pattern));
+            }
+            // 用分隔符转换后一次遍历：每段首字母大写，分隔符替换为指定的分隔符
+            final String pinyin = PinyinHelper.convertToPinyinString(str, String.valueOf(SEPARATOR), getFormat(pattern));
+            final StringBuilder builder = new StringBuilder(pinyin.length() + str.length() * delimiter.length());
+            boolean segmentStart = true;
+            for (int i = 0; i < pinyin.length(); i++) {
+                final char c = pinyin.charAt(i);
+                if (c == SEPARATOR) {
+                    builder.append(delimiter);
+                    segmentStart = true;
+                } else {
+                    builder.append(segmentStart ? Character.toUpperCase(c) : c);
+                    segmentStart = false;
                 }
-                list.add(Character.toString(ch));
             }
+            return builder.toString();
+        } catch (PinyinException e) {
+            throw new UtilException(e, "Can't convert to pinyin: {}", str);
         }
-        return list;
     }
 
-    private static PinyinFormat getFormat(PinyinPattern pattern) {
-        return pattern == null ? PinyinFormat.WITHOUT_TONE : PinyinFormat.valueOf(pattern.getFormat());
+    private static String convert(char c, PinyinFormat format) {
+        final String[] pinyins = ChineseUtil.isChinese(c) ? PinyinHelper.convertToPinyinArray(c, format) : null;
+        return null == pinyins || 0 == pinyins.length ? String.valueOf(c) : pinyins[0];
+    }
+
+    private static <K> void cache(Map<K, String> cache, K key, String value) {
+        if (cache.size() >= MAX_CACHED) {
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
+    private static List<String> convertAll(Collection<String> strs, Converter<String> converter) {
+        if (null == strs || strs.isEmpty()) {
+            return new ArrayList<>();
+        }
+        final Object[] result = ParallelConvert.convert(strs, converter);
+        return new ArrayList<>(Arrays.asList(Arrays.copyOf(result, result.length, String[].class)));
     }
+    // -------------------------------------------------------------------------------------- Private method end
 }
@@ -1,13 +1,15 @@
 package com.ipower.framework.common.core.text;
 
 import com.ipower.framework.common.core.collection.ArrayUtil;
-import com.ipower.framework.common.core.constant.CharPool;
 import com.ipower.framework.common.core.lang.StringUtil;
 
 /**
  * 字符串格式化工具
  * <p>
  * 参考:<a href="https://gitee.com/loolly/hutool">...</a>
+ * <p>
+ * 模板按字符串引用缓存编译结果（见{@link StringTemplate}），常量模板重复格式化时不再查找占位符；
+ * 热点代码中可以直接持有{@link StringTemplate#compile(String)}的结果。
  *
  * @author kris
  * @since 1.0.0
@@ -31,53 +33,29 @@ public class StringFormatter {
         if (StringUtil.isEmpty(pattern) || ArrayUtil.isEmpty(args)) {
             return pattern;
         }
-        final int strPatternLength = pattern.length();
-
-        // 初始化定义好的长度以获得更好的性能
-        StringBuilder sb = new StringBuilder(strPatternLength + 50);
-
-        // 记录已经处理到的位置
-        int handledPosition = 0;
-        int delimitIndex;// 占位符所在位置
-        for (int argIndex = 0; argIndex < args.length; argIndex++) {
-            delimitIndex = pattern.indexOf(StringUtil.EMPTY_JSON, handledPosition);
-            // 剩余部分无占位符
-            if (delimitIndex == -1) {
-                // 不带占位符的模板直接返回
-                if (handledPosition == 0) {
-                    return pattern;
-                }
-                // 字符串模板剩余部分不再包含占位符，加入剩余部分后返回结果
-                sb.append(pattern, handledPosition, strPatternLength);
-                return sb.toString();
-            }
-
-            // 转义符
-            if (delimitIndex > 0 && pattern.charAt(delimitIndex - 1) == CharPool.BACKSLASH) {
-                // 双转义符
-                if (delimitIndex > 1 && pattern.charAt(delimitIndex - 2) == CharPool.BACKSLASH) {
-                    // 转义符之前还有一个转义符，占位符依旧有效
-                    sb.append(pattern, handledPosition, delimitIndex - 1);
-                    sb.append(StringUtil.toUtf8String(args[argIndex]));
-                    handledPosition = delimitIndex + 2;
-                } else {
-                    // 占位符被转义
-                    argIndex--;
-                    sb.append(pattern, handledPosition, delimitIndex - 1);
-                    sb.append(CharPool.DELIM_START);
-                    handledPosition = delimitIndex + 1;
-                }
-            } else {// 正常占位符
-                sb.append(pattern, handledPosition, delimitIndex);
-                sb.append(StringUtil.toUtf8String(args[argIndex]));
-                handledPosition = delimitIndex + 2;
-            }
-        }
+        return StringTemplate.compile(pattern).format(args);
+    }
 
-        // append the characters following the last {} pair.
-        // 加入最后一个占位符后所有的字符
-        sb.append(pattern, handledPosition, pattern.length());
+    /**
+     * 格式化字符串并追加到指定的{@link StringBuilder}，规则与{@link #format(String, Object...)}相同
+     *
+     * @param builder 输出
+     * @param pattern 字符串模板
+     * @param args    参数列表
+     * @return 传入的{@link StringBuilder}
+     */
+    public static StringBuilder formatTo(final StringBuilder builder, final String pattern, final Object... args) {
+        return StringTemplate.compile(pattern).formatTo(builder, args);
+    }
 
-        return sb.toString();
+    /**
+     * 延迟格式化的消息，用作日志参数时日志级别未开启则不会格式化
+     *
+     * @param pattern 字符串模板
+     * @param args    参数列表
+     * @return 消息
+     */
+    public static LazyMessage lazy(final String pattern, final Object... args) {
+        return StringTemplate.compile(pattern).lazy(args);
     }
 }
@@ -0,0 +1,197 @@
+package com.ipower.framework.common.core.text;
+
+import com.ipower.framework.common.core.constant.CharPool;
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.lang.StringUtil;
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 预编译的字符串模板，占位符和转义规则与{@link StringFormatter#format(String, Object...)}相同
+ * <p>
+ * 模板只解析一次，记录每个占位符（包括被转义的 {}）之前的文本位置，格式化时按位置拼接文本和参数，不再查找占位符。
+ * 与{@link StringFormatter#format(String, Object...)}一样，参数用完后剩余部分原样输出，其中的转义符不做处理。
+ * </p>
+ * <p>
+ * {@link #compile(String)}按模板字符串的引用缓存编译结果，缓存是固定大小的数组，按引用的哈希值直接定位，
+ * 冲突时覆盖，不会随模板数量增长；常量模板是同一个字符串对象，可以稳定命中缓存。实例不可变，可以在多线程中共享。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class StringTemplate {
+
+    private static final int CACHE_SIZE = 512;
+    private static final StringTemplate[] CACHE = new StringTemplate[CACHE_SIZE];
+
+    /**
+     * 模板字符串
+     */
+    private final String pattern;
+    /**
+     * 第i个占位符之前的文本结束位置
+     */
+    private final int[] textEnds;
+    /**
+     * 第i个占位符之后的文本开始位置
+     */
+    private final int[] nexts;
+    /**
+     * 第i个占位符是否被转义，被转义时输出 {
+     */
+    private final boolean[] escaped;
+    private final int placeholderCount;
+
+    private StringTemplate(String pattern) {
+        this.pattern = pattern;
+        int[] ends = new int[4];
+        int[] starts = new int[4];
+        boolean[] escapes = new boolean[4];
+        int size = 0;
+        int count = 0;
+        int position = 0;
+        int delimitIndex;
+        while ((delimitIndex = pattern.indexOf(StringUtil.EMPTY_JSON, position)) != -1) {
+            if (size == ends.length) {
+                ends = Arrays.copyOf(ends, size << 1);
+                starts = Arrays.copyOf(starts, size << 1);
+                escapes = Arrays.copyOf(escapes, size << 1);
+            }
+            if (delimitIndex > 0 && pattern.charAt(delimitIndex - 1) == CharPool.BACKSLASH) {
+                ends[size] = delimitIndex - 1;
+                if (delimitIndex > 1 && pattern.charAt(delimitIndex - 2) == CharPool.BACKSLASH) {
+                    // 双转义符，输出一个转义符，占位符依旧有效
+                    starts[size] = delimitIndex + 2;
+                    count++;
+                } else {
+                    // 占位符被转义，只输出 {，} 作为后面的文本
+                    starts[size] = delimitIndex + 1;
+                    escapes[size] = true;
+                }
+            } else {
+                ends[size] = delimitIndex;
+                starts[size] = delimitIndex + 2;
+                count++;
+            }
+            position = starts[size++];
+        }
+        this.textEnds = Arrays.copyOf(ends, size);
+        this.nexts = Arrays.copyOf(starts, size);
+        this.escaped = Arrays.copyOf(escapes, size);
+        this.placeholderCount = count;
+    }
+
+    /**
+     * 编译模板，同一个模板字符串对象优先返回缓存的结果
+     *
+     * @param pattern 字符串模板
+     * @return 编译后的模板
+     */
+    public static StringTemplate compile(String pattern) {
+        Validate.notNull(pattern, "The pattern must not be null");
+        final int index = System.identityHashCode(pattern) & (CACHE_SIZE - 1);
+        StringTemplate template = CACHE[index];
+        if (null == template || template.pattern != pattern) {
+            template = new StringTemplate(pattern);
+            // 字段都是final，并发时不需要额外的同步
+            CACHE[index] = template;
+        }
+        return template;
+    }
+
+    /**
+     * @return 模板字符串
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @return 有效的占位符数量，不包括被转义的占位符
+     */
+    public int getPlaceholderCount() {
+        return placeholderCount;
+    }
+
+    /**
+     * 格式化，结果与{@link StringFormatter#format(String, Object...)}相同
+     *
+     * @param args 参数列表
+     * @return 结果
+     */
+    public String format(Object... args) {
+        if (null == args || 0 == args.length || 0 == textEnds.length) {
+            return pattern;
+        }
+        return formatTo(new StringBuilder(pattern.length() + 50), args).toString();
+    }
+
+    /**
+     * 格式化并追加到指定的{@link StringBuilder}
+     *
+     * @param builder 输出
+     * @param args    参数列表
+     * @return 传入的{@link StringBuilder}
+     */
+    public StringBuilder formatTo(StringBuilder builder, Object... args) {
+        try {
+            return render(builder, args);
+        } catch (IOException e) {
+            // StringBuilder不会抛出IOException
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 格式化并追加到指定的{@link Appendable}，如{@link java.io.Writer}
+     *
+     * @param appendable 输出
+     * @param args       参数列表
+     * @param <A>        输出类型
+     * @return 传入的{@link Appendable}
+     * @throws IOException 写出失败
+     */
+    public <A extends Appendable> A formatTo(A appendable, Object... args) throws IOException {
+        return render(appendable, args);
+    }
+
+    /**
+     * 延迟格式化的消息，只在第一次调用{@code toString()}时格式化，用作日志参数时日志级别未开启则不会格式化
+     *
+     * @param args 参数列表
+     * @return 消息
+     */
+    public LazyMessage lazy(Object... args) {
+        return new LazyMessage(this, args);
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private <A extends Appendable> A render(A appendable, Object[] args) throws IOException {
+        Validate.notNull(appendable, "The appendable must not be null");
+        int position = 0;
+        if (null != args && 0 != args.length) {
+            int argIndex = 0;
+            for (int i = 0; i < textEnds.length && argIndex < args.length; i++) {
+                appendable.append(pattern, position, textEnds[i]);
+                if (escaped[i]) {
+                    appendable.append(CharPool.DELIM_START);
+                } else {
+                    appendable.append(StringUtil.toUtf8String(args[argIndex++]));
+                }
+                position = nexts[i];
+            }
+        }
+        appendable.append(pattern, position, pattern.length());
+        return appendable;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,23 @@
+package com.ipower.framework.common.core.text.pattern;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 汉字的分类，用于按类别判断和扫描字符
+ *
+ * @author kris
+ */
+@Getter
+@AllArgsConstructor
+public enum ChineseCharPattern {
+
+    CHINESE(1, "汉字"),
+    TRADITIONAL(2, "繁体字"),
+    POLYPHONY(3, "多音字");
+
+    private final int code;
+
+    private final String description;
+
+}
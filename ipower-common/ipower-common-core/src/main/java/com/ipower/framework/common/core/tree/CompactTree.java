@@ -0,0 +1,383 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.lang.ObjectUtil;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import java.io.Serial;
+import java.util.*;
+
+/**
+ * 紧凑的树节点，与{@link Tree}有相同的键和JSON结构，适用于菜单、行政区划、组织机构等节点数量很大的树
+ * <p>
+ * {@link Tree}继承自{@link LinkedHashMap}，每个节点都要为5、6个固定的键分配哈希表和链表节点。
+ * 本节点将ID、父节点ID、名称、权重和子节点保存在固定的字段中，字段对应的键由{@link TreeConfig}决定，
+ * 只有{@link #putExtra(String, Object)}的扩展属性才使用额外的Map保存。
+ * </p>
+ * <p>
+ * 作为{@link Map}使用时，固定字段按设置的先后顺序排在前面（子节点在构造时设置，总是第一个），扩展属性按插入顺序排在后面；
+ * 被设置为{@code null}的固定字段仍然存在，与{@link Tree}一致。
+ * </p>
+ *
+ * @param <T> ID类型
+ * @author kris
+ * @since 1.0.0
+ */
+public class CompactTree<T> extends AbstractMap<String, Object> implements Node<T, CompactTree<T>> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final int ID = 1;
+    private static final int PARENT_ID = 2;
+    private static final int NAME = 3;
+    private static final int WEIGHT = 4;
+    private static final int CHILDREN = 5;
+    /**
+     * 固定字段的数量
+     */
+    private static final int SLOTS = 5;
+
+    private final TreeConfig treeConfig;
+    private Object id;
+    private Object parentId;
+    private Object name;
+    private Object weight;
+    private Object children;
+    /**
+     * 已设置的固定字段，按设置顺序每4位保存一个字段编号
+     */
+    private int order;
+    /**
+     * 扩展属性，没有扩展属性时为{@code null}
+     */
+    private Map<String, Object> extra;
+
+    public CompactTree() {
+        this(null);
+    }
+
+    /**
+     * 构造
+     *
+     * @param treeConfig TreeNode配置
+     */
+    public CompactTree(TreeConfig treeConfig) {
+        this.treeConfig = ObjectUtil.nullToDefault(treeConfig, TreeConfig.DEFAULT_CONFIG);
+        setSlot(CHILDREN, new ArrayList<>());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getId() {
+        return (T) id;
+    }
+
+    public CompactTree<T> setId(T id) {
+        setSlot(ID, id);
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getParentId() {
+        return (T) parentId;
+    }
+
+    public CompactTree<T> setParentId(T parentId) {
+        setSlot(PARENT_ID, parentId);
+        return this;
+    }
+
+    @Override
+    public CharSequence getName() {
+        return (CharSequence) name;
+    }
+
+    public CompactTree<T> setName(CharSequence name) {
+        setSlot(NAME, name);
+        return this;
+    }
+
+    @Override
+    public Comparable<?> getWeight() {
+        return (Comparable<?>) weight;
+    }
+
+    public CompactTree<T> setWeight(Comparable<?> weight) {
+        setSlot(WEIGHT, weight);
+        return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CompactTree<T>> getChildren() {
+        return (List<CompactTree<T>>) children;
+    }
+
+    public void setChildren(List<CompactTree<T>> children) {
+        setSlot(CHILDREN, children);
+    }
+
+    /**
+     * 扩展属性
+     *
+     * @param key   键
+     * @param value 扩展值
+     */
+    public void putExtra(String key, Object value) {
+        Assert.notNull(key, "Key must be not empty !");
+        this.put(key, value);
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(presence()) + (null == extra ? 0 : extra.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        final int slot = slotOf(key);
+        return slot > 0 ? isSet(slot) : null != extra && extra.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int slot = slotOf(key);
+        return slot > 0 ? getSlot(slot) : null == extra ? null : extra.get(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        final int slot = slotOf(key);
+        if (slot > 0) {
+            final Object old = getSlot(slot);
+            setSlot(slot, value);
+            return old;
+        }
+        if (null == extra) {
+            extra = new LinkedHashMap<>(4);
+        }
+        return extra.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        final int slot = slotOf(key);
+        if (slot > 0) {
+            final Object old = getSlot(slot);
+            clearSlot(slot);
+            return old;
+        }
+        return null == extra ? null : extra.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        id = parentId = name = weight = children = null;
+        order = 0;
+        extra = null;
+    }
+
+    @NonNull
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+            @NonNull
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return CompactTree.this.size();
+            }
+        };
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 先遍历已设置的固定字段，再遍历扩展属性
+     */
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int remaining = order;
+        private Iterator<Entry<String, Object>> extraIterator;
+        private int lastSlot;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0 || extras().hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (remaining != 0) {
+                final int slot = remaining & 0xF;
+                remaining >>>= 4;
+                lastSlot = slot;
+                return new SlotEntry(slot);
+            }
+            lastSlot = 0;
+            return extras().next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastSlot > 0) {
+                clearSlot(lastSlot);
+                lastSlot = -1;
+            } else if (lastSlot == 0 && null != extraIterator) {
+                extraIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<Entry<String, Object>> extras() {
+            if (null == extraIterator) {
+                extraIterator = null == extra ? Collections.emptyIterator() : extra.entrySet().iterator();
+            }
+            return extraIterator;
+        }
+    }
+
+    /**
+     * 固定字段的键值对，{@link #setValue(Object)}会写回节点
+     */
+    private final class SlotEntry implements Entry<String, Object> {
+
+        private final int slot;
+
+        private SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public String getKey() {
+            return keyOf(slot);
+        }
+
+        @Override
+        public Object getValue() {
+            return getSlot(slot);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            final Object old = getSlot(slot);
+            setSlot(slot, value);
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> entry && Objects.equals(getKey(), entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * 键对应的固定字段编号，不是固定字段时返回0
+     */
+    private int slotOf(Object key) {
+        if (!(key instanceof String)) {
+            return 0;
+        }
+        if (key.equals(treeConfig.getIdKey())) {
+            return ID;
+        }
+        if (key.equals(treeConfig.getParentIdKey())) {
+            return PARENT_ID;
+        }
+        if (key.equals(treeConfig.getNameKey())) {
+            return NAME;
+        }
+        if (key.equals(treeConfig.getWeightKey())) {
+            return WEIGHT;
+        }
+        if (key.equals(treeConfig.getChildrenKey())) {
+            return CHILDREN;
+        }
+        return 0;
+    }
+
+    private String keyOf(int slot) {
+        return switch (slot) {
+            case ID -> treeConfig.getIdKey();
+            case PARENT_ID -> treeConfig.getParentIdKey();
+            case NAME -> treeConfig.getNameKey();
+            case WEIGHT -> treeConfig.getWeightKey();
+            default -> treeConfig.getChildrenKey();
+        };
+    }
+
+    private Object getSlot(int slot) {
+        return switch (slot) {
+            case ID -> id;
+            case PARENT_ID -> parentId;
+            case NAME -> name;
+            case WEIGHT -> weight;
+            default -> children;
+        };
+    }
+
+    private void setSlot(int slot, Object value) {
+        switch (slot) {
+            case ID -> id = value;
+            case PARENT_ID -> parentId = value;
+            case NAME -> name = value;
+            case WEIGHT -> weight = value;
+            default -> children = value;
+        }
+        if (!isSet(slot)) {
+            // 追加到已设置字段的末尾
+            int shift = 0;
+            while (shift < SLOTS * 4 && ((order >>> shift) & 0xF) != 0) {
+                shift += 4;
+            }
+            order |= slot << shift;
+        }
+    }
+
+    private void clearSlot(int slot) {
+        setSlot(slot, null);
+        int remaining = order;
+        int result = 0;
+        int shift = 0;
+        for (; remaining != 0; remaining >>>= 4) {
+            if ((remaining & 0xF) != slot) {
+                result |= (remaining & 0xF) << shift;
+                shift += 4;
+            }
+        }
+        order = result;
+    }
+
+    private boolean isSet(int slot) {
+        return (presence() & (1 << slot)) != 0;
+    }
+
+    /**
+     * 已设置字段的位图
+     */
+    private int presence() {
+        int bits = 0;
+        for (int remaining = order; remaining != 0; remaining >>>= 4) {
+            bits |= 1 << (remaining & 0xF);
+        }
+        return bits;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -16,7 +16,9 @@ import java.util.stream.Collectors;
  * @param <T> ID类型
  * @param <C> 节点类型
  * @author ldz
+ * @deprecated {@link TreeUtil#build(List)}已不再使用，节点索引改为在构建过程中使用{@link java.util.HashMap}
  */
+@Deprecated
 public class NodeManager<T, C extends Node<T, C>> {
 
     /**
@@ -33,7 +33,7 @@ public class Tree<T> extends LinkedHashMap<String, Object> implements Node<T, Tr
     public Tree(TreeConfig treeConfig) {
         super();
         this.treeConfig = ObjectUtil.nullToDefault(treeConfig, TreeConfig.DEFAULT_CONFIG);
-        this.put(treeConfig.getChildrenKey(), new ArrayList<>());
+        this.put(this.treeConfig.getChildrenKey(), new ArrayList<>());
     }
 
     @Override
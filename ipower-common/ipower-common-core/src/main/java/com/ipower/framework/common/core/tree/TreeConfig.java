@@ -46,6 +46,16 @@ public class TreeConfig implements Serializable {
      */
     private String childrenKey = "children";
 
+    /**
+     * 最大层级，根节点为第1层，超过该层级的节点不会挂到树上，为{@code null}时不限制
+     */
+    private Integer maxDepth;
+
+    /**
+     * 是否并行排序各层的子节点，节点数量较少时仍然串行排序
+     */
+    private boolean parallelSort;
+
     /**
      * 设置ID对应的名称
      *
@@ -102,4 +112,26 @@ public class TreeConfig implements Serializable {
         return this;
     }
 
+    /**
+     * 设置最大层级
+     *
+     * @param maxDepth 最大层级，根节点为第1层，为{@code null}时不限制
+     * @return this
+     */
+    public TreeConfig setMaxDepth(Integer maxDepth) {
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * 设置是否并行排序各层的子节点
+     *
+     * @param parallelSort 是否并行排序
+     * @return this
+     */
+    public TreeConfig setParallelSort(boolean parallelSort) {
+        this.parallelSort = parallelSort;
+        return this;
+    }
+
 }
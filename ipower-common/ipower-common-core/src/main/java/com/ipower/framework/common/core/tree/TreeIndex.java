@@ -0,0 +1,515 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.lang.Validate;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 树索引，用于频繁查询祖先、子孙和子树成员关系的场景，如按部门树做数据权限过滤
+ * <p>
+ * 只维护节点ID之间的父子关系，支持增加、移动和删除节点，修改时不需要重新构建整棵树。
+ * 查询通过{@link #snapshot()}获取的不可变快照完成：快照按先序遍历（欧拉序）为每个节点编号，
+ * 节点的子孙在编号上是一个连续区间，判断祖先/子孙关系为O(1)，获取子孙列表为O(1)的视图。
+ * </p>
+ * <p>
+ * 每次修改都会产生新的版本，快照在修改后第一次查询时按当前版本构建一次（O(n)），之后的查询都复用该快照；
+ * 快照不可变，读线程无需加锁，持有的旧快照不受后续修改影响。修改方法之间互斥。
+ * </p>
+ * <pre>
+ *     TreeIndex&lt;Long&gt; index = TreeIndex.of(depts, Dept::getId, Dept::getParentId);
+ *     TreeIndex.Snapshot&lt;Long&gt; snapshot = index.snapshot();
+ *     List&lt;Long&gt; deptIds = Users.deptIds().stream().flatMap(id -&gt; snapshot.subtree(id).stream()).distinct().toList();
+ * </pre>
+ *
+ * @param <T> ID类型
+ * @author kris
+ * @since 1.0.0
+ */
+public class TreeIndex<T> {
+
+    /**
+     * ID -> 节点
+     */
+    private final Map<T, Entry<T>> entries = new HashMap<>();
+    /**
+     * 根节点，保持加入顺序
+     */
+    private final Set<Entry<T>> roots = new LinkedHashSet<>();
+    /**
+     * 版本号，每次修改加1
+     */
+    private volatile long version;
+    /**
+     * 最近一次构建的快照
+     */
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * 创建空的树索引
+     */
+    public TreeIndex() {
+    }
+
+    /**
+     * 从树节点创建树索引，父节点不存在的节点作为根节点
+     *
+     * @param nodes 树节点
+     * @param <T>   ID类型
+     * @return 树索引
+     * @throws UtilException 父节点关系存在环
+     */
+    public static <T> TreeIndex<T> of(Collection<? extends Node<T, ?>> nodes) {
+        return of(nodes, Node::getId, Node::getParentId);
+    }
+
+    /**
+     * 从源数据创建树索引，父节点不存在的节点作为根节点
+     *
+     * @param items          源数据
+     * @param idGetter       ID取值函数
+     * @param parentIdGetter 父节点ID取值函数
+     * @param <T>            ID类型
+     * @param <E>            源数据类型
+     * @return 树索引
+     * @throws UtilException 父节点关系存在环
+     */
+    public static <T, E> TreeIndex<T> of(Collection<E> items, Function<? super E, ? extends T> idGetter,
+                                         Function<? super E, ? extends T> parentIdGetter) {
+        Validate.notNull(items, "The items must not be null");
+        final TreeIndex<T> index = new TreeIndex<>();
+        final List<T> parentIds = new ArrayList<>(items.size());
+        for (E item : items) {
+            final T id = idGetter.apply(item);
+            final Entry<T> entry = new Entry<>(id);
+            Validate.isTrue(null == index.entries.put(id, entry), "Duplicate tree node id: {}", id);
+            parentIds.add(parentIdGetter.apply(item));
+        }
+        int i = 0;
+        for (E item : items) {
+            final Entry<T> entry = index.entries.get(idGetter.apply(item));
+            final Entry<T> parent = index.entries.get(parentIds.get(i++));
+            if (null == parent) {
+                index.roots.add(entry);
+            } else {
+                entry.parent = parent;
+                parent.children.add(entry);
+            }
+        }
+        index.checkReachable();
+        return index;
+    }
+
+    /**
+     * 增加节点
+     *
+     * @param id       节点ID
+     * @param parentId 父节点ID，为{@code null}时作为根节点
+     * @throws IllegalArgumentException 节点已存在或父节点不存在
+     */
+    public synchronized void add(T id, T parentId) {
+        Validate.isTrue(!entries.containsKey(id), "Tree node [{}] already exists", id);
+        final Entry<T> parent = null == parentId ? null : entryOf(parentId);
+        final Entry<T> entry = new Entry<>(id);
+        entries.put(id, entry);
+        attach(entry, parent);
+        version++;
+    }
+
+    /**
+     * 移动节点及其子孙到新的父节点下，作为最后一个子节点
+     *
+     * @param id          节点ID
+     * @param newParentId 新的父节点ID，为{@code null}时作为根节点
+     * @throws IllegalArgumentException 节点或父节点不存在，或新的父节点是该节点本身或其子孙
+     */
+    public synchronized void move(T id, T newParentId) {
+        final Entry<T> entry = entryOf(id);
+        final Entry<T> parent = null == newParentId ? null : entryOf(newParentId);
+        for (Entry<T> current = parent; null != current; current = current.parent) {
+            Validate.isTrue(current != entry, "Cannot move tree node [{}] under itself or its descendant [{}]", id, newParentId);
+        }
+        detach(entry);
+        attach(entry, parent);
+        version++;
+    }
+
+    /**
+     * 删除节点及其子孙
+     *
+     * @param id 节点ID
+     * @return 删除的节点数量，节点不存在时返回0
+     */
+    public synchronized int remove(T id) {
+        final Entry<T> entry = entries.get(id);
+        if (null == entry) {
+            return 0;
+        }
+        detach(entry);
+        int removed = 0;
+        final Deque<Entry<T>> stack = new ArrayDeque<>();
+        stack.push(entry);
+        while (!stack.isEmpty()) {
+            final Entry<T> current = stack.pop();
+            entries.remove(current.id);
+            removed++;
+            current.children.forEach(stack::push);
+        }
+        version++;
+        return removed;
+    }
+
+    /**
+     * 是否包含节点
+     *
+     * @param id 节点ID
+     * @return 是否包含
+     */
+    public synchronized boolean contains(T id) {
+        return entries.containsKey(id);
+    }
+
+    /**
+     * 当前版本号，每次修改加1
+     *
+     * @return 版本号
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 获取当前版本的快照，当前版本的快照已构建时直接返回，不加锁
+     *
+     * @return 快照
+     */
+    public Snapshot<T> snapshot() {
+        final Snapshot<T> current = snapshot;
+        if (null != current && current.version == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (null == snapshot || snapshot.version != version) {
+                snapshot = new Snapshot<>(this);
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 树索引的不可变快照
+     *
+     * @param <T> ID类型
+     */
+    public static final class Snapshot<T> {
+
+        /**
+         * 版本号
+         */
+        private final long version;
+        /**
+         * 先序遍历顺序的节点ID
+         */
+        private final Object[] ids;
+        /**
+         * 子树结束位置（不包含），节点i的子孙位置为(i, end[i])
+         */
+        private final int[] end;
+        /**
+         * 父节点位置，根节点为-1
+         */
+        private final int[] parent;
+        /**
+         * 层级，根节点为0
+         */
+        private final int[] depth;
+        /**
+         * ID -> 先序位置
+         */
+        private final Map<T, Integer> positions;
+        /**
+         * 根节点
+         */
+        private final List<T> roots;
+
+        private Snapshot(TreeIndex<T> index) {
+            final int size = index.entries.size();
+            this.version = index.version;
+            this.ids = new Object[size];
+            this.end = new int[size];
+            this.parent = new int[size];
+            this.depth = new int[size];
+            this.positions = new HashMap<>((int) (size / 0.75f) + 1);
+            final List<T> rootIds = new ArrayList<>(index.roots.size());
+            // 迭代的先序遍历，栈中保存位置和下一个子节点的下标
+            final Entry<?>[] entryStack = new Entry<?>[Math.max(size, 1)];
+            final int[] positionStack = new int[Math.max(size, 1)];
+            final int[] childStack = new int[Math.max(size, 1)];
+            int next = 0;
+            for (Entry<T> root : index.roots) {
+                rootIds.add(root.id);
+                int top = 0;
+                entryStack[0] = root;
+                positionStack[0] = visit(root, next++, -1, 0);
+                childStack[0] = 0;
+                while (top >= 0) {
+                    final Entry<?> current = entryStack[top];
+                    if (childStack[top] < current.children.size()) {
+                        @SuppressWarnings("unchecked") final Entry<T> child = (Entry<T>) current.children.get(childStack[top]++);
+                        final int position = visit(child, next++, positionStack[top], top + 1);
+                        top++;
+                        entryStack[top] = child;
+                        positionStack[top] = position;
+                        childStack[top] = 0;
+                    } else {
+                        end[positionStack[top]] = next;
+                        entryStack[top--] = null;
+                    }
+                }
+            }
+            this.roots = Collections.unmodifiableList(rootIds);
+        }
+
+        /**
+         * 版本号
+         *
+         * @return 版本号
+         */
+        public long version() {
+            return version;
+        }
+
+        /**
+         * 节点数量
+         *
+         * @return 节点数量
+         */
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * 是否包含节点
+         *
+         * @param id 节点ID
+         * @return 是否包含
+         */
+        public boolean contains(T id) {
+            return positions.containsKey(id);
+        }
+
+        /**
+         * 根节点
+         *
+         * @return 根节点ID
+         */
+        public List<T> roots() {
+            return roots;
+        }
+
+        /**
+         * 父节点
+         *
+         * @param id 节点ID
+         * @return 父节点ID，节点为根节点或不存在时返回{@code null}
+         */
+        public T parent(T id) {
+            final Integer position = positions.get(id);
+            return null == position || parent[position] < 0 ? null : idAt(parent[position]);
+        }
+
+        /**
+         * 层级，根节点为0
+         *
+         * @param id 节点ID
+         * @return 层级，节点不存在时返回-1
+         */
+        public int depth(T id) {
+            final Integer position = positions.get(id);
+            return null == position ? -1 : depth[position];
+        }
+
+        /**
+         * 是否为祖先节点（不包含节点本身）
+         *
+         * @param ancestor   祖先节点ID
+         * @param descendant 子孙节点ID
+         * @return 是否为祖先节点，任一节点不存在时返回{@code false}
+         */
+        public boolean isAncestor(T ancestor, T descendant) {
+            final Integer a = positions.get(ancestor);
+            final Integer d = positions.get(descendant);
+            return null != a && null != d && a < d && d < end[a];
+        }
+
+        /**
+         * 是否在子树中（包含子树的根节点本身）
+         *
+         * @param root 子树的根节点ID
+         * @param id   节点ID
+         * @return 是否在子树中，任一节点不存在时返回{@code false}
+         */
+        public boolean inSubtree(T root, T id) {
+            final Integer r = positions.get(root);
+            final Integer p = positions.get(id);
+            return null != r && null != p && r <= p && p < end[r];
+        }
+
+        /**
+         * 子节点
+         *
+         * @param id 节点ID
+         * @return 子节点ID，节点不存在时返回空列表
+         */
+        public List<T> children(T id) {
+            final Integer position = positions.get(id);
+            if (null == position) {
+                return Collections.emptyList();
+            }
+            final List<T> children = new ArrayList<>();
+            for (int child = position + 1; child < end[position]; child = end[child]) {
+                children.add(idAt(child));
+            }
+            return children;
+        }
+
+        /**
+         * 子孙节点（不包含节点本身），按先序遍历顺序
+         *
+         * @param id 节点ID
+         * @return 子孙节点ID的不可变视图，节点不存在时返回空列表
+         */
+        public List<T> descendants(T id) {
+            final Integer position = positions.get(id);
+            return null == position ? Collections.emptyList() : range(position + 1, end[position]);
+        }
+
+        /**
+         * 子树中的节点（包含节点本身），按先序遍历顺序，适用于按部门及下级部门过滤数据
+         *
+         * @param id 子树的根节点ID
+         * @return 子树节点ID的不可变视图，节点不存在时返回空列表
+         */
+        public List<T> subtree(T id) {
+            final Integer position = positions.get(id);
+            return null == position ? Collections.emptyList() : range(position, end[position]);
+        }
+
+        /**
+         * 祖先节点，从父节点到根节点
+         *
+         * @param id 节点ID
+         * @return 祖先节点ID，节点不存在时返回空列表
+         */
+        public List<T> ancestors(T id) {
+            final Integer position = positions.get(id);
+            if (null == position) {
+                return Collections.emptyList();
+            }
+            final List<T> ancestors = new ArrayList<>(depth[position]);
+            for (int current = parent[position]; current >= 0; current = parent[current]) {
+                ancestors.add(idAt(current));
+            }
+            return ancestors;
+        }
+
+        // -------------------------------------------------------------------------------------- Private method start
+
+        private int visit(Entry<T> entry, int position, int parentPosition, int level) {
+            ids[position] = entry.id;
+            parent[position] = parentPosition;
+            depth[position] = level;
+            positions.put(entry.id, position);
+            return position;
+        }
+
+        @SuppressWarnings("unchecked")
+        private T idAt(int position) {
+            return (T) ids[position];
+        }
+
+        private List<T> range(int from, int to) {
+            return new AbstractList<>() {
+                @Override
+                public T get(int index) {
+                    Objects.checkIndex(index, to - from);
+                    return idAt(from + index);
+                }
+
+                @Override
+                public int size() {
+                    return to - from;
+                }
+            };
+        }
+        // -------------------------------------------------------------------------------------- Private method end
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 可变的树节点
+     *
+     * @param <T> ID类型
+     */
+    private static final class Entry<T> {
+
+        private final T id;
+        private final List<Entry<T>> children = new ArrayList<>(0);
+        private Entry<T> parent;
+        private boolean mark;
+
+        private Entry(T id) {
+            this.id = id;
+        }
+    }
+
+    private Entry<T> entryOf(T id) {
+        final Entry<T> entry = entries.get(id);
+        Validate.isTrue(null != entry, "Tree node [{}] does not exist", id);
+        return entry;
+    }
+
+    private void attach(Entry<T> entry, Entry<T> parent) {
+        entry.parent = parent;
+        if (null == parent) {
+            roots.add(entry);
+        } else {
+            parent.children.add(entry);
+        }
+    }
+
+    private void detach(Entry<T> entry) {
+        if (null == entry.parent) {
+            roots.remove(entry);
+        } else {
+            entry.parent.children.remove(entry);
+            entry.parent = null;
+        }
+    }
+
+    /**
+     * 检查所有节点都能从根节点到达，否则父节点关系存在环
+     */
+    private void checkReachable() {
+        final Deque<Entry<T>> stack = new ArrayDeque<>(roots);
+        int reached = 0;
+        while (!stack.isEmpty()) {
+            final Entry<T> current = stack.pop();
+            current.mark = true;
+            reached++;
+            current.children.forEach(stack::push);
+        }
+        if (reached < entries.size()) {
+            final List<T> ids = new ArrayList<>();
+            for (Entry<T> entry : entries.values()) {
+                if (!entry.mark && ids.size() < 10) {
+                    ids.add(entry.id);
+                }
+            }
+            throw new UtilException("Tree nodes form a parent cycle, ids: {}", ids);
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
@@ -0,0 +1,267 @@
+package com.ipower.framework.common.core.tree;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.lang.ObjectUtil;
+import com.ipower.framework.common.core.lang.Validate;
+import com.ipower.framework.common.core.tree.parser.CompactNodeParser;
+import com.ipower.framework.common.core.util.JacksonJsonUtil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * 树的流式JSON输出，从源数据直接写出嵌套的JSON，不创建{@link Tree}节点
+ * <p>
+ * 输出的JSON与{@code TreeUtil.build(list, treeConfig, nodeParser)}的结果经Jackson序列化后相同：
+ * 根节点的判断、各层按权重的稳定排序、{@link TreeConfig#getMaxDepth()}和父节点环的检查都与{@link TreeUtil#build}一致。
+ * </p>
+ * <p>
+ * 第一次遍历源数据只记录ID、父节点ID和权重，用int数组保存父子关系；输出时再逐个解析节点，
+ * 解析使用的{@link CompactTree}按层级复用，内存占用与源数据数量和树的深度相关，与节点的属性数量无关。
+ * 节点的值通过{@link JsonGenerator#writeObject(Object)}输出，使用生成器关联的{@code ObjectMapper}的序列化规则。
+ * </p>
+ *
+ * @author kris
+ * @since 1.0.0
+ */
+public final class TreeJsonWriter {
+
+    /**
+     * 按权重排序，权重为{@code null}的节点排在最后
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final Comparator<Object> WEIGHT_ORDER = Comparator.nullsLast((a, b) -> ((Comparable) a).compareTo(b));
+
+    private TreeJsonWriter() {
+        throw new AssertionError("No " + getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * 将源数据作为树写出到输出流，使用{@link JacksonJsonUtil#getObjectMapper()}的序列化规则，不关闭输出流
+     *
+     * @param list       源数据集合
+     * @param treeConfig 配置，为{@code null}时使用默认配置
+     * @param nodeParser 转换器
+     * @param out        输出流
+     * @param <T>        ID类型
+     * @param <E>        源数据类型
+     * @throws UtilException 父节点关系存在环，或写出失败
+     */
+    public static <T, E> void write(List<E> list, TreeConfig treeConfig, CompactNodeParser<T, E> nodeParser, OutputStream out) {
+        Validate.notNull(out, "The output stream must not be null");
+        try (JsonGenerator generator = JacksonJsonUtil.getObjectMapper().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            write(list, treeConfig, nodeParser, generator);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 将源数据作为树的根节点数组写出到生成器，不关闭生成器
+     *
+     * @param list       源数据集合
+     * @param treeConfig 配置，为{@code null}时使用默认配置
+     * @param nodeParser 转换器
+     * @param generator  JSON生成器，需要关联{@code ObjectMapper}才能输出任意类型的值
+     * @param <T>        ID类型
+     * @param <E>        源数据类型
+     * @throws IOException   写出失败
+     * @throws UtilException 父节点关系存在环，此时还没有写出任何内容
+     */
+    public static <T, E> void write(List<E> list, TreeConfig treeConfig, CompactNodeParser<T, E> nodeParser,
+                                    JsonGenerator generator) throws IOException {
+        Validate.notNull(nodeParser, "The node parser must not be null");
+        Validate.notNull(generator, "The generator must not be null");
+        final TreeConfig config = ObjectUtil.nullToDefault(treeConfig, TreeConfig.DEFAULT_CONFIG);
+        final Object[] items = null == list ? new Object[0] : list.toArray();
+        new Writer<>(items, config, nodeParser, generator).write();
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 一次写出的状态
+     */
+    private static final class Writer<T, E> {
+
+        private final Object[] items;
+        private final TreeConfig config;
+        private final CompactNodeParser<T, E> nodeParser;
+        private final JsonGenerator generator;
+        private final int maxDepth;
+        /**
+         * 按父节点分组的子节点下标，节点i的子节点为children[offsets[i], offsets[i + 1])
+         */
+        private int[] offsets;
+        private int[] children;
+        private int[] roots;
+        /**
+         * 按层级复用的解析节点
+         */
+        private final List<CompactTree<T>> scratches = new ArrayList<>();
+
+        private Writer(Object[] items, TreeConfig config, CompactNodeParser<T, E> nodeParser, JsonGenerator generator) {
+            this.items = items;
+            this.config = config;
+            this.nodeParser = nodeParser;
+            this.generator = generator;
+            this.maxDepth = null == config.getMaxDepth() ? Integer.MAX_VALUE : config.getMaxDepth();
+        }
+
+        private void write() throws IOException {
+            index();
+            generator.writeStartArray();
+            for (int root : roots) {
+                writeNode(root, 0);
+            }
+            generator.writeEndArray();
+        }
+
+        /**
+         * 解析ID、父节点ID和权重，建立父子关系并按权重排序，检查父节点环
+         */
+        private void index() {
+            final int size = items.length;
+            final Object[] ids = new Object[size];
+            final Object[] parentIds = new Object[size];
+            final Object[] weights = new Object[size];
+            final boolean[] defaultRoots = new boolean[size];
+            final CompactTree<T> scratch = scratch(0);
+            final Map<Object, Integer> indexes = new HashMap<>((int) (size / 0.75f) + 1);
+            for (int i = 0; i < size; i++) {
+                parse(i, scratch);
+                ids[i] = scratch.getId();
+                parentIds[i] = scratch.getParentId();
+                weights[i] = scratch.getWeight();
+                defaultRoots[i] = TreeUtil.isDefaultRoot(scratch);
+                indexes.put(ids[i], i);
+            }
+
+            // 计数排序按父节点分组，保持原有顺序
+            final int[] parents = new int[size];
+            offsets = new int[size + 1];
+            int rootCount = 0;
+            for (int i = 0; i < size; i++) {
+                final Integer parent = defaultRoots[i] ? null : indexes.get(parentIds[i]);
+                parents[i] = null == parent ? -1 : parent;
+                if (null == parent) {
+                    rootCount++;
+                } else {
+                    offsets[parent + 1]++;
+                }
+            }
+            for (int i = 0; i < size; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            children = new int[offsets[size]];
+            roots = new int[rootCount];
+            final int[] cursor = offsets.clone();
+            int r = 0;
+            for (int i = 0; i < size; i++) {
+                if (parents[i] < 0) {
+                    roots[r++] = i;
+                } else {
+                    children[cursor[parents[i]]++] = i;
+                }
+            }
+
+            // 环上的节点无法从根节点到达
+            final boolean[] visited = new boolean[size];
+            final int[] stack = new int[size];
+            int top = 0;
+            for (int root : roots) {
+                visited[root] = true;
+                stack[top++] = root;
+            }
+            int visitedCount = top;
+            while (top > 0) {
+                final int index = stack[--top];
+                for (int c = offsets[index]; c < offsets[index + 1]; c++) {
+                    visited[children[c]] = true;
+                    stack[top++] = children[c];
+                    visitedCount++;
+                }
+            }
+            if (visitedCount < size) {
+                final List<Object> unreachable = new ArrayList<>();
+                for (int i = 0; i < size && unreachable.size() < 10; i++) {
+                    if (!visited[i]) {
+                        unreachable.add(ids[i]);
+                    }
+                }
+                throw new UtilException("Tree nodes form a parent cycle, ids: {}", unreachable);
+            }
+
+            sortByWeight(roots, 0, roots.length, weights);
+            for (int i = 0; i < size; i++) {
+                sortByWeight(children, offsets[i], offsets[i + 1], weights);
+            }
+        }
+
+        private void writeNode(int index, int depth) throws IOException {
+            final CompactTree<T> node = scratch(depth);
+            parse(index, node);
+            final String childrenKey = config.getChildrenKey();
+            generator.writeStartObject();
+            for (Map.Entry<String, Object> entry : node.entrySet()) {
+                generator.writeFieldName(entry.getKey());
+                if (!childrenKey.equals(entry.getKey())) {
+                    generator.writeObject(entry.getValue());
+                    continue;
+                }
+                generator.writeStartArray();
+                if (depth + 1 < maxDepth) {
+                    for (int c = offsets[index]; c < offsets[index + 1]; c++) {
+                        writeNode(children[c], depth + 1);
+                    }
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void parse(int index, CompactTree<T> scratch) {
+            scratch.clear();
+            // 与新建的节点一样，子节点总是第一个字段
+            scratch.setChildren(Collections.emptyList());
+            nodeParser.parse((E) items[index], scratch);
+        }
+
+        private CompactTree<T> scratch(int depth) {
+            while (scratches.size() <= depth) {
+                scratches.add(new CompactTree<>(config));
+            }
+            return scratches.get(depth);
+        }
+
+        /**
+         * 稳定排序，权重都相同时不排序
+         */
+        private static void sortByWeight(int[] array, int from, int to, Object[] weights) {
+            if (to - from < 2) {
+                return;
+            }
+            boolean sorted = true;
+            for (int i = from + 1; i < to && sorted; i++) {
+                sorted = WEIGHT_ORDER.compare(weights[array[i - 1]], weights[array[i]]) <= 0;
+            }
+            if (sorted) {
+                return;
+            }
+            final Integer[] boxed = new Integer[to - from];
+            for (int i = from; i < to; i++) {
+                boxed[i - from] = array[i];
+            }
+            Arrays.sort(boxed, (a, b) -> WEIGHT_ORDER.compare(weights[a], weights[b]));
+            for (int i = from; i < to; i++) {
+                array[i] = boxed[i - from];
+            }
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
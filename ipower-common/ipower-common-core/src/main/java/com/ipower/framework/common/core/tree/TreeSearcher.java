@@ -0,0 +1,262 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.lang.ObjectUtil;
+import com.ipower.framework.common.core.lang.StringUtil;
+import com.ipower.framework.common.core.lang.Validate;
+import com.ipower.framework.common.core.text.ChineseUtil;
+import com.ipower.framework.common.core.text.PinyinUtil;
+
+import java.util.*;
+
+/**
+ * 树搜索，按名称关键字过滤树，保留匹配的节点及其祖先节点，用于界面上的树搜索
+ * <p>
+ * 创建时对树做一次遍历，为名称和名称的拼音首字母（如“研发部”为“yfb”）建立单字和双字的倒排索引。
+ * 搜索时从关键字中选出候选最少的单字或双字，只校验这些候选节点，再沿父节点补齐祖先，
+ * 耗时与匹配结果的大小相关，与整棵树的大小无关。匹配不区分大小写。
+ * </p>
+ * <p>
+ * 索引创建后是只读的，可以被多个线程共享；树发生变化后需要重新创建。
+ * {@link #search(String)}返回的是新的节点，不会修改原来的树。
+ * </p>
+ *
+ * @param <T> ID类型
+ * @author kris
+ * @since 1.0.0
+ */
+public final class TreeSearcher<T> {
+
+    private final TreeConfig treeConfig;
+    private final List<Tree<T>> roots;
+    /**
+     * 先序遍历顺序的节点
+     */
+    private final Tree<T>[] nodes;
+    /**
+     * 父节点位置，根节点为-1
+     */
+    private final int[] parents;
+    /**
+     * 小写的名称
+     */
+    private final String[] names;
+    /**
+     * 小写的拼音首字母，名称中没有汉字时为{@code null}
+     */
+    private final String[] initials;
+    /**
+     * 单字 -> 节点位置
+     */
+    private final Map<Character, Postings> unigrams = new HashMap<>();
+    /**
+     * 双字 -> 节点位置
+     */
+    private final Map<Integer, Postings> bigrams = new HashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private TreeSearcher(List<Tree<T>> roots, TreeConfig treeConfig) {
+        this.treeConfig = ObjectUtil.nullToDefault(treeConfig, TreeConfig.DEFAULT_CONFIG);
+        this.roots = roots;
+        final List<Tree<T>> order = new ArrayList<>();
+        final List<Integer> parentList = new ArrayList<>();
+        final Deque<Tree<T>> stack = new ArrayDeque<>();
+        final Deque<Integer> parentStack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(roots.get(i));
+            parentStack.push(-1);
+        }
+        while (!stack.isEmpty()) {
+            final Tree<T> node = stack.pop();
+            final int position = order.size();
+            order.add(node);
+            parentList.add(parentStack.pop());
+            final List<Tree<T>> children = node.getChildren();
+            if (null != children) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    stack.push(children.get(i));
+                    parentStack.push(position);
+                }
+            }
+        }
+        final int size = order.size();
+        this.nodes = (Tree<T>[]) order.toArray(new Tree<?>[0]);
+        this.parents = new int[size];
+        this.names = new String[size];
+        this.initials = new String[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = parentList.get(i);
+            final CharSequence name = nodes[i].getName();
+            if (null == name) {
+                continue;
+            }
+            names[i] = name.toString().toLowerCase(Locale.ROOT);
+            index(names[i], i);
+            if (ChineseUtil.hasChinese(names[i])) {
+                initials[i] = PinyinUtil.toShortPinyin(names[i]).toLowerCase(Locale.ROOT);
+                index(initials[i], i);
+            }
+        }
+    }
+
+    /**
+     * 为树创建搜索索引
+     *
+     * @param roots 根节点，一般是{@link TreeUtil#build}的结果
+     * @param <T>   ID类型
+     * @return 树搜索
+     */
+    public static <T> TreeSearcher<T> of(List<Tree<T>> roots) {
+        return of(roots, null);
+    }
+
+    /**
+     * 为树创建搜索索引
+     *
+     * @param roots      根节点，一般是{@link TreeUtil#build}的结果
+     * @param treeConfig 树的配置，用于创建过滤后的节点，为{@code null}时使用默认配置
+     * @param <T>        ID类型
+     * @return 树搜索
+     */
+    public static <T> TreeSearcher<T> of(List<Tree<T>> roots, TreeConfig treeConfig) {
+        Validate.notNull(roots, "The roots must not be null");
+        return new TreeSearcher<>(roots, treeConfig);
+    }
+
+    /**
+     * 名称或拼音首字母包含关键字的节点
+     *
+     * @param keyword 关键字
+     * @return 匹配的原始节点，按先序遍历顺序；关键字为空时返回空列表
+     */
+    public List<Tree<T>> match(String keyword) {
+        final int[] matched = matchPositions(keyword);
+        final List<Tree<T>> result = new ArrayList<>(matched.length);
+        for (int position : matched) {
+            result.add(nodes[position]);
+        }
+        return result;
+    }
+
+    /**
+     * 按关键字过滤树，保留匹配的节点及其祖先节点，子节点保持原来的顺序
+     * <p>
+     * 返回的节点是原节点的浅拷贝，只有子节点列表不同；匹配节点的子孙节点如果没有匹配，不会保留。
+     * </p>
+     *
+     * @param keyword 关键字
+     * @return 过滤后的根节点；关键字为空时返回原来的根节点
+     */
+    public List<Tree<T>> search(String keyword) {
+        if (StringUtil.isEmpty(keyword)) {
+            return roots;
+        }
+        final int[] matched = matchPositions(keyword);
+        // 沿父节点补齐祖先，遇到已经保留的节点就停止
+        final Map<Integer, Tree<T>> kept = new HashMap<>();
+        final List<Integer> positions = new ArrayList<>();
+        for (int position : matched) {
+            for (int current = position; current >= 0 && !kept.containsKey(current); current = parents[current]) {
+                kept.put(current, null);
+                positions.add(current);
+            }
+        }
+        // 先序位置排序后父节点总在子节点之前，子节点按原来的顺序追加
+        positions.sort(null);
+        final List<Tree<T>> result = new ArrayList<>();
+        for (int position : positions) {
+            final Tree<T> copy = copy(nodes[position]);
+            kept.put(position, copy);
+            final int parent = parents[position];
+            if (parent < 0) {
+                result.add(copy);
+            } else {
+                kept.get(parent).getChildren().add(copy);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 索引中的节点数量
+     *
+     * @return 节点数量
+     */
+    public int size() {
+        return nodes.length;
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    /**
+     * 按位置递增的倒排列表
+     */
+    private static final class Postings {
+
+        private int[] positions = new int[4];
+        private int size;
+
+        private void add(int position) {
+            if (size > 0 && positions[size - 1] == position) {
+                return;
+            }
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size << 1);
+            }
+            positions[size++] = position;
+        }
+    }
+
+    private void index(String text, int position) {
+        for (int i = 0; i < text.length(); i++) {
+            unigrams.computeIfAbsent(text.charAt(i), k -> new Postings()).add(position);
+            if (i > 0) {
+                bigrams.computeIfAbsent(bigram(text.charAt(i - 1), text.charAt(i)), k -> new Postings()).add(position);
+            }
+        }
+    }
+
+    private int[] matchPositions(String keyword) {
+        if (StringUtil.isEmpty(keyword)) {
+            return new int[0];
+        }
+        final String key = keyword.toLowerCase(Locale.ROOT);
+        Postings candidates = null;
+        if (key.length() == 1) {
+            candidates = unigrams.get(key.charAt(0));
+        } else {
+            for (int i = 1; i < key.length(); i++) {
+                final Postings postings = bigrams.get(bigram(key.charAt(i - 1), key.charAt(i)));
+                if (null == postings) {
+                    return new int[0];
+                }
+                if (null == candidates || postings.size < candidates.size) {
+                    candidates = postings;
+                }
+            }
+        }
+        if (null == candidates) {
+            return new int[0];
+        }
+        final int[] matched = new int[candidates.size];
+        int count = 0;
+        for (int i = 0; i < candidates.size; i++) {
+            final int position = candidates.positions[i];
+            if (key.length() <= 2 || names[position].contains(key) || (null != initials[position] && initials[position].contains(key))) {
+                matched[count++] = position;
+            }
+        }
+        return count == matched.length ? matched : Arrays.copyOf(matched, count);
+    }
+
+    private Tree<T> copy(Tree<T> node) {
+        final Tree<T> copy = new Tree<>(treeConfig);
+        copy.putAll(node);
+        copy.setChildren(new ArrayList<>());
+        return copy;
+    }
+
+    private static int bigram(char first, char second) {
+        return first << 16 | second;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+}
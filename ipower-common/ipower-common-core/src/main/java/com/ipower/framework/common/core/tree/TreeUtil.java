@@ -1,11 +1,17 @@
 package com.ipower.framework.common.core.tree;
 
 import com.ipower.framework.common.core.collection.Lists;
+import com.ipower.framework.common.core.exception.UtilException;
 import com.ipower.framework.common.core.lang.ObjectUtil;
+import com.ipower.framework.common.core.tree.parser.CompactNodeParser;
 import com.ipower.framework.common.core.tree.parser.NodeParser;
 
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * 树工具类
@@ -14,6 +20,21 @@ import java.util.List;
  */
 public class TreeUtil {
 
+    /**
+     * 超过该节点数量时才并行排序
+     */
+    private static final int PARALLEL_SORT_THRESHOLD = 10000;
+    /**
+     * 异常信息中最多列出的节点ID数量
+     */
+    private static final int MAX_REPORTED_IDS = 10;
+    /**
+     * 按权重排序，与{@link Node#compareTo(Node)}一致，权重为{@code null}的节点排在最后
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final Comparator<Node<?, ?>> WEIGHT_ORDER = Comparator.comparing(node -> (Comparable) node.getWeight(),
+            Comparator.nullsLast(Comparator.naturalOrder()));
+
     /**
      * 树构建
      *
@@ -46,32 +67,190 @@ public class TreeUtil {
             nodeParser.parse(obj, tree);
             treeList.add(tree);
         }
-        treeList = build(treeList);
-        //排序
-        Collections.sort(treeList);
-        return treeList;
+        return build(treeList, null, treeConfig);
     }
 
     /**
-     * 将节点数组归并为一个森林（多棵树）（填充节点的children域）
-     * 时间复杂度为O(n^2)
+     * 构建紧凑节点的树，节点的键和JSON结构与{@link #build(List, TreeConfig, NodeParser)}相同，占用内存更少
+     *
+     * @param <T>        转换的实体 为数据源里的对象类型
+     * @param <E>        ID类型
+     * @param list       源数据集合
+     * @param treeConfig 配置
+     * @param nodeParser 转换器
+     * @return List
+     * @see CompactTree
+     */
+    public static <T, E> List<CompactTree<T>> buildCompact(List<E> list, TreeConfig treeConfig, CompactNodeParser<T, E> nodeParser) {
+        //构建树节点集合
+        List<CompactTree<T>> treeList = Lists.arrayList();
+        CompactTree<T> tree;
+        for (E obj : list) {
+            tree = new CompactTree<>(treeConfig);
+            nodeParser.parse(obj, tree);
+            treeList.add(tree);
+        }
+        return build(treeList, null, treeConfig);
+    }
+
+    /**
+     * 将节点数组归并为一个森林（多棵树）（填充节点的children域），各层节点按权重排序
+     * 时间复杂度为O(n)，不计排序
      *
      * @param items 节点域
      * @return 多棵树的根节点集合
+     * @see #build(List, Predicate, TreeConfig)
      */
     public static <T, C extends Node<T, C>> List<C> build(List<C> items) {
-        NodeManager<T, C> nodeManager = new NodeManager<>(items);
-        items.forEach(forestNode -> {
-            if (ObjectUtil.notEquals(forestNode.getParentId(), 0)) {
-                Node<T, C> node = nodeManager.getTreeNodeAt(forestNode.getParentId());
-                if (node != null) {
-                    node.getChildren().add(forestNode);
-                } else {
-                    nodeManager.addParentId(forestNode.getId());
+        return build(items, null, TreeConfig.DEFAULT_CONFIG);
+    }
+
+    /**
+     * 将节点数组归并为一个森林（多棵树）（填充节点的children域）
+     * <ul>
+     *     <li>满足根节点条件的节点，以及父节点不存在的节点作为根节点；默认父节点ID为{@code null}或数值0（任意数值类型）的节点为根节点</li>
+     *     <li>根节点和各层子节点按权重稳定排序，权重为{@code null}的节点排在最后，{@link TreeConfig#isParallelSort()}为{@code true}时并行排序各层子节点</li>
+     *     <li>超过{@link TreeConfig#getMaxDepth()}层级的节点不会挂到树上</li>
+     *     <li>父节点关系存在环时（包括父节点为自身），环上的节点无法到达任何根节点，抛出{@link UtilException}</li>
+     * </ul>
+     * 使用预设大小的{@link HashMap}按ID索引节点，时间复杂度为O(n)，不计排序；ID重复时以最后一个节点作为父节点
+     *
+     * @param items         节点域
+     * @param rootPredicate 根节点条件，为{@code null}时使用默认条件
+     * @param treeConfig    配置，为{@code null}时使用默认配置
+     * @return 多棵树的根节点集合
+     * @throws UtilException 父节点关系存在环
+     */
+    public static <T, C extends Node<T, C>> List<C> build(List<C> items, Predicate<? super C> rootPredicate, TreeConfig treeConfig) {
+        if (null == items || items.isEmpty()) {
+            return Lists.arrayList();
+        }
+        final TreeConfig config = ObjectUtil.nullToDefault(treeConfig, TreeConfig.DEFAULT_CONFIG);
+        final Predicate<? super C> isRoot = null == rootPredicate ? TreeUtil::isDefaultRoot : rootPredicate;
+        final int size = items.size();
+        final Object[] nodes = items.toArray();
+
+        // 按ID索引节点下标
+        final Map<T, Integer> indexes = new HashMap<>((int) (size / 0.75f) + 1);
+        for (int i = 0; i < size; i++) {
+            final C node = node(nodes, i);
+            indexes.put(node.getId(), i);
+        }
+
+        // 父节点下标，-1表示根节点；按父节点分组的子节点下标（计数排序，保持原有顺序）
+        final int[] parents = new int[size];
+        final int[] offsets = new int[size + 1];
+        final List<C> roots = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            final C node = node(nodes, i);
+            final Integer parent = isRoot.test(node) ? null : indexes.get(node.getParentId());
+            parents[i] = null == parent ? -1 : parent;
+            if (null == parent) {
+                roots.add(node);
+            } else {
+                offsets[parent + 1]++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        final int[] children = new int[offsets[size]];
+        final int[] cursor = offsets.clone();
+        for (int i = 0; i < size; i++) {
+            if (parents[i] >= 0) {
+                children[cursor[parents[i]]++] = i;
+            }
+        }
+
+        // 从根节点按层遍历，挂载不超过最大层级的子节点，同时找出无法到达的节点
+        final int maxDepth = null == config.getMaxDepth() ? Integer.MAX_VALUE : config.getMaxDepth();
+        final List<C> parentsWithChildren = new ArrayList<>();
+        final boolean[] visited = new boolean[size];
+        int[] level = new int[roots.size()];
+        int levelSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (parents[i] < 0) {
+                visited[i] = true;
+                level[levelSize++] = i;
+            }
+        }
+        int visitedCount = levelSize;
+        for (int depth = 1; levelSize > 0; depth++) {
+            final int[] next = new int[countChildren(level, levelSize, offsets)];
+            int nextSize = 0;
+            for (int l = 0; l < levelSize; l++) {
+                final int index = level[l];
+                final int from = offsets[index];
+                final int to = offsets[index + 1];
+                if (from == to) {
+                    continue;
+                }
+                final C node = node(nodes, index);
+                final boolean attach = depth < maxDepth;
+                if (attach) {
+                    parentsWithChildren.add(node);
+                }
+                for (int c = from; c < to; c++) {
+                    final int child = children[c];
+                    visited[child] = true;
+                    next[nextSize++] = child;
+                    if (attach) {
+                        node.getChildren().add(node(nodes, child));
+                    }
                 }
             }
-        });
-        return nodeManager.getRoot();
+            visitedCount += nextSize;
+            level = next;
+            levelSize = nextSize;
+        }
+        if (visitedCount < size) {
+            throw new UtilException("Tree nodes form a parent cycle, ids: {}", unreachableIds(nodes, visited));
+        }
+
+        // 排序
+        roots.sort(WEIGHT_ORDER);
+        if (config.isParallelSort() && size >= PARALLEL_SORT_THRESHOLD) {
+            parentsWithChildren.parallelStream().forEach(node -> node.getChildren().sort(WEIGHT_ORDER));
+        } else {
+            parentsWithChildren.forEach(node -> node.getChildren().sort(WEIGHT_ORDER));
+        }
+        return roots;
+    }
+
+    /**
+     * 默认的根节点条件：父节点ID为{@code null}或数值0
+     *
+     * @param node 节点
+     * @return 是否为根节点
+     */
+    public static boolean isDefaultRoot(Node<?, ?> node) {
+        final Object parentId = node.getParentId();
+        return null == parentId || (parentId instanceof Number number && number.doubleValue() == 0 && number.longValue() == 0);
     }
 
+    // -------------------------------------------------------------------------------------- Private method start
+
+    @SuppressWarnings("unchecked")
+    private static <C> C node(Object[] nodes, int index) {
+        return (C) nodes[index];
+    }
+
+    private static int countChildren(int[] level, int levelSize, int[] offsets) {
+        int count = 0;
+        for (int i = 0; i < levelSize; i++) {
+            count += offsets[level[i] + 1] - offsets[level[i]];
+        }
+        return count;
+    }
+
+    private static List<Object> unreachableIds(Object[] nodes, boolean[] visited) {
+        final List<Object> ids = new ArrayList<>(MAX_REPORTED_IDS);
+        for (int i = 0; i < nodes.length && ids.size() < MAX_REPORTED_IDS; i++) {
+            if (!visited[i]) {
+                ids.add(((Node<?, ?>) nodes[i]).getId());
+            }
+        }
+        return ids;
+    }
+    // -------------------------------------------------------------------------------------- Private method end
 }
@@ -0,0 +1,24 @@
+package com.ipower.framework.common.core.tree.parser;
+
+import com.ipower.framework.common.core.tree.CompactTree;
+
+/**
+ * 紧凑树节点解析器
+ *
+ * @param <T> ID类型
+ * @param <E> 转换的实体 为数据源里的对象类型
+ * @author kris
+ * @see NodeParser
+ */
+@FunctionalInterface
+public interface CompactNodeParser<T, E> {
+
+    /**
+     * 源数据对象转紧凑树节点对象
+     *
+     * @param source 源数据实体
+     * @param tree   紧凑树节点实体
+     */
+    void parse(E source, CompactTree<T> tree);
+
+}
@@ -1,6 +1,8 @@
 package com.ipower.framework.common.core.util;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.*;
@@ -16,19 +18,37 @@ import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalTimeSerializer;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.lang.Validate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.math.BigInteger;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 /**
+ * <p>
+ * 按类型缓存{@link ObjectReader}和{@link ObjectWriter}，根类型的序列化器和反序列化器只在第一次使用时查找；
+ * 缓存最多{@link #MAX_CACHED}个类型，超过后按需创建不再缓存。缓存的实例是创建时ObjectMapper配置的快照，
+ * 修改{@link #getObjectMapper()}（如注册模块）后需调用{@link #clearCache()}。
+ * 大的数据使用流的重载方法，不在内存中生成完整的字符串；JSON数组可以用{@link #readValues(InputStream, Class)}逐个读取元素，
+ * 用{@link #writeArray(OutputStream, Stream)}逐个写出元素，内存占用与数组长度无关。
+ * </p>
+ *
  * @author kris
  * @date 2021/7/22
  */
@@ -37,6 +57,10 @@ public class JacksonJsonUtil {
 
     private static final ObjectMapper objectMapper;
 
+    private static final int MAX_CACHED = 1024;
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<JavaType, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
     public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
@@ -84,10 +108,66 @@ public class JacksonJsonUtil {
         return objectMapper;
     }
 
+    /**
+     * 清空缓存的{@link ObjectReader}和{@link ObjectWriter}，修改{@link #getObjectMapper()}的配置后调用
+     */
+    public static void clearCache() {
+        READERS.clear();
+        WRITERS.clear();
+    }
+
+    /**
+     * 指定类型的{@link ObjectReader}，按类型缓存，缓存已满时每次创建
+     *
+     * @param valueType 类型
+     * @return ObjectReader
+     */
+    public static ObjectReader getReader(JavaType valueType) {
+        Validate.notNull(valueType, "The value type must not be null");
+        final ObjectReader reader = READERS.get(valueType);
+        if (null != reader) {
+            return reader;
+        }
+        if (READERS.size() >= MAX_CACHED) {
+            return objectMapper.readerFor(valueType);
+        }
+        return READERS.computeIfAbsent(valueType, objectMapper::readerFor);
+    }
+
+    public static ObjectReader getReader(Class<?> clazz) {
+        return getReader(objectMapper.constructType(clazz));
+    }
+
+    public static ObjectReader getReader(TypeReference<?> valueTypeRef) {
+        return getReader(objectMapper.getTypeFactory().constructType(valueTypeRef));
+    }
+
+    /**
+     * 指定类型的{@link ObjectWriter}，按类型缓存，缓存已满时每次创建
+     *
+     * @param valueType 类型
+     * @return ObjectWriter
+     */
+    public static ObjectWriter getWriter(JavaType valueType) {
+        Validate.notNull(valueType, "The value type must not be null");
+        final ObjectWriter writer = WRITERS.get(valueType);
+        if (null != writer) {
+            return writer;
+        }
+        if (WRITERS.size() >= MAX_CACHED) {
+            return objectMapper.writerFor(valueType);
+        }
+        return WRITERS.computeIfAbsent(valueType, objectMapper::writerFor);
+    }
+
+    public static ObjectWriter getWriter(Class<?> clazz) {
+        return getWriter(objectMapper.constructType(clazz));
+    }
+
     public static String toJSONString(Object obj) {
         String result = null;
         try {
-            result =  objectMapper.writeValueAsString(obj);
+            result = writer(obj).writeValueAsString(obj);
         } catch (Exception e) {
             logger.error("转换json错误", e);
         }
@@ -97,7 +177,7 @@ public class JacksonJsonUtil {
     public static <T> T parseObject(String json, Class<T> clazz) {
         T t = null;
         try {
-            t = objectMapper.readValue(json, clazz);
+            t = getReader(clazz).readValue(json);
         } catch (Exception e) {
             logger.error("解析json错误", e);
         }
@@ -107,7 +187,7 @@ public class JacksonJsonUtil {
     public static <T> T parseObject(byte[] json, Class<T> clazz) {
         T t = null;
         try {
-            t = objectMapper.readValue(json, clazz);
+            t = getReader(clazz).readValue(json);
         } catch (Exception e) {
             logger.error("解析json错误", e);
         }
@@ -117,7 +197,7 @@ public class JacksonJsonUtil {
     public static <T> T parseObject(String json, JavaType valueType) {
         T t = null;
         try {
-            t = objectMapper.readValue(json, valueType);
+            t = getReader(valueType).readValue(json);
         } catch (Exception e) {
             logger.error("解析json错误", e);
         }
@@ -127,7 +207,7 @@ public class JacksonJsonUtil {
     public static <T> T parseObject(String json, TypeReference<T> valueTypeRef) {
         T t = null;
         try {
-            t = objectMapper.readValue(json, valueTypeRef);
+            t = getReader(valueTypeRef).readValue(json);
         } catch (Exception e) {
             logger.error("解析json错误", e);
         }
@@ -137,7 +217,47 @@ public class JacksonJsonUtil {
     public static <T> T parseObject(InputStream src, Class<T> clazz) {
         T t = null;
         try {
-            t = objectMapper.readValue(src, clazz);
+            t = getReader(clazz).readValue(src);
+        } catch (Exception e) {
+            logger.error("解析json错误", e);
+        }
+        return t;
+    }
+
+    public static <T> T parseObject(Reader src, Class<T> clazz) {
+        T t = null;
+        try {
+            t = getReader(clazz).readValue(src);
+        } catch (Exception e) {
+            logger.error("解析json错误", e);
+        }
+        return t;
+    }
+
+    public static <T> T parseObject(InputStream src, JavaType valueType) {
+        T t = null;
+        try {
+            t = getReader(valueType).readValue(src);
+        } catch (Exception e) {
+            logger.error("解析json错误", e);
+        }
+        return t;
+    }
+
+    public static <T> T parseObject(InputStream src, TypeReference<T> valueTypeRef) {
+        T t = null;
+        try {
+            t = getReader(valueTypeRef).readValue(src);
+        } catch (Exception e) {
+            logger.error("解析json错误", e);
+        }
+        return t;
+    }
+
+    public static <T> List<T> parseList(InputStream src, Class<T> clazz) {
+        List<T> t = null;
+        try {
+            t = getReader(listType(clazz)).readValue(src);
         } catch (Exception e) {
             logger.error("解析json错误", e);
         }
@@ -145,10 +265,9 @@ public class JacksonJsonUtil {
     }
 
     public static <T> List<T> parseList(String json, Class<T> clazz) {
-        JavaType javaType = JacksonJsonUtil.getObjectMapper().getTypeFactory().constructParametricType(List.class, clazz);
         List<T> t = null;
         try {
-            t = objectMapper.readValue(json, javaType);
+            t = getReader(listType(clazz)).readValue(json);
         } catch (Exception e) {
             logger.error("解析json错误", e);
         }
@@ -181,7 +300,7 @@ public class JacksonJsonUtil {
     public static byte[] toJsonByte(Object obj){
         byte[] result = null;
         try {
-            result =  objectMapper.writeValueAsBytes(obj);
+            result = writer(obj).writeValueAsBytes(obj);
         } catch (Exception e) {
             logger.error("转换json错误", e);
         }
@@ -189,6 +308,134 @@ public class JacksonJsonUtil {
     }
 
 
+    /**
+     * 写出到输出流，不关闭输出流
+     *
+     * @param out 输出流
+     * @param obj 对象
+     * @throws UtilException 写出失败
+     */
+    public static void writeValue(OutputStream out, Object obj) {
+        Validate.notNull(out, "The output stream must not be null");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer(obj).writeValue(generator, obj);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 写出到字符流，不关闭字符流
+     *
+     * @param writer 字符流
+     * @param obj    对象
+     * @throws UtilException 写出失败
+     */
+    public static void writeValue(Writer writer, Object obj) {
+        Validate.notNull(writer, "The writer must not be null");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer(obj).writeValue(generator, obj);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 将流中的元素逐个写出为JSON数组，不在内存中保留已写出的元素，不关闭输出流
+     *
+     * @param out    输出流
+     * @param values 元素
+     * @throws UtilException 写出失败
+     */
+    public static void writeArray(OutputStream out, Stream<?> values) {
+        Validate.notNull(out, "The output stream must not be null");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            writeArray(generator, values);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 将流中的元素逐个写出为JSON数组，不在内存中保留已写出的元素，不关闭字符流
+     *
+     * @param writer 字符流
+     * @param values 元素
+     * @throws UtilException 写出失败
+     */
+    public static void writeArray(Writer writer, Stream<?> values) {
+        Validate.notNull(writer, "The writer must not be null");
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            writeArray(generator, values);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 逐个读取JSON数组的元素，也支持多个以空白分隔的JSON值；读取时不解析整个数组。
+     * 使用完需要关闭返回的迭代器，关闭时同时关闭输入流
+     *
+     * @param src   输入流
+     * @param clazz 元素类型
+     * @param <T>   元素类型
+     * @return 元素迭代器，读取元素失败时抛出{@link com.fasterxml.jackson.databind.RuntimeJsonMappingException}
+     * @throws UtilException 打开失败
+     */
+    public static <T> MappingIterator<T> readValues(InputStream src, Class<T> clazz) {
+        Validate.notNull(src, "The input stream must not be null");
+        try {
+            return getReader(clazz).readValues(src);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    /**
+     * 逐个读取JSON数组的元素，同{@link #readValues(InputStream, Class)}
+     *
+     * @param src   字符流
+     * @param clazz 元素类型
+     * @param <T>   元素类型
+     * @return 元素迭代器
+     * @throws UtilException 打开失败
+     */
+    public static <T> MappingIterator<T> readValues(Reader src, Class<T> clazz) {
+        Validate.notNull(src, "The reader must not be null");
+        try {
+            return getReader(clazz).readValues(src);
+        } catch (IOException e) {
+            throw new UtilException(e);
+        }
+    }
+
+    // -------------------------------------------------------------------------------------- Private method start
+
+    private static JavaType listType(Class<?> clazz) {
+        return objectMapper.getTypeFactory().constructParametricType(List.class, clazz);
+    }
+
+    /**
+     * 按对象的实际类型取缓存的ObjectWriter，与{@link ObjectMapper#writeValueAsString(Object)}一样以实际类型作为根类型
+     */
+    private static ObjectWriter writer(Object obj) {
+        return null == obj ? objectMapper.writer() : getWriter(obj.getClass());
+    }
+
+    private static void writeArray(JsonGenerator generator, Stream<?> values) throws IOException {
+        Validate.notNull(values, "The values must not be null");
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try (SequenceWriter sequenceWriter = objectMapper.writer().writeValuesAsArray(generator)) {
+            final Iterator<?> iterator = values.iterator();
+            while (iterator.hasNext()) {
+                sequenceWriter.write(iterator.next());
+            }
+        }
+    }
+    // -------------------------------------------------------------------------------------- Private method end
+
 //    @Data
 //    static class A{
 //        String name;
@@ -1,5 +1,7 @@
 package com.ipower.framework.common.core.collection;
 
+import com.ipower.framework.common.core.collection.primitive.LongHashSet;
+import com.ipower.framework.common.core.collection.primitive.SortedLongSet;
 import com.ipower.framework.common.core.entity.TestUser;
 import com.ipower.framework.common.core.lang.Validate;
 import org.apache.commons.collections.iterators.IteratorEnumeration;
@@ -642,6 +644,41 @@ public class CollectionUtilTest {
         assertEquals("[TestUser(name=李四, age=null, studentId=null, id=null)]", users2.toString());
     }
 
+    /**
+     * 值集较大时使用哈希索引查找，以及并行、long值集查找
+     * Method: find/findRejected/findParallel/findRejectedParallel
+     */
+    @Test
+    public void testFindWithLargeValues() {
+        List<TestUser> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            TestUser user = new TestUser("user" + i);
+            user.setId((long) i);
+            list.add(user);
+        }
+        List<Long> ids = new ArrayList<>();
+        for (long i = 0; i < 1000; i += 10) {
+            ids.add(i);
+        }
+
+        List<TestUser> found = CollectionUtil.find(list, TestUser::getId, ids);
+        assertEquals(100, found.size());
+        assertEquals(Long.valueOf(990), found.get(99).getId());
+        assertEquals(found, CollectionUtil.find(list, TestUser::getId, ids.toArray(new Long[0])));
+        assertEquals(found, CollectionUtil.find(list, "id", ids));
+        assertEquals(found, CollectionUtil.find(list, TestUser::getId, LongHashSet.from(ids)));
+        assertEquals(found, CollectionUtil.findParallel(list, TestUser::getId, ids));
+
+        List<TestUser> rejected = CollectionUtil.findRejected(list, TestUser::getId, ids);
+        assertEquals(900, rejected.size());
+        assertEquals(Long.valueOf(1), rejected.get(0).getId());
+        assertEquals(rejected, CollectionUtil.findRejected(list, TestUser::getId, SortedLongSet.from(ids)));
+        assertEquals(rejected, CollectionUtil.findRejectedParallel(list, TestUser::getId, ids));
+
+        assertTrue(CollectionUtil.containsPredicate(ids).evaluate(10L));
+        assertFalse(CollectionUtil.containsPredicate(new Long[0]).evaluate(10L));
+    }
+
     /**
      * 循环迭代对象,获取与匹配规则不相符的数据对象，存入list中并返回
      * Method: findRejected(Iterable<E> iterable, Predicate<E> predicate)
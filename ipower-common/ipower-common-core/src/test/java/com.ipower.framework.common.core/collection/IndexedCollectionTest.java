@@ -0,0 +1,99 @@
+package com.ipower.framework.common.core.collection;
+
+import com.ipower.framework.common.core.entity.TestUser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IndexedCollection Tester.
+ *
+ * @author kris
+ */
+public class IndexedCollectionTest {
+
+    private IndexedCollection<TestUser> users() {
+        return new IndexedCollection<TestUser>()
+                .hashIndex("name")
+                .sortedIndex("age", TestUser::getAge)
+                .add(new TestUser("李三", 18, 1))
+                .add(new TestUser("李四", 20, 2))
+                .add(new TestUser("卡特", 20, 3))
+                .add(new TestUser("王五", null, 4));
+    }
+
+    @Test
+    public void testQuery() {
+        IndexedCollection<TestUser> users = users();
+        assertEquals(Integer.valueOf(2), users.get("name", "李四").getStudentId());
+        assertNull(users.get("name", "赵六"));
+        assertEquals(2, users.find("age", 20).size());
+        assertEquals(List.of("卡特", "李三"), users.findIn("name", List.of("卡特", "李三", "卡特")).stream().map(TestUser::getName).toList());
+        assertEquals(List.of("李三", "李四", "卡特"), users.range("age", 18, true, 20, true).stream().map(TestUser::getName).toList());
+        assertEquals(List.of("李四", "卡特"), users.range("age", 18, false, null, false).stream().map(TestUser::getName).toList());
+        assertThrows(IllegalArgumentException.class, () -> users.range("name", "a", true, "z", true));
+        assertThrows(IllegalArgumentException.class, () -> users.find("id", 1L));
+    }
+
+    @Test
+    public void testModifyAndSnapshot() {
+        IndexedCollection<TestUser> users = users();
+        IndexedCollection.Snapshot<TestUser> snapshot = users.snapshot();
+        assertSame(snapshot, users.snapshot());
+
+        assertEquals(2, users.removeBy("age", 20).size());
+        assertTrue(users.remove(users.get("name", "李三")));
+        users.hashIndex("studentId", TestUser::getStudentId);
+        assertEquals(1, users.size());
+        assertEquals("王五", users.get("studentId", 4).getName());
+
+        // 快照不受后续修改影响，且不可修改
+        assertEquals(4, snapshot.size());
+        assertEquals(2, snapshot.find("age", 20).size());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.find("age", 20).clear());
+        assertNotSame(snapshot, users.snapshot());
+    }
+
+    /**
+     * 删除equals相等但不是同一个对象的元素时，索引与元素列表删除同一个对象
+     */
+    @Test
+    public void testRemoveEqualElements() {
+        Code first = new Code(1, "a");
+        Code second = new Code(1, "b");
+        Code third = new Code(2, "c");
+        Code fourth = new Code(2, "c");
+        IndexedCollection<Code> codes = new IndexedCollection<>(List.of(first, second, third, fourth))
+                .hashIndex("label", Code::label);
+
+        // 参数的索引值是b，实际删除的是索引值为a的第一个元素
+        assertTrue(codes.remove(new Code(1, "b")));
+        assertTrue(codes.find("label", "a").isEmpty());
+        assertSame(second, codes.get("label", "b"));
+
+        // 参数是第二个对象，实际删除的是第一个相等的对象
+        assertTrue(codes.remove(fourth));
+        assertEquals(1, codes.find("label", "c").size());
+        assertSame(fourth, codes.get("label", "c"));
+        assertSame(fourth, codes.snapshot().values().get(1));
+        assertFalse(codes.remove(new Code(3, "c")));
+    }
+
+    /**
+     * 按id判断相等，label不参与
+     */
+    private record Code(int id, String label) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Code code && id == code.id;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ipower.framework.common.core.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PrimitiveArrayUtil Tester.
+ *
+ * @author kris
+ */
+public class PrimitiveArrayUtilTest {
+
+    @Test
+    public void testIntArray() {
+        int[] array = {3, 1, 3, 2, 1};
+        assertTrue(PrimitiveArrayUtil.contains(array, 2));
+        assertEquals(-1, PrimitiveArrayUtil.indexOf(array, 9));
+        assertArrayEquals(new int[]{3, 1, 2}, PrimitiveArrayUtil.distinct(array));
+        assertEquals(1, PrimitiveArrayUtil.min(array));
+        assertEquals(3, PrimitiveArrayUtil.max(array));
+        assertEquals(10L, PrimitiveArrayUtil.sum(array));
+        assertEquals(4294967294L, PrimitiveArrayUtil.sum(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE}));
+        assertEquals("3,1,3,2,1", PrimitiveArrayUtil.join(array, ","));
+        assertArrayEquals(new int[]{1, 2, 1}, PrimitiveArrayUtil.remove(array, 3));
+        assertSame(array, PrimitiveArrayUtil.remove(array, 9));
+
+        assertFalse(PrimitiveArrayUtil.contains((int[]) null, 1));
+        assertNull(PrimitiveArrayUtil.distinct((int[]) null));
+        assertEquals("", PrimitiveArrayUtil.join((int[]) null, ","));
+        assertThrowsExactly(IllegalArgumentException.class, () -> PrimitiveArrayUtil.min(new int[0]));
+    }
+
+    @Test
+    public void testLongAndDoubleArray() {
+        long[] longs = {5L, -1L, 5L};
+        assertArrayEquals(new long[]{5L, -1L}, PrimitiveArrayUtil.distinct(longs));
+        assertEquals(9L, PrimitiveArrayUtil.sum(longs));
+        assertEquals("5-15", PrimitiveArrayUtil.join(longs, null));
+        assertArrayEquals(new long[]{-1L}, PrimitiveArrayUtil.remove(longs, 5L));
+
+        double[] doubles = {1.0, Double.NaN, -0.0, 0.0, Double.NaN};
+        assertTrue(PrimitiveArrayUtil.contains(doubles, Double.NaN));
+        assertArrayEquals(new double[]{1.0, Double.NaN, -0.0, 0.0}, PrimitiveArrayUtil.distinct(doubles));
+        assertArrayEquals(new double[]{1.0, -0.0, 0.0}, PrimitiveArrayUtil.remove(doubles, Double.NaN));
+        assertEquals(Double.NaN, PrimitiveArrayUtil.max(doubles));
+        assertEquals(3.5, PrimitiveArrayUtil.sum(new double[]{1.5, 2}));
+    }
+
+    @Test
+    public void testIterator() {
+        PrimitiveIterator.OfInt iterator = PrimitiveArrayUtil.iterator(new int[]{1, 2, 3});
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        assertEquals(6, sum);
+        assertFalse(PrimitiveArrayUtil.iterator((long[]) null).hasNext());
+
+        PrimitiveArrayIter.OfLong range = new PrimitiveArrayIter.OfLong(new long[]{1, 2, 3, 4}, 1, 3);
+        assertEquals(2L, range.nextLong());
+        assertEquals(3L, range.nextLong());
+        assertFalse(range.hasNext());
+
+        ArrayIter<String> strings = new ArrayIter<>(new String[]{"a", "b"});
+        assertEquals("a", strings.next());
+        assertEquals(Integer.valueOf(7), new ArrayIter<Integer>(new int[]{7}).next());
+    }
+}
@@ -0,0 +1,63 @@
+package com.ipower.framework.common.core.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SortUtil Tester.
+ *
+ * @author kris
+ */
+public class SortUtilTest {
+
+    private record Score(String name, long score) {
+    }
+
+    private static final Comparator<Score> ORDER = Comparator.comparingLong(Score::score).reversed()
+            .thenComparing(Score::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static List<Score> scores(int size) {
+        Random random = new Random(1);
+        List<Score> scores = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            scores.add(new Score(i % 7 == 0 ? null : "n" + random.nextInt(50), random.nextInt(100)));
+        }
+        return scores;
+    }
+
+    @Test
+    public void testSorter() {
+        List<Score> scores = scores(SortUtil.PARALLEL_SORT_THRESHOLD * 2);
+        List<Score> expected = new ArrayList<>(scores);
+        expected.sort(ORDER);
+
+        Sorter<Score> sorter = Sorter.<Score>create().byLongDesc(Score::score).by(Score::name);
+        assertEquals(expected, sorter.sorted(scores));
+        assertEquals(expected, SortUtil.sortList(new ArrayList<>(scores), ORDER));
+
+        List<Score> linked = new LinkedList<>(scores.subList(0, 100));
+        List<Score> linkedExpected = new ArrayList<>(linked);
+        linkedExpected.sort(ORDER);
+        assertEquals(linkedExpected, sorter.sort(linked));
+    }
+
+    @Test
+    public void testTop() {
+        List<Score> scores = scores(1000);
+        List<Score> expected = new ArrayList<>(scores);
+        expected.sort(ORDER);
+
+        assertEquals(expected.subList(0, 10), Sorter.<Score>create().byLongDesc(Score::score).by(Score::name).top(scores, 10));
+        assertEquals(expected.subList(0, 5), SortUtil.top(scores, 5, ORDER));
+        assertEquals(expected, SortUtil.top(scores, 5000, ORDER));
+        assertEquals(List.of(99L, 99L, 99L), SortUtil.topByLong(scores, 3, Score::score).stream().map(Score::score).toList());
+        assertEquals(0, SortUtil.top(scores, 0, ORDER).size());
+    }
+}
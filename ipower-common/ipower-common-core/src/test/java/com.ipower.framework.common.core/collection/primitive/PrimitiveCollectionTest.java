@@ -0,0 +1,102 @@
+package com.ipower.framework.common.core.collection.primitive;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.ipower.framework.common.core.util.JacksonJsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 原始类型集合 Tester.
+ *
+ * @author kris
+ */
+public class PrimitiveCollectionTest {
+
+    @Test
+    public void testLongHashSet() {
+        LongHashSet set = LongHashSet.of(1L, 2L, 0L, 2L);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0L));
+        assertFalse(set.contains(3L));
+        for (long i = 0; i < 10000; i++) {
+            set.add(i);
+        }
+        assertEquals(10000, set.size());
+        for (long i = 0; i < 10000; i += 2) {
+            assertTrue(set.remove(i));
+        }
+        assertEquals(5000, set.size());
+        assertFalse(set.contains(0L));
+        assertTrue(set.contains(9999L));
+        assertEquals(LongHashSet.from(set.toList()), set);
+    }
+
+    @Test
+    public void testIntHashSet() {
+        IntHashSet set = IntHashSet.of(5, -1, 5);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(-1));
+        assertTrue(set.remove(5));
+        assertArrayEquals(new int[]{-1}, set.toArray());
+    }
+
+    @Test
+    public void testLongList() {
+        LongList list = LongList.of(3L, 1L, 2L);
+        list.add(0, 4L);
+        assertEquals(4L, list.get(0));
+        assertEquals(3L, list.removeAt(1));
+        list.sort();
+        assertArrayEquals(new long[]{1L, 2L, 4L}, list.toArray());
+        assertEquals(List.of(1L, 2L, 4L), list.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(3));
+    }
+
+    @Test
+    public void testSortedLongSet() {
+        SortedLongSet a = SortedLongSet.of(5L, 3L, 3L, 1L);
+        SortedLongSet b = SortedLongSet.from(List.of(3L, 4L, 5L));
+        assertArrayEquals(new long[]{1L, 3L, 5L}, a.toArray());
+        assertTrue(a.contains(3L));
+        assertFalse(a.contains(4L));
+        assertTrue(a.containsAny(b));
+        assertEquals(SortedLongSet.of(3L, 5L), a.intersect(b));
+        assertEquals(SortedLongSet.of(1L, 3L, 4L, 5L), a.union(b));
+        assertEquals(1L, a.min());
+        assertEquals(5L, a.max());
+    }
+
+    @Test
+    public void testLong2ObjectHashMap() {
+        Long2ObjectHashMap<String> map = new Long2ObjectHashMap<>();
+        assertNull(map.put(1L, "a"));
+        assertEquals("a", map.put(1L, "b"));
+        map.put(0L, "zero");
+        assertEquals("zero", map.get(0L));
+        assertEquals("x", map.computeIfAbsent(2L, key -> "x"));
+        assertEquals(3, map.size());
+        assertEquals("b", map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertEquals(LongHashSet.of(0L, 2L), map.keySet());
+    }
+
+    @Test
+    public void testJson() {
+        LongHashSet set = LongHashSet.of(12345678901234567L);
+        // JacksonJsonUtil将Long序列化为字符串，元素同样写为字符串
+        String json = JacksonJsonUtil.toJSONString(set);
+        assertEquals("[\"12345678901234567\"]", json);
+        assertEquals(set, JacksonJsonUtil.parseObject(json, LongHashSet.class));
+        assertEquals(LongList.of(1L, 2L), JacksonJsonUtil.parseObject("[1,\"2\",null]", LongList.class));
+        assertEquals(SortedLongSet.of(1L, 2L, 3L), JacksonJsonUtil.parseObject("\"3,1,2\"", SortedLongSet.class));
+
+        Long2ObjectHashMap<List<String>> map = new Long2ObjectHashMap<>();
+        map.put(10L, List.of("a"));
+        Long2ObjectHashMap<List<String>> back = JacksonJsonUtil.parseObject(JacksonJsonUtil.toJSONString(map), new TypeReference<Long2ObjectHashMap<List<String>>>() {
+        });
+        assertEquals(map, back);
+    }
+}
@@ -1,7 +1,9 @@
 package com.ipower.framework.common.core.convert;
 
+import com.alibaba.fastjson2.TypeReference;
 import com.ipower.framework.common.core.entity.TestEnum;
 import com.ipower.framework.common.core.entity.TestUser;
+import com.ipower.framework.common.core.exception.ElementConvertException;
 import com.ipower.framework.common.core.lang.Validate;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
@@ -537,6 +539,98 @@ public class ConvertTest {
                 .toString());
     }
 
+    /**
+     * 批量转成Long集合
+     * Method: toLongList(Collection<?> values)
+     */
+    @Test
+    public void testToLongList() {
+        List<String> values = Arrays.asList("1", "-2", " 3 ", "4.5", null);
+        assertEquals(Arrays.asList(1L, -2L, 3L, 4L, null), Convert.toLongList(values));
+        assertEquals(Convert.toList(Long.class, values), Convert.toLongList(values));
+        assertNull(Convert.toLongList(Arrays.asList("1", "a")));
+        assertNull(Convert.toLongList(null));
+    }
+
+    private record Code(String value) {
+    }
+
+    /**
+     * 批量转换时null元素直接返回默认值，不交给自定义转换器
+     * Method: ConverterRegistry.getElementConverter(Type elementType)
+     */
+    @Test
+    public void testElementConverterNull() {
+        ConverterRegistry.getInstance().putCustom(Code.class, (Converter<Code>) (value, defaultValue) -> new Code(value.toString()));
+        assertEquals(Arrays.asList(new Code("a"), null), Convert.toList(Code.class, Arrays.asList("a", null)));
+        assertNull(ConverterRegistry.getInstance().getElementConverter(Code.class).convert(null, null));
+        assertEquals(new Code("b"), ConverterRegistry.getInstance().<Code>getElementConverter(Code.class).convert(null, new Code("b")));
+    }
+
+    /**
+     * 批量转成long数组
+     * Method: toPrimitiveLongArray(Collection<?> values)
+     */
+    @Test
+    public void testToPrimitiveLongArray() {
+        List<String> values = Arrays.asList("1", "-2", " 3 ", "a");
+        assertArrayEquals(new long[]{1L, -2L, 3L, 0L}, Convert.toPrimitiveLongArray(values));
+        assertArrayEquals(Convert.convert(long[].class, values), Convert.toPrimitiveLongArray(values));
+        // null元素和无法转换的元素为0
+        assertArrayEquals(new long[]{0L, 5L, 0L, 0L}, Convert.toPrimitiveLongArray(Arrays.asList(null, "5", "x", "")));
+        assertNull(Convert.toPrimitiveLongArray(null));
+    }
+
+    /**
+     * 并行转换，结果保持顺序，转换失败时携带元素下标
+     * Method: ParallelConvert.toList(Class<T> elementType, Object value, int threshold)
+     */
+    @Test
+    public void testParallelConvert() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            values.add(String.valueOf(i));
+        }
+        List<Long> longs = ParallelConvert.toList(Long.class, values, 1);
+        assertEquals(Convert.toList(Long.class, values), longs);
+        assertArrayEquals(Convert.toPrimitiveLongArray(values), ParallelConvert.toArray(long[].class, values, 1));
+        // 字符串与顺序转换一样按逗号分隔、去除空白、过滤空字符串
+        assertEquals(Convert.toList(String.class, " a, b,,c ,"), ParallelConvert.toList(String.class, " a, b,,c ,", 1));
+
+        values.set(60000, "a");
+        values.set(90000, "b");
+        ElementConvertException e = assertThrows(ElementConvertException.class, () -> ParallelConvert.toList(Long.class, values, 1));
+        assertEquals(60000, e.getIndex());
+
+        int threshold = ParallelConvert.getThreshold();
+        try {
+            ParallelConvert.setThreshold(1000);
+            // 达到全局阈值时与显式并行转换一样，抛出携带下标的异常
+            assertEquals(60000, assertThrows(ElementConvertException.class, () -> Convert.toList(Long.class, values)).getIndex());
+            assertEquals(60000, assertThrows(ElementConvertException.class, () -> Convert.convert(Long[].class, values)).getIndex());
+            values.set(60000, "60000");
+            values.set(90000, "90000");
+            assertEquals(longs, Convert.toList(Long.class, values));
+            assertEquals(longs, Arrays.asList(Convert.toLongArray(values)));
+        } finally {
+            ParallelConvert.setThreshold(threshold);
+        }
+    }
+
+    /**
+     * 集合、Map、数组转换器按目标类型缓存后，重复转换结果一致
+     * Method: convert(TypeReference<T> reference, Object value)
+     */
+    @Test
+    public void testConvertSpecialCached() {
+        TypeReference<List<Long>> reference = new TypeReference<List<Long>>() {
+        };
+        assertEquals(Arrays.asList(1L, 2L), Convert.convert(reference, new String[]{"1", "2"}));
+        assertEquals(Arrays.asList(3L, 4L), Convert.convert(reference, Arrays.asList("3", "4")));
+        assertEquals("[5, 6]", Arrays.toString(Convert.convert(String[].class, Arrays.asList(5, 6))));
+        assertEquals("[7, 8]", Arrays.toString(Convert.convert(String[].class, new Integer[]{7, 8})));
+    }
+
     /**
      * 转换值为指定类型
      * Method: convert(Class<T> type, Object value)
@@ -699,6 +793,35 @@ public class ConvertTest {
         Integer i = 1000;
         assertEquals("捌佰捌拾捌元捌角", Convert.digitToChinese(number));
         assertEquals("壹仟元整", Convert.digitToChinese(i));
+        assertEquals("壹拾万零壹元零壹分", Convert.digitToChinese(100001.01d));
+        assertEquals("玖仟玖佰玖拾玖万玖仟玖佰玖拾玖亿玖仟玖佰玖拾玖万玖仟玖佰玖拾玖元玖角玖分",
+                Convert.digitToChinese(new BigDecimal("9999999999999999.99")));
+        assertEquals("零", Convert.digitToChinese(null));
+    }
+
+    /**
+     * 批量金额转为中文形式
+     * Method: digitsToChinese(BigDecimal... amounts)
+     */
+    @Test
+    public void testDigitToChineseBatch() {
+        String[] result = Convert.digitsToChinese(new BigDecimal("1.005"), null, new BigDecimal("-20.5"));
+        assertArrayEquals(new String[]{"壹元零壹分", "零", "负贰拾元伍角"}, result);
+    }
+
+    /**
+     * 按分为单位的金额追加到StringBuilder
+     * Method: NumberChineseFormatter.formatCents(StringBuilder builder, long cents, boolean isUseTraditional, boolean isMoneyMode)
+     */
+    @Test
+    public void testFormatCents() {
+        StringBuilder builder = new StringBuilder("合计：");
+        NumberChineseFormatter.formatCents(builder, 10000000000L, true, true);
+        assertEquals("合计：壹亿元整", builder.toString());
+        assertEquals("一亿零一十万", NumberChineseFormatter.formatCents(new StringBuilder(), 10010000000L, false, false).toString());
+        assertEquals("一万亿", NumberChineseFormatter.format(new BigDecimal("1000000000000"), false, false));
+        assertArrayEquals(new String[]{"一点五", "零"}, NumberChineseFormatter.formatCents(new long[]{150, 0}, false, false));
+        assertThrows(IllegalArgumentException.class, () -> NumberChineseFormatter.format(new BigDecimal("1E16"), true, true));
     }
 
 }
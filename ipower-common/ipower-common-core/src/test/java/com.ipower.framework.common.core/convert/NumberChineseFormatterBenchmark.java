@@ -0,0 +1,135 @@
+package com.ipower.framework.common.core.convert;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+/**
+ * 金额转中文大写与改造前按double逐段插入字符串的实现的耗时比较，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class NumberChineseFormatterBenchmark {
+
+    private static final String[] DIGITS = {"零", "壹", "贰", "叁", "肆", "伍", "陆", "柒", "捌", "玖"};
+    private static final String[] UNITS = {"", "拾", "佰", "仟"};
+
+    public static void main(String[] args) {
+        // 发票明细行的金额，0.01 ~ 1亿，两位小数
+        Random random = new Random(17);
+        int size = 100_000;
+        BigDecimal[] amounts = new BigDecimal[size];
+        long[] cents = new long[size];
+        for (int i = 0; i < size; i++) {
+            cents[i] = 1 + (long) (Math.pow(10, random.nextDouble() * 10));
+            amounts[i] = BigDecimal.valueOf(cents[i], 2);
+        }
+        StringBuilder builder = new StringBuilder();
+        for (int round = 0; round < 5; round++) {
+            long length = 0;
+            long start = System.nanoTime();
+            for (BigDecimal amount : amounts) {
+                length += legacyFormat(amount.doubleValue()).length();
+            }
+            long legacy = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (BigDecimal amount : amounts) {
+                length += NumberChineseFormatter.format(amount, true, true).length();
+            }
+            long decimal = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (BigDecimal amount : amounts) {
+                builder.setLength(0);
+                length += NumberChineseFormatter.format(builder, amount, true, true).length();
+            }
+            long append = System.nanoTime() - start;
+            start = System.nanoTime();
+            length += NumberChineseFormatter.format(amounts, true, true).length;
+            long batch = System.nanoTime() - start;
+            start = System.nanoTime();
+            length += NumberChineseFormatter.formatCents(cents, true, true).length;
+            long batchCents = System.nanoTime() - start;
+            System.out.printf("format %d amounts: legacy double %d ns/op, BigDecimal %d ns/op, append %d ns/op, "
+                            + "batch %d ns/op, batch cents %d ns/op (%d)%n", size, legacy / size, decimal / size, append / size,
+                    batch / size, batchCents / size, length);
+        }
+    }
+
+    /**
+     * 改造前的金额模式实现，按万分段后在字符串头部逐个插入
+     */
+    private static String legacyFormat(double amount) {
+        boolean negative = amount < 0;
+        long temp = Math.round(Math.abs(amount) * 100);
+        int numFen = (int) (temp % 10);
+        temp = temp / 10;
+        int numJiao = (int) (temp % 10);
+        temp = temp / 10;
+
+        int[] parts = new int[20];
+        int numParts = 0;
+        for (int i = 0; temp != 0; i++) {
+            parts[i] = (int) (temp % 10000);
+            numParts++;
+            temp = temp / 10000;
+        }
+        boolean beforeWanIsZero = true;
+        StringBuilder chineseStr = new StringBuilder();
+        for (int i = 0; i < numParts; i++) {
+            String partChinese = legacyPart(parts[i]);
+            if (i % 2 == 0) {
+                beforeWanIsZero = partChinese.isEmpty();
+            }
+            if (i != 0) {
+                if (i % 2 == 0) {
+                    chineseStr.insert(0, "亿");
+                } else if (partChinese.isEmpty() && !beforeWanIsZero) {
+                    chineseStr.insert(0, "零");
+                } else {
+                    if (parts[i - 1] < 1000 && parts[i - 1] > 0) {
+                        chineseStr.insert(0, "零");
+                    }
+                    chineseStr.insert(0, "万");
+                }
+            }
+            chineseStr.insert(0, partChinese);
+        }
+        if (chineseStr.isEmpty()) {
+            chineseStr = new StringBuilder(DIGITS[0]);
+        }
+        if (negative) {
+            chineseStr.insert(0, "负");
+        }
+        if (numFen != 0 || numJiao != 0) {
+            if (numFen == 0) {
+                chineseStr.append("元").append(DIGITS[numJiao]).append("角");
+            } else if (numJiao == 0) {
+                chineseStr.append("元零").append(DIGITS[numFen]).append("分");
+            } else {
+                chineseStr.append("元").append(DIGITS[numJiao]).append("角").append(DIGITS[numFen]).append("分");
+            }
+        } else {
+            chineseStr.append("元整");
+        }
+        return chineseStr.toString();
+    }
+
+    private static String legacyPart(int amountPart) {
+        int temp = amountPart;
+        StringBuilder chineseStr = new StringBuilder();
+        boolean lastIsZero = true;
+        for (int i = 0; temp > 0; i++) {
+            int digit = temp % 10;
+            if (digit == 0) {
+                if (!lastIsZero) {
+                    chineseStr.insert(0, "零");
+                }
+                lastIsZero = true;
+            } else {
+                chineseStr.insert(0, DIGITS[digit] + UNITS[i]);
+                lastIsZero = false;
+            }
+            temp = temp / 10;
+        }
+        return chineseStr.toString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.ipower.framework.common.core.date;
+
+import com.ipower.framework.common.core.date.pattern.DateFormatPattern;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * DateUtil.getFormatPattern与逐个编译正则表达式识别格式的耗时比较，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class DateUtilBenchmark {
+
+    private static final List<String> SAMPLES = List.of("2019-12-12", "2019-1-2", "2019-12-12 12:12:12",
+            "2019-1-2 3:04:05", "2019-12-12 23:59:59.999", "2019-12-12 12:12", "19-12-12", "12:12", "9:30", "23:59:59",
+            "2019/12/12", "2019/1/2 12:12:12", "2019/1/2 12:12:12.123", "2019/12/12 1:12", "19/1/31", "2019-12-12\t08:00");
+
+    public static void main(String[] args) {
+        int rounds = 20000;
+        int calls = rounds * SAMPLES.size();
+        for (int warmup = 0; warmup < 3; warmup++) {
+            int matched = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                for (String sample : SAMPLES) {
+                    matched += null == regexFormatPattern(sample) ? 0 : 1;
+                }
+            }
+            long regex = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                for (String sample : SAMPLES) {
+                    matched += null == DateUtil.getFormatPattern(sample) ? 0 : 1;
+                }
+            }
+            long scan = System.nanoTime() - start;
+            System.out.printf("getFormatPattern: regex %d ns/op, scan %d ns/op (%d matched)%n", regex / calls, scan / calls, matched);
+        }
+    }
+
+    /**
+     * 改造前的实现，按枚举顺序逐个编译正则表达式匹配
+     */
+    private static DateFormatPattern regexFormatPattern(String value) {
+        for (DateFormatPattern pattern : DateFormatPattern.values()) {
+            if (Pattern.compile(pattern.getMatched()).matcher(value).matches()) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+}
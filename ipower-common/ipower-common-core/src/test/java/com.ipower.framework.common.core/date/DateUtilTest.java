@@ -7,6 +7,9 @@ import org.joda.time.DateTime;
 import org.junit.jupiter.api.Test;
 
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -256,6 +259,44 @@ public class DateUtilTest {
         assertEquals("COMMON_DATE_TIME", formatPattern.toString());
     }
 
+    private static final List<String> FORMAT_SAMPLES = List.of("2019-12-12", "2019-1-2", "2019-12-12 12:12:12",
+            "2019-1-2 3:04:05", "2019-12-12 23:59:59.999", "2019-12-12 12:12", "19-12-12", "12:12", "9:30", "23:59:59",
+            "2019/12/12", "2019/1/2 12:12:12", "2019/1/2 12:12:12.123", "2019/12/12 1:12", "19/1/31", "2019-12-12\t08:00");
+
+    /**
+     * Method: getFormatPattern(String value)
+     * 随机修改样例，识别结果与DateFormatPattern的正则表达式一致
+     */
+    @Test
+    public void testGetFormatPatternMatchesRegex() {
+        Random random = new Random(42);
+        char[] alphabet = "0123456789-/: .\t".toCharArray();
+        for (int i = 0; i < 200000; i++) {
+            StringBuilder builder = new StringBuilder(FORMAT_SAMPLES.get(random.nextInt(FORMAT_SAMPLES.size())));
+            for (int edits = random.nextInt(3); edits > 0 && builder.length() > 0; edits--) {
+                int index = random.nextInt(builder.length());
+                switch (random.nextInt(3)) {
+                    case 0 -> builder.setCharAt(index, alphabet[random.nextInt(alphabet.length)]);
+                    case 1 -> builder.deleteCharAt(index);
+                    default -> builder.insert(index, alphabet[random.nextInt(alphabet.length)]);
+                }
+            }
+            String value = builder.toString();
+            assertEquals(regexFormatPattern(value), DateUtil.getFormatPattern(value), value);
+        }
+        assertNull(DateUtil.getFormatPattern(""));
+        assertEquals(DateFormatPattern.COMMON_DATE_TIME_MSEC.getFormatter(), DateUtil.getFormatPattern("2019-12-12 12:12:12.123").getFormatter());
+    }
+
+    private static DateFormatPattern regexFormatPattern(String value) {
+        for (DateFormatPattern pattern : DateFormatPattern.values()) {
+            if (Pattern.compile(pattern.getMatched()).matcher(value).matches()) {
+                return pattern;
+            }
+        }
+        return null;
+    }
+
     /**
      * Method: getFormatPattern(String value)
      */
@@ -0,0 +1,78 @@
+package com.ipower.framework.common.core.date;
+
+import com.ipower.framework.common.core.date.pattern.DatePattern;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FastDateCodec Tester.
+ *
+ * @author kris
+ */
+public class FastDateCodecTest {
+
+    private static final List<String> PATTERNS = List.of("yyyy-MM-dd", "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd HH:mm:ss.SSS",
+            "yyyy-MM-dd HH:mm", "yyyyMMddHHmmss", "yyyyMMdd", "HH:mm:ss", "yyyy年MM月dd日HH时mm分ss秒", "yyyy/MM/dd");
+
+    @Test
+    public void testFormatAndParse() {
+        Random random = new Random(7);
+        for (String pattern : PATTERNS) {
+            FastDateCodec codec = FastDateCodec.of(pattern);
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            assertTrue(codec.isFixed(), pattern);
+            for (int i = 0; i < 2000; i++) {
+                LocalDateTime value = LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                        random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1_000_000);
+                String text = formatter.format(value);
+                assertEquals(text, codec.format(value));
+                assertEquals(text, codec.formatTo(value, new StringBuilder("x")).substring(1));
+                byte[] bytes = new byte[64];
+                assertEquals(text, new String(bytes, 0, codec.formatTo(value, bytes, 0), StandardCharsets.UTF_8));
+                if (pattern.startsWith("yyyy")) {
+                    assertEquals(LocalDate.parse(text, formatter), codec.parseDate(text));
+                }
+                if (pattern.contains("HH")) {
+                    assertEquals(LocalTime.parse(text, formatter), codec.parseTime(text));
+                }
+                if (pattern.contains("yyyy") && pattern.contains("HH")) {
+                    assertEquals(LocalDateTime.parse(text, formatter), codec.parseDateTime(text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFallback() {
+        FastDateCodec codec = FastDateCodec.of("yyyy-MM-dd");
+        // 快速路径不能处理的值交给DateTimeFormatter，结果一致
+        assertEquals(LocalDate.parse("2023-02-30", codec.formatter()), codec.parseDate("2023-02-30"));
+        assertThrows(DateTimeParseException.class, () -> codec.parseDate("2023-2-3"));
+        assertThrows(DateTimeParseException.class, () -> codec.parseDate("2023-13-01"));
+        assertEquals(DateTimeFormatter.ofPattern("yyyy-MM-dd").format(LocalDate.of(12345, 1, 1)), codec.format(LocalDate.of(12345, 1, 1)));
+
+        FastDateCodec notFixed = FastDateCodec.of("yy-M-d");
+        assertFalse(notFixed.isFixed());
+        assertEquals("23-2-3", notFixed.format(LocalDate.of(2023, 2, 3)));
+        assertEquals(LocalDate.of(2023, 2, 3), notFixed.parseDate("23-2-3"));
+
+        // 登记过的格式化器使用快速路径
+        assertTrue(FastDateCodec.of(DatePattern.NORM_DATETIME_FORMATTER).isFixed());
+        assertTrue(FastDateCodec.of(codec.formatter()).isFixed());
+        assertFalse(FastDateCodec.of(DateTimeFormatter.ISO_LOCAL_DATE).isFixed());
+        // DatePattern.formatter创建的格式化器不登记，只有内置常量登记
+        assertFalse(FastDateCodec.of(DatePattern.formatter(DatePattern.NORM_DATETIME_PATTERN)).isFixed());
+        assertEquals("20230203010203004", FastDateCodec.of(DatePattern.PURE_DATETIME_MS_FORMATTER)
+                .format(LocalDateTime.of(2023, 2, 3, 1, 2, 3, 4_000_000)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.ipower.framework.common.core.date;
+
+/**
+ * TimeMeter开始和结束一个耗时段的开销，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class TimeMeterBenchmark {
+
+    public static void main(String[] args) {
+        int rounds = 10_000_000;
+        long disabled = 0;
+        int count = 0;
+        for (int warmup = 0; warmup < 3; warmup++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                try (TimeMeter.Span span = TimeMeter.DISABLED.span("request")) {
+                    count += null == span ? 0 : 1;
+                }
+            }
+            disabled = System.nanoTime() - start;
+        }
+        TimeMeter.Recorder recorder = new TimeMeter.Recorder();
+        long enabled = System.nanoTime();
+        for (int i = 0; i < rounds / 100; i++) {
+            TimeMeter meter = new TimeMeter(recorder);
+            TimeMeter.Span request = meter.span("request");
+            meter.span("db").close();
+            request.close();
+        }
+        enabled = System.nanoTime() - enabled;
+        System.out.printf("span disabled %.1f ns/op (%d), enabled %.1f ns/op%n%s%n", (double) disabled / rounds, count,
+                (double) enabled / (rounds / 100) / 2, recorder);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ipower.framework.common.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TimeMeter Tester.
+ *
+ * @author kris
+ */
+public class TimeMeterTest {
+
+    @Test
+    public void testSpans() {
+        TimeMeter.Recorder recorder = new TimeMeter.Recorder();
+        for (int round = 0; round < 3; round++) {
+            TimeMeter meter = new TimeMeter(recorder);
+            TimeMeter.Span request = meter.span("request");
+            TimeMeter.Span db = meter.span("db");
+            meter.span("query");
+            // 未关闭的query随db一起结束
+            db.close();
+            meter.span("render").close();
+            request.close();
+            // 重复关闭无效
+            db.close();
+            List<TimeMeter.SpanRecord> spans = meter.spans();
+            assertEquals("request:0,db:1,query:2,render:1", spans.stream().map(span -> span.name() + ":" + span.depth())
+                    .collect(Collectors.joining(",")));
+            assertTrue(spans.stream().allMatch(TimeMeter.SpanRecord::closed));
+            assertTrue(spans.get(0).durationNanos() >= spans.get(1).durationNanos());
+            assertTrue(spans.get(1).durationNanos() >= spans.get(2).durationNanos());
+        }
+        assertEquals(List.of("request", "request/db", "request/db/query", "request/render"), List.copyOf(recorder.histograms().keySet()));
+        assertEquals(3, recorder.histogram("request/db/query").count());
+        assertNull(recorder.histogram("request/cache"));
+
+        TimeMeter meter = new TimeMeter();
+        meter.span("open");
+        assertFalse(meter.spans().get(0).closed());
+        assertTrue(meter.toString().endsWith("(running)"));
+    }
+
+    @Test
+    public void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentile(99));
+        Random random = new Random(5);
+        long[] values = new long[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.record(values[i]);
+        }
+        java.util.Arrays.sort(values);
+        for (double percentile : new double[]{50, 90, 99, 99.9, 100}) {
+            long exact = values[(int) Math.ceil(values.length * percentile / 100) - 1];
+            long approximate = histogram.percentile(percentile);
+            // 取所在桶的上界，误差不超过1/32
+            assertTrue(approximate >= exact && approximate <= exact + exact / 32, percentile + ": " + exact + " vs " + approximate);
+        }
+        assertEquals(values[values.length - 1], histogram.max());
+        assertEquals(values.length, histogram.count());
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(0));
+    }
+
+    /**
+     * 关闭时所有耗时段都是同一个空实现，不记录耗时段
+     */
+    @Test
+    public void testDisabled() {
+        TimeMeter.Span span = TimeMeter.DISABLED.span("request");
+        assertSame(span, TimeMeter.DISABLED.span("db"));
+        span.close();
+        span.close();
+        assertFalse(TimeMeter.DISABLED.isEnabled());
+        assertTrue(TimeMeter.DISABLED.spans().isEmpty());
+    }
+}
@@ -0,0 +1,53 @@
+package com.ipower.framework.common.core.date;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * ZoneConverter与ZonedDateTime的耗时比较，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class ZoneConverterBenchmark {
+
+    public static void main(String[] args) {
+        ZoneId system = ZoneId.of("Asia/Shanghai");
+        ZoneId user = ZoneId.of("America/New_York");
+        ZoneConverter converter = ZoneConverter.of(system, user);
+        // 一次响应中的10000行时间，连续的夏季时间和夏季、冬季交替的时间
+        LocalDateTime[] summer = new LocalDateTime[10000];
+        LocalDateTime[] mixed = new LocalDateTime[10000];
+        for (int i = 0; i < summer.length; i++) {
+            summer[i] = LocalDateTime.of(2023, 6, 1, 0, 0).plusMinutes(i * 7L);
+            mixed[i] = LocalDateTime.of(2023, i % 2 == 0 ? 7 : 12, 1 + i % 28, i % 24, i % 60);
+        }
+        run("summer", converter, summer);
+        run("mixed", converter, mixed);
+    }
+
+    private static void run(String name, ZoneConverter converter, LocalDateTime[] rows) {
+        int rounds = 50;
+        long zoned = 0;
+        long cached = 0;
+        long hash = 0;
+        for (int warmup = 0; warmup < 3; warmup++) {
+            long start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                for (LocalDateTime row : rows) {
+                    hash += ZonedDateTime.of(row, converter.from()).withZoneSameInstant(converter.to()).toLocalDateTime().getHour();
+                }
+            }
+            zoned = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int r = 0; r < rounds; r++) {
+                for (LocalDateTime row : rows) {
+                    hash += converter.convert(row).getHour();
+                }
+            }
+            cached = System.nanoTime() - start;
+        }
+        System.out.printf("convert %d %s rows: ZonedDateTime %d us, ZoneConverter %d us (%d)%n", rows.length, name,
+                zoned / rounds / 1000, cached / rounds / 1000, hash);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ipower.framework.common.core.date;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ZoneConverter Tester.
+ *
+ * @author kris
+ */
+public class ZoneConverterTest {
+
+    private static final List<ZoneId> ZONES = List.of(ZoneId.of("Asia/Shanghai"), ZoneId.of("America/New_York"),
+            ZoneId.of("Europe/Paris"), ZoneId.of("Australia/Lord_Howe"), ZoneId.of("UTC"), ZoneId.of("+05:30"));
+
+    private static LocalDateTime expected(LocalDateTime value, ZoneId from, ZoneId to) {
+        return ZonedDateTime.of(value, from).withZoneSameInstant(to).toLocalDateTime();
+    }
+
+    @Test
+    public void testConvert() {
+        Random random = new Random(11);
+        for (ZoneId from : ZONES) {
+            for (ZoneId to : ZONES) {
+                ZoneConverter converter = ZoneConverter.of(from, to);
+                assertSame(converter, ZoneConverter.of(from, to));
+                assertEquals(from.equals(to), converter.isIdentity());
+                LocalDateTime value = LocalDateTime.of(2023, 1, 1, 0, 0);
+                for (int i = 0; i < 3000; i++) {
+                    // 连续的时间和跨年份的随机时间交替，覆盖缓存命中、切换区间和夏令时边界
+                    value = i % 3 == 0 ? LocalDateTime.of(1900 + random.nextInt(200), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                            random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1000)
+                            : value.plusMinutes(1 + random.nextInt(90 * 24 * 60));
+                    // 相同时区不转换，夏令时开始时不存在的本地时间也保持原值
+                    LocalDateTime expected = converter.isIdentity() ? value : expected(value, from, to);
+                    assertEquals(expected, converter.convert(value), from + " -> " + to + ": " + value);
+                    assertEquals(ZonedDateTime.of(value, from).toInstant().toEpochMilli(), converter.toEpochMilli(value));
+                }
+            }
+        }
+        assertNull(ZoneConverter.of(ZONES.get(0), ZONES.get(1)).convert(null));
+    }
+
+    @Test
+    public void testDaylightSaving() {
+        ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZoneConverter converter = ZoneConverter.of(newYork, shanghai);
+        // 夏令时开始时不存在的本地时间向后调整，结束时重复的本地时间使用较早的偏移
+        List<LocalDateTime> values = List.of(LocalDateTime.of(2023, 3, 12, 1, 59, 59), LocalDateTime.of(2023, 3, 12, 2, 30),
+                LocalDateTime.of(2023, 3, 12, 3, 0), LocalDateTime.of(2023, 11, 5, 0, 59, 59), LocalDateTime.of(2023, 11, 5, 1, 30),
+                LocalDateTime.of(2023, 11, 5, 2, 0));
+        for (LocalDateTime value : values) {
+            assertEquals(expected(value, newYork, shanghai), converter.convert(value), value.toString());
+            assertEquals(expected(expected(value, newYork, shanghai), shanghai, newYork),
+                    converter.reverse().convert(converter.convert(value)), value.toString());
+        }
+    }
+
+    /**
+     * 夏季和冬季时间交替出现，缓存多个区间后结果仍然一致
+     */
+    @Test
+    public void testMixedSeasons() {
+        ZoneId shanghai = ZoneId.of("Asia/Shanghai");
+        ZoneId newYork = ZoneId.of("America/New_York");
+        for (ZoneConverter converter : List.of(ZoneConverter.of(newYork, shanghai), ZoneConverter.of(shanghai, newYork))) {
+            for (int i = 0; i < 20000; i++) {
+                // 跨三年的夏季、冬季和夏令时变化当天交替出现，区间数量多于缓存数量时按顺序替换
+                LocalDateTime value = LocalDateTime.of(2022 + i % 3, 1 + (i * 7) % 12, 1 + i % 28, i % 24, (i * 13) % 60);
+                assertEquals(expected(value, converter.from(), converter.to()), converter.convert(value), value.toString());
+                assertEquals(ZonedDateTime.of(value, converter.from()).toInstant().toEpochMilli(), converter.toEpochMilli(value));
+            }
+        }
+    }
+}
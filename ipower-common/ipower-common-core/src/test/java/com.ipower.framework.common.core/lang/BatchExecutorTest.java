@@ -0,0 +1,86 @@
+package com.ipower.framework.common.core.lang;
+
+import com.ipower.framework.common.core.exception.BatchExecuteException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchExecutor Tester.
+ *
+ * @author kris
+ */
+public class BatchExecutorTest {
+
+    private static List<Integer> data(int size) {
+        List<Integer> data = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(i);
+        }
+        return data;
+    }
+
+    @Test
+    public void testPartition() {
+        List<List<Integer>> batches = new ArrayList<>();
+        ObjectUtil.partition(new LinkedList<>(data(10)), 4).forEach(batches::add);
+        assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9)), batches);
+        assertEquals(List.of(9), ObjectUtil.dataPaging(data(10), 4, 3));
+        assertTrue(ObjectUtil.dataPaging(data(10), 5, 3).isEmpty());
+    }
+
+    @Test
+    public void testExecute() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> sums = BatchExecutor.<Integer, Integer>of(batch -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return batch.stream().mapToInt(Integer::intValue).sum();
+        }).batchSize(2).parallelism(3).execute(data(10));
+        assertEquals(List.of(1, 5, 9, 13, 17), sums);
+        assertTrue(maxRunning.get() <= 3);
+
+        List<Integer> flattened = BatchExecutor.<Integer, List<Integer>>of(batch -> batch)
+                .batchSize(3).parallelism(2).executeAndFlatten(data(10), batch -> batch);
+        assertEquals(data(10), flattened);
+    }
+
+    @Test
+    public void testRetryAndDeadline() {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> sizes = BatchExecutor.<Integer, Integer>of(batch -> {
+            if (batch.get(0) == 4 && attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("retry");
+            }
+            return batch.size();
+        }).batchSize(2).retry(2, Duration.ofMillis(1)).execute(data(10));
+        assertEquals(List.of(2, 2, 2, 2, 2), sizes);
+
+        BatchExecuteException failed = assertThrows(BatchExecuteException.class, () -> BatchExecutor.<Integer, Integer>of(batch -> {
+            throw new IllegalStateException("failed");
+        }).batchSize(2).parallelism(2).execute(data(10)));
+        assertFalse(failed.isTimeout());
+
+        BatchExecuteException timeout = assertThrows(BatchExecuteException.class, () -> BatchExecutor.<Integer, Integer>of(batch -> {
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        }).parallelism(2).batchSize(2).deadline(Duration.ofMillis(50)).execute(data(10)));
+        assertTrue(timeout.isTimeout());
+    }
+}
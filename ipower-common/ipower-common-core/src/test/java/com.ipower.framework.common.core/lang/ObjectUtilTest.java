@@ -784,4 +784,70 @@ public class ObjectUtilTest {
         assertEquals(4, ageMap8.get(17).size());
         assertEquals(3, ageMap8.get(18).size());
     }
+
+    /**
+     * Method: toMapParallel/toMapListParallel
+     */
+    @Test
+    public void testToMapParallel() {
+        List<TestUser> list = new ArrayList<>();
+        for (int i = 0; i < ObjectUtil.PARALLEL_GROUP_THRESHOLD * 2; i++) {
+            list.add(new TestUser("user" + i, i % 10, i));
+        }
+        list.add(null);
+
+        Map<Integer, TestUser> ageMap = ObjectUtil.toMapParallel(list, TestUser::getAge, Function.identity(), false);
+        assertEquals(ObjectUtil.toMap(list, TestUser::getAge), ageMap);
+        assertEquals("user19999", ageMap.get(9).getName());
+
+        Map<Integer, List<String>> ageNames = ObjectUtil.toMapList(list, "age", "name");
+        assertEquals(10, ageNames.size());
+        assertEquals(ObjectUtil.toMapList(list, TestUser::getAge, TestUser::getName), ageNames);
+        assertEquals("user3", ageNames.get(3).get(0));
+        assertEquals("user13", ageNames.get(3).get(1));
+    }
+
+    /**
+     * 按属性名转换时在调用线程中顺序执行，getter方法抛出的异常与BeanUtil.getProperty一样记录日志后返回null
+     */
+    @Test
+    public void testToMapByProperty() {
+        List<Tenant> list = new ArrayList<>();
+        for (int i = 0; i < ObjectUtil.PARALLEL_GROUP_THRESHOLD * 2; i++) {
+            list.add(new Tenant(i));
+        }
+        Tenant.CURRENT.set("t1");
+        try {
+            Map<Integer, String> tenants = ObjectUtil.toMap(list, "id", "tenant");
+            assertEquals(list.size(), tenants.size());
+            assertTrue(tenants.values().stream().allMatch("t1"::equals));
+            assertEquals(1, ObjectUtil.toMapList(list, "tenant").size());
+        } finally {
+            Tenant.CURRENT.remove();
+        }
+        Map<Integer, String> failed = ObjectUtil.toMap(List.of(new Tenant(1)), "id", "broken");
+        assertEquals(1, failed.size());
+        assertNull(failed.get(1));
+    }
+
+    public static class Tenant {
+        static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+        private final Integer id;
+
+        public Tenant(Integer id) {
+            this.id = id;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public String getTenant() {
+            return CURRENT.get();
+        }
+
+        public String getBroken() {
+            throw new IllegalStateException("broken");
+        }
+    }
 }
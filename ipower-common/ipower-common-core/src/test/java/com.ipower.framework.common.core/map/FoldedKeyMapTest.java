@@ -0,0 +1,73 @@
+package com.ipower.framework.common.core.map;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CaseInsensitiveMap and CamelCaseMap Tester.
+ *
+ * @author kris
+ */
+public class FoldedKeyMapTest {
+
+    @Test
+    public void testCaseInsensitiveMap() {
+        Map<String, Integer> map = new CaseInsensitiveLinkedMap<>();
+        map.put("UserName", 1);
+        map.put("AGE", 2);
+        map.put("username", 3);
+        map.put(null, 4);
+        assertEquals(3, map.size());
+        assertEquals(3, map.get("USERNAME"));
+        assertTrue(map.containsKey("Age"));
+        assertEquals(4, map.get(null));
+        assertEquals(List.of("username", "age"), new ArrayList<>(map.keySet()).subList(0, 2));
+
+        assertEquals(2, map.remove("age"));
+        assertFalse(map.containsKey("AGE"));
+        assertEquals(Map.of("username", 3), new HashMap<>(map) {{
+            remove(null);
+        }});
+    }
+
+    @Test
+    public void testCamelCaseMap() {
+        Map<String, Object> map = new CamelCaseLinkedMap<>();
+        map.put("user_name", "a");
+        map.put("createTime", 2);
+        map.put("create_time", 3);
+        assertEquals(List.of("userName", "createTime"), new ArrayList<>(map.keySet()));
+        assertEquals("a", map.get("userName"));
+        assertEquals(3, map.get("create_time"));
+        assertEquals(3, map.get("_create__time"));
+        assertFalse(map.containsKey("username"));
+        assertEquals(3, map.remove("createTime"));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void testMapSemantics() {
+        Random random = new Random(7);
+        Map<String, Integer> expected = new LinkedHashMap<>();
+        CaseInsensitiveMap<String, Integer> map = new CaseInsensitiveMap<>(1);
+        for (int i = 0; i < 10000; i++) {
+            String key = (random.nextBoolean() ? "KEY_" : "key_") + random.nextInt(200);
+            switch (random.nextInt(3)) {
+                case 0 -> assertEquals(expected.put(key.toLowerCase(), i), map.put(key, i));
+                case 1 -> assertEquals(expected.remove(key.toLowerCase()), map.remove(key));
+                default -> assertEquals(expected.get(key.toLowerCase()), map.get(key));
+            }
+        }
+        assertEquals(expected, map);
+        assertEquals(new ArrayList<>(expected.entrySet()), new ArrayList<>(map.entrySet()));
+
+        map.entrySet().removeIf(entry -> entry.getValue() % 2 == 0);
+        expected.entrySet().removeIf(entry -> entry.getValue() % 2 == 0);
+        assertEquals(expected, map);
+        assertEquals(expected, map.clone());
+        assertThrows(ConcurrentModificationException.class, () -> map.forEach((key, value) -> map.put(key + "_new", value)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.ipower.framework.common.core.stream;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streams Tester.
+ *
+ * @author kris
+ */
+public class StreamsTest {
+
+    @Test
+    public void testBatch() {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<List<Integer>> batches = Streams.batch(IntStream.range(0, 7).boxed().onClose(() -> closed.set(true)), 3)) {
+            assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), batches.toList());
+        }
+        assertTrue(closed.get());
+
+        Stream<Integer> slow = IntStream.range(0, 6).boxed().peek(i -> {
+            if (i == 4) {
+                sleep(60);
+            }
+        });
+        assertEquals(List.of(List.of(0, 1, 2, 3), List.of(4, 5)), Streams.batch(slow, 100, Duration.ofMillis(30)).toList());
+        assertEquals(List.of(List.of(1, 2), List.of(3)), Streams.batch(Stream.of(1, 2, 3), 2, Duration.ofSeconds(1)).toList());
+    }
+
+    @Test
+    public void testWindow() {
+        assertEquals(List.of(List.of(1, 2, 3), List.of(2, 3, 4), List.of(3, 4, 5)), Streams.window(Stream.of(1, 2, 3, 4, 5), 3, 1).toList());
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4)), Streams.window(Stream.of(1, 2, 3, 4, 5), 2, 2).toList());
+        assertEquals(List.of(List.of(1, 2), List.of(4, 5)), Streams.window(Stream.of(1, 2, 3, 4, 5, 6, 7), 2, 3).toList());
+        assertTrue(Streams.window(Stream.of(1, 2), 3, 1).toList().isEmpty());
+    }
+
+    @Test
+    public void testParallelOnAndMapAsync() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Set<ForkJoinPool> pools = Streams.parallelOn(IntStream.range(0, 1000).boxed(), pool,
+                    stream -> stream.map(i -> ForkJoinTask.getPool()).collect(Collectors.toSet()));
+            assertEquals(Set.of(pool), pools);
+        } finally {
+            pool.shutdown();
+        }
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Integer> doubled = Streams.mapAsync(IntStream.range(0, 20).boxed(), i -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(10 + (i % 3) * 5);
+            running.decrementAndGet();
+            return i * 2;
+        }, 4).toList();
+        assertEquals(IntStream.range(0, 20).map(i -> i * 2).boxed().toList(), doubled);
+        assertTrue(maxRunning.get() <= 4);
+
+        IllegalStateException failed = assertThrows(IllegalStateException.class, () -> Streams.mapAsync(Stream.of(1, 2, 3), i -> {
+            if (i == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return i;
+        }, 2).toList());
+        assertEquals("failed", failed.getMessage());
+    }
+
+    /**
+     * 关闭Stream时中断正在执行的映射函数
+     */
+    @Test
+    public void testMapAsyncCancel() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (Stream<Integer> mapped = Streams.mapAsync(Stream.of(0, 1), i -> {
+            if (i == 1) {
+                started.countDown();
+                try {
+                    Thread.sleep(10_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return i;
+        }, 2)) {
+            assertEquals(0, mapped.iterator().next());
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+        }
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.ipower.framework.common.core.text;
+
+import com.github.stuxuhai.jpinyin.ChineseHelper;
+import com.github.stuxuhai.jpinyin.PinyinHelper;
+import com.ipower.framework.common.core.text.pattern.ChineseCharPattern;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChineseUtil Tester.
+ *
+ * @author kris
+ */
+public class ChineseUtilTest {
+
+    private static final String TEXT = "this is 義氣行事，重庆的重量。 義氣 abc 123 ";
+
+    @Test
+    public void testClassify() {
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            char ch = (char) c;
+            assertEquals(ChineseHelper.isChinese(ch), ChineseUtil.isChinese(ch));
+            assertEquals(ChineseHelper.isTraditionalChinese(ch), ChineseUtil.isTraditional(ch));
+            assertEquals(PinyinHelper.hasMultiPinyin(ch), PinyinUtil.isPolyphony(ch));
+        }
+        assertTrue(ChineseUtil.hasChinese("abc中"));
+        assertFalse(ChineseUtil.hasChinese("abc"));
+        assertFalse(ChineseUtil.hasChinese(null));
+    }
+
+    @Test
+    public void testScan() throws IOException {
+        assertEquals(List.of("義", "氣"), ChineseUtil.findTraditional(TEXT));
+        assertEquals(List.of("義", "氣", "行", "事", "重", "庆", "的", "量"), ChineseUtil.findChinese(TEXT));
+        assertTrue(PinyinUtil.findPolyphony(TEXT).contains("重"));
+        assertTrue(ChineseUtil.findChinese("abc").isEmpty());
+
+        String document = TEXT.repeat(100000);
+        for (ChineseCharPattern pattern : ChineseCharPattern.values()) {
+            assertEquals(List.copyOf(ChineseUtil.scan(TEXT, pattern)), List.copyOf(ChineseUtil.scan(new StringReader(document), pattern)));
+        }
+    }
+
+    /**
+     * 与逐字调用jpinyin、用List去重的结果一致
+     */
+    @Test
+    public void testScanDocument() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (char c = '一'; builder.length() < 4_000_000; c = c == '龥' ? '一' : (char) (c + 1)) {
+            builder.append(c).append(c % 7 == 0 ? " " : "");
+        }
+        String document = builder.toString();
+        String sample = document.substring(0, 10_000);
+        List<String> expected = new ArrayList<>();
+        for (char ch : sample.toCharArray()) {
+            if (ChineseHelper.isChinese(ch) && !expected.contains(Character.toString(ch))) {
+                expected.add(Character.toString(ch));
+            }
+        }
+        assertEquals(expected, ChineseUtil.findChinese(sample));
+
+        long distinct = document.chars().filter(ch -> ChineseHelper.isChinese((char) ch)).distinct().count();
+        assertEquals(distinct, ChineseUtil.scan(new StringReader(document), ChineseCharPattern.CHINESE).size());
+    }
+}
@@ -0,0 +1,42 @@
+package com.ipower.framework.common.core.text;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 1000000个名称的PinyinIndex创建和输入联想耗时，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class PinyinIndexBenchmark {
+
+    public static void main(String[] args) {
+        String surnames = "张王李赵刘陈杨黄周吴徐孙胡朱高林何郭马罗";
+        String givens = "伟芳娜敏静丽强磊军洋勇艳杰娟涛明超秀霞平刚桂英华玉兰文建国志红梅鹏飞宇浩然晨阳";
+        Random random = new Random(3);
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            StringBuilder name = new StringBuilder().append(surnames.charAt(random.nextInt(surnames.length())));
+            for (int j = 1 + random.nextInt(2); j > 0; j--) {
+                name.append(givens.charAt(random.nextInt(givens.length())));
+            }
+            names.add(name.toString());
+        }
+        long start = System.nanoTime();
+        PinyinIndex<String> index = PinyinIndex.of(names);
+        long build = System.nanoTime() - start;
+
+        List<String> keywords = List.of("zw", "zhangw", "李j", "wangfang", "lhy", "chenj", "hgq", "xiuy", "zh", "l");
+        int matched = 0;
+        start = System.nanoTime();
+        for (int round = 0; round < 100; round++) {
+            for (String keyword : keywords) {
+                matched += index.search(keyword, 20).size();
+            }
+        }
+        long search = System.nanoTime() - start;
+        System.out.printf("index %d names: build %d ms, search %d us/query (top 20, %d matched)%n", names.size(), build / 1_000_000,
+                search / 1000 / (100 * keywords.size()), matched);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ipower.framework.common.core.text;
+
+import com.ipower.framework.common.core.text.pattern.PinyinPattern;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PinyinIndex Tester.
+ *
+ * @author kris
+ */
+public class PinyinIndexTest {
+
+    private static final List<String> NAMES = List.of("张三丰", "张三", "李四", "王五", "刘德华", "Andy刘", "zhang", "三张");
+
+    @Test
+    public void testToPinyin() {
+        assertEquals("zhangsanfeng", PinyinUtil.toPinyin("张三丰"));
+        assertEquals("zhangsanfeng", PinyinUtil.toPinyin("张三丰"));
+        assertEquals("Zhang San Feng", PinyinUtil.toPinyin("张三丰", " ", PinyinPattern.NONE_TONE_FU));
+        assertEquals("", PinyinUtil.toPinyin((String) null));
+        assertEquals("zhang", PinyinUtil.toPinyin('张', null));
+        assertEquals("Zhang", PinyinUtil.toPinyin('张', PinyinPattern.NONE_TONE_FU));
+        assertEquals("a", PinyinUtil.toPinyin('a', null));
+        assertEquals(List.of("zhangsan", "lisi"), PinyinUtil.toPinyin(List.of("张三", "李四"), null, null));
+        assertEquals(List.of("zs", "ls"), PinyinUtil.toShortPinyin(List.of("张三", "李四")));
+    }
+
+    @Test
+    public void testSearch() {
+        PinyinIndex<String> index = PinyinIndex.of(NAMES);
+        assertEquals(List.of("张三丰", "张三"), index.search("zs"));
+        assertEquals(List.of("张三丰"), index.search("zhangsf"));
+        assertEquals(List.of("张三丰", "张三"), index.search("张s"));
+        assertEquals(List.of("张三丰"), index.search("SanFeng"));
+        assertEquals(List.of("刘德华"), index.search("ldh"));
+        assertEquals(List.of("刘德华", "Andy刘"), index.search("liu"));
+        assertEquals(List.of("Andy刘"), index.search("andyl"));
+        assertEquals(List.of("张三丰", "张三", "zhang", "三张"), index.search("zhang"));
+        assertEquals(2, index.search("z", 2).size());
+        assertTrue(index.search("zhangsanfengx").isEmpty());
+        assertTrue(index.search("").isEmpty());
+        assertEquals(NAMES.size(), index.size());
+    }
+}
@@ -0,0 +1,37 @@
+package com.ipower.framework.common.core.text;
+
+/**
+ * 常量模板重复格式化与每次查找占位符的耗时比较，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class StringFormatterBenchmark {
+
+    public static void main(String[] args) {
+        String pattern = "user {} of dept {} has {} roles, \\{} last login {}";
+        StringTemplate template = StringTemplate.compile(pattern);
+        StringBuilder builder = new StringBuilder();
+        int rounds = 1_000_000;
+        long length = 0;
+        for (int warm = 0; warm < 2; warm++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                length += StringFormatter.format(pattern, i, "dept", 3, "x", "2024-01-01").length();
+            }
+            long format = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                builder.setLength(0);
+                length += template.formatTo(builder, i, "dept", 3, "x", "2024-01-01").length();
+            }
+            long formatTo = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < rounds; i++) {
+                length += template.lazy(i, "dept", 3, "x", "2024-01-01") == null ? 1 : 0;
+            }
+            long lazy = System.nanoTime() - start;
+            System.out.printf("format %d ns/op, formatTo %d ns/op, lazy (not rendered) %d ns/op (%d)%n",
+                    format / rounds, formatTo / rounds, lazy / rounds, length);
+        }
+    }
+}
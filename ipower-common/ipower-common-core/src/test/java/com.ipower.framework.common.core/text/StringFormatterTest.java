@@ -8,8 +8,11 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * StrFormatter Tester.
@@ -46,6 +49,60 @@ public class StringFormatterTest {
         Assert.assertEquals("this is [a] for [2]", StringFormatter.format(str, "a", 2));
     }
 
+    /**
+     * Method: compile(String pattern)
+     */
+    @Test
+    public void testCompile() {
+        StringTemplate template = StringTemplate.compile("this is {} for {}");
+        Assert.assertSame(template, StringTemplate.compile(template.getPattern()));
+        Assert.assertEquals(2, template.getPlaceholderCount());
+        Assert.assertEquals("this is a for 2", template.format("a", 2));
+        Assert.assertEquals("this is a for {}", template.format("a"));
+        Assert.assertEquals("this is  for b", template.format(null, "b"));
+        Assert.assertEquals("this is {} for {}", template.format());
+        Assert.assertEquals(1, StringTemplate.compile("this is \\{} for {}").getPlaceholderCount());
+        // 参数用完后剩余部分原样输出
+        Assert.assertEquals("this is a for \\{}", StringFormatter.format("this is {} for \\{}", "a"));
+        Assert.assertEquals("this is a for \\{}", StringTemplate.compile("this is {} for \\{}").format("a"));
+        Assert.assertEquals("\\{} {}", StringTemplate.compile("\\{} {}").format());
+        Assert.assertEquals("{} a", StringTemplate.compile("\\{} {}").format("a"));
+        Assert.assertEquals("\\a {}", StringTemplate.compile("\\\\{} {}").format("a"));
+        Assert.assertEquals("no placeholder", StringTemplate.compile("no placeholder").format("a"));
+        Assert.assertEquals("", StringTemplate.compile("").format("a"));
+    }
+
+    /**
+     * Method: formatTo(StringBuilder builder, String pattern, Object... args)
+     */
+    @Test
+    public void testFormatTo() throws IOException {
+        StringBuilder builder = new StringBuilder("> ");
+        Assert.assertSame(builder, StringFormatter.formatTo(builder, "{} + {} = {}", 1, 2, 3));
+        Assert.assertEquals("> 1 + 2 = 3", builder.toString());
+        StringWriter writer = StringTemplate.compile("[{}]").formatTo(new StringWriter(), "a");
+        Assert.assertEquals("[a]", writer.toString());
+    }
+
+    /**
+     * Method: lazy(String pattern, Object... args)
+     */
+    @Test
+    public void testLazy() {
+        AtomicInteger calls = new AtomicInteger();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(calls.incrementAndGet());
+            }
+        };
+        LazyMessage message = StringFormatter.lazy("call {}", arg);
+        Assert.assertEquals(0, calls.get());
+        Assert.assertEquals("call 1", message.toString());
+        Assert.assertEquals("call 1", message.get());
+        Assert.assertEquals(1, calls.get());
+    }
+
     @Test
     public void testGroupMap() {
         int size = 42135;
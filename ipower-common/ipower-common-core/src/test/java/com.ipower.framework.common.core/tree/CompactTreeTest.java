@@ -0,0 +1,134 @@
+package com.ipower.framework.common.core.tree;
+
+import com.alibaba.fastjson2.JSON;
+import com.ipower.framework.common.core.tree.parser.CompactNodeParser;
+import com.ipower.framework.common.core.tree.parser.NodeParser;
+import com.ipower.framework.common.core.util.JacksonJsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CompactTree Tester.
+ *
+ * @author kris
+ */
+public class CompactTreeTest {
+
+    private record Menu(long id, long parentId, String name, Integer sort, String path) {
+    }
+
+    private static final List<Menu> MENUS = List.of(
+            new Menu(1, 0, "系统", 2, "/sys"), new Menu(2, 0, "首页", 1, "/"), new Menu(3, 1, "用户", null, "/sys/user"),
+            new Menu(4, 1, "角色", 3, null), new Menu(5, 4, "授权", 1, "/sys/role/grant"));
+
+    private static final NodeParser<Long, Menu> PARSER = (menu, tree) -> {
+        tree.setId(menu.id());
+        tree.setParentId(menu.parentId());
+        tree.setName(menu.name());
+        tree.setWeight(menu.sort());
+        tree.putExtra("path", menu.path());
+    };
+
+    private static final CompactNodeParser<Long, Menu> COMPACT_PARSER = (menu, tree) -> {
+        tree.setId(menu.id());
+        tree.setParentId(menu.parentId());
+        tree.setName(menu.name());
+        tree.setWeight(menu.sort());
+        tree.putExtra("path", menu.path());
+    };
+
+    private static final TreeConfig CUSTOM_CONFIG = new TreeConfig().setIdKey("value").setParentIdKey("pid")
+            .setNameKey("label").setWeightKey("sort").setChildrenKey("items");
+
+    @Test
+    public void testJson() {
+        for (TreeConfig treeConfig : new TreeConfig[]{TreeConfig.DEFAULT_CONFIG, CUSTOM_CONFIG}) {
+            List<Tree<Long>> trees = TreeUtil.build(MENUS, treeConfig, PARSER);
+            List<CompactTree<Long>> compact = TreeUtil.buildCompact(MENUS, treeConfig, COMPACT_PARSER);
+            assertEquals(JacksonJsonUtil.toJSONString(trees), JacksonJsonUtil.toJSONString(compact));
+            assertEquals(JSON.toJSONString(trees), JSON.toJSONString(compact));
+        }
+        String json = JacksonJsonUtil.toJSONString(TreeUtil.buildCompact(MENUS.subList(1, 2), CUSTOM_CONFIG, COMPACT_PARSER));
+        assertEquals("[{\"items\":[],\"value\":\"2\",\"pid\":\"0\",\"label\":\"首页\",\"sort\":1,\"path\":\"/\"}]", json);
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        Tree<Long> tree = new Tree<>(CUSTOM_CONFIG);
+        CompactTree<Long> compact = new CompactTree<>(CUSTOM_CONFIG);
+        PARSER.parse(MENUS.get(0), tree);
+        COMPACT_PARSER.parse(MENUS.get(0), compact);
+        assertEquals(tree, compact);
+        assertEquals(compact, tree);
+        assertEquals(tree.hashCode(), compact.hashCode());
+        assertEquals(tree.toString(), compact.toString());
+
+        compact.putExtra("path", "/other");
+        assertNotEquals(tree, compact);
+        tree.putExtra("path", "/other");
+        compact.setWeight(null);
+        tree.setWeight(null);
+        assertEquals(tree, compact);
+        assertEquals(tree.hashCode(), compact.hashCode());
+    }
+
+    @Test
+    public void testRemoveAndPut() {
+        CompactTree<Long> compact = new CompactTree<>(CUSTOM_CONFIG);
+        compact.setId(1L).setName("a").setWeight(2);
+        compact.putExtra("path", "/a");
+        assertEquals(List.of("items", "value", "label", "sort", "path"), keys(compact));
+
+        // 固定字段删除后重新设置，排在已设置的固定字段之后，扩展属性之前
+        assertEquals("a", compact.remove("label"));
+        assertFalse(compact.containsKey("label"));
+        assertNull(compact.getName());
+        assertEquals(4, compact.size());
+        compact.put("label", "b");
+        compact.setParentId(0L);
+        assertEquals(List.of("items", "value", "sort", "label", "pid", "path"), keys(compact));
+        assertEquals("b", compact.getName());
+        assertEquals(0L, compact.getParentId());
+
+        // 所有固定字段都已设置时删除中间的字段再追加
+        compact.remove("value");
+        compact.put("value", 3L);
+        assertEquals(List.of("items", "sort", "label", "pid", "value", "path"), keys(compact));
+        assertEquals(3L, compact.getId());
+
+        // 设置为null的固定字段仍然存在
+        compact.setName(null);
+        assertTrue(compact.containsKey("label"));
+        assertEquals(6, compact.size());
+
+        Iterator<Map.Entry<String, Object>> iterator = compact.entrySet().iterator();
+        iterator.next();
+        Map.Entry<String, Object> sort = iterator.next();
+        sort.setValue(9);
+        assertEquals(9, compact.getWeight());
+        iterator.remove();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        while (iterator.hasNext()) {
+            if ("path".equals(iterator.next().getKey())) {
+                iterator.remove();
+            }
+        }
+        assertEquals(List.of("items", "label", "pid", "value"), keys(compact));
+        assertNull(compact.getWeight());
+
+        compact.clear();
+        assertTrue(compact.isEmpty());
+        compact.setId(5L);
+        assertEquals(List.of("value"), keys(compact));
+    }
+
+    private static List<String> keys(Map<String, Object> map) {
+        return new ArrayList<>(map.keySet());
+    }
+}
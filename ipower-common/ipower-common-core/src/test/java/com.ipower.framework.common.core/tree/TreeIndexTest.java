@@ -0,0 +1,79 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.exception.UtilException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TreeIndex Tester.
+ *
+ * @author kris
+ */
+public class TreeIndexTest {
+
+    private record Dept(long id, long parentId) {
+    }
+
+    private static TreeIndex<Long> index() {
+        // 1 -> (2 -> (4, 5), 3), 6
+        return TreeIndex.of(List.of(new Dept(1, 0), new Dept(2, 1), new Dept(3, 1),
+                new Dept(4, 2), new Dept(5, 2), new Dept(6, 0)), Dept::id, Dept::parentId);
+    }
+
+    @Test
+    public void testQuery() {
+        TreeIndex.Snapshot<Long> snapshot = index().snapshot();
+        assertEquals(6, snapshot.size());
+        assertEquals(List.of(1L, 6L), snapshot.roots());
+        assertEquals(List.of(2L, 4L, 5L, 3L), snapshot.descendants(1L));
+        assertEquals(List.of(2L, 4L, 5L), snapshot.subtree(2L));
+        assertEquals(List.of(2L, 3L), snapshot.children(1L));
+        assertEquals(List.of(2L, 1L), snapshot.ancestors(5L));
+        assertEquals(2L, snapshot.parent(4L));
+        assertNull(snapshot.parent(6L));
+        assertEquals(2, snapshot.depth(5L));
+        assertTrue(snapshot.isAncestor(1L, 5L));
+        assertFalse(snapshot.isAncestor(5L, 5L));
+        assertTrue(snapshot.inSubtree(5L, 5L));
+        assertFalse(snapshot.inSubtree(3L, 5L));
+        assertFalse(snapshot.isAncestor(1L, 6L));
+        assertTrue(snapshot.subtree(99L).isEmpty());
+    }
+
+    @Test
+    public void testModify() {
+        TreeIndex<Long> index = index();
+        TreeIndex.Snapshot<Long> before = index.snapshot();
+        assertSame(before, index.snapshot());
+
+        index.add(7L, 3L);
+        index.move(2L, 6L);
+        TreeIndex.Snapshot<Long> after = index.snapshot();
+        assertEquals(before.version() + 2, after.version());
+        assertEquals(List.of(3L, 7L), after.descendants(1L));
+        assertEquals(List.of(6L, 2L, 4L, 5L), after.subtree(6L));
+        assertTrue(after.isAncestor(6L, 4L));
+        // 旧快照不受修改影响
+        assertTrue(before.isAncestor(1L, 4L));
+        assertFalse(before.contains(7L));
+
+        assertEquals(3, index.remove(2L));
+        assertEquals(0, index.remove(2L));
+        assertEquals(List.of(6L), index.snapshot().subtree(6L));
+        assertFalse(index.contains(4L));
+    }
+
+    @Test
+    public void testInvalid() {
+        TreeIndex<Long> index = index();
+        assertThrows(IllegalArgumentException.class, () -> index.add(3L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> index.add(8L, 99L));
+        assertThrows(IllegalArgumentException.class, () -> index.move(2L, 5L));
+        assertThrows(IllegalArgumentException.class, () -> index.move(2L, 2L));
+        assertThrows(UtilException.class, () -> TreeIndex.of(List.of(new Dept(1, 2), new Dept(2, 1), new Dept(3, 0)),
+                Dept::id, Dept::parentId));
+    }
+}
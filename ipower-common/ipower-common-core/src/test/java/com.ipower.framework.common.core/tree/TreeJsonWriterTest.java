@@ -0,0 +1,67 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.tree.parser.CompactNodeParser;
+import com.ipower.framework.common.core.tree.parser.NodeParser;
+import com.ipower.framework.common.core.util.JacksonJsonUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TreeJsonWriter Tester.
+ *
+ * @author kris
+ */
+public class TreeJsonWriterTest {
+
+    private record Region(long id, long parentId, String name, Integer sort, String code) {
+    }
+
+    private static final List<Region> REGIONS = List.of(
+            new Region(1, 0, "浙江", 2, "33"), new Region(2, 0, "江苏", 1, "32"), new Region(3, 1, "杭州", null, "3301"),
+            new Region(4, 1, "宁波", 3, "3302"), new Region(5, 4, "海曙", 1, "330203"), new Region(6, 99, "orphan", 0, null));
+
+    private static final NodeParser<Long, Region> PARSER = (region, tree) -> {
+        tree.setId(region.id());
+        tree.setParentId(region.parentId());
+        tree.setName(region.name());
+        tree.setWeight(region.sort());
+        tree.putExtra("code", region.code());
+    };
+
+    private static final CompactNodeParser<Long, Region> COMPACT_PARSER = (region, tree) -> {
+        tree.setId(region.id());
+        tree.setParentId(region.parentId());
+        tree.setName(region.name());
+        tree.setWeight(region.sort());
+        tree.putExtra("code", region.code());
+    };
+
+    private static String write(List<Region> regions, TreeConfig treeConfig) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TreeJsonWriter.write(regions, treeConfig, COMPACT_PARSER, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void testWrite() {
+        TreeConfig treeConfig = new TreeConfig().setIdKey("value").setNameKey("label");
+        assertEquals(JacksonJsonUtil.toJSONString(TreeUtil.build(REGIONS, treeConfig, PARSER)), write(REGIONS, treeConfig));
+
+        treeConfig = new TreeConfig();
+        treeConfig.setMaxDepth(2);
+        assertEquals(JacksonJsonUtil.toJSONString(TreeUtil.build(REGIONS, treeConfig, PARSER)), write(REGIONS, treeConfig));
+        assertEquals("[]", write(List.of(), null));
+    }
+
+    @Test
+    public void testCycle() {
+        List<Region> regions = List.of(new Region(1, 2, "a", 1, null), new Region(2, 1, "b", 1, null));
+        assertThrows(UtilException.class, () -> write(regions, null));
+    }
+}
@@ -0,0 +1,56 @@
+package com.ipower.framework.common.core.tree;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TreeSearcher Tester.
+ *
+ * @author kris
+ */
+public class TreeSearcherTest {
+
+    private record Dept(long id, long parentId, String name) {
+    }
+
+    private static final List<Dept> DEPTS = List.of(
+            new Dept(1, 0, "总部"), new Dept(2, 1, "研发部"), new Dept(3, 2, "Java组"),
+            new Dept(4, 2, "前端组"), new Dept(5, 1, "财务部"), new Dept(6, 0, "分公司"), new Dept(7, 6, "研发中心"));
+
+    private static final TreeSearcher<Long> SEARCHER = TreeSearcher.of(TreeUtil.build(DEPTS, new TreeConfig(), (dept, tree) -> {
+        tree.setId(dept.id());
+        tree.setParentId(dept.parentId());
+        tree.setName(dept.name());
+    }));
+
+    @Test
+    public void testMatch() {
+        assertEquals(7, SEARCHER.size());
+        assertEquals(List.of(2L, 7L), SEARCHER.match("研发").stream().map(Tree::getId).toList());
+        assertEquals(List.of(3L), SEARCHER.match("JAVA").stream().map(Tree::getId).toList());
+        // 拼音首字母
+        assertEquals(List.of(5L), SEARCHER.match("cwb").stream().map(Tree::getId).toList());
+        assertTrue(SEARCHER.match("不存在").isEmpty());
+        assertTrue(SEARCHER.match("").isEmpty());
+    }
+
+    @Test
+    public void testSearch() {
+        List<Tree<Long>> roots = SEARCHER.search("组");
+        assertEquals(List.of(1L), roots.stream().map(Tree::getId).toList());
+        Tree<Long> rd = roots.get(0).getChildren().get(0);
+        assertEquals(1, roots.get(0).getChildren().size());
+        assertEquals(List.of(3L, 4L), rd.getChildren().stream().map(Tree::getId).toList());
+        assertEquals("研发部", rd.getName());
+
+        roots = SEARCHER.search("yf");
+        assertEquals(List.of(1L, 6L), roots.stream().map(Tree::getId).toList());
+        // 匹配节点未匹配的子节点不保留，原来的树不变
+        assertTrue(roots.get(0).getChildren().get(0).getChildren().isEmpty());
+        assertEquals(2, SEARCHER.match("研发部").get(0).getChildren().size());
+        assertEquals(2, SEARCHER.search(null).size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.lang.ObjectUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * 1000000个节点的TreeUtil.build与改造前基于NodeManager的构建耗时比较，不属于单元测试，直接运行main方法，
+ * 参数可以指定节点数量
+ *
+ * @author kris
+ */
+public class TreeUtilBenchmark {
+
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        // 节点顺序打乱，父节点为之前生成的任一节点，约1%的节点为根节点
+        Random random = new Random(9);
+        long[] parents = new long[size + 1];
+        int[] weights = new int[size + 1];
+        for (int id = 1; id <= size; id++) {
+            parents[id] = id == 1 || random.nextInt(100) == 0 ? 0L : 1 + random.nextInt(id - 1);
+            weights[id] = random.nextInt(1000);
+        }
+        List<Long> order = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            order.add(id);
+        }
+        Collections.shuffle(order, random);
+
+        TreeConfig parallel = new TreeConfig().setParallelSort(true);
+        for (int round = 0; round < 3; round++) {
+            long old = time(nodes(order, parents, weights), TreeUtilBenchmark::oldBuild);
+            long linear = time(nodes(order, parents, weights), TreeUtil::build);
+            long parallelSort = time(nodes(order, parents, weights), items -> TreeUtil.build(items, null, parallel));
+            System.out.printf("build %d nodes: NodeManager (roots sorted) %d ms, linear (all levels sorted) %d ms, parallel sort %d ms%n",
+                    size, old, linear, parallelSort);
+        }
+    }
+
+    private static List<Tree<Long>> nodes(List<Long> order, long[] parents, int[] weights) {
+        List<Tree<Long>> nodes = new ArrayList<>(order.size());
+        for (Long id : order) {
+            Tree<Long> tree = new Tree<>(null);
+            tree.setId(id);
+            tree.setParentId(parents[id.intValue()]);
+            tree.setWeight(weights[id.intValue()]);
+            nodes.add(tree);
+        }
+        return nodes;
+    }
+
+    private static long time(List<Tree<Long>> nodes, Function<List<Tree<Long>>, List<Tree<Long>>> build) {
+        long start = System.nanoTime();
+        int roots = build.apply(nodes).size();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        if (roots == 0) {
+            throw new IllegalStateException("no roots");
+        }
+        return elapsed;
+    }
+
+    /**
+     * 改造前的实现，节点放入NodeManager的ConcurrentMap，只对根节点排序
+     */
+    @SuppressWarnings("deprecation")
+    private static List<Tree<Long>> oldBuild(List<Tree<Long>> items) {
+        NodeManager<Long, Tree<Long>> nodeManager = new NodeManager<>(items);
+        items.forEach(forestNode -> {
+            if (ObjectUtil.notEquals(forestNode.getParentId(), 0)) {
+                Node<Long, Tree<Long>> node = nodeManager.getTreeNodeAt(forestNode.getParentId());
+                if (node != null) {
+                    node.getChildren().add(forestNode);
+                } else {
+                    nodeManager.addParentId(forestNode.getId());
+                }
+            }
+        });
+        return nodeManager.getRoot();
+    }
+}
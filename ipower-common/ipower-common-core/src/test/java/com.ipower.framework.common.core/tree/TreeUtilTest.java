@@ -0,0 +1,67 @@
+package com.ipower.framework.common.core.tree;
+
+import com.ipower.framework.common.core.exception.UtilException;
+import com.ipower.framework.common.core.tree.parser.NodeParser;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TreeUtil Tester.
+ *
+ * @author kris
+ */
+public class TreeUtilTest {
+
+    private record Dept(long id, long parentId, String name, int sort) {
+    }
+
+    private static final NodeParser<Long, Dept> PARSER = (dept, tree) -> {
+        tree.setId(dept.id());
+        tree.setParentId(dept.parentId());
+        tree.setName(dept.name());
+        tree.setWeight(dept.sort());
+    };
+
+    private static final List<Dept> DEPTS = List.of(
+            new Dept(1, 0, "a", 2), new Dept(2, 0, "b", 1), new Dept(3, 1, "c", 5),
+            new Dept(4, 1, "d", 3), new Dept(5, 4, "e", 1), new Dept(6, 99, "orphan", 0));
+
+    @Test
+    public void testBuild() {
+        List<Tree<Long>> roots = TreeUtil.build(DEPTS, new TreeConfig(), PARSER);
+        // Long类型的0和父节点不存在的节点都是根节点，各层按权重排序
+        assertEquals(List.of(6L, 2L, 1L), roots.stream().map(Tree::getId).toList());
+        Tree<Long> a = roots.get(2);
+        assertEquals(List.of(4L, 3L), a.getChildren().stream().map(Tree::getId).toList());
+        assertEquals(5L, a.getChildren().get(0).getChildren().get(0).getId());
+
+        List<Tree<Long>> pruned = TreeUtil.build(DEPTS, new TreeConfig().setMaxDepth(2), PARSER);
+        assertTrue(pruned.get(2).getChildren().get(0).getChildren().isEmpty());
+
+        List<CompactTree<Long>> compact = TreeUtil.buildCompact(DEPTS, null, (dept, tree) -> {
+            tree.setId(dept.id());
+            tree.setParentId(dept.parentId());
+            tree.setName(dept.name());
+            tree.setWeight(dept.sort());
+        });
+        assertEquals(roots, compact);
+    }
+
+    @Test
+    public void testBuildWithRootPredicateAndCycle() {
+        List<Tree<Long>> trees = DEPTS.stream().map(dept -> {
+            Tree<Long> tree = new Tree<>(null);
+            PARSER.parse(dept, tree);
+            return tree;
+        }).toList();
+        List<Tree<Long>> roots = TreeUtil.build(trees, tree -> tree.getId() == 4L, null);
+        assertEquals(List.of(6L, 2L, 1L, 4L), roots.stream().map(Tree::getId).toList());
+        assertEquals(List.of(3L), roots.get(2).getChildren().stream().map(Tree::getId).toList());
+
+        List<Dept> cycle = List.of(new Dept(1, 2, "x", 0), new Dept(2, 1, "y", 0), new Dept(3, 0, "z", 0));
+        assertThrows(UtilException.class, () -> TreeUtil.build(cycle, new TreeConfig(), PARSER));
+    }
+}
@@ -0,0 +1,54 @@
+package com.ipower.framework.common.core.util;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.ipower.framework.common.core.util.JacksonJsonUtilTest.Item;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.stream.IntStream;
+
+/**
+ * 逐个元素写出和读取1000000个元素的数组的耗时，不属于单元测试，直接运行main方法
+ *
+ * @author kris
+ */
+public class JacksonJsonUtilBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int size = 1_000_000;
+        CountingOutputStream counter = new CountingOutputStream();
+        long start = System.nanoTime();
+        JacksonJsonUtil.writeArray(counter, IntStream.range(0, size).mapToObj(i -> new Item((long) i, "item" + i, LocalDate.of(2024, 1, 1))));
+        long write = System.nanoTime() - start;
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonJsonUtil.writeArray(out, IntStream.range(0, size).mapToObj(i -> new Item((long) i, "item" + i, null)));
+        start = System.nanoTime();
+        long sum = 0;
+        try (MappingIterator<Item> iterator = JacksonJsonUtil.readValues(new ByteArrayInputStream(out.toByteArray()), Item.class)) {
+            while (iterator.hasNext()) {
+                sum += iterator.next().getId();
+            }
+        }
+        long read = System.nanoTime() - start;
+        System.out.printf("array of %d items: write %d ms (%d bytes), read %d ms (sum %d)%n", size, write / 1_000_000, counter.count,
+                read / 1_000_000, sum);
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
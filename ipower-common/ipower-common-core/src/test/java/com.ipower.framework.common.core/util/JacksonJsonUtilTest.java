@@ -0,0 +1,98 @@
+package com.ipower.framework.common.core.util;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JacksonJsonUtil Tester.
+ *
+ * @author kris
+ */
+public class JacksonJsonUtilTest {
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Long id;
+        private String name;
+        private LocalDate date;
+    }
+
+    private static final List<Item> ITEMS = List.of(new Item(1L, "a", LocalDate.of(2024, 1, 2)), new Item(2L, "b", null));
+
+    @Test
+    public void testStream() throws IOException {
+        String json = JacksonJsonUtil.toJSONString(ITEMS);
+        assertEquals("[{\"id\":\"1\",\"name\":\"a\",\"date\":\"2024-01-02\"},{\"id\":\"2\",\"name\":\"b\",\"date\":null}]", json);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonJsonUtil.writeValue(out, ITEMS);
+        // 输出流没有被关闭，可以继续写出
+        out.write(' ');
+        assertEquals(json + " ", out.toString(StandardCharsets.UTF_8));
+        StringWriter writer = new StringWriter();
+        JacksonJsonUtil.writeValue(writer, ITEMS);
+        assertEquals(json, writer.toString());
+
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertEquals(ITEMS, JacksonJsonUtil.parseList(new ByteArrayInputStream(bytes), Item.class));
+        assertEquals(ITEMS, JacksonJsonUtil.parseObject(new ByteArrayInputStream(bytes), new TypeReference<List<Item>>() {
+        }));
+        assertEquals(ITEMS.get(0), JacksonJsonUtil.parseObject(new StringReader(JacksonJsonUtil.toJSONString(ITEMS.get(0))), Item.class));
+        assertEquals(ITEMS, JacksonJsonUtil.parseList(json, Item.class));
+        assertEquals(ITEMS.get(1), JacksonJsonUtil.getReader(Item.class).readValue(JacksonJsonUtil.getWriter(Item.class).writeValueAsString(ITEMS.get(1))));
+        assertEquals("null", JacksonJsonUtil.toJSONString(null));
+    }
+
+    @Test
+    public void testCache() throws IOException {
+        assertSame(JacksonJsonUtil.getReader(Item.class), JacksonJsonUtil.getReader(Item.class));
+        assertSame(JacksonJsonUtil.getWriter(Item.class), JacksonJsonUtil.getWriter(Item.class));
+        ObjectWriter writer = JacksonJsonUtil.getWriter(Item.class);
+        JacksonJsonUtil.clearCache();
+        assertNotSame(writer, JacksonJsonUtil.getWriter(Item.class));
+        assertEquals(JacksonJsonUtil.toJSONString(ITEMS.get(0)), JacksonJsonUtil.getWriter(Item.class).writeValueAsString(ITEMS.get(0)));
+    }
+
+    @Test
+    public void testArray() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JacksonJsonUtil.writeArray(out, ITEMS.stream());
+        assertEquals(JacksonJsonUtil.toJSONString(ITEMS), out.toString(StandardCharsets.UTF_8));
+        StringWriter writer = new StringWriter();
+        JacksonJsonUtil.writeArray(writer, LongStream.of(1, 2).boxed());
+        assertEquals("[\"1\",\"2\"]", writer.toString());
+        writer = new StringWriter();
+        JacksonJsonUtil.writeArray(writer, IntStream.range(0, 0).boxed());
+        assertEquals("[]", writer.toString());
+
+        List<Item> items = new ArrayList<>();
+        try (MappingIterator<Item> iterator = JacksonJsonUtil.readValues(new ByteArrayInputStream(out.toByteArray()), Item.class)) {
+            iterator.forEachRemaining(items::add);
+        }
+        assertEquals(ITEMS, items);
+        try (MappingIterator<Item> iterator = JacksonJsonUtil.readValues(new StringReader("{\"id\":1} {\"id\":2}"), Item.class)) {
+            assertEquals(List.of(new Item(1L, null, null), new Item(2L, null, null)), iterator.readAll());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ipower.service.core.locale;
 
+import com.ipower.service.core.reqformat.CustomLocalDateTimeTransUtil;
 import org.springframework.context.i18n.LocaleContext;
 import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.web.servlet.i18n.LocaleChangeInterceptor;
@@ -72,6 +73,14 @@ public class MarsInheritableLocaleChangeInterceptor extends LocaleChangeIntercep
         return true;
     }
 
+    /**
+     * 请求结束后清除CustomLocalDateTimeTransUtil缓存的请求时区，避免线程池中的线程把上一个请求的时区带到下一个请求
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        CustomLocalDateTimeTransUtil.clearRequestZone();
+    }
+
 
 
 
@@ -1,7 +1,11 @@
 package com.ipower.service.core.reqformat;
 
+import com.ipower.framework.common.core.date.FastDateCodec;
+import com.ipower.framework.common.core.date.ZoneConverter;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.i18n.LocaleContext;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.i18n.TimeZoneAwareLocaleContext;
 
 import java.io.IOException;
 import java.time.*;
@@ -87,12 +91,23 @@ import java.util.TimeZone;
  */
 public class CustomLocalDateTimeTransUtil {
 
-    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss");
+    /**
+     * 以下格式化器都登记在FastDateCodec中，序列化和反序列化时按固定位置读写，不经过DateTimeFormatter
+     */
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = FastDateCodec.of("yyyy-MM-dd HH:mm:ss").formatter();
+    public static final DateTimeFormatter DATE_FORMATTER = FastDateCodec.of("yyyy-MM-dd").formatter();
+    public static final DateTimeFormatter TIME_FORMATTER = FastDateCodec.of("HH:mm:ss").formatter();
 
-    public static final DateTimeFormatter YEARMONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM");
+    public static final DateTimeFormatter YEARMONTH_FORMATTER = FastDateCodec.of("yyyy-MM").formatter();
 
+    /**
+     * 当前线程最近一次解析的请求时区和对应的转换器。
+     * 同一个请求的时区对象不变（HeaderLocaleResolver放在请求属性中，FixedLocaleResolver固定一个），
+     * 所以一次请求只解析一次时区，序列化大量时间字段时不再逐个比较时区ID、创建ZonedDateTime。
+     * 请求结束时由{@link com.ipower.service.core.locale.MarsInheritableLocaleChangeInterceptor}调用{@link #clearRequestZone()}清除，
+     * 不会带到线程池中该线程处理的下一个请求
+     */
+    private static final ThreadLocal<RequestZone> REQUEST_ZONE = new ThreadLocal<>();
 
     /**
      *  通过原时区，指定时区，变换本地时间的日历显示
@@ -128,16 +143,15 @@ public class CustomLocalDateTimeTransUtil {
             return systemLocalDateTime;
         //时间字符串yyyy-MM-dd HH:mm:ss转为系统localDateTime
         }else if(timeFormatType==TimeFormatTypeEnum.TIMESTR && strFormatter!=null){
-            TimeZone localeTimeZone = LocaleContextHolder.getTimeZone();
+            ZoneConverter systemToUser = requestZoneConverter();
             //如果有本地信息，把当前传的字符串先按local时区进行转localDateTime，再把时区变为系统时区
-            //如果supportTimeZoneTrans配置false,这儿取出来会是默认时区
-            if(localeTimeZone != null && !localeTimeZone.getID().equals(TimeZone.getDefault().getID())){
+            //如果supportTimeZoneTrans配置false,这儿取出来为null
+            if(systemToUser != null){
                 //传来一个2001-10-10 20:00:00,先转localDateTime，然后认为该时间是用户时区，转为系统时区
-                res = convertLocalDateTime(LocalDateTime.parse(timeStr, strFormatter), localeTimeZone.toZoneId(),
-                        ZoneId.systemDefault());
+                res = systemToUser.reverse().convert(FastDateCodec.of(strFormatter).parseDateTime(timeStr));
             }else{
                 //直接按当前时区用
-                res = LocalDateTime.parse(timeStr, strFormatter);
+                res = FastDateCodec.of(strFormatter).parseDateTime(timeStr);
             }
         }
         return res;
@@ -158,16 +172,15 @@ public class CustomLocalDateTimeTransUtil {
         //格式化为字符串
         }else if(timeFormatType==TimeFormatTypeEnum.TIMESTR && strFormatter!=null){
             //如果有local时区信息，则把当前服务器系统所在时区转换为目标时区 e.g. zoneId=Europe/Paris
-            //如果supportTimeZoneTrans配置false,这儿取出来会是默认时区
-            TimeZone localeTimeZone = LocaleContextHolder.getTimeZone();
+            //如果supportTimeZoneTrans配置false,这儿取出来为null
+            ZoneConverter systemToUser = requestZoneConverter();
             //有本地信息，从系统时间往本地时间转化，再格式化字符串
-            if(localeTimeZone != null && !localeTimeZone.getID().equals(TimeZone.getDefault().getID())){
+            if(systemToUser != null){
                 //把当前系统时区转用户时区，再转jsonStr
-                res = convertLocalDateTime(value, ZoneId.systemDefault(),localeTimeZone.toZoneId())
-                        .format(strFormatter);
+                res = FastDateCodec.of(strFormatter).format(systemToUser.convert(value));
 
             }else{
-                res = value.format(strFormatter);
+                res = FastDateCodec.of(strFormatter).format(value);
             }
         }
         return res;
@@ -202,7 +215,7 @@ public class CustomLocalDateTimeTransUtil {
 //                res = convertLocalDateTime(LocalDate.parse(timeStr, strFormatter).atStartOfDay(), localeTimeZone.toZoneId(),
 //                        ZoneId.systemDefault()).toLocalDate();
 //            } else {
-                res =  LocalDate.parse(timeStr, strFormatter);
+                res =  FastDateCodec.of(strFormatter).parseDate(timeStr);
 //            }
 //        }
 
@@ -232,7 +245,7 @@ public class CustomLocalDateTimeTransUtil {
 //            //没有本地信息，采用默认系统时区
 //            }else{
                 //因为精度问题,localDate不做转换,直接按原字符串返序列化为本地对象
-                res = value.format(strFormatter);
+                res = FastDateCodec.of(strFormatter).format(value);
 //            }
 //        }
         return res;
@@ -266,7 +279,7 @@ public class CustomLocalDateTimeTransUtil {
 //                        .toLocalTime();
 //            }else{
                 //如果timeStr传入格式不对,让她自己报错
-                res = LocalTime.parse(timeStr, strFormatter);
+                res = FastDateCodec.of(strFormatter).parseTime(timeStr);
 //            }
 //        }
         return res;
@@ -298,10 +311,42 @@ public class CustomLocalDateTimeTransUtil {
 //                //没有本地信息，采用默认系统时区
 //            } else {
                 //因为精度问题,localDate不做转换,直接按原字符串返序列化为本地对象
-                res = value.format(strFormatter);
+                res = FastDateCodec.of(strFormatter).format(value);
 //            }
 //        }
         return res;
     }
 
+    /**
+     * 当前请求从系统时区到用户时区的转换器，用户时区与系统时区相同或没有用户时区时返回null
+     * 转换器按时区缓存了偏移规则，夏令时的处理与ZonedDateTime一致
+     * @return 系统时区到用户时区的转换器，不需要转换时为null
+     */
+    public static ZoneConverter requestZoneConverter() {
+        LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+        TimeZone localeTimeZone = localeContext instanceof TimeZoneAwareLocaleContext
+                ? ((TimeZoneAwareLocaleContext) localeContext).getTimeZone() : null;
+        if(localeTimeZone == null){
+            return null;
+        }
+        RequestZone requestZone = REQUEST_ZONE.get();
+        if(requestZone == null || requestZone.timeZone() != localeTimeZone){
+            ZoneConverter systemToUser = localeTimeZone.getID().equals(TimeZone.getDefault().getID())
+                    ? null : ZoneConverter.of(ZoneId.systemDefault(), localeTimeZone.toZoneId());
+            requestZone = new RequestZone(localeTimeZone, systemToUser);
+            REQUEST_ZONE.set(requestZone);
+        }
+        return requestZone.systemToUser();
+    }
+
+    /**
+     * 清除当前线程缓存的请求时区，请求结束时调用
+     */
+    public static void clearRequestZone() {
+        REQUEST_ZONE.remove();
+    }
+
+    private record RequestZone(TimeZone timeZone, ZoneConverter systemToUser) {
+    }
+
 }